@@ -0,0 +1,146 @@
+package io.github.cshunsinger.asmsauce.accessor;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading and writing a property through a generated {@link PropertyAccessor} with reading and writing it
+ * through reflection, a {@link MethodHandle}, and a {@link VarHandle}. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyAccessorBenchmark {
+    public static class TestBean {
+        public int count;
+        public String name;
+    }
+
+    private static final PropertyAccessor<TestBean> ACCESSOR = PropertyAccessor.forClass(TestBean.class);
+    private static final int COUNT_INDEX = ACCESSOR.indexOf("count");
+    private static final int NAME_INDEX = ACCESSOR.indexOf("name");
+
+    private static final Field COUNT_FIELD;
+    private static final Field NAME_FIELD;
+    private static final MethodHandle COUNT_GETTER;
+    private static final MethodHandle COUNT_SETTER;
+    private static final MethodHandle NAME_GETTER;
+    private static final MethodHandle NAME_SETTER;
+    private static final VarHandle COUNT_HANDLE;
+    private static final VarHandle NAME_HANDLE;
+
+    static {
+        try {
+            COUNT_FIELD = TestBean.class.getField("count");
+            NAME_FIELD = TestBean.class.getField("name");
+
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            COUNT_GETTER = lookup.unreflectGetter(COUNT_FIELD);
+            COUNT_SETTER = lookup.unreflectSetter(COUNT_FIELD);
+            NAME_GETTER = lookup.unreflectGetter(NAME_FIELD);
+            NAME_SETTER = lookup.unreflectSetter(NAME_FIELD);
+            COUNT_HANDLE = lookup.unreflectVarHandle(COUNT_FIELD);
+            NAME_HANDLE = lookup.unreflectVarHandle(NAME_FIELD);
+        }
+        catch(ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private final TestBean bean = new TestBean();
+    private int nextCount;
+
+    @Setup
+    public void setup() {
+        bean.count = 42;
+        bean.name = "name";
+    }
+
+    @Benchmark
+    public int getIntAccessor() {
+        return ACCESSOR.getInt(bean, COUNT_INDEX);
+    }
+
+    @Benchmark
+    public int getIntField() throws IllegalAccessException {
+        return COUNT_FIELD.getInt(bean);
+    }
+
+    @Benchmark
+    public int getIntMethodHandle() throws Throwable {
+        return (int)COUNT_GETTER.invokeExact(bean);
+    }
+
+    @Benchmark
+    public int getIntVarHandle() {
+        return (int)COUNT_HANDLE.get(bean);
+    }
+
+    @Benchmark
+    public void setIntAccessor() {
+        ACCESSOR.setInt(bean, COUNT_INDEX, nextCount++);
+    }
+
+    @Benchmark
+    public void setIntField() throws IllegalAccessException {
+        COUNT_FIELD.setInt(bean, nextCount++);
+    }
+
+    @Benchmark
+    public void setIntMethodHandle() throws Throwable {
+        COUNT_SETTER.invokeExact(bean, nextCount++);
+    }
+
+    @Benchmark
+    public void setIntVarHandle() {
+        COUNT_HANDLE.set(bean, nextCount++);
+    }
+
+    @Benchmark
+    public Object getObjectAccessor() {
+        return ACCESSOR.get(bean, NAME_INDEX);
+    }
+
+    @Benchmark
+    public Object getObjectField() throws IllegalAccessException {
+        return NAME_FIELD.get(bean);
+    }
+
+    @Benchmark
+    public Object getObjectMethodHandle() throws Throwable {
+        return (String)NAME_GETTER.invokeExact(bean);
+    }
+
+    @Benchmark
+    public Object getObjectVarHandle() {
+        return (String)NAME_HANDLE.get(bean);
+    }
+
+    @Benchmark
+    public void setObjectAccessor() {
+        ACCESSOR.set(bean, NAME_INDEX, "accessor");
+    }
+
+    @Benchmark
+    public void setObjectField() throws IllegalAccessException {
+        NAME_FIELD.set(bean, "field");
+    }
+
+    @Benchmark
+    public void setObjectMethodHandle() throws Throwable {
+        NAME_SETTER.invokeExact(bean, "methodHandle");
+    }
+
+    @Benchmark
+    public void setObjectVarHandle() {
+        NAME_HANDLE.set(bean, "varHandle");
+    }
+}
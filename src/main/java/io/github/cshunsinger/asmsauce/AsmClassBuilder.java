@@ -3,13 +3,18 @@ package io.github.cshunsinger.asmsauce;
 import io.github.cshunsinger.asmsauce.modifiers.AccessModifiers;
 import io.github.cshunsinger.asmsauce.util.AsmUtils;
 import lombok.SneakyThrows;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.reflect.ConstructorUtils;
 import org.objectweb.asm.ClassWriter;
 
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static io.github.cshunsinger.asmsauce.ConstructorNode.constructor;
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.noParameters;
@@ -43,10 +48,15 @@ public class AsmClassBuilder<T> {
 
     private Class<? extends T> builtClass;
     private byte[] builtClassBytes;
+    private List<Object> builtClassData;
 
     private final List<FieldNode> fields = new ArrayList<>();
     private final List<ConstructorNode> constructors = new ArrayList<>();
     private final List<MethodNode> methods = new ArrayList<>();
+    private final List<StaticInitializerNode> staticInitializers = new ArrayList<>();
+    private final Set<Optimization> optimizations = EnumSet.noneOf(Optimization.class);
+    private final Map<Map<String, Object>, Class<? extends T>> specializations = new HashMap<>();
+    private int maxInlineSize = ClassBuildingContext.DEFAULT_MAX_INLINE_SIZE;
 
     /**
      * Constructs a new class builder in which the instance type and super type are the same, no interfaces are implemented,
@@ -314,6 +324,50 @@ public class AsmClassBuilder<T> {
         return this;
     }
 
+    /**
+     * Adds a static initializer block to the class that will be generated.
+     * @param staticInitializer The static initializer specification.
+     * @return This.
+     * @throws IllegalArgumentException If staticInitializer is null.
+     */
+    public AsmClassBuilder<T> withStaticInitializer(StaticInitializerNode staticInitializer) {
+        if(staticInitializer == null)
+            throw new IllegalArgumentException("Static initializer cannot be null.");
+
+        staticInitializers.add(staticInitializer);
+        return this;
+    }
+
+    /**
+     * Enables an optional optimization for the bytecode of the class that will be generated.
+     * @param optimization The optimization to enable.
+     * @return This.
+     * @throws IllegalArgumentException If optimization is null.
+     */
+    public AsmClassBuilder<T> withOptimization(Optimization optimization) {
+        if(optimization == null)
+            throw new IllegalArgumentException("Optimization cannot be null.");
+
+        optimizations.add(optimization);
+        return this;
+    }
+
+    /**
+     * Sets the maximum size in bytes of the bytecode of a method which can be inlined when the
+     * {@link Optimization#METHOD_INLINING} optimization is enabled. The default is
+     * {@link ClassBuildingContext#DEFAULT_MAX_INLINE_SIZE}.
+     * @param maxInlineSize The maximum size in bytes of an inlined method.
+     * @return This.
+     * @throws IllegalArgumentException If maxInlineSize is negative.
+     */
+    public AsmClassBuilder<T> withMaxInlineSize(int maxInlineSize) {
+        if(maxInlineSize < 0)
+            throw new IllegalArgumentException("Max inline size cannot be negative.");
+
+        this.maxInlineSize = maxInlineSize;
+        return this;
+    }
+
     /**
      * Builds the new class and instantiates it using a provided set of parameters. If the new class has already been
      * built then it will not be built again. Instead, the already-loaded class will be instantiated.
@@ -323,17 +377,8 @@ public class AsmClassBuilder<T> {
      * @param constructorParameters The set of parameters used to invoke a constructor.
      * @return A new instance of the Class which was generated by this class builder.
      */
-    @SneakyThrows
     public T buildInstance(Object... constructorParameters) {
-        Class<?>[] parameterTypes = Arrays.stream(constructorParameters).map(Object::getClass).toArray(Class<?>[]::new);
-
-        Class<? extends T> builtType = build();
-        Constructor<? extends T> constructor = ConstructorUtils.getMatchingAccessibleConstructor(builtType, parameterTypes);
-
-        if(constructor == null)
-            throw new IllegalArgumentException("No constructor found for given parameters.");
-
-        return constructor.newInstance(constructorParameters);
+        return instantiate(build(), constructorParameters);
     }
 
     /**
@@ -356,13 +401,102 @@ public class AsmClassBuilder<T> {
         if(builtClassBytes != null)
             return builtClassBytes;
 
+        List<Object> classData = new ArrayList<>();
+        builtClassBytes = generateClass(classWriter, newClassName, Map.of(), classData);
+        builtClassData = List.copyOf(classData);
+        return builtClassBytes;
+    }
+
+    /**
+     * Builds a specialized variant of the new class, in which a chosen set of instance fields are generated as static
+     * final constants instead. Wherever the code of the variant reads one of these fields, the constant is read
+     * instead, which allows the JIT compiler to fold the value into the code which uses it. Assignments to a
+     * specialized field, such as those made by a constructor, are discarded.
+     *
+     * Each variant is a separate class which is built once for each distinct set of field values. If a variant has
+     * already been built with equal field values, then the existing variant is returned instead.
+     * @param fieldValues The names of the instance fields to specialize, mapped to their constant values.
+     * @return The specialized variant of the new class.
+     * @throws IllegalArgumentException If fieldValues is null.
+     * @throws IllegalArgumentException If a field name is not the name of an instance field of the new class.
+     * @throws IllegalArgumentException If a field value is null or cannot be assigned to its field.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Class<? extends T> buildSpecialized(Map<String, Object> fieldValues) {
+        if(fieldValues == null)
+            throw new IllegalArgumentException("Specialized field values cannot be null.");
+        fieldValues.forEach(this::validateSpecializedField);
+
+        Map<String, Object> specializedFields = Map.copyOf(fieldValues);
+        Class<? extends T> specializedClass = specializations.get(specializedFields);
+        if(specializedClass == null) {
+            String specializedClassName = newClassName + "$Specialized" + specializations.size();
+            List<Object> classData = new ArrayList<>();
+            byte[] classBytes = generateClass(
+                new ClassWriter(COMPUTE_FRAMES | COMPUTE_MAXS),
+                specializedClassName,
+                specializedFields,
+                classData
+            );
+
+            specializedClass = (Class<? extends T>)dynamicClassLoader.defineClass(specializedClassName, classBytes, List.copyOf(classData));
+            specializations.put(specializedFields, specializedClass);
+        }
+        return specializedClass;
+    }
+
+    /**
+     * Builds a specialized variant of the new class and instantiates it using a provided set of parameters.
+     * @param fieldValues The names of the instance fields to specialize, mapped to their constant values.
+     * @param constructorParameters The set of parameters used to invoke a constructor.
+     * @return A new instance of the specialized variant of the new class.
+     * @see #buildSpecialized(Map)
+     * @see #buildInstance(Object...)
+     */
+    public T buildSpecializedInstance(Map<String, Object> fieldValues, Object... constructorParameters) {
+        return instantiate(buildSpecialized(fieldValues), constructorParameters);
+    }
+
+    private void validateSpecializedField(String fieldName, Object value) {
+        FieldNode field = fields.stream()
+            .filter(f -> f.getFieldDefinition().getFieldName().getName().equals(fieldName))
+            .filter(f -> !f.getFieldDefinition().getAccessModifiers().isStatic())
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("No instance field named %s to specialize.".formatted(fieldName)));
+
+        if(value == null)
+            throw new IllegalArgumentException("Specialized value of field %s cannot be null.".formatted(fieldName));
+
+        Class<?> fieldType = field.getFieldDefinition().getFieldType().getType();
+        if(!ClassUtils.isAssignable(value.getClass(), fieldType, true)) {
+            throw new IllegalArgumentException("Specialized value of type %s cannot be assigned to field %s of type %s.".formatted(
+                value.getClass().getName(), fieldName, fieldType.getName()
+            ));
+        }
+    }
+
+    @SneakyThrows
+    private T instantiate(Class<? extends T> builtType, Object[] constructorParameters) {
+        Class<?>[] parameterTypes = Arrays.stream(constructorParameters).map(Object::getClass).toArray(Class<?>[]::new);
+        Constructor<? extends T> constructor = ConstructorUtils.getMatchingAccessibleConstructor(builtType, parameterTypes);
+
+        if(constructor == null)
+            throw new IllegalArgumentException("No constructor found for given parameters.");
+
+        return constructor.newInstance(constructorParameters);
+    }
+
+    private byte[] generateClass(ClassWriter classWriter,
+                                 String className,
+                                 Map<String, Object> specializedFields,
+                                 List<Object> classData) {
         //Create jvm names out of all of the interfaces this class is supposed to implement
         String[] interfaceJvmNames = interfaces == null || interfaces.isEmpty() ?
             null :
             interfaces.stream().map(AsmUtils::jvmClassname).toArray(String[]::new);
 
         //Name of the newly generated class
-        String newJvmClassname = newClassName.replace('.', '/');
+        String newJvmClassname = className.replace('.', '/');
 
         //Start the new class
         classWriter.visit(
@@ -375,19 +509,27 @@ public class AsmClassBuilder<T> {
         );
 
         //Start the class building context for this thread
-        new ClassBuildingContext(
+        ClassBuildingContext classContext = new ClassBuildingContext(
             classWriter,
             newJvmClassname,
             superclass,
             interfaces == null ? emptyList() : interfaces,
             fields,
             methods,
-            constructors
+            constructors,
+            optimizations,
+            specializedFields
         );
+        classContext.setMaxInlineSize(maxInlineSize);
 
         //Build each field onto the new class
         fields.forEach(FieldNode::build);
 
+        //Build the static initializer from the static field initializers and static initializer blocks, if there are any
+        StaticInitializerNode staticInitializer = StaticInitializerNode.combine(fields, staticInitializers, specializedFields);
+        if(staticInitializer != null)
+            staticInitializer.build();
+
         if(constructors.isEmpty()) {
             //Determine if a no-args super constructor exists which is accessible from this class being built
             boolean noArgsSuperConstructorExists = type(superclass).findDeclaredMatchingConstructors(noParameters())
@@ -415,18 +557,25 @@ public class AsmClassBuilder<T> {
         //Build each method onto the new class
         methods.forEach(MethodNode::build);
 
+        //Build each synthetic method, such as lambda implementations. Building one may add more synthetic methods.
+        List<MethodNode> syntheticMethods = classContext.getSyntheticMethods();
+        for(int i = 0; i < syntheticMethods.size(); i++) {
+            syntheticMethods.get(i).build();
+        }
+
         //Finish the class
         classWriter.visitEnd();
 
         //End the class building context for this thread
         ClassBuildingContext.reset();
 
+        classData.addAll(classContext.getClassData());
         return classWriter.toByteArray();
     }
 
     @SuppressWarnings("unchecked")
     private void internalBuildClass() {
         //Construct the class
-        builtClass = (Class<? extends T>)dynamicClassLoader.defineClass(newClassName, buildBytes());
+        builtClass = (Class<? extends T>)dynamicClassLoader.defineClass(newClassName, buildBytes(), builtClassData);
     }
 }
\ No newline at end of file
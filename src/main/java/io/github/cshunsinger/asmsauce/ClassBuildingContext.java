@@ -1,10 +1,14 @@
 package io.github.cshunsinger.asmsauce;
 
+import io.github.cshunsinger.asmsauce.definitions.MethodDefinition;
 import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import org.objectweb.asm.ClassWriter;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -14,6 +18,11 @@ import java.util.stream.Collectors;
 @Getter
 public class ClassBuildingContext {
     private static final ThreadLocal<ClassBuildingContext> CONTEXT = new ThreadLocal<>();
+    /**
+     * The default maximum size in bytes of the bytecode of a method which can be inlined. This is the same as the
+     * default size below which the JIT compiler inlines methods regardless of how often they are called.
+     */
+    public static final int DEFAULT_MAX_INLINE_SIZE = 35;
 
     /**
      * Fetches the currently active class building context for the current thread. The returned context will be the
@@ -76,6 +85,40 @@ public class ClassBuildingContext {
      * @return The list of constructors.
      */
     private final List<ConstructorNode> constructors;
+    /**
+     * The set of optional optimizations which are enabled for this class being built.
+     * @return The set of enabled optimizations.
+     */
+    private final Set<Optimization> optimizations;
+    /**
+     * The instance fields which are specialized in this class being built, mapped to their constant values. Specialized
+     * fields are generated as static final fields instead.
+     * @return The map of specialized field names to values.
+     */
+    private final Map<String, Object> specializedFields;
+    /**
+     * The list of synthetic methods, such as lambda implementations, which were created while building the methods of
+     * this class. These methods are generated after all of the other methods and constructors.
+     * @return The list of synthetic methods.
+     */
+    private final List<MethodNode> syntheticMethods = new ArrayList<>();
+    /**
+     * The list of live objects embedded into this class being built, in the order of their class data indexes.
+     * @return The list of class data.
+     */
+    private final List<Object> classData = new ArrayList<>();
+    /**
+     * The maximum size in bytes of the bytecode of a method which can be inlined when the
+     * {@link Optimization#METHOD_INLINING} optimization is enabled.
+     * @param maxInlineSize The maximum size in bytes of an inlined method.
+     * @return The maximum size in bytes of an inlined method.
+     */
+    @Setter
+    private int maxInlineSize = DEFAULT_MAX_INLINE_SIZE;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, InlinedMethod> inlinedMethods = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Set<String> methodsBeingInlined = new HashSet<>();
 
     /**
      * Creates a new class building context with all of the metadata about the class being generated.
@@ -94,6 +137,52 @@ public class ClassBuildingContext {
                                 List<FieldNode> fields,
                                 List<MethodNode> methods,
                                 List<ConstructorNode> constructors) {
+        this(classWriter, jvmTypeName, superType, interfaces, fields, methods, constructors, Set.of());
+    }
+
+    /**
+     * Creates a new class building context with all of the metadata about the class being generated.
+     * @param classWriter The class writer for generating this class.
+     * @param jvmTypeName The jvm classname of the class being generated.
+     * @param superType The class that the generated class will be inheriting.
+     * @param interfaces The interface types that the generated class will be implementing.
+     * @param fields The fields to be generated in the new class.
+     * @param methods The methods to be generated in the new class.
+     * @param constructors The constructors to be generated in the new class.
+     * @param optimizations The optional optimizations enabled for the new class.
+     */
+    public ClassBuildingContext(ClassWriter classWriter,
+                                String jvmTypeName,
+                                Class<?> superType,
+                                List<Class<?>> interfaces,
+                                List<FieldNode> fields,
+                                List<MethodNode> methods,
+                                List<ConstructorNode> constructors,
+                                Set<Optimization> optimizations) {
+        this(classWriter, jvmTypeName, superType, interfaces, fields, methods, constructors, optimizations, Map.of());
+    }
+
+    /**
+     * Creates a new class building context with all of the metadata about the class being generated.
+     * @param classWriter The class writer for generating this class.
+     * @param jvmTypeName The jvm classname of the class being generated.
+     * @param superType The class that the generated class will be inheriting.
+     * @param interfaces The interface types that the generated class will be implementing.
+     * @param fields The fields to be generated in the new class.
+     * @param methods The methods to be generated in the new class.
+     * @param constructors The constructors to be generated in the new class.
+     * @param optimizations The optional optimizations enabled for the new class.
+     * @param specializedFields The instance fields to specialize into constants, mapped to their values.
+     */
+    public ClassBuildingContext(ClassWriter classWriter,
+                                String jvmTypeName,
+                                Class<?> superType,
+                                List<Class<?>> interfaces,
+                                List<FieldNode> fields,
+                                List<MethodNode> methods,
+                                List<ConstructorNode> constructors,
+                                Set<Optimization> optimizations,
+                                Map<String, Object> specializedFields) {
         this.classWriter = classWriter;
         this.jvmTypeName = jvmTypeName;
         this.superType = TypeDefinition.fromClass(superType);
@@ -103,6 +192,8 @@ public class ClassBuildingContext {
         this.fields = fields;
         this.methods = methods;
         this.constructors = constructors;
+        this.optimizations = optimizations;
+        this.specializedFields = specializedFields;
 
         CONTEXT.set(this);
     }
@@ -114,4 +205,76 @@ public class ClassBuildingContext {
     public String getClassName() {
         return jvmTypeName.replace('/', '.');
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets whether an optional optimization is enabled for the class being built.
+     * @param optimization The optimization to check.
+     * @return True if the optimization is enabled, otherwise false.
+     */
+    public boolean isOptimizationEnabled(Optimization optimization) {
+        return optimizations.contains(optimization);
+    }
+
+    /**
+     * Gets whether an instance field of the class being built is specialized into a static final constant.
+     * @param fieldName The name of the field.
+     * @return True if the field is specialized, otherwise false.
+     */
+    public boolean isSpecializedField(String fieldName) {
+        return specializedFields.containsKey(fieldName);
+    }
+
+    /**
+     * Gets the inlined bytecode of a method of the class being built. The bytecode of each method is only recorded the
+     * first time it is inlined. A method is not inlined into itself, either directly or through other inlined methods.
+     * @param method The method being invoked.
+     * @return The inlined method, or null if the method cannot be inlined.
+     * @see MethodNode#inline(int)
+     */
+    public InlinedMethod getInlinedMethod(MethodDefinition method) {
+        String key = method.getName().getName() + method.jvmMethodSignature();
+        if(inlinedMethods.containsKey(key) || !methodsBeingInlined.add(key))
+            return inlinedMethods.get(key);
+
+        InlinedMethod inlinedMethod = methods.stream()
+            .filter(methodNode -> methodNode.getDefinition().getName().getName().equals(method.getName().getName()))
+            .filter(methodNode -> methodNode.getDefinition().jvmMethodSignature().equals(method.jvmMethodSignature()))
+            .filter(methodNode -> methodNode.getDefinition().getModifiers().isStatic() == method.getModifiers().isStatic())
+            .findFirst()
+            .map(methodNode -> methodNode.inline(maxInlineSize))
+            .orElse(null);
+
+        methodsBeingInlined.remove(key);
+        inlinedMethods.put(key, inlinedMethod);
+        return inlinedMethod;
+    }
+
+    /**
+     * Adds a synthetic method to be generated in the class being built. The synthetic method is assigned a unique name
+     * made from a prefix and the number of synthetic methods added so far, in the same style javac names lambda methods.
+     * @param prefix The prefix of the synthetic method name, such as "lambda".
+     * @param methodFactory Creates the synthetic method from its unique name.
+     * @return The unique name of the synthetic method.
+     */
+    public String addSyntheticMethod(String prefix, Function<String, MethodNode> methodFactory) {
+        String name = prefix + '$' + syntheticMethods.size();
+        syntheticMethods.add(methodFactory.apply(name));
+        return name;
+    }
+
+    /**
+     * Embeds a live object into the class being built as class data. Embedding the same object more than once returns
+     * the same index each time.
+     * @param value The object to embed.
+     * @return The class data index of the object.
+     */
+    public int addClassData(Object value) {
+        for(int i = 0; i < classData.size(); i++) {
+            if(classData.get(i) == value)
+                return i;
+        }
+
+        classData.add(value);
+        return classData.size() - 1;
+    }
+}
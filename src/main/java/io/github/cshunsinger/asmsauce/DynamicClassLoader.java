@@ -1,10 +1,21 @@
 package io.github.cshunsinger.asmsauce;
 
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Internal asmsauce class which inherits from Java's ClassLoader {@link ClassLoader} class to expose access to
  * define a class from a byte array at runtime.
+ *
+ * This class loader also holds the class data of each class it defines. Class data are live objects which were
+ * embedded into a generated class while it was being built, and which are loaded by the generated bytecode as dynamic
+ * constants through {@link #classData(MethodHandles.Lookup, String, Class, int)}.
  */
 public class DynamicClassLoader extends ClassLoader {
+    private final Map<String, List<Object>> classData = new ConcurrentHashMap<>();
+
     /**
      * Creates a new dynamic class loader which can load new classes from a byte array. This class loader
      * requires a parent class loader for proper class visibility.
@@ -14,6 +25,17 @@ public class DynamicClassLoader extends ClassLoader {
         super(parent);
     }
 
+    /**
+     * Gets the class loader to use as the parent of the class loader of a class generated for a type, so that the
+     * generated class can see the type. Types loaded by the bootstrap class loader, such as java.lang.Runnable, have no
+     * class loader, so the class loader of asmsauce itself is used for them.
+     * @param type The type the generated class is generated for.
+     * @return The parent class loader.
+     */
+    public static ClassLoader parentFor(Class<?> type) {
+        return type.getClassLoader() != null ? type.getClassLoader() : DynamicClassLoader.class.getClassLoader();
+    }
+
     /**
      * Publicly exposes the ability to define and load a Java class from a byte array.
      * @param name The jvm classname of the class being loaded from a byte array.
@@ -23,4 +45,41 @@ public class DynamicClassLoader extends ClassLoader {
     public Class<?> defineClass(String name, byte[] data) {
         return defineClass(name, data, 0, data.length);
     }
-}
\ No newline at end of file
+
+    /**
+     * Defines and loads a Java class from a byte array, along with the class data that the class will load as
+     * dynamic constants.
+     * @param name The jvm classname of the class being loaded from a byte array.
+     * @param data A byte array containing all of the data making up a class.
+     * @param classData The live objects embedded into the class, in the order of their class data indexes.
+     * @return A class instance representing the class which was just loaded from the provided byte array.
+     */
+    public Class<?> defineClass(String name, byte[] data, List<Object> classData) {
+        if(!classData.isEmpty())
+            this.classData.put(name, classData);
+        return defineClass(name, data);
+    }
+
+    /**
+     * Bootstrap method for the dynamic constants which load class data in generated bytecode. This method is called by
+     * the JVM the first time each class data constant is loaded, after which the JVM treats the value as a constant.
+     * @param lookup The lookup of the generated class loading the constant.
+     * @param name The name of the dynamic constant. This is unused.
+     * @param type The type of the dynamic constant.
+     * @param index The index of the class data to load.
+     * @return The class data at the given index for the generated class.
+     * @throws IllegalStateException If the generated class was not defined by a DynamicClassLoader, or has no class
+     * data at the given index.
+     */
+    public static Object classData(MethodHandles.Lookup lookup, String name, Class<?> type, int index) {
+        Class<?> lookupClass = lookup.lookupClass();
+        if(!(lookupClass.getClassLoader() instanceof DynamicClassLoader))
+            throw new IllegalStateException("Class data can only be loaded by classes defined by a DynamicClassLoader.");
+
+        List<Object> data = ((DynamicClassLoader)lookupClass.getClassLoader()).classData.get(lookupClass.getName());
+        if(data == null || index < 0 || index >= data.size())
+            throw new IllegalStateException("Class %s has no class data at index %d.".formatted(lookupClass.getName(), index));
+
+        return data.get(index);
+    }
+}
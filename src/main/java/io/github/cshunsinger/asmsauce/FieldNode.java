@@ -1,5 +1,6 @@
 package io.github.cshunsinger.asmsauce;
 
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.definitions.CompleteFieldDefinition;
 import io.github.cshunsinger.asmsauce.definitions.NameDefinition;
 import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
@@ -22,6 +23,12 @@ public class FieldNode {
     @Getter
     private CompleteFieldDefinition fieldDefinition;
     private final Object initialValue;
+    /**
+     * @return Gets the code builder which stacks the initial value of this static field when the class is initialized,
+     * or null if this field is not initialized by code.
+     */
+    @Getter
+    private final CodeInsnBuilderLike initializer;
 
     /**
      * Creates a new field node from a field definition.
@@ -46,6 +53,10 @@ public class FieldNode {
      * @throws IllegalArgumentException If fieldDefinition defines a static field, but the type of initialValue is not assignable to the field type.
      */
     public FieldNode(CompleteFieldDefinition fieldDefinition, Object initialValue) {
+        this(fieldDefinition, initialValue, null);
+    }
+
+    private FieldNode(CompleteFieldDefinition fieldDefinition, Object initialValue, CodeInsnBuilderLike initializer) {
         if(fieldDefinition == null)
             throw new IllegalArgumentException("Field definition cannot be null.");
 
@@ -72,6 +83,11 @@ public class FieldNode {
                 ));
             }
         }
+        else if(initializer != null) {
+            //The initializer code is generated in the static initializer of the class being built
+            if(!fieldAccess.isStatic())
+                throw new IllegalArgumentException("Only static fields can be given an initializer.");
+        }
         else /* Initial value is null */ {
             //If this field is a primitive, then null is unacceptable
             if(fieldDefinition.getAccessModifiers().isStatic() && fieldDefinition.getFieldType().getType().isPrimitive())
@@ -80,6 +96,7 @@ public class FieldNode {
 
         this.fieldDefinition = fieldDefinition;
         this.initialValue = initialValue;
+        this.initializer = initializer == null ? null : initializer.getFirstInStack();
     }
 
     /**
@@ -100,8 +117,13 @@ public class FieldNode {
             updatedFieldType
         );
 
+        //A specialized instance field becomes a static final constant which is assigned in the static initializer
+        AccessModifiers fieldModifiers = fieldDefinition.getAccessModifiers();
+        if(!fieldModifiers.isStatic() && context().isSpecializedField(fieldDefinition.getFieldName().getName()))
+            fieldModifiers = fieldModifiers.withStatic().withFinal();
+
         FieldVisitor fieldVisitor = context().getClassWriter().visitField(
-            fieldDefinition.getAccessModifiers().getJvmModifiers(),
+            fieldModifiers.getJvmModifiers(),
             fieldDefinition.getFieldName().getName(),
             fieldDefinition.getJvmDescriptor(),
             null, //Generic types currently unsupported, therefore signature is null
@@ -109,7 +131,7 @@ public class FieldNode {
         );
 
         //Field annotations are currently not supported.
-        //There is also no support for setting static fields using bytecode to build an initial value
+        //Static fields with an initializer are assigned in the static initializer of the class being built.
         //Lastly, instance fields are required to be initialized inside the constructor.
         fieldVisitor.visitEnd();
     }
@@ -128,6 +150,30 @@ public class FieldNode {
         return new FieldNode(fd);
     }
 
+    /**
+     * Creates a static field with the specified modifiers, type, and name, which is assigned the value stacked by a code
+     * builder when the class is initialized. The field assignment is generated in the static initializer of the class,
+     * before any static initializer blocks. A static final field initialized this way is trusted by the JIT as a
+     * constant once the class is initialized.
+     * @param accessModifiers The field modifiers. The static flag will be automatically added if not already set.
+     * @param type The field type.
+     * @param name The field name.
+     * @param initializer The code builder which stacks the initial value of the field.
+     * @return A new field node for a static field initialized by code.
+     * @throws IllegalArgumentException If initializer is null.
+     * @see StaticInitializerNode
+     */
+    public static FieldNode field(AccessModifiers accessModifiers,
+                                  TypeDefinition type,
+                                  NameDefinition name,
+                                  CodeInsnBuilderLike initializer) {
+        if(initializer == null)
+            throw new IllegalArgumentException("Field initializer cannot be null.");
+
+        CompleteFieldDefinition fd = new CompleteFieldDefinition(accessModifiers.withStatic(), type(ThisClass.class), name, type);
+        return new FieldNode(fd, null, initializer);
+    }
+
     /**
      * Creates a static int field with the specified modifiers, name, and initial int-value.
      * @param accessModifiers The field modifiers. The static flag will be automatically added if not already set.
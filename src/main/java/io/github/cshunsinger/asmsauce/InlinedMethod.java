@@ -0,0 +1,246 @@
+package io.github.cshunsinger.asmsauce;
+
+import io.github.cshunsinger.asmsauce.definitions.CompleteMethodDefinition;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import io.github.cshunsinger.asmsauce.util.LabelCopyingMethodVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * The recorded bytecode of a small method of a class being generated, which is copied into each of the methods which
+ * call it instead of being invoked. The local variables of the inlined method are moved past the local variables of
+ * the calling method, and each return instruction becomes a jump to the end of the inlined bytecode, leaving the
+ * returned value on the stack just like the invocation would have.
+ * @see Optimization#METHOD_INLINING
+ */
+public class InlinedMethod {
+    private static final TypeDefinition OBJECT = type(Object.class);
+
+    private final CompleteMethodDefinition definition;
+    private final List<Consumer<MethodVisitor>> instructions;
+    private final boolean endsWithReturn;
+    private final int numLocals;
+
+    private InlinedMethod(CompleteMethodDefinition definition, Recorder recorder) {
+        this.definition = definition;
+        this.instructions = List.copyOf(recorder.instructions);
+        this.endsWithReturn = recorder.endsWithReturn;
+        this.numLocals = recorder.numLocals;
+    }
+
+    /**
+     * Generates the bytecode of this inlined method in place of an invocation of it. The instance the method is invoked
+     * on, if the method is not static, and the parameters of the method are expected to be on the stack already.
+     */
+    public void inline() {
+        MethodVisitor methodVisitor = context().getMethodVisitor();
+        int firstLocal = context().numLocals();
+
+        //Store the stacked parameters into the local variables of the inlined method, last parameter first
+        List<TypeDefinition> paramTypes = definition.getParameters().getParamTypes();
+        int[] paramLocals = new int[paramTypes.size()];
+        int nextLocal = definition.getModifiers().isStatic() ? firstLocal : firstLocal + 1;
+        for(int i = 0; i < paramTypes.size(); i++) {
+            paramLocals[i] = nextLocal;
+            nextLocal += Type.getType(paramTypes.get(i).getJvmTypeDefinition()).getSize();
+        }
+        for(int i = paramTypes.size() - 1; i >= 0; i--)
+            methodVisitor.visitVarInsn(Type.getType(paramTypes.get(i).getJvmTypeDefinition()).getOpcode(ISTORE), paramLocals[i]);
+
+        if(!definition.getModifiers().isStatic()) {
+            //Invoking a method on a null instance must still throw a NullPointerException
+            methodVisitor.visitVarInsn(ASTORE, firstLocal);
+            methodVisitor.visitVarInsn(ALOAD, firstLocal);
+            methodVisitor.visitMethodInsn(INVOKESTATIC, "java/util/Objects", "requireNonNull", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
+            methodVisitor.visitInsn(POP);
+        }
+
+        //Reserve the local variables of the inlined method so that they are not shared with the calling method
+        context().beginScope();
+        for(int i = firstLocal; i < Math.max(firstLocal + numLocals, nextLocal); i++)
+            context().addLocalType(OBJECT);
+
+        Label endLabel = new Label();
+        MethodVisitor inliningVisitor = new InliningMethodVisitor(methodVisitor, firstLocal, endLabel);
+        int count = endsWithReturn ? instructions.size() - 1 : instructions.size();
+        for(int i = 0; i < count; i++)
+            instructions.get(i).accept(inliningVisitor);
+        methodVisitor.visitLabel(endLabel);
+
+        context().endScope();
+    }
+
+    /**
+     * Records the bytecode of a method being built, and estimates the size of that bytecode.
+     */
+    static class Recorder extends MethodVisitor {
+        private final List<Consumer<MethodVisitor>> instructions = new ArrayList<>();
+        private int size = 0;
+        private int numLocals = 0;
+        private boolean endsWithReturn = false;
+        private boolean inlinable = true;
+
+        Recorder() {
+            super(ASM9);
+        }
+
+        /**
+         * Creates the inlined method from the recorded bytecode.
+         * @param definition The definition of the recorded method.
+         * @param maxInlineSize The maximum size in bytes of the bytecode of a method which can be inlined.
+         * @return The inlined method, or null if the recorded method is too large or cannot be inlined.
+         */
+        InlinedMethod finish(CompleteMethodDefinition definition, int maxInlineSize) {
+            return inlinable && size <= maxInlineSize ? new InlinedMethod(definition, this) : null;
+        }
+
+        private void record(int instructionSize, Consumer<MethodVisitor> instruction) {
+            instructions.add(instruction);
+            size += instructionSize;
+            endsWithReturn = false;
+        }
+
+        private void useLocal(int index, int localSize) {
+            numLocals = Math.max(numLocals, index + localSize);
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            record(1, methodVisitor -> methodVisitor.visitInsn(opcode));
+            endsWithReturn = opcode >= IRETURN && opcode <= RETURN;
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+            record(opcode == SIPUSH ? 3 : 2, methodVisitor -> methodVisitor.visitIntInsn(opcode, operand));
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+            record(varIndex <= 3 ? 1 : varIndex <= 255 ? 2 : 4, methodVisitor -> methodVisitor.visitVarInsn(opcode, varIndex));
+            boolean wide = opcode == LLOAD || opcode == DLOAD || opcode == LSTORE || opcode == DSTORE;
+            useLocal(varIndex, wide ? 2 : 1);
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            record(3, methodVisitor -> methodVisitor.visitTypeInsn(opcode, type));
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            record(3, methodVisitor -> methodVisitor.visitFieldInsn(opcode, owner, name, descriptor));
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            record(opcode == INVOKEINTERFACE ? 5 : 3, methodVisitor -> methodVisitor.visitMethodInsn(opcode, owner, name, descriptor, isInterface));
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+            record(5, methodVisitor -> methodVisitor.visitInvokeDynamicInsn(name, descriptor, bootstrapMethodHandle, bootstrapMethodArguments));
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+            record(3, methodVisitor -> methodVisitor.visitJumpInsn(opcode, label));
+        }
+
+        @Override
+        public void visitLabel(Label label) {
+            record(0, methodVisitor -> methodVisitor.visitLabel(label));
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            boolean wide = value instanceof Long || value instanceof Double;
+            record(wide ? 3 : 2, methodVisitor -> methodVisitor.visitLdcInsn(value));
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+            record(3, methodVisitor -> methodVisitor.visitIincInsn(varIndex, increment));
+            useLocal(varIndex, 1);
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+            record(16 + 4 * labels.length, methodVisitor -> methodVisitor.visitTableSwitchInsn(min, max, dflt, labels));
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+            record(12 + 8 * keys.length, methodVisitor -> methodVisitor.visitLookupSwitchInsn(dflt, keys, labels));
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+            record(4, methodVisitor -> methodVisitor.visitMultiANewArrayInsn(descriptor, numDimensions));
+        }
+
+        @Override
+        public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+            //An exception handler discards the stack, which would include the stack of the calling method
+            inlinable = false;
+        }
+
+        @Override
+        public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int index) {
+            record(0, methodVisitor -> methodVisitor.visitLocalVariable(name, descriptor, signature, start, end, index));
+        }
+
+        @Override
+        public void visitLineNumber(int line, Label start) {
+            record(0, methodVisitor -> methodVisitor.visitLineNumber(line, start));
+        }
+    }
+
+    /**
+     * Moves local variables past the local variables of the calling method, turns return instructions into jumps to
+     * the end of the inlined bytecode, and places new copies of labels so that a method can be inlined more than once.
+     */
+    private static class InliningMethodVisitor extends LabelCopyingMethodVisitor {
+        private final int firstLocal;
+        private final Label endLabel;
+
+        private InliningMethodVisitor(MethodVisitor methodVisitor, int firstLocal, Label endLabel) {
+            super(methodVisitor, label -> label != endLabel);
+            this.firstLocal = firstLocal;
+            this.endLabel = endLabel;
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            if(opcode >= IRETURN && opcode <= RETURN)
+                super.visitJumpInsn(GOTO, endLabel);
+            else
+                super.visitInsn(opcode);
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+            super.visitVarInsn(opcode, firstLocal + varIndex);
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+            super.visitIincInsn(firstLocal + varIndex, increment);
+        }
+
+        @Override
+        public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int index) {
+            super.visitLocalVariable(name, descriptor, signature, start, end, firstLocal + index);
+        }
+    }
+}
@@ -3,12 +3,18 @@ package io.github.cshunsinger.asmsauce;
 import io.github.cshunsinger.asmsauce.definitions.CompleteMethodDefinition;
 import io.github.cshunsinger.asmsauce.definitions.ParamDefinition;
 import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.MONITOREXIT;
+
 /**
  * The context representing the state of the method being built which is present during the building of a method.
  * Every different method being generated is given it's own context to represent the state of that method's creation.
@@ -47,8 +53,11 @@ public class MethodBuildingContext {
 
     /**
      * @return The method visitor for writing the bytecode of the current method.
+     * @param methodVisitor The method visitor to write the bytecode of the current method with. Code builders which
+     * generate the same bytecode more than once may temporarily wrap the method visitor.
      */
-    private final MethodVisitor methodVisitor;
+    @Setter
+    private MethodVisitor methodVisitor;
     /**
      * @return The definition of the current method being built.
      */
@@ -77,6 +86,22 @@ public class MethodBuildingContext {
      * created inside of the current scope of Java code.
      */
     private final Stack<Integer> scopeStack = new Stack<>();
+    /**
+     * @return A stack of labels which a break statement jumps to. The top element of this stack is the end label of the
+     * innermost statement which can be broken out of.
+     */
+    private final Stack<Label> breakLabels = new Stack<>();
+    /**
+     * The monitors held by the synchronized blocks enclosing the bytecode currently being built, innermost last.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Stack<HeldMonitor> heldMonitors = new Stack<>();
+    /**
+     * @return The largest number of local variable slots which have been in use at the same time while building the
+     * current method. Local variables in sibling scopes, such as an if-body and its else-body, share the same slots, so
+     * this can be less than the total number of local variables created in the method.
+     */
+    private int maxLocals = 0;
 
     /**
      * Creates a new method building context to track the method being built. If the method being built is an instance method,
@@ -108,6 +133,15 @@ public class MethodBuildingContext {
         CONTEXT.set(this);
     }
 
+    /**
+     * Makes this context the active method building context for the current thread again. This is used after the
+     * bytecode of another method is built while this method is being built, such as when inlining a method.
+     * @see #context()
+     */
+    public void resume() {
+        CONTEXT.set(this);
+    }
+
     /**
      * Signals to this context that a new scope is being entered. This method should be called any time a new scope for
      * local variables is beginning, such as at the beginning of an if-block or while-loop body.
@@ -122,7 +156,8 @@ public class MethodBuildingContext {
      * Signals to this context that the code generation is leaving it's current scope, such as the end of a while-loop
      * body or if-block.
      * This will cause this context to remove any local variables which were created inside the scope while leaving
-     * local variables created before entering the scope alone.
+     * local variables created before entering the scope alone. The slots of the removed local variables are reused by
+     * the next local variables to be created, such as those of a sibling scope.
      */
     public void endScope() {
         int beginIndex = scopeStack.pop(); //The first local variable index for the scope being ended.
@@ -141,6 +176,73 @@ public class MethodBuildingContext {
             .forEach(localNames::remove);
     }
 
+    /**
+     * Signals to this context that a statement which can be broken out of, such as a switch statement or loop, is beginning.
+     * Any break statements built before the matching call to {@link #endBreakable()} will jump to the given label.
+     * @param breakLabel The label that break statements will jump to.
+     */
+    public void beginBreakable(Label breakLabel) {
+        breakLabels.push(breakLabel);
+    }
+
+    /**
+     * Signals to this context that the innermost statement which can be broken out of has ended.
+     */
+    public void endBreakable() {
+        breakLabels.pop();
+    }
+
+    /**
+     * Gets the label that a break statement jumps to from the current location in the method.
+     * @return The end label of the innermost statement which can be broken out of.
+     * @throws IllegalStateException If there is no statement which can be broken out of.
+     */
+    public Label getBreakLabel() {
+        if(breakLabels.isEmpty())
+            throw new IllegalStateException("Break statement must be inside of a switch statement or loop.");
+        return breakLabels.peek();
+    }
+
+    /**
+     * Signals to this context that a synchronized block has entered the monitor of an object. Until the matching call to
+     * {@link #endMonitor()}, any return statements, and any break statements which jump out of the synchronized block,
+     * will exit the monitor first.
+     * @param lockIndex The index of the local variable holding the object whose monitor was entered.
+     */
+    public void beginMonitor(int lockIndex) {
+        heldMonitors.push(new HeldMonitor(lockIndex, breakLabels.size()));
+    }
+
+    /**
+     * Signals to this context that the innermost synchronized block has ended.
+     */
+    public void endMonitor() {
+        heldMonitors.pop();
+    }
+
+    /**
+     * Generates the bytecode to exit every monitor held by the enclosing synchronized blocks, innermost first. This is
+     * used before returning from the method.
+     */
+    public void exitMonitors() {
+        exitMonitors(0);
+    }
+
+    /**
+     * Generates the bytecode to exit the monitors held by the synchronized blocks inside of the innermost statement
+     * which can be broken out of, innermost first. This is used before a break statement jumps out of that statement.
+     */
+    public void exitBreakableMonitors() {
+        exitMonitors(breakLabels.size());
+    }
+
+    private void exitMonitors(int breakDepth) {
+        for(int i = heldMonitors.size() - 1; i >= 0 && heldMonitors.get(i).breakDepth >= breakDepth; i--) {
+            methodVisitor.visitVarInsn(ALOAD, heldMonitors.get(i).lockIndex);
+            methodVisitor.visitInsn(MONITOREXIT);
+        }
+    }
+
     /**
      * Peek the type of element on the top of the type stack. The type stack will not be modified.
      * @return The type at the top of the stack.
@@ -252,6 +354,7 @@ public class MethodBuildingContext {
         if(LARGE_LOCALS.contains(type.getType()))
             localTypes.add(type);
 
+        maxLocals = Math.max(maxLocals, localTypes.size());
         return newIndex;
     }
 
@@ -279,6 +382,7 @@ public class MethodBuildingContext {
             else
                 localTypes.set(index, type);
         }
+        maxLocals = Math.max(maxLocals, localTypes.size());
     }
 
     /**
@@ -306,6 +410,16 @@ public class MethodBuildingContext {
         return localTypes.size();
     }
 
+    /**
+     * Gets whether an optional optimization is enabled for the class containing the method currently being built.
+     * @param optimization The optimization to check.
+     * @return True if the optimization is enabled, otherwise false.
+     * @see ClassBuildingContext#isOptimizationEnabled(Optimization)
+     */
+    public boolean isOptimizationEnabled(Optimization optimization) {
+        return classContext != null && classContext.isOptimizationEnabled(optimization);
+    }
+
     /**
      * Gets the return type of the method currently being built.
      * @return The return type.
@@ -313,4 +427,14 @@ public class MethodBuildingContext {
     public TypeDefinition returnType() {
         return currentMethod.getReturnType();
     }
+
+    private static class HeldMonitor {
+        private final int lockIndex;
+        private final int breakDepth;
+
+        private HeldMonitor(int lockIndex, int breakDepth) {
+            this.lockIndex = lockIndex;
+            this.breakDepth = breakDepth;
+        }
+    }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package io.github.cshunsinger.asmsauce;
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.definitions.*;
 import io.github.cshunsinger.asmsauce.modifiers.AccessModifiers;
+import io.github.cshunsinger.asmsauce.util.ConversionEliminatingMethodVisitor;
+import io.github.cshunsinger.asmsauce.util.LabelCopyingMethodVisitor;
 import lombok.Getter;
 import org.objectweb.asm.MethodVisitor;
 
@@ -14,6 +16,7 @@ import java.util.stream.Stream;
 
 import static io.github.cshunsinger.asmsauce.ClassBuildingContext.context;
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static org.objectweb.asm.Opcodes.*;
 
 /**
  * Represents a method being built on a new class.
@@ -53,23 +56,59 @@ public class MethodNode {
      * of this method being generated.
      */
     public void build() {
-        CompleteMethodDefinition updatedMethodDefinition = new CompleteMethodDefinition(
-            type(ThisClass.class),
-            definition.getModifiers(),
-            definition.getName(),
-            definition.getReturnType(),
-            definition.getParameters(),
-            definition.getThrowing()
-        );
+        CompleteMethodDefinition updatedMethodDefinition = updatedDefinition();
 
-        MethodVisitor methodVisitor = context().getClassWriter().visitMethod(
+        //Each build places new copies of the labels held by the code builders, so this method can be generated more than once
+        MethodVisitor methodVisitor = new LabelCopyingMethodVisitor(context().getClassWriter().visitMethod(
             updatedMethodDefinition.getModifiers().getJvmModifiers(),
             updatedMethodDefinition.getName().getName(),
             updatedMethodDefinition.jvmMethodSignature(),
             null,
             updatedMethodDefinition.getThrowing().getJvmExceptions()
+        ));
+
+        buildBody(updatedMethodDefinition, methodVisitor);
+
+        //Stop the method building context
+        MethodBuildingContext.reset();
+    }
+
+    /**
+     * Records the bytecode of this method so that it can be inlined into the methods which call it. Only private and
+     * static methods can be inlined, since they cannot be overridden. This is called while another method is being
+     * built, and the method building context of that method is resumed afterwards.
+     * @param maxInlineSize The maximum size in bytes of the bytecode of a method which can be inlined.
+     * @return The inlined method, or null if this method cannot be inlined.
+     * @see ClassBuildingContext#getInlinedMethod(MethodDefinition)
+     */
+    InlinedMethod inline(int maxInlineSize) {
+        AccessModifiers modifiers = definition.getModifiers();
+        if(!modifiers.isPrivate() && !modifiers.isStatic())
+            return null;
+        if((modifiers.getJvmModifiers() & (ACC_ABSTRACT | ACC_NATIVE | ACC_SYNCHRONIZED)) != 0)
+            return null;
+
+        MethodBuildingContext callingContext = MethodBuildingContext.context();
+        CompleteMethodDefinition updatedMethodDefinition = updatedDefinition();
+        InlinedMethod.Recorder recorder = new InlinedMethod.Recorder();
+        buildBody(updatedMethodDefinition, recorder);
+        callingContext.resume();
+
+        return recorder.finish(updatedMethodDefinition, maxInlineSize);
+    }
+
+    private CompleteMethodDefinition updatedDefinition() {
+        return new CompleteMethodDefinition(
+            type(ThisClass.class),
+            definition.getModifiers(),
+            definition.getName(),
+            definition.getReturnType(),
+            definition.getParameters(),
+            definition.getThrowing()
         );
+    }
 
+    private void buildBody(CompleteMethodDefinition updatedMethodDefinition, MethodVisitor methodVisitor) {
         List<ParamDefinition> methodParameters = new ArrayList<>();
         //If the method being built is an instance method, then make "this" be the first local variable
         if(!updatedMethodDefinition.getModifiers().isStatic())
@@ -77,6 +116,9 @@ public class MethodNode {
         //Add the defined parameters for the method to the context
         methodParameters.addAll(updatedMethodDefinition.getParameters().getParams());
 
+        if(context().isOptimizationEnabled(Optimization.CONVERSION_ELIMINATION))
+            methodVisitor = new ConversionEliminatingMethodVisitor(methodVisitor);
+
         //Start the method building context
         new MethodBuildingContext(methodVisitor, updatedMethodDefinition, context(), methodParameters);
 
@@ -84,9 +126,6 @@ public class MethodNode {
         methodBody.stream().filter(Objects::nonNull).forEach(codeBuilder -> codeBuilder.getFirstInStack().buildClean());
         methodVisitor.visitMaxs(-1, -1); //COMPUTE_MAXS is enabled
         methodVisitor.visitEnd();
-
-        //Stop the method building context
-        MethodBuildingContext.reset();
     }
 
     /**
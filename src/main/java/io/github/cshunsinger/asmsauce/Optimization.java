@@ -0,0 +1,29 @@
+package io.github.cshunsinger.asmsauce;
+
+/**
+ * Optional optimizations which can be enabled when building a class with {@link AsmClassBuilder}. Optimizations are
+ * disabled by default, and every optimization produces bytecode which behaves exactly the same as the unoptimized
+ * bytecode would.
+ * @see AsmClassBuilder#withOptimization(Optimization)
+ */
+public enum Optimization {
+    /**
+     * Replaces multiplication, division, and modulus of int and long operands by a literal power of two with
+     * equivalent shift and mask instructions.
+     */
+    STRENGTH_REDUCTION,
+    /**
+     * Copies the bytecode of small private and static methods of the class being built into the methods which call
+     * them, instead of invoking them. Methods are inlined when their bytecode is no larger than the maximum inline
+     * size, which leaves more of the inlining budget of the JIT compiler for deep call chains.
+     * @see AsmClassBuilder#withMaxInlineSize(int)
+     */
+    METHOD_INLINING,
+    /**
+     * Removes type conversions which have no effect, using the types the generated bytecode is known to stack. Casts to
+     * a type which a value is already known to have are not generated, and a value which is boxed and then immediately
+     * unboxed again stays a primitive, so that generated code does not allocate boxes where javac's output would not.
+     * @see io.github.cshunsinger.asmsauce.util.ConversionEliminatingMethodVisitor
+     */
+    CONVERSION_ELIMINATION
+}
@@ -0,0 +1,95 @@
+package io.github.cshunsinger.asmsauce;
+
+import io.github.cshunsinger.asmsauce.code.CodeBlock;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.CompleteMethodDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.classData;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.returnVoid;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.setStatic;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.customAccess;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+
+/**
+ * Represents a static initializer block in a class being generated. The code body of a static initializer is executed
+ * once when the generated class is initialized.
+ *
+ * Like javac, all of the static initializer blocks and static field initializers of a class are combined into the
+ * single static initializer method of the class. Static fields with an initializer are assigned first, in the order
+ * the fields were added, followed by each static initializer block in the order the blocks were added.
+ *
+ * When a specialized variant of a class is built, each specialized instance field is assigned its constant value
+ * before any of the static field initializers.
+ */
+public class StaticInitializerNode extends MethodNode {
+    private StaticInitializerNode(CodeInsnBuilderLike... body) {
+        super(
+            new CompleteMethodDefinition(
+                type(ThisClass.class),
+                customAccess(ACC_STATIC),
+                name("<clinit>"),
+                voidType(),
+                noParameters(),
+                noThrows()
+            ),
+            body
+        );
+    }
+
+    /**
+     * Creates the static initializer method for a class being generated, made from the static field initializers and
+     * static initializer blocks of the class.
+     * @param fields The fields of the class being generated.
+     * @param staticInitializers The static initializer blocks of the class being generated.
+     * @param specializedFields The specialized instance fields of the class being generated, mapped to their values.
+     * @return The static initializer method to generate, or null if there are no specialized fields, no static field
+     * initializers, and no static initializer blocks.
+     */
+    static StaticInitializerNode combine(List<FieldNode> fields,
+                                         List<StaticInitializerNode> staticInitializers,
+                                         Map<String, Object> specializedFields) {
+        List<CodeInsnBuilderLike> body = new ArrayList<>();
+        fields.stream()
+            .filter(field -> specializedFields.containsKey(field.getFieldDefinition().getFieldName().getName()))
+            .forEach(field -> body.add(setStatic(
+                type(ThisClass.class),
+                field.getFieldDefinition().getFieldName(),
+                field.getFieldDefinition().getFieldType(),
+                classData(
+                    specializedFields.get(field.getFieldDefinition().getFieldName().getName()),
+                    field.getFieldDefinition().getFieldType().getType()
+                )
+            )));
+        fields.stream()
+            .filter(field -> field.getInitializer() != null)
+            .forEach(field -> body.add(setStatic(
+                type(ThisClass.class),
+                field.getFieldDefinition().getFieldName(),
+                field.getFieldDefinition().getFieldType(),
+                field.getInitializer()
+            )));
+        staticInitializers.forEach(staticInitializer -> body.add(new CodeBlock(staticInitializer.methodBody.toArray(CodeInsnBuilderLike[]::new))));
+
+        if(body.isEmpty())
+            return null;
+
+        body.add(returnVoid());
+        return new StaticInitializerNode(body.toArray(CodeInsnBuilderLike[]::new));
+    }
+
+    /**
+     * Creates a static initializer block to be generated in a new class. The code body should not end with a return
+     * statement, since the code of any static initializer blocks added after this one would be skipped.
+     * @param body The code body of the static initializer block.
+     * @return A new static initializer node.
+     * @see AsmClassBuilder#withStaticInitializer(StaticInitializerNode)
+     */
+    public static StaticInitializerNode staticInitializer(CodeInsnBuilderLike... body) {
+        return new StaticInitializerNode(body);
+    }
+}
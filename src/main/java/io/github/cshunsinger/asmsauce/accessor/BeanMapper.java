@@ -0,0 +1,58 @@
+package io.github.cshunsinger.asmsauce.accessor;
+
+import java.util.function.Function;
+
+/**
+ * Copies the properties of one object onto another object, without reflection. Bean mappers are generated by
+ * {@link BeanMapperBuilder}, and each generated mapper reads every matched property from the source with a direct
+ * getter call or field read and writes it to the target with a direct setter call or field write.
+ * @param <S> The type to map from.
+ * @param <T> The type to map to.
+ */
+public abstract class BeanMapper<S, T> {
+    private final Function<Object, Object>[] converters;
+
+    /**
+     * Creates a bean mapper. Bean mappers are generated by {@link BeanMapperBuilder}.
+     * @param converters The custom converters of the mapped properties, in the order of their converter indexes.
+     */
+    protected BeanMapper(Function<Object, Object>[] converters) {
+        this.converters = converters;
+    }
+
+    /**
+     * Creates a new target object and copies the properties of the source onto it.
+     * @param source The object to copy the properties of.
+     * @return The new target object.
+     * @throws IllegalStateException If the target type cannot be instantiated by a public constructor without arguments.
+     */
+    public abstract T map(S source);
+
+    /**
+     * Copies the properties of the source onto an existing target object.
+     * @param source The object to copy the properties of.
+     * @param target The object to copy the properties onto.
+     * @return The target object.
+     */
+    public abstract T map(S source, T target);
+
+    /**
+     * Called by the generated mapper to convert a property with its custom converter.
+     * @param index The index of the converter.
+     * @param value The value of the source property.
+     * @return The converted value to write to the target property.
+     */
+    protected Object convert(int index, Object value) {
+        return converters[index].apply(value);
+    }
+
+    /**
+     * Called by the generated mapper when the target type cannot be instantiated.
+     * @param targetType The name of the target type.
+     * @return Nothing, since an exception is always thrown.
+     * @throws IllegalStateException Always.
+     */
+    protected Object cannotInstantiate(String targetType) {
+        throw new IllegalStateException("Cannot instantiate %s without a public no-argument constructor.".formatted(targetType));
+    }
+}
@@ -0,0 +1,281 @@
+package io.github.cshunsinger.asmsauce.accessor;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.DynamicClassLoader;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.cast.ImplicitConversionInsn;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static io.github.cshunsinger.asmsauce.ConstructorNode.constructor;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+
+/**
+ * Builds a {@link BeanMapper} which copies the properties of a source type onto a target type.
+ *
+ * A property of the source is read through a public getter, such as getName() or isActive(), or otherwise through a
+ * public field. A property of the target is written through a public setter, such as setName(String), or otherwise
+ * through a public non-final field. Each property of the source is copied onto the target property with the same
+ * name, using the same widening, boxing, and unboxing conversions as {@link ImplicitConversionInsn}. Properties which
+ * need any other conversion are mapped with a custom converter.
+ * @param <S> The type to map from.
+ * @param <T> The type to map to.
+ */
+public class BeanMapperBuilder<S, T> {
+    private final TypeDefinition sourceType;
+    private final TypeDefinition targetType;
+    private final Map<String, Function<Object, Object>> converters = new LinkedHashMap<>();
+
+    /**
+     * Creates a builder for a bean mapper.
+     * @param sourceType The type to map from.
+     * @param targetType The type to map to.
+     * @throws IllegalArgumentException If sourceType or targetType is null.
+     * @throws IllegalArgumentException If sourceType or targetType is not a public class or interface.
+     */
+    public BeanMapperBuilder(TypeDefinition sourceType, TypeDefinition targetType) {
+        if(sourceType == null)
+            throw new IllegalArgumentException("Source type cannot be null.");
+        if(targetType == null)
+            throw new IllegalArgumentException("Target type cannot be null.");
+        validateMappable(sourceType);
+        validateMappable(targetType);
+
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+    }
+
+    /**
+     * Creates a builder for a bean mapper.
+     * @param sourceType The type to map from.
+     * @param targetType The type to map to.
+     * @throws IllegalArgumentException If sourceType or targetType is null.
+     * @throws IllegalArgumentException If sourceType or targetType is not a public class or interface.
+     */
+    public BeanMapperBuilder(Class<S> sourceType, Class<T> targetType) {
+        this(sourceType == null ? null : type(sourceType), targetType == null ? null : type(targetType));
+    }
+
+    private static void validateMappable(TypeDefinition type) {
+        if(!type.canHaveMembers() || !Modifier.isPublic(type.getType().getModifiers()) || type.getType().isHidden())
+            throw new IllegalArgumentException("Type %s must be a public class or interface.".formatted(type.getClassName()));
+    }
+
+    /**
+     * Maps a property with a custom converter instead of an implicit conversion. The converter is given the value of the
+     * source property, boxed if it is primitive, and returns the value to write to the target property.
+     * @param propertyName The name of the property.
+     * @param converter The converter.
+     * @param <P> The type of the source property, or its wrapper type if it is primitive.
+     * @param <R> The type of the target property, or its wrapper type if it is primitive.
+     * @return This builder.
+     * @throws IllegalArgumentException If propertyName or converter is null.
+     */
+    @SuppressWarnings("unchecked")
+    public <P, R> BeanMapperBuilder<S, T> withConverter(String propertyName, Function<P, R> converter) {
+        if(propertyName == null)
+            throw new IllegalArgumentException("Property name cannot be null.");
+        if(converter == null)
+            throw new IllegalArgumentException("Converter cannot be null.");
+
+        converters.put(propertyName, (Function<Object, Object>)converter);
+        return this;
+    }
+
+    /**
+     * Generates the bean mapper.
+     * @return The generated bean mapper.
+     * @throws IllegalStateException If a property of the source cannot be implicitly converted into the type of the
+     * target property with the same name, and has no custom converter.
+     * @throws IllegalStateException If a custom converter was given for a property which is not both readable from the
+     * source and writable to the target.
+     */
+    @SuppressWarnings("unchecked")
+    public BeanMapper<S, T> build() {
+        Map<String, Property> readable = readableProperties(sourceType.getType());
+        Map<String, Property> writable = writableProperties(targetType.getType());
+        for(String propertyName : converters.keySet()) {
+            if(!readable.containsKey(propertyName) || !writable.containsKey(propertyName))
+                throw new IllegalStateException("Cannot convert property %s, which must be readable from %s and writable to %s.".formatted(
+                    propertyName, sourceType.getClassName(), targetType.getClassName()
+                ));
+        }
+
+        List<String> converterNames = new ArrayList<>(converters.keySet());
+        List<CodeInsnBuilderLike> copy = new ArrayList<>();
+        copy.add(setVar("from", cast(sourceType, getVar("source"))));
+        copy.add(setVar("to", cast(targetType, getVar("target"))));
+        for(Property source : readable.values()) {
+            Property target = writable.get(source.name);
+            if(target == null)
+                continue;
+
+            CodeInsnBuilderLike value = source.read();
+            int converterIndex = converterNames.indexOf(source.name);
+            if(converterIndex >= 0) {
+                value = this_().invoke("convert", literal(converterIndex), boxed(source.type, value));
+                value = cast(ClassUtils.primitiveToWrapper(target.type), value);
+            }
+            else
+                value = implicitlyConverted(source, target, value);
+
+            copy.add(target.write(value));
+        }
+        copy.add(returnValue(getVar("to")));
+
+        Class<?> target = targetType.getType();
+        boolean instantiable = !target.isInterface() && !Modifier.isAbstract(target.getModifiers()) && hasPublicNoArgConstructor(target);
+        CodeInsnBuilderLike newTarget = instantiable ?
+            instantiate(targetType) :
+            this_().invoke("cannotInstantiate", literalObj(targetType.getClassName()));
+
+        ClassLoader classLoader = DynamicClassLoader.parentFor(sourceType.getType());
+        return new AsmClassBuilder<>(classLoader, (Class<BeanMapper<S, T>>)(Class<?>)BeanMapper.class)
+            .withConstructor(constructor(publicOnly(), parameters(p("converters", Function[].class)),
+                superConstructor(BeanMapper.class, parameters(Function[].class), getVar("converters")),
+                returnVoid()
+            ))
+            .withMethod(method(publicOnly(), name("map"), parameters(p("source", Object.class), p("target", Object.class)), type(Object.class),
+                copy.toArray(CodeInsnBuilderLike[]::new)
+            ))
+            .withMethod(method(publicOnly(), name("map"), parameters(p("source", Object.class)), type(Object.class),
+                returnValue(this_().invoke("map", getVar("source"), newTarget))
+            ))
+            .buildInstance((Object)converterNames.stream().map(converters::get).toArray(Function[]::new));
+    }
+
+    /**
+     * Boxes a primitive value, since primitives are only boxed implicitly into their own wrapper types.
+     */
+    private static CodeInsnBuilderLike boxed(Class<?> type, CodeInsnBuilderLike value) {
+        return type.isPrimitive() ? cast(ClassUtils.primitiveToWrapper(type), value) : value;
+    }
+
+    /**
+     * Converts a source property value into the type of the target property. Boxing and unboxing happen before any
+     * widening, so that an int can be written to a Number property and an Integer can be written to a long property.
+     * @throws IllegalStateException If the conversion is not implicitly allowed.
+     */
+    private CodeInsnBuilderLike implicitlyConverted(Property source, Property target, CodeInsnBuilderLike value) {
+        Class<?> fromType = source.type;
+        if(fromType.isPrimitive() && !target.type.isPrimitive()) {
+            value = cast(ClassUtils.primitiveToWrapper(fromType), value);
+            fromType = ClassUtils.primitiveToWrapper(fromType);
+        }
+        else if(ClassUtils.isPrimitiveWrapper(fromType) && target.type.isPrimitive()) {
+            value = cast(ClassUtils.wrapperToPrimitive(fromType), value);
+            fromType = ClassUtils.wrapperToPrimitive(fromType);
+        }
+
+        if(!ImplicitConversionInsn.implicitCastAllowed(type(fromType), type(target.type))) {
+            throw new IllegalStateException("Cannot map property %s from type %s to type %s.".formatted(
+                source.name, source.type.getName(), target.type.getName()
+            ));
+        }
+        return value;
+    }
+
+    private static boolean hasPublicNoArgConstructor(Class<?> type) {
+        for(Constructor<?> constructor : type.getConstructors()) {
+            if(constructor.getParameterCount() == 0)
+                return true;
+        }
+        return false;
+    }
+
+    private static Map<String, Property> readableProperties(Class<?> type) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for(Method method : type.getMethods()) {
+            //A getter overriding a generic getter has a bridge method with the erased return type, which is skipped
+            if(method.isBridge() || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0 || method.getDeclaringClass() == Object.class)
+                continue;
+
+            Class<?> returnType = method.getReturnType();
+            String name = method.getName();
+            if(name.startsWith("get") && name.length() > 3 && returnType != void.class)
+                properties.putIfAbsent(StringUtils.uncapitalize(name.substring(3)), new Property(type, method, returnType));
+            else if(name.startsWith("is") && name.length() > 2 && returnType == boolean.class)
+                properties.putIfAbsent(StringUtils.uncapitalize(name.substring(2)), new Property(type, method, returnType));
+        }
+        for(Field field : type.getFields()) {
+            if(!Modifier.isStatic(field.getModifiers()))
+                properties.putIfAbsent(field.getName(), new Property(field));
+        }
+        return properties;
+    }
+
+    private static Map<String, Property> writableProperties(Class<?> type) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for(Method method : type.getMethods()) {
+            String name = method.getName();
+            if(!Modifier.isStatic(method.getModifiers()) && !method.isBridge() && method.getParameterCount() == 1 &&
+                name.startsWith("set") && name.length() > 3)
+                properties.putIfAbsent(StringUtils.uncapitalize(name.substring(3)), new Property(type, method, method.getParameterTypes()[0]));
+        }
+        for(Field field : type.getFields()) {
+            if(!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers()))
+                properties.putIfAbsent(field.getName(), new Property(field));
+        }
+        return properties;
+    }
+
+    /**
+     * A property which is accessed either through a getter or setter method, or through a field.
+     */
+    private static class Property {
+        private final String name;
+        private final Class<?> type;
+        private final Class<?> owner;
+        private final Method method;
+        private final Field field;
+
+        private Property(Class<?> owner, Method method, Class<?> type) {
+            String methodName = method.getName();
+            this.name = StringUtils.uncapitalize(methodName.substring(methodName.startsWith("is") ? 2 : 3));
+            this.type = type;
+            this.owner = owner;
+            this.method = method;
+            this.field = null;
+        }
+
+        private Property(Field field) {
+            this.name = field.getName();
+            this.type = field.getType();
+            this.owner = field.getDeclaringClass();
+            this.method = null;
+            this.field = field;
+        }
+
+        /**
+         * Creates the code builder which reads this property from the source, stored in the "from" local variable.
+         */
+        private CodeInsnBuilderLike read() {
+            if(method != null)
+                return getVar("from").invoke(owner, method);
+            return getVar("from").getField(type(owner), name(name), type(type));
+        }
+
+        /**
+         * Creates the code builder which writes a value to this property of the target, stored in the "to" local variable.
+         */
+        private CodeInsnBuilderLike write(CodeInsnBuilderLike value) {
+            if(method != null)
+                return getVar("to").invoke(owner, method, value);
+            return getVar("to").assignField(type(owner), name(name), type(type), value);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package io.github.cshunsinger.asmsauce.accessor;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.DynamicClassLoader;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.stack.StackLocalVariableInsn;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+
+/**
+ * Builds a {@link Comparator} which sorts by a list of keys, as a chain of {@link Comparator#comparing} and
+ * {@link Comparator#thenComparing} would, but as a single generated final class.
+ *
+ * A key is read through a public getter, such as getName() or isActive(), or otherwise through a public field. Primitive
+ * keys are compared inline with primitive comparisons, except for float and double keys which are compared with
+ * {@link Float#compare(float, float)} and {@link Double#compare(double, double)}. Other keys must be {@link Comparable},
+ * and are compared with compareTo after their nulls are ordered first or last. Comparators are cached, so building a
+ * comparator with the same keys as one built before returns the same comparator.
+ * @param <T> The type to compare.
+ */
+public class ComparatorBuilder<T> {
+    private static final ClassValue<Map<List<SortKey>, Comparator<?>>> COMPARATORS = new ClassValue<>() {
+        @Override
+        protected Map<List<SortKey>, Comparator<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<T> type;
+    private final List<SortKey> keys = new ArrayList<>();
+    private final List<Member> keyMembers = new ArrayList<>();
+
+    /**
+     * A key which a comparator sorts by. The list of keys of a comparator is also what comparators are cached by.
+     */
+    @Value
+    private static class SortKey {
+        String propertyName;
+        boolean descending;
+        boolean nullsFirst;
+    }
+
+    /**
+     * Creates a builder for a comparator.
+     * @param type The type to compare.
+     * @throws IllegalArgumentException If type is null or is not a public class or interface.
+     */
+    public ComparatorBuilder(Class<T> type) {
+        if(type == null)
+            throw new IllegalArgumentException("Type cannot be null.");
+        if(type.isPrimitive() || type.isArray() || !Modifier.isPublic(type.getModifiers()) || type.isHidden())
+            throw new IllegalArgumentException("Type %s must be a public class or interface.".formatted(type.getName()));
+
+        this.type = type;
+    }
+
+    /**
+     * Adds a key which sorts in ascending order, with nulls last.
+     * @param propertyName The name of the property to sort by.
+     * @return This builder.
+     * @throws IllegalArgumentException If the type has no public getter or field for the property, or if the property
+     * is neither primitive nor Comparable.
+     */
+    public ComparatorBuilder<T> ascending(String propertyName) {
+        return ascending(propertyName, false);
+    }
+
+    /**
+     * Adds a key which sorts in ascending order.
+     * @param propertyName The name of the property to sort by.
+     * @param nullsFirst True to sort null values before all other values, or false to sort them after all other values.
+     * @return This builder.
+     * @throws IllegalArgumentException If the type has no public getter or field for the property, or if the property
+     * is neither primitive nor Comparable.
+     */
+    public ComparatorBuilder<T> ascending(String propertyName, boolean nullsFirst) {
+        return withKey(propertyName, false, nullsFirst);
+    }
+
+    /**
+     * Adds a key which sorts in descending order, with nulls last.
+     * @param propertyName The name of the property to sort by.
+     * @return This builder.
+     * @throws IllegalArgumentException If the type has no public getter or field for the property, or if the property
+     * is neither primitive nor Comparable.
+     */
+    public ComparatorBuilder<T> descending(String propertyName) {
+        return descending(propertyName, false);
+    }
+
+    /**
+     * Adds a key which sorts in descending order.
+     * @param propertyName The name of the property to sort by.
+     * @param nullsFirst True to sort null values before all other values, or false to sort them after all other values.
+     * @return This builder.
+     * @throws IllegalArgumentException If the type has no public getter or field for the property, or if the property
+     * is neither primitive nor Comparable.
+     */
+    public ComparatorBuilder<T> descending(String propertyName, boolean nullsFirst) {
+        return withKey(propertyName, true, nullsFirst);
+    }
+
+    private ComparatorBuilder<T> withKey(String propertyName, boolean descending, boolean nullsFirst) {
+        if(propertyName == null || propertyName.isEmpty())
+            throw new IllegalArgumentException("Property name cannot be null or empty.");
+
+        Member member = keyMember(propertyName);
+        Class<?> keyType = member instanceof Method ? ((Method)member).getReturnType() : ((Field)member).getType();
+        if(!keyType.isPrimitive() && !Comparable.class.isAssignableFrom(keyType))
+            throw new IllegalArgumentException("Property %s of type %s is not comparable.".formatted(propertyName, keyType.getName()));
+
+        keys.add(new SortKey(propertyName, descending, nullsFirst));
+        keyMembers.add(member);
+        return this;
+    }
+
+    private Member keyMember(String propertyName) {
+        String capitalized = StringUtils.capitalize(propertyName);
+        for(Method method : type.getMethods()) {
+            if(Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0 || method.getDeclaringClass() == Object.class)
+                continue;
+
+            String name = method.getName();
+            if(name.equals("get" + capitalized) && method.getReturnType() != void.class)
+                return method;
+            if(name.equals("is" + capitalized) && method.getReturnType() == boolean.class)
+                return method;
+        }
+
+        try {
+            Field field = type.getField(propertyName);
+            if(!Modifier.isStatic(field.getModifiers()))
+                return field;
+        }
+        catch(NoSuchFieldException ex) {
+            //Fall through to the exception below
+        }
+        throw new IllegalArgumentException("Type %s has no public getter or field for property %s.".formatted(type.getName(), propertyName));
+    }
+
+    /**
+     * Generates the comparator, or gets the comparator built before with the same keys.
+     * @return The comparator.
+     * @throws IllegalStateException If no keys were added.
+     */
+    @SuppressWarnings("unchecked")
+    public Comparator<T> build() {
+        if(keys.isEmpty())
+            throw new IllegalStateException("At least one sort key must be added.");
+
+        List<Member> members = List.copyOf(keyMembers);
+        return (Comparator<T>)COMPARATORS.get(type).computeIfAbsent(List.copyOf(keys), key -> generateComparator(members));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparator<T> generateComparator(List<Member> members) {
+        List<CodeInsnBuilderLike> body = new ArrayList<>();
+        body.add(setVar("left", cast(type, getVar("arg0"))));
+        body.add(setVar("right", cast(type, getVar("arg1"))));
+        for(int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            body.add(setVar("left" + i, readKey(member, getVar("left"))));
+            body.add(setVar("right" + i, readKey(member, getVar("right"))));
+
+            //Descending keys are compared with the operands swapped, rather than negating the result
+            SortKey key = keys.get(i);
+            String first = key.isDescending() ? "right" + i : "left" + i;
+            String second = key.isDescending() ? "left" + i : "right" + i;
+            Class<?> keyType = member instanceof Method ? ((Method)member).getReturnType() : ((Field)member).getType();
+
+            if(keyType == double.class || keyType == float.class || keyType == boolean.class)
+                body.addAll(compareWithStaticMethod(keyType, first, second, "compared" + i));
+            else if(keyType.isPrimitive())
+                body.addAll(comparePrimitives(first, second));
+            else
+                body.add(compareObjects(keyType, "left" + i, "right" + i, first, second, key.isNullsFirst(), "compared" + i));
+        }
+        body.add(returnValue(literal(0)));
+
+        ClassLoader classLoader = DynamicClassLoader.parentFor(type);
+        String className = ComparatorBuilder.class.getName() + "$" + type.getSimpleName() + randomAlphanumeric(16);
+        return new AsmClassBuilder<>(className, classLoader, Comparator.class, Object.class, List.of(Comparator.class), publicOnly().withFinal())
+            .withMethod(method(publicOnly(), name("compare"), parameters(p("arg0", Object.class), p("arg1", Object.class)), type(int.class),
+                body.toArray(CodeInsnBuilderLike[]::new)
+            ))
+            .buildInstance();
+    }
+
+    private static CodeInsnBuilderLike readKey(Member member, StackLocalVariableInsn target) {
+        if(member instanceof Method)
+            return target.invoke(member.getDeclaringClass(), (Method)member);
+
+        Field field = (Field)member;
+        return target.getField(type(field.getDeclaringClass()), name(field.getName()), type(field.getType()));
+    }
+
+    private static List<CodeInsnBuilderLike> comparePrimitives(String first, String second) {
+        return List.of(
+            if_(getVar(first).lt(getVar(second))).then(returnValue(literal(-1))),
+            if_(getVar(first).gt(getVar(second))).then(returnValue(literal(1)))
+        );
+    }
+
+    private static List<CodeInsnBuilderLike> compareWithStaticMethod(Class<?> keyType, String first, String second, String result) {
+        Class<?> owner = keyType == double.class ? Double.class : keyType == float.class ? Float.class : Boolean.class;
+        return List.of(
+            setVar(result, invokeStatic(owner, "compare", getVar(first), getVar(second))),
+            if_(getVar(result).ne(literal(0))).then(returnValue(getVar(result)))
+        );
+    }
+
+    private static CodeInsnBuilderLike compareObjects(Class<?> keyType, String left, String right, String first, String second,
+                                                      boolean nullsFirst, String result) {
+        CodeInsnBuilderLike compareTo;
+        try {
+            //Call the compareTo of the key type itself when it has one, so the call site is not an interface call
+            Method method = keyType.getMethod("compareTo", keyType);
+            compareTo = getVar(first).invoke(method.getDeclaringClass(), method, getVar(second));
+        }
+        catch(NoSuchMethodException ex) {
+            try {
+                compareTo = getVar(first).invoke(Comparable.class, Comparable.class.getMethod("compareTo", Object.class), getVar(second));
+            }
+            catch(NoSuchMethodException comparableEx) {
+                throw new IllegalStateException(comparableEx);
+            }
+        }
+
+        return if_(getVar(left).isNull()).then(
+            if_(getVar(right).isNotNull()).then(returnValue(literal(nullsFirst ? -1 : 1)))
+        ).elseDo(
+            if_(getVar(right).isNull()).then(returnValue(literal(nullsFirst ? 1 : -1))),
+            setVar(result, compareTo),
+            if_(getVar(result).ne(literal(0))).then(returnValue(getVar(result)))
+        );
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.cshunsinger.asmsauce.accessor;
+
+import java.lang.reflect.Executable;
+
+/**
+ * Invokes a method or constructor without reflection. Invokers are generated by {@link Invokers}, and each invoker
+ * makes a direct call to the method or constructor it was generated for.
+ *
+ * The arguments can be passed in an array, like {@link java.lang.reflect.Method#invoke(Object, Object...)}, or through
+ * one of the fixed arity invoke methods, which do not need an array. The typed methods such as
+ * {@link #invokeInt(Object)} call a method which takes no arguments and return its primitive result without boxing.
+ * The target of an invocation is the instance to invoke an instance method against, and is ignored when invoking a
+ * static method or a constructor.
+ */
+public abstract class Invoker {
+    private final Executable executable;
+
+    /**
+     * Creates an invoker. Invokers are generated by {@link Invokers}.
+     * @param executable The method or constructor invoked by this invoker.
+     */
+    protected Invoker(Executable executable) {
+        this.executable = executable;
+    }
+
+    /**
+     * Gets the method or constructor invoked by this invoker.
+     * @return The method or constructor.
+     */
+    public Executable getExecutable() {
+        return executable;
+    }
+
+    /**
+     * Invokes the method or constructor, unboxing any arguments passed to primitive parameters.
+     * @param target The instance to invoke the method against.
+     * @param arguments The arguments to pass.
+     * @return The result of the method, boxed if primitive, or null if the method returns void. When invoking a
+     * constructor, the new instance.
+     * @throws IllegalArgumentException If the number of arguments does not match the number of parameters.
+     * @throws ClassCastException If an argument cannot be passed to its parameter.
+     */
+    public abstract Object invokeWithArguments(Object target, Object... arguments);
+
+    /**
+     * Invokes a method or constructor which takes no arguments.
+     * @param target The instance to invoke the method against.
+     * @return The result of the method, boxed if primitive, or null if the method returns void. When invoking a
+     * constructor, the new instance.
+     * @throws IllegalArgumentException If the method or constructor takes any arguments.
+     */
+    public abstract Object invoke(Object target);
+
+    /**
+     * Invokes a method or constructor which takes one argument.
+     * @param target The instance to invoke the method against.
+     * @param argument0 The first argument.
+     * @return The result of the method, boxed if primitive, or null if the method returns void. When invoking a
+     * constructor, the new instance.
+     * @throws IllegalArgumentException If the method or constructor does not take exactly one argument.
+     * @throws ClassCastException If an argument cannot be passed to its parameter.
+     */
+    public abstract Object invoke(Object target, Object argument0);
+
+    /**
+     * Invokes a method or constructor which takes two arguments.
+     * @param target The instance to invoke the method against.
+     * @param argument0 The first argument.
+     * @param argument1 The second argument.
+     * @return The result of the method, boxed if primitive, or null if the method returns void. When invoking a
+     * constructor, the new instance.
+     * @throws IllegalArgumentException If the method or constructor does not take exactly two arguments.
+     * @throws ClassCastException If an argument cannot be passed to its parameter.
+     */
+    public abstract Object invoke(Object target, Object argument0, Object argument1);
+
+    /**
+     * Invokes a method or constructor which takes three arguments.
+     * @param target The instance to invoke the method against.
+     * @param argument0 The first argument.
+     * @param argument1 The second argument.
+     * @param argument2 The third argument.
+     * @return The result of the method, boxed if primitive, or null if the method returns void. When invoking a
+     * constructor, the new instance.
+     * @throws IllegalArgumentException If the method or constructor does not take exactly three arguments.
+     * @throws ClassCastException If an argument cannot be passed to its parameter.
+     */
+    public abstract Object invoke(Object target, Object argument0, Object argument1, Object argument2);
+
+    /**
+     * Invokes a method which takes no arguments and returns an int.
+     * @param target The instance to invoke the method against.
+     * @return The result of the method.
+     * @throws IllegalArgumentException If the method takes any arguments or does not return an int.
+     */
+    public abstract int invokeInt(Object target);
+
+    /**
+     * Invokes a method which takes no arguments and returns a long.
+     * @param target The instance to invoke the method against.
+     * @return The result of the method.
+     * @throws IllegalArgumentException If the method takes any arguments or does not return a long.
+     */
+    public abstract long invokeLong(Object target);
+
+    /**
+     * Invokes a method which takes no arguments and returns a double.
+     * @param target The instance to invoke the method against.
+     * @return The result of the method.
+     * @throws IllegalArgumentException If the method takes any arguments or does not return a double.
+     */
+    public abstract double invokeDouble(Object target);
+
+    /**
+     * Invokes a method which takes no arguments and returns a boolean.
+     * @param target The instance to invoke the method against.
+     * @return The result of the method.
+     * @throws IllegalArgumentException If the method takes any arguments or does not return a boolean.
+     */
+    public abstract boolean invokeBoolean(Object target);
+
+    /**
+     * Called by the generated invoke methods when they are given the wrong number of arguments.
+     * @param argumentCount The number of arguments given.
+     * @return Nothing, since an exception is always thrown.
+     * @throws IllegalArgumentException Always.
+     */
+    protected Object wrongArgumentCount(int argumentCount) {
+        throw new IllegalArgumentException("%s expects %d arguments, but %d were given.".formatted(
+            executable.getName(), executable.getParameterCount(), argumentCount
+        ));
+    }
+
+    /**
+     * Called by the generated typed invoke methods when the method does not take zero arguments and return the type.
+     * @param returnType The name of the requested return type.
+     * @return Nothing, since an exception is always thrown.
+     * @throws IllegalArgumentException Always.
+     */
+    protected Object unsupportedReturnType(String returnType) {
+        throw new IllegalArgumentException("%s cannot be invoked without arguments to return %s.".formatted(
+            executable.getName(), returnType
+        ));
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.cshunsinger.asmsauce.accessor;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.DynamicClassLoader;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.ParamDefinition;
+import io.github.cshunsinger.asmsauce.definitions.ParametersDefinition;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static io.github.cshunsinger.asmsauce.ConstructorNode.constructor;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+
+/**
+ * Generates {@link Invoker}s, which call a method or constructor directly instead of through reflection. Generating an
+ * invoker defines a new class, so an invoker should be generated once and then kept for as long as it is used.
+ */
+public final class Invokers {
+    private static final int MAX_FIXED_ARITY = 3;
+    private static final List<Class<?>> TYPED_RETURNS = List.of(int.class, long.class, double.class, boolean.class);
+
+    private Invokers() {}
+
+    /**
+     * Generates an invoker which calls a method.
+     * @param method The method to call.
+     * @return The generated invoker.
+     * @throws IllegalArgumentException If method is null.
+     * @throws IllegalArgumentException If method is not a public method of a public class.
+     */
+    public static Invoker of(Method method) {
+        if(method == null)
+            throw new IllegalArgumentException("Method cannot be null.");
+        validateAccessible(method);
+
+        Class<?> owner = method.getDeclaringClass();
+        ParametersDefinition parameters = parameters(method.getParameterTypes());
+        Function<IntFunction<CodeInsnBuilderLike>, CodeInsnBuilderLike> call = Modifier.isStatic(method.getModifiers()) ?
+            argument -> invokeStatic(owner, name(method.getName()), parameters, type(method.getReturnType()), arguments(method, argument)) :
+            argument -> cast(owner, getVar("target")).invoke(owner, method, arguments(method, argument));
+
+        return generateInvoker(method, method.getReturnType(), call);
+    }
+
+    /**
+     * Generates an invoker which calls a constructor and returns the new instance.
+     * @param constructor The constructor to call.
+     * @return The generated invoker.
+     * @throws IllegalArgumentException If constructor is null.
+     * @throws IllegalArgumentException If constructor is not a public constructor of a public class.
+     * @throws IllegalArgumentException If constructor belongs to an abstract class.
+     */
+    public static Invoker of(Constructor<?> constructor) {
+        if(constructor == null)
+            throw new IllegalArgumentException("Constructor cannot be null.");
+        validateAccessible(constructor);
+
+        Class<?> owner = constructor.getDeclaringClass();
+        if(Modifier.isAbstract(owner.getModifiers()))
+            throw new IllegalArgumentException("Cannot invoke constructor of abstract class %s.".formatted(owner.getName()));
+
+        ParametersDefinition parameters = parameters(constructor.getParameterTypes());
+        return generateInvoker(constructor, owner, argument -> instantiate(owner, parameters, arguments(constructor, argument)));
+    }
+
+    private static void validateAccessible(Executable executable) {
+        Class<?> owner = executable.getDeclaringClass();
+        if(!Modifier.isPublic(executable.getModifiers()) || !Modifier.isPublic(owner.getModifiers()) || owner.isHidden())
+            throw new IllegalArgumentException("%s must be public and belong to a public class.".formatted(executable));
+    }
+
+    /**
+     * Creates the code builders which stack the arguments. Each argument is cast to its parameter type, or to the
+     * wrapper type of a primitive parameter so that it is unboxed when the method or constructor is called.
+     */
+    private static CodeInsnBuilderLike[] arguments(Executable executable, IntFunction<CodeInsnBuilderLike> argument) {
+        Class<?>[] parameterTypes = executable.getParameterTypes();
+        return IntStream.range(0, parameterTypes.length)
+            .mapToObj(i -> cast(ClassUtils.primitiveToWrapper(parameterTypes[i]), argument.apply(i)))
+            .toArray(CodeInsnBuilderLike[]::new);
+    }
+
+    /**
+     * Generates the invoker class and instantiates it.
+     * @param executable The method or constructor being called.
+     * @param resultType The type of the value the call results in.
+     * @param call Creates the code builder which makes the call, given a function which stacks the argument at an index.
+     */
+    private static Invoker generateInvoker(Executable executable,
+                                           Class<?> resultType,
+                                           Function<IntFunction<CodeInsnBuilderLike>, CodeInsnBuilderLike> call) {
+        int parameterCount = executable.getParameterCount();
+        Class<?> owner = executable.getDeclaringClass();
+        ClassLoader classLoader = DynamicClassLoader.parentFor(owner);
+        AsmClassBuilder<Invoker> builder = new AsmClassBuilder<>(classLoader, Invoker.class)
+            .withConstructor(constructor(publicOnly(), parameters(p("executable", Executable.class)),
+                superConstructor(Invoker.class, parameters(Executable.class), getVar("executable")),
+                returnVoid()
+            ));
+
+        //public Object invokeWithArguments(Object target, Object[] arguments)
+        CodeInsnBuilderLike checkArgumentCount = if_(getVar("arguments").length().ne(literal(parameterCount))).then(
+            returnValue(this_().invoke("wrongArgumentCount", getVar("arguments").length()))
+        );
+        CodeInsnBuilderLike[] invokeWithArguments = ArrayUtils.insert(0,
+            returnResult(resultType, call.apply(i -> getVar("arguments").get(literal(i)))), checkArgumentCount
+        );
+        builder.withMethod(method(publicOnly(), name("invokeWithArguments"),
+            parameters(p("target", Object.class), p("arguments", Object[].class)), type(Object.class),
+            invokeWithArguments
+        ));
+
+        //public Object invoke(Object target, Object argument0, ...) for each fixed arity
+        for(int arity = 0; arity <= MAX_FIXED_ARITY; arity++) {
+            CodeInsnBuilderLike[] body = arity == parameterCount ?
+                returnResult(resultType, call.apply(i -> getVar("argument" + i))) :
+                new CodeInsnBuilderLike[] {returnValue(this_().invoke("wrongArgumentCount", literal(arity)))};
+            builder.withMethod(method(publicOnly(), name("invoke"), fixedArityParameters(arity), type(Object.class), body));
+        }
+
+        //public int invokeInt(Object target), and the other typed invoke methods
+        for(Class<?> typedReturn : TYPED_RETURNS) {
+            String methodName = "invoke" + Character.toUpperCase(typedReturn.getName().charAt(0)) + typedReturn.getName().substring(1);
+            CodeInsnBuilderLike body = parameterCount == 0 && resultType == typedReturn ?
+                returnValue(call.apply(i -> stackNull())) :
+                returnValue(cast(ClassUtils.primitiveToWrapper(typedReturn), this_().invoke("unsupportedReturnType", literalObj(typedReturn.getName()))));
+            builder.withMethod(method(publicOnly(), name(methodName), parameters(p("target", Object.class)), type(typedReturn), body));
+        }
+
+        return builder.buildInstance(executable);
+    }
+
+    /**
+     * Creates the code builders which make the call and return its result as an Object. A primitive result is boxed,
+     * and null is returned when the method returns void.
+     */
+    private static CodeInsnBuilderLike[] returnResult(Class<?> resultType, CodeInsnBuilderLike call) {
+        if(resultType == void.class)
+            return new CodeInsnBuilderLike[] {call, returnValue(stackNull())};
+        else if(resultType.isPrimitive())
+            return new CodeInsnBuilderLike[] {returnValue(cast(ClassUtils.primitiveToWrapper(resultType), call))};
+        else
+            return new CodeInsnBuilderLike[] {returnValue(call)};
+    }
+
+    private static ParametersDefinition fixedArityParameters(int arity) {
+        List<ParamDefinition> params = new ArrayList<>();
+        params.add(p("target", Object.class));
+        for(int i = 0; i < arity; i++)
+            params.add(p("argument" + i, Object.class));
+        return parameters(params.toArray(ParamDefinition[]::new));
+    }
+}
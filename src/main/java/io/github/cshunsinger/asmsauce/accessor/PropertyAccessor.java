@@ -0,0 +1,315 @@
+package io.github.cshunsinger.asmsauce.accessor;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.DynamicClassLoader;
+import io.github.cshunsinger.asmsauce.MethodNode;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.SwitchBranch;
+import io.github.cshunsinger.asmsauce.code.field.GetInstanceFieldInsn;
+import io.github.cshunsinger.asmsauce.definitions.ParametersDefinition;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+
+/**
+ * Reads and writes the properties of instances of a class without reflection. The properties of a class are its public
+ * instance fields, including those inherited from its superclasses, and each property is identified by its index.
+ *
+ * The accessor of each class is generated once, the first time it is requested, and cached with the class. Each
+ * method of a generated accessor switches on the property index and then reads or writes the field directly, so the
+ * typed methods such as {@link #getInt(Object, int)} never box the value.
+ * @param <T> The type whose properties are accessed.
+ */
+public abstract class PropertyAccessor<T> {
+    private static final ClassValue<PropertyAccessor<?>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected PropertyAccessor<?> computeValue(Class<?> type) {
+            return generateAccessor(type);
+        }
+    };
+
+    private List<Field> properties;
+
+    /**
+     * Creates a property accessor. Property accessors are generated by {@link #forClass(Class)}.
+     */
+    protected PropertyAccessor() {}
+
+    /**
+     * Gets the property accessor of a class, generating it if it has not been generated yet.
+     * @param type The class whose properties will be accessed.
+     * @param <T> The type whose properties will be accessed.
+     * @return The property accessor of the class.
+     * @throws IllegalArgumentException If type is null.
+     * @throws IllegalArgumentException If type is not a public class.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PropertyAccessor<T> forClass(Class<T> type) {
+        if(type == null)
+            throw new IllegalArgumentException("Type cannot be null.");
+        if(!Modifier.isPublic(type.getModifiers()) || type.isInterface() || type.isArray() || type.isPrimitive() || type.isHidden())
+            throw new IllegalArgumentException("Type %s must be a public class.".formatted(type.getName()));
+
+        return (PropertyAccessor<T>)ACCESSORS.get(type);
+    }
+
+    /**
+     * Gets the number of properties of the accessed class.
+     * @return The number of properties.
+     */
+    public int getPropertyCount() {
+        return properties.size();
+    }
+
+    /**
+     * Gets the name of a property.
+     * @param index The index of the property.
+     * @return The name of the property.
+     * @throws IndexOutOfBoundsException If there is no property at the index.
+     */
+    public String getPropertyName(int index) {
+        return properties.get(index).getName();
+    }
+
+    /**
+     * Gets the type of a property.
+     * @param index The index of the property.
+     * @return The type of the property.
+     * @throws IndexOutOfBoundsException If there is no property at the index.
+     */
+    public Class<?> getPropertyType(int index) {
+        return properties.get(index).getType();
+    }
+
+    /**
+     * Gets the index of a property from its name.
+     * @param name The name of the property.
+     * @return The index of the property, or -1 if the accessed class has no property with the name.
+     */
+    public int indexOf(String name) {
+        for(int i = 0; i < properties.size(); i++) {
+            if(properties.get(i).getName().equals(name))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Reads a property, boxing the value if the property is primitive.
+     * @param instance The instance to read the property of.
+     * @param index The index of the property.
+     * @return The value of the property.
+     * @throws IllegalArgumentException If there is no property at the index.
+     */
+    public abstract Object get(T instance, int index);
+
+    /**
+     * Writes a property, unboxing the value if the property is primitive.
+     * @param instance The instance to write the property of.
+     * @param index The index of the property.
+     * @param value The value to write.
+     * @throws IllegalArgumentException If there is no property at the index, or if the property is final.
+     * @throws ClassCastException If the value cannot be assigned to the property.
+     */
+    public abstract void set(T instance, int index, Object value);
+
+    /**
+     * Reads an int property.
+     * @param instance The instance to read the property of.
+     * @param index The index of the property.
+     * @return The value of the property.
+     * @throws IllegalArgumentException If there is no int property at the index.
+     */
+    public abstract int getInt(T instance, int index);
+
+    /**
+     * Writes an int property.
+     * @param instance The instance to write the property of.
+     * @param index The index of the property.
+     * @param value The value to write.
+     * @throws IllegalArgumentException If there is no writable int property at the index.
+     */
+    public abstract void setInt(T instance, int index, int value);
+
+    /**
+     * Reads a long property.
+     * @param instance The instance to read the property of.
+     * @param index The index of the property.
+     * @return The value of the property.
+     * @throws IllegalArgumentException If there is no long property at the index.
+     */
+    public abstract long getLong(T instance, int index);
+
+    /**
+     * Writes a long property.
+     * @param instance The instance to write the property of.
+     * @param index The index of the property.
+     * @param value The value to write.
+     * @throws IllegalArgumentException If there is no writable long property at the index.
+     */
+    public abstract void setLong(T instance, int index, long value);
+
+    /**
+     * Reads a double property.
+     * @param instance The instance to read the property of.
+     * @param index The index of the property.
+     * @return The value of the property.
+     * @throws IllegalArgumentException If there is no double property at the index.
+     */
+    public abstract double getDouble(T instance, int index);
+
+    /**
+     * Writes a double property.
+     * @param instance The instance to write the property of.
+     * @param index The index of the property.
+     * @param value The value to write.
+     * @throws IllegalArgumentException If there is no writable double property at the index.
+     */
+    public abstract void setDouble(T instance, int index, double value);
+
+    /**
+     * Reads a boolean property.
+     * @param instance The instance to read the property of.
+     * @param index The index of the property.
+     * @return The value of the property.
+     * @throws IllegalArgumentException If there is no boolean property at the index.
+     */
+    public abstract boolean getBoolean(T instance, int index);
+
+    /**
+     * Writes a boolean property.
+     * @param instance The instance to write the property of.
+     * @param index The index of the property.
+     * @param value The value to write.
+     * @throws IllegalArgumentException If there is no writable boolean property at the index.
+     */
+    public abstract void setBoolean(T instance, int index, boolean value);
+
+    /**
+     * Called by the generated accessor methods when there is no property of the requested type at an index.
+     * @param index The index of the property.
+     * @param propertyType The name of the requested property type.
+     * @return Nothing, since an exception is always thrown.
+     * @throws IllegalArgumentException Always.
+     */
+    protected Object noProperty(int index, String propertyType) {
+        throw new IllegalArgumentException("No %s property at index %d.".formatted(propertyType, index));
+    }
+
+    private static <T> PropertyAccessor<T> generateAccessor(Class<T> type) {
+        List<Field> properties = findProperties(type);
+        Predicate<Field> writable = field -> !Modifier.isFinal(field.getModifiers());
+
+        ClassLoader classLoader = DynamicClassLoader.parentFor(type);
+        @SuppressWarnings("unchecked")
+        AsmClassBuilder<PropertyAccessor<T>> builder = new AsmClassBuilder<>(classLoader, (Class<PropertyAccessor<T>>)(Class<?>)PropertyAccessor.class)
+            .withMethod(getter(type, "get", Object.class, "readable", properties, field -> true))
+            .withMethod(setter(type, "set", Object.class, "writable", properties, writable, value -> cast(ClassUtils.primitiveToWrapper(value), getVar("value"))));
+
+        for(Class<?> primitive : List.of(int.class, long.class, double.class, boolean.class)) {
+            String getterName = "get" + Character.toUpperCase(primitive.getName().charAt(0)) + primitive.getName().substring(1);
+            String setterName = "s" + getterName.substring(1);
+            builder
+                .withMethod(getter(type, getterName, primitive, primitive.getName(), properties, field -> field.getType() == primitive))
+                .withMethod(setter(type, setterName, primitive, "writable " + primitive.getName(), properties,
+                    writable.and(field -> field.getType() == primitive), value -> getVar("value")));
+        }
+
+        PropertyAccessor<T> accessor = builder.buildInstance();
+        accessor.properties = properties;
+        return accessor;
+    }
+
+    private static List<Field> findProperties(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for(Class<?> cls = type; cls != null; cls = cls.getSuperclass())
+            hierarchy.add(0, cls);
+
+        //Superclass properties come first, so that a subclass shares the property indexes of its superclass
+        List<Field> properties = new ArrayList<>();
+        for(Class<?> cls : hierarchy) {
+            if(!Modifier.isPublic(cls.getModifiers()))
+                continue;
+            for(Field field : cls.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if(Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers) && !field.isSynthetic())
+                    properties.add(field);
+            }
+        }
+        return List.copyOf(properties);
+    }
+
+    /**
+     * Creates a method which switches on the property index and returns the value of the matching property.
+     */
+    private static MethodNode getter(Class<?> type,
+                                     String methodName,
+                                     Class<?> returnType,
+                                     String propertyKind,
+                                     List<Field> properties,
+                                     Predicate<Field> included) {
+        SwitchBranch switchBranch = switch_(getVar("index"));
+        for(int i = 0; i < properties.size(); i++) {
+            Field field = properties.get(i);
+            if(included.test(field)) {
+                //Primitives are only boxed implicitly into their own wrapper types, so box them explicitly
+                CodeInsnBuilderLike value = readField(field);
+                if(field.getType().isPrimitive() && !returnType.isPrimitive())
+                    value = cast(ClassUtils.primitiveToWrapper(field.getType()), value);
+                switchBranch.case_(i, returnValue(value));
+            }
+        }
+
+        return method(publicOnly(), name(methodName), parameters(p("instance", Object.class), p("index", int.class)), type(returnType),
+            setVar("bean", cast(type, getVar("instance"))),
+            switchBranch,
+            returnValue(cast(ClassUtils.primitiveToWrapper(returnType), this_().invoke("noProperty", getVar("index"), literalObj(propertyKind))))
+        );
+    }
+
+    /**
+     * Creates a method which switches on the property index and assigns the value to the matching property.
+     */
+    private static MethodNode setter(Class<?> type,
+                                     String methodName,
+                                     Class<?> valueType,
+                                     String propertyKind,
+                                     List<Field> properties,
+                                     Predicate<Field> included,
+                                     Function<Class<?>, CodeInsnBuilderLike> valueBuilder) {
+        SwitchBranch switchBranch = switch_(getVar("index"));
+        for(int i = 0; i < properties.size(); i++) {
+            Field field = properties.get(i);
+            if(included.test(field)) {
+                switchBranch.case_(i,
+                    getVar("bean").assignField(
+                        type(field.getDeclaringClass()), name(field.getName()), type(field.getType()), valueBuilder.apply(field.getType())
+                    ),
+                    returnVoid()
+                );
+            }
+        }
+
+        ParametersDefinition parameters = parameters(p("instance", Object.class), p("index", int.class), p("value", valueType));
+        return method(publicOnly(), name(methodName), parameters, voidType(),
+            setVar("bean", cast(type, getVar("instance"))),
+            switchBranch,
+            this_().invoke("noProperty", getVar("index"), literalObj(propertyKind)),
+            returnVoid()
+        );
+    }
+
+    private static GetInstanceFieldInsn readField(Field field) {
+        return getVar("bean").getField(type(field.getDeclaringClass()), name(field.getName()), type(field.getType()));
+    }
+}
@@ -1,18 +1,29 @@
 package io.github.cshunsinger.asmsauce.code;
 
 import io.github.cshunsinger.asmsauce.ThisClass;
-import io.github.cshunsinger.asmsauce.code.array.InstantiateArrayInsn;
+import io.github.cshunsinger.asmsauce.code.array.*;
+import io.github.cshunsinger.asmsauce.code.branch.BreakInsn;
+import io.github.cshunsinger.asmsauce.code.branch.ForLoop;
+import io.github.cshunsinger.asmsauce.code.branch.ForRangeLoop;
 import io.github.cshunsinger.asmsauce.code.branch.IfBranch;
+import io.github.cshunsinger.asmsauce.code.branch.SwitchBranch;
+import io.github.cshunsinger.asmsauce.code.branch.SynchronizedBlock;
 import io.github.cshunsinger.asmsauce.code.branch.TernaryIfElse;
 import io.github.cshunsinger.asmsauce.code.branch.WhileLoop;
 import io.github.cshunsinger.asmsauce.code.branch.condition.Condition;
 import io.github.cshunsinger.asmsauce.code.cast.ExplicitConversionInsn;
 import io.github.cshunsinger.asmsauce.code.field.AssignStaticFieldInsn;
 import io.github.cshunsinger.asmsauce.code.field.GetStaticFieldInsn;
+import io.github.cshunsinger.asmsauce.code.field.VarHandleFieldInsn;
 import io.github.cshunsinger.asmsauce.code.method.InstantiateObjectInsn;
 import io.github.cshunsinger.asmsauce.code.method.InvokeBaseConstructorInsn;
+import io.github.cshunsinger.asmsauce.code.method.InvokeDynamicInsn;
 import io.github.cshunsinger.asmsauce.code.method.InvokeStaticMethodInsn;
+import io.github.cshunsinger.asmsauce.code.method.LambdaInsn;
 import io.github.cshunsinger.asmsauce.code.method.ReturnInsn;
+import io.github.cshunsinger.asmsauce.code.method.StringConcatInsn;
+import io.github.cshunsinger.asmsauce.code.stack.IncrementLocalVariableInsn;
+import io.github.cshunsinger.asmsauce.code.stack.StackClassDataInsn;
 import io.github.cshunsinger.asmsauce.code.stack.StackLocalVariableInsn;
 import io.github.cshunsinger.asmsauce.code.stack.StackObjectLiteralInsn;
 import io.github.cshunsinger.asmsauce.code.stack.StackPrimitiveLiteralInsn;
@@ -21,11 +32,15 @@ import io.github.cshunsinger.asmsauce.definitions.*;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.List;
 
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
 import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.privateStatic;
 import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicStatic;
+import static java.util.Collections.emptyList;
 
 /**
  * This class contains all of the static methods which can be used to create all of the code building instructions.
@@ -104,6 +119,28 @@ public class CodeBuilders {
         return new StoreLocalVariableInsn(localName, valueBuilder);
     }
 
+    /**
+     * Increments an int local variable at a given index by a constant amount. Equivalent to i += amount;
+     * @param localIndex The index of the int local variable to increment.
+     * @param amount The constant amount to increment by, between -32768 and 32767.
+     * @return A code builder whose generated bytecode will increment the local variable in place.
+     * @see #incVar(String, int)
+     */
+    public static IncrementLocalVariableInsn incVar(int localIndex, int amount) {
+        return new IncrementLocalVariableInsn(localIndex, amount);
+    }
+
+    /**
+     * Increments a named int local variable by a constant amount. Equivalent to i += amount;
+     * @param localName The name of the int local variable to increment.
+     * @param amount The constant amount to increment by, between -32768 and 32767.
+     * @return A code builder whose generated bytecode will increment the local variable in place.
+     * @see #incVar(int, int)
+     */
+    public static IncrementLocalVariableInsn incVar(String localName, int amount) {
+        return new IncrementLocalVariableInsn(localName, amount);
+    }
+
     /**
      * Calls a super constructor at the beginning of a constructor body. Equivalent to super(...);
      * @param constructor The constructor to invoke.
@@ -185,6 +222,30 @@ public class CodeBuilders {
         return new StackObjectLiteralInsn(obj);
     }
 
+    /**
+     * Stack a live object which is embedded into the class being generated, such as a configuration object, a method
+     * handle, or a lambda. The object is loaded as a dynamic constant, so the JIT can treat it as a true constant.
+     * The stacked type is the class of the object if that class is public and not hidden, otherwise Object.
+     * @param obj The object to stack.
+     * @return A code builder whose bytecode places the embedded object onto the jvm stack.
+     * @see #classData(Object, Class)
+     */
+    public static StackClassDataInsn classData(Object obj) {
+        return new StackClassDataInsn(obj);
+    }
+
+    /**
+     * Stack a live object which is embedded into the class being generated, such as a configuration object, a method
+     * handle, or a lambda. The object is loaded as a dynamic constant, so the JIT can treat it as a true constant.
+     * @param obj The object to stack.
+     * @param type The type to stack the object as.
+     * @return A code builder whose bytecode places the embedded object onto the jvm stack.
+     * @see #classData(Object)
+     */
+    public static StackClassDataInsn classData(Object obj, Class<?> type) {
+        return new StackClassDataInsn(obj, type);
+    }
+
     /**
      * Stack a literal byte.
      * @param b The byte to stack.
@@ -496,6 +557,57 @@ public class CodeBuilders {
         return invokeStatic(type(typeClass), name, parameters, parameterBuilders);
     }
 
+    /**
+     * Invoke a dynamically computed call site which is linked by a bootstrap method.
+     * @param bootstrapMethod The static bootstrap method which links the call site.
+     * @param name Name of the call site.
+     * @param parameters Parameters of the call site.
+     * @param returnType Return type of the call site.
+     * @param argumentBuilders Code builders to stack values to pass to the call site.
+     * @return A code builder which produces the bytecode to invoke a dynamically computed call site.
+     * @see #invokeDynamic(Method, List, NameDefinition, ParametersDefinition, TypeDefinition, CodeInsnBuilderLike...)
+     */
+    public static InvokeDynamicInsn invokeDynamic(Method bootstrapMethod, NameDefinition name, ParametersDefinition parameters, TypeDefinition returnType, CodeInsnBuilderLike... argumentBuilders) {
+        return invokeDynamic(bootstrapMethod, emptyList(), name, parameters, returnType, argumentBuilders);
+    }
+
+    /**
+     * Invoke a dynamically computed call site which is linked by a bootstrap method.
+     * @param bootstrapMethod The static bootstrap method which links the call site.
+     * @param bootstrapArguments Static arguments to pass to the bootstrap method.
+     * @param name Name of the call site.
+     * @param parameters Parameters of the call site.
+     * @param returnType Return type of the call site.
+     * @param argumentBuilders Code builders to stack values to pass to the call site.
+     * @return A code builder which produces the bytecode to invoke a dynamically computed call site.
+     * @see #invokeDynamic(Method, NameDefinition, ParametersDefinition, TypeDefinition, CodeInsnBuilderLike...)
+     */
+    public static InvokeDynamicInsn invokeDynamic(Method bootstrapMethod, List<Object> bootstrapArguments, NameDefinition name, ParametersDefinition parameters, TypeDefinition returnType, CodeInsnBuilderLike... argumentBuilders) {
+        return new InvokeDynamicInsn(bootstrapMethod, bootstrapArguments, name, parameters, returnType, argumentBuilders);
+    }
+
+    /**
+     * Concatenate values into a String, the same as the + operator on Strings. Constant values are folded into the
+     * generated concatenation instead of being stacked at runtime.
+     * @param valueBuilders Code builders to stack the values to concatenate.
+     * @return A code builder which produces the bytecode to concatenate values into a String.
+     */
+    public static StringConcatInsn concat(CodeInsnBuilderLike... valueBuilders) {
+        return new StringConcatInsn(valueBuilders);
+    }
+
+    /**
+     * Create an instance of a functional interface from a lambda body. Values from the enclosing method can be
+     * captured with {@link LambdaInsn#capture(String, CodeInsnBuilderLike)}.
+     * @param functionalInterface The functional interface to implement.
+     * @param parameters Parameters of the lambda, matching the parameters of the functional interface method.
+     * @param body Code builders which make up the body of the lambda.
+     * @return A code builder which produces the bytecode to create an instance of a functional interface.
+     */
+    public static LambdaInsn lambda(Class<?> functionalInterface, ParametersDefinition parameters, CodeInsnBuilderLike... body) {
+        return new LambdaInsn(functionalInterface, parameters, body);
+    }
+
     /**
      * Get a value from a static field.
      * @param owner Owner of the static field.
@@ -582,6 +694,57 @@ public class CodeBuilders {
         return setStatic(type(owner), name(name), valueBuilder);
     }
 
+    /**
+     * Access a static field through a VarHandle.
+     * @param owner Owner of the static field.
+     * @param name Name of the static field.
+     * @param accessMode The VarHandle access mode to use, such as {@link VarHandle.AccessMode#GET_ACQUIRE}.
+     * @param valueBuilders Code builders which stack the values passed to the access mode.
+     * @return A code builder which produces the bytecode to access a static field through a VarHandle.
+     * @see #accessStatic(Class, String, VarHandle.AccessMode, CodeInsnBuilderLike...)
+     */
+    public static VarHandleFieldInsn accessStatic(TypeDefinition owner, NameDefinition name, VarHandle.AccessMode accessMode, CodeInsnBuilderLike... valueBuilders) {
+        return new VarHandleFieldInsn(new FieldDefinition(privateStatic(), owner, name, null), accessMode, valueBuilders);
+    }
+
+    /**
+     * Access a static field through a VarHandle.
+     * @param owner Owner of the static field.
+     * @param name Name of the static field.
+     * @param accessMode The VarHandle access mode to use, such as {@link VarHandle.AccessMode#GET_ACQUIRE}.
+     * @param valueBuilders Code builders which stack the values passed to the access mode.
+     * @return A code builder which produces the bytecode to access a static field through a VarHandle.
+     * @see #accessStatic(TypeDefinition, NameDefinition, VarHandle.AccessMode, CodeInsnBuilderLike...)
+     */
+    public static VarHandleFieldInsn accessStatic(Class<?> owner, String name, VarHandle.AccessMode accessMode, CodeInsnBuilderLike... valueBuilders) {
+        return accessStatic(type(owner), name(name), accessMode, valueBuilders);
+    }
+
+    /**
+     * Atomically set a static field to a new value if the field currently holds an expected value.
+     * @param owner Owner of the static field.
+     * @param name Name of the static field.
+     * @param expectedValueBuilder Code builder which stacks the expected value of the static field.
+     * @param newValueBuilder Code builder which stacks the new value of the static field.
+     * @return A code builder which produces the bytecode to compare-and-set a static field, and stack true if the field
+     * was set.
+     */
+    public static VarHandleFieldInsn compareAndSetStatic(Class<?> owner, String name, CodeInsnBuilderLike expectedValueBuilder, CodeInsnBuilderLike newValueBuilder) {
+        return accessStatic(owner, name, VarHandle.AccessMode.COMPARE_AND_SET, expectedValueBuilder, newValueBuilder);
+    }
+
+    /**
+     * Atomically add to a numeric static field.
+     * @param owner Owner of the static field.
+     * @param name Name of the static field.
+     * @param deltaBuilder Code builder which stacks the value to add to the static field.
+     * @return A code builder which produces the bytecode to get-and-add a static field, and stack the value of the field
+     * from before the addition.
+     */
+    public static VarHandleFieldInsn getAndAddStatic(Class<?> owner, String name, CodeInsnBuilderLike deltaBuilder) {
+        return accessStatic(owner, name, VarHandle.AccessMode.GET_AND_ADD, deltaBuilder);
+    }
+
     /**
      * Explicitly cast a value.
      * @param toType The type to cast to.
@@ -718,6 +881,67 @@ public class CodeBuilders {
         return new WhileLoop.WhileBuilder(condition);
     }
 
+    /**
+     * Begins the building of a for-loop. Equivalent to for(initializer; condition; update) { ... }
+     * @param initializer The code builder to execute once before the loop, such as setVar("i", literal(0)).
+     * @param condition A truth condition.
+     * @param update The code builder to execute after each iteration of the loop body, such as incVar("i", 1).
+     * @return A ForLoop builder which will allow the for-loop to be completed with a body.
+     * @throws IllegalArgumentException If initializer, condition, or update is null.
+     */
+    public static ForLoop.ForBuilder for_(CodeInsnBuilderLike initializer, Condition condition, CodeInsnBuilderLike update) {
+        return new ForLoop.ForBuilder(initializer, condition, update);
+    }
+
+    /**
+     * Begins the building of a counted loop over a range of int values. Equivalent to
+     * for(int localName = from; localName &lt; to; localName += step) { ... }
+     * or, if step is negative, for(int localName = from; localName &gt; to; localName += step) { ... }
+     * The limit is evaluated only once, before the loop begins.
+     * @param localName The name of the int loop variable.
+     * @param from The code builder which stacks the first value of the loop variable (inclusive).
+     * @param to The code builder which stacks the limit of the loop variable (exclusive).
+     * @param step The constant amount to add to the loop variable after each iteration.
+     * @return A ForRangeLoop builder which will allow the loop to be completed with a body, and optionally unrolled.
+     * @throws IllegalArgumentException If localName is null or empty, if from or to is null, or if step is zero or is
+     * not between -32768 and 32767.
+     */
+    public static ForRangeLoop.ForRangeBuilder forRange(String localName, CodeInsnBuilderLike from, CodeInsnBuilderLike to, int step) {
+        return new ForRangeLoop.ForRangeBuilder(localName, from, to, step);
+    }
+
+    /**
+     * Begins the building of a switch statement. Cases are added to the returned switch statement with
+     * {@link SwitchBranch#case_(int, CodeInsnBuilderLike...)} and the default case is added with
+     * {@link SwitchBranch#default_(CodeInsnBuilderLike...)}.
+     * @param selector The code builder which stacks the int, String, or enum value to switch on.
+     * @return A new switch statement with no cases.
+     * @throws IllegalArgumentException If selector is null.
+     */
+    public static SwitchBranch switch_(CodeInsnBuilderLike selector) {
+        return new SwitchBranch(selector);
+    }
+
+    /**
+     * Creates a synchronized block, which executes a code body while holding the monitor of an object. This is the
+     * equivalent of a Java synchronized statement.
+     * @param lockBuilder The code builder which stacks the object to synchronize on.
+     * @param body The code builders which make up the body of the synchronized block.
+     * @return A code builder which produces the bytecode of a synchronized block.
+     * @throws IllegalArgumentException If lockBuilder is null.
+     */
+    public static SynchronizedBlock synchronized_(CodeInsnBuilderLike lockBuilder, CodeInsnBuilderLike... body) {
+        return new SynchronizedBlock(lockBuilder, body);
+    }
+
+    /**
+     * Jumps out of the innermost switch statement or loop. This is the equivalent of a Java break statement.
+     * @return A code builder which jumps to the end of the innermost switch statement or loop.
+     */
+    public static BreakInsn break_() {
+        return new BreakInsn();
+    }
+
     /**
      * Inverts a condition. This is the equivalent of !condition.
      * @param condition The condition to invert.
@@ -755,4 +979,119 @@ public class CodeBuilders {
     public static InstantiateArrayInsn newArray(TypeDefinition componentType, CodeInsnBuilderLike length) {
         return new InstantiateArrayInsn(componentType, length);
     }
+
+    /**
+     * Creates a code builder for producing a new multi-dimensional array instance, such as new int[3][4].
+     * @param arrayType The type of the array to create, such as int[][].class.
+     * @param dimensionLengths Code builders to stack the length of each dimension, starting with the outermost
+     *                         dimension. If fewer lengths are given than the number of dimensions of the array type, the
+     *                         innermost dimensions are left null, such as new int[3][].
+     * @return A code builder which will generate bytecode that creates a new multi-dimensional array.
+     * @throws IllegalArgumentException If arrayType is null or is not an array type.
+     * @throws IllegalArgumentException If no dimension lengths are given, or more lengths are given than the number of
+     *                                  dimensions of the array type.
+     * @see #newMultiArray(TypeDefinition, CodeInsnBuilderLike...)
+     */
+    public static InstantiateMultiArrayInsn newMultiArray(Class<?> arrayType, CodeInsnBuilderLike... dimensionLengths) {
+        return newMultiArray(arrayType == null ? null : type(arrayType), dimensionLengths);
+    }
+
+    /**
+     * Creates a code builder for producing a new multi-dimensional array instance, such as new int[3][4].
+     * @param arrayType The type of the array to create, such as type(int[][].class).
+     * @param dimensionLengths Code builders to stack the length of each dimension, starting with the outermost
+     *                         dimension. If fewer lengths are given than the number of dimensions of the array type, the
+     *                         innermost dimensions are left null, such as new int[3][].
+     * @return A code builder which will generate bytecode that creates a new multi-dimensional array.
+     * @throws IllegalArgumentException If arrayType is null or is not an array type.
+     * @throws IllegalArgumentException If no dimension lengths are given, or more lengths are given than the number of
+     *                                  dimensions of the array type.
+     * @see #newMultiArray(Class, CodeInsnBuilderLike...)
+     */
+    public static InstantiateMultiArrayInsn newMultiArray(TypeDefinition arrayType, CodeInsnBuilderLike... dimensionLengths) {
+        return new InstantiateMultiArrayInsn(arrayType, dimensionLengths);
+    }
+
+    /**
+     * Creates a code builder for producing a new array containing the given elements. Equivalent to an array initializer
+     * such as new int[] {1, 2, 3}.
+     * @param componentType The component type for the new array.
+     * @param elements Code builders to stack each element of the new array, in order.
+     * @return A code builder which will generate bytecode that creates a new array containing the elements.
+     * @throws IllegalArgumentException If componentType is null.
+     * @see #arrayOf(TypeDefinition, CodeInsnBuilderLike...)
+     */
+    public static ArrayLiteralInsn arrayOf(Class<?> componentType, CodeInsnBuilderLike... elements) {
+        return arrayOf(componentType == null ? null : type(componentType), elements);
+    }
+
+    /**
+     * Creates a code builder for producing a new array containing the given elements. Equivalent to an array initializer
+     * such as new int[] {1, 2, 3}.
+     * @param componentType The component type for the new array.
+     * @param elements Code builders to stack each element of the new array, in order.
+     * @return A code builder which will generate bytecode that creates a new array containing the elements.
+     * @throws IllegalArgumentException If componentType is null.
+     * @see #arrayOf(Class, CodeInsnBuilderLike...)
+     */
+    public static ArrayLiteralInsn arrayOf(TypeDefinition componentType, CodeInsnBuilderLike... elements) {
+        return new ArrayLiteralInsn(componentType, elements);
+    }
+
+    /**
+     * Copies a range of elements from one array into another. Equivalent to
+     * System.arraycopy(source, sourcePosition, destination, destinationPosition, length);
+     * @param source Code builder to stack the array to copy elements from.
+     * @param sourcePosition Code builder to stack the index of the first element to copy.
+     * @param destination Code builder to stack the array to copy elements into.
+     * @param destinationPosition Code builder to stack the index to copy the first element into.
+     * @param length Code builder to stack the number of elements to copy.
+     * @return A code builder which will generate bytecode to copy elements between arrays.
+     * @throws IllegalArgumentException If any of the parameters are null.
+     */
+    public static ArrayCopyInsn arrayCopy(CodeInsnBuilderLike source,
+                                          CodeInsnBuilderLike sourcePosition,
+                                          CodeInsnBuilderLike destination,
+                                          CodeInsnBuilderLike destinationPosition,
+                                          CodeInsnBuilderLike length) {
+        return new ArrayCopyInsn(source, sourcePosition, destination, destinationPosition, length);
+    }
+
+    /**
+     * Assigns a value to every element of an array. Equivalent to Arrays.fill(array, value);
+     * @param array Code builder to stack the array to fill.
+     * @param value Code builder to stack the value to assign to each element of the array.
+     * @return A code builder which will generate bytecode to fill an array.
+     * @throws IllegalArgumentException If array or value is null.
+     * @see #fill(CodeInsnBuilderLike, CodeInsnBuilderLike, CodeInsnBuilderLike, CodeInsnBuilderLike)
+     */
+    public static ArrayFillInsn fill(CodeInsnBuilderLike array, CodeInsnBuilderLike value) {
+        return new ArrayFillInsn(array, value);
+    }
+
+    /**
+     * Assigns a value to a range of elements of an array. Equivalent to Arrays.fill(array, fromIndex, toIndex, value);
+     * @param array Code builder to stack the array to fill.
+     * @param fromIndex Code builder to stack the index of the first element to fill (inclusive).
+     * @param toIndex Code builder to stack the index of the last element to fill (exclusive).
+     * @param value Code builder to stack the value to assign to each element in the range.
+     * @return A code builder which will generate bytecode to fill a range of an array.
+     * @throws IllegalArgumentException If any of the parameters are null.
+     * @see #fill(CodeInsnBuilderLike, CodeInsnBuilderLike)
+     */
+    public static ArrayFillInsn fill(CodeInsnBuilderLike array, CodeInsnBuilderLike fromIndex, CodeInsnBuilderLike toIndex, CodeInsnBuilderLike value) {
+        return new ArrayFillInsn(array, fromIndex, toIndex, value);
+    }
+
+    /**
+     * Creates a copy of an array with a new length, truncating or padding the copy with default values as necessary.
+     * Equivalent to Arrays.copyOf(array, newLength);
+     * @param array Code builder to stack the array to copy.
+     * @param newLength Code builder to stack the length of the copy.
+     * @return A code builder which will generate bytecode to copy an array and stack the copy.
+     * @throws IllegalArgumentException If array or newLength is null.
+     */
+    public static ArrayCopyOfInsn copyOf(CodeInsnBuilderLike array, CodeInsnBuilderLike newLength) {
+        return new ArrayCopyOfInsn(array, newLength);
+    }
 }
\ No newline at end of file
@@ -7,7 +7,7 @@ import lombok.Setter;
  * Base type for asm bytecode builder. All bytecode building types should inherit from this.
  */
 public abstract class CodeInsnBuilder implements CodeInsnBuilderLike {
-    @Setter
+    @Setter @Getter
     private CodeInsnBuilderLike next;
     @Setter @Getter
     private CodeInsnBuilderLike prev;
@@ -72,4 +72,25 @@ public abstract class ArrayAccessInsn extends CodeInsnBuilder {
         if(!stackedType.isArray())
             throw new IllegalStateException("Array type expected on stack. Got type %s instead.".formatted(stackedType.getClassName()));
     }
+
+    /**
+     * Builds a code builder which is expected to stack exactly 1 value, and then implicitly converts that value.
+     * @param valueBuilder The code builder to stack the value.
+     * @param toType The type to convert the stacked value to, or null to leave the stacked value as it is.
+     * @return The type of the stacked value after conversion.
+     * @throws IllegalStateException If the code builder does not stack exactly 1 value.
+     * @throws IllegalStateException If the stacked value cannot be implicitly converted to the desired type.
+     */
+    static TypeDefinition buildSingleValue(CodeInsnBuilderLike valueBuilder, TypeDefinition toType) {
+        int originalStackSize = context().stackSize();
+        valueBuilder.build();
+        int numStacked = context().stackSize() - originalStackSize;
+
+        if(numStacked != 1)
+            throw new IllegalStateException("Expected 1 element to be stacked. Got %d instead.".formatted(numStacked));
+
+        if(toType != null)
+            new ImplicitConversionInsn(toType).build();
+        return context().peekStack();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package io.github.cshunsinger.asmsauce.code.array;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static io.github.cshunsinger.asmsauce.definitions.TypeDefinition.INT;
+import static io.github.cshunsinger.asmsauce.util.AsmUtils.generateJvmMethodSignature;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+
+/**
+ * This instruction class generates the bytecode to copy a range of elements from one array into another array using
+ * {@link System#arraycopy(Object, int, Object, int, int)}, which the JIT compiler replaces with a bulk memory copy.
+ */
+public class ArrayCopyInsn extends CodeInsnBuilder {
+    private final CodeInsnBuilderLike sourceBuilder;
+    private final CodeInsnBuilderLike sourcePositionBuilder;
+    private final CodeInsnBuilderLike destinationBuilder;
+    private final CodeInsnBuilderLike destinationPositionBuilder;
+    private final CodeInsnBuilderLike lengthBuilder;
+
+    /**
+     * Creates a new instance for generating bytecode to copy elements between arrays.
+     * @param sourceBuilder Code builder which will stack the array to copy elements from.
+     * @param sourcePositionBuilder Code builder which will stack the int index of the first element to copy.
+     * @param destinationBuilder Code builder which will stack the array to copy elements into.
+     * @param destinationPositionBuilder Code builder which will stack the int index to copy the first element into.
+     * @param lengthBuilder Code builder which will stack the int number of elements to copy.
+     * @throws IllegalArgumentException If any of the code builders are null.
+     */
+    public ArrayCopyInsn(CodeInsnBuilderLike sourceBuilder,
+                         CodeInsnBuilderLike sourcePositionBuilder,
+                         CodeInsnBuilderLike destinationBuilder,
+                         CodeInsnBuilderLike destinationPositionBuilder,
+                         CodeInsnBuilderLike lengthBuilder) {
+        if(sourceBuilder == null)
+            throw new IllegalArgumentException("Source array builder cannot be null.");
+        if(sourcePositionBuilder == null)
+            throw new IllegalArgumentException("Source position builder cannot be null.");
+        if(destinationBuilder == null)
+            throw new IllegalArgumentException("Destination array builder cannot be null.");
+        if(destinationPositionBuilder == null)
+            throw new IllegalArgumentException("Destination position builder cannot be null.");
+        if(lengthBuilder == null)
+            throw new IllegalArgumentException("Length builder cannot be null.");
+
+        this.sourceBuilder = sourceBuilder.getFirstInStack();
+        this.sourcePositionBuilder = sourcePositionBuilder.getFirstInStack();
+        this.destinationBuilder = destinationBuilder.getFirstInStack();
+        this.destinationPositionBuilder = destinationPositionBuilder.getFirstInStack();
+        this.lengthBuilder = lengthBuilder.getFirstInStack();
+    }
+
+    @Override
+    public void build() {
+        TypeDefinition sourceType = ArrayAccessInsn.buildSingleValue(sourceBuilder, null);
+        ArrayAccessInsn.validateArrayTypeStacked();
+        ArrayAccessInsn.buildSingleValue(sourcePositionBuilder, INT);
+        TypeDefinition destinationType = ArrayAccessInsn.buildSingleValue(destinationBuilder, null);
+        ArrayAccessInsn.validateArrayTypeStacked();
+        ArrayAccessInsn.buildSingleValue(destinationPositionBuilder, INT);
+        ArrayAccessInsn.buildSingleValue(lengthBuilder, INT);
+
+        //Copying between arrays of different primitive types would always fail at runtime
+        TypeDefinition sourceComponent = sourceType.getComponentType();
+        TypeDefinition destinationComponent = destinationType.getComponentType();
+        if((sourceComponent.isPrimitive() || destinationComponent.isPrimitive()) && !sourceComponent.equals(destinationComponent)) {
+            throw new IllegalStateException(
+                "Cannot copy elements from an array of type %s into an array of type %s."
+                    .formatted(sourceType.getClassName(), destinationType.getClassName())
+            );
+        }
+
+        context().getMethodVisitor().visitMethodInsn(
+            INVOKESTATIC,
+            "java/lang/System",
+            "arraycopy",
+            generateJvmMethodSignature(List.of(Object.class, int.class, Object.class, int.class, int.class), void.class),
+            false
+        );
+        context().popStack(5);
+
+        super.build();
+    }
+}
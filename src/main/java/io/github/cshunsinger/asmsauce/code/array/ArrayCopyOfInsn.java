@@ -0,0 +1,65 @@
+package io.github.cshunsinger.asmsauce.code.array;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static io.github.cshunsinger.asmsauce.definitions.TypeDefinition.INT;
+import static io.github.cshunsinger.asmsauce.util.AsmUtils.generateJvmMethodSignature;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+
+/**
+ * This instruction class generates the bytecode to create a copy of an array with a new length using
+ * {@link java.util.Arrays#copyOf(Object[], int)} or its primitive overloads. The copy is truncated or padded with
+ * default values as necessary. The new array is placed onto the stack.
+ */
+public class ArrayCopyOfInsn extends CodeInsnBuilder implements AccessibleArrayLike {
+    private final CodeInsnBuilderLike arrayBuilder;
+    private final CodeInsnBuilderLike newLengthBuilder;
+
+    /**
+     * Creates a new instance for generating bytecode to copy an array.
+     * @param arrayBuilder Code builder which will stack the array to copy.
+     * @param newLengthBuilder Code builder which will stack the int length of the new array.
+     * @throws IllegalArgumentException If arrayBuilder or newLengthBuilder is null.
+     */
+    public ArrayCopyOfInsn(CodeInsnBuilderLike arrayBuilder, CodeInsnBuilderLike newLengthBuilder) {
+        if(arrayBuilder == null)
+            throw new IllegalArgumentException("Array builder cannot be null.");
+        if(newLengthBuilder == null)
+            throw new IllegalArgumentException("New length builder cannot be null.");
+
+        this.arrayBuilder = arrayBuilder.getFirstInStack();
+        this.newLengthBuilder = newLengthBuilder.getFirstInStack();
+    }
+
+    @Override
+    public void build() {
+        TypeDefinition arrayType = ArrayAccessInsn.buildSingleValue(arrayBuilder, null);
+        ArrayAccessInsn.validateArrayTypeStacked();
+        ArrayAccessInsn.buildSingleValue(newLengthBuilder, INT);
+
+        //Arrays.copyOf has an overload for each primitive array type, and a single generic overload for all object arrays
+        Class<?> parameterType = arrayType.getComponentType().isPrimitive() ? arrayType.getType() : Object[].class;
+        context().getMethodVisitor().visitMethodInsn(
+            INVOKESTATIC,
+            "java/util/Arrays",
+            "copyOf",
+            generateJvmMethodSignature(List.of(parameterType, int.class), parameterType),
+            false
+        );
+
+        //The generic overload returns the same type of array at runtime, but is declared to return Object[]
+        if(parameterType != arrayType.getType())
+            context().getMethodVisitor().visitTypeInsn(CHECKCAST, arrayType.getJvmTypeName());
+
+        context().popStack(2);
+        context().pushStack(arrayType);
+
+        super.build();
+    }
+}
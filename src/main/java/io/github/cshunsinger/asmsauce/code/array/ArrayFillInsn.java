@@ -0,0 +1,99 @@
+package io.github.cshunsinger.asmsauce.code.array;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static io.github.cshunsinger.asmsauce.definitions.TypeDefinition.INT;
+import static io.github.cshunsinger.asmsauce.util.AsmUtils.generateJvmMethodSignature;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+
+/**
+ * This instruction class generates the bytecode to assign a value to every element in an array, or in a range of an
+ * array, using {@link java.util.Arrays#fill(Object[], Object)} or its primitive overloads.
+ */
+public class ArrayFillInsn extends CodeInsnBuilder {
+    private final CodeInsnBuilderLike arrayBuilder;
+    private final CodeInsnBuilderLike fromIndexBuilder;
+    private final CodeInsnBuilderLike toIndexBuilder;
+    private final CodeInsnBuilderLike valueBuilder;
+
+    /**
+     * Creates a new instance for generating bytecode to fill an entire array with a value.
+     * @param arrayBuilder Code builder which will stack the array to fill.
+     * @param valueBuilder Code builder which will stack the value to assign to each element.
+     * @throws IllegalArgumentException If arrayBuilder or valueBuilder is null.
+     */
+    public ArrayFillInsn(CodeInsnBuilderLike arrayBuilder, CodeInsnBuilderLike valueBuilder) {
+        if(arrayBuilder == null)
+            throw new IllegalArgumentException("Array builder cannot be null.");
+        if(valueBuilder == null)
+            throw new IllegalArgumentException("Value builder cannot be null.");
+
+        this.arrayBuilder = arrayBuilder.getFirstInStack();
+        this.fromIndexBuilder = null;
+        this.toIndexBuilder = null;
+        this.valueBuilder = valueBuilder.getFirstInStack();
+    }
+
+    /**
+     * Creates a new instance for generating bytecode to fill a range of an array with a value.
+     * @param arrayBuilder Code builder which will stack the array to fill.
+     * @param fromIndexBuilder Code builder which will stack the int index of the first element to fill (inclusive).
+     * @param toIndexBuilder Code builder which will stack the int index of the last element to fill (exclusive).
+     * @param valueBuilder Code builder which will stack the value to assign to each element.
+     * @throws IllegalArgumentException If any of the code builders are null.
+     */
+    public ArrayFillInsn(CodeInsnBuilderLike arrayBuilder,
+                         CodeInsnBuilderLike fromIndexBuilder,
+                         CodeInsnBuilderLike toIndexBuilder,
+                         CodeInsnBuilderLike valueBuilder) {
+        if(arrayBuilder == null)
+            throw new IllegalArgumentException("Array builder cannot be null.");
+        if(fromIndexBuilder == null)
+            throw new IllegalArgumentException("From index builder cannot be null.");
+        if(toIndexBuilder == null)
+            throw new IllegalArgumentException("To index builder cannot be null.");
+        if(valueBuilder == null)
+            throw new IllegalArgumentException("Value builder cannot be null.");
+
+        this.arrayBuilder = arrayBuilder.getFirstInStack();
+        this.fromIndexBuilder = fromIndexBuilder.getFirstInStack();
+        this.toIndexBuilder = toIndexBuilder.getFirstInStack();
+        this.valueBuilder = valueBuilder.getFirstInStack();
+    }
+
+    @Override
+    public void build() {
+        TypeDefinition arrayType = ArrayAccessInsn.buildSingleValue(arrayBuilder, null);
+        ArrayAccessInsn.validateArrayTypeStacked();
+        TypeDefinition componentType = arrayType.getComponentType();
+
+        //Arrays.fill has an overload for each primitive array type, and a single overload for all object arrays
+        List<Class<?>> parameterTypes = new ArrayList<>();
+        parameterTypes.add(componentType.isPrimitive() ? arrayType.getType() : Object[].class);
+        if(fromIndexBuilder != null) {
+            ArrayAccessInsn.buildSingleValue(fromIndexBuilder, INT);
+            ArrayAccessInsn.buildSingleValue(toIndexBuilder, INT);
+            parameterTypes.add(int.class);
+            parameterTypes.add(int.class);
+        }
+        ArrayAccessInsn.buildSingleValue(valueBuilder, componentType);
+        parameterTypes.add(componentType.isPrimitive() ? componentType.getType() : Object.class);
+
+        context().getMethodVisitor().visitMethodInsn(
+            INVOKESTATIC,
+            "java/util/Arrays",
+            "fill",
+            generateJvmMethodSignature(parameterTypes, void.class),
+            false
+        );
+        context().popStack(parameterTypes.size());
+
+        super.build();
+    }
+}
@@ -26,5 +26,7 @@ public class ArrayLengthInsn extends CodeInsnBuilder implements MathOperandInsta
         context().getMethodVisitor().visitInsn(ARRAYLENGTH);
         context().popStack(); //Pop the array off of the stack
         context().pushStack(INT); //Push int (array.length) onto the stack
+
+        super.build();
     }
 }
\ No newline at end of file
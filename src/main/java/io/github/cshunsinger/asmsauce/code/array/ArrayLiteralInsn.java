@@ -0,0 +1,56 @@
+package io.github.cshunsinger.asmsauce.code.array;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.stack.StackPrimitiveLiteralInsn;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static org.objectweb.asm.Opcodes.DUP;
+
+/**
+ * This instruction class generates the bytecode to instantiate a new array from a list of elements. Equivalent to an
+ * array initializer such as new int[] {1, 2, 3}.
+ */
+public class ArrayLiteralInsn extends CodeInsnBuilder implements AccessibleArrayLike {
+    private final TypeDefinition componentType;
+    private final List<CodeInsnBuilderLike> elementBuilders;
+
+    /**
+     * Creates a new instance for generating bytecode to instantiate an array containing the given elements.
+     * @param componentType The component type of the array to instantiate.
+     * @param elementBuilders Code builders which will each stack one element of the array, in order. Each element must
+     *                        be implicitly convertible to the component type.
+     * @throws IllegalArgumentException If componentType is null.
+     */
+    public ArrayLiteralInsn(TypeDefinition componentType, CodeInsnBuilderLike... elementBuilders) {
+        if(componentType == null)
+            throw new IllegalArgumentException("Component type cannot be null.");
+
+        this.componentType = componentType;
+        this.elementBuilders = Stream.of(elementBuilders)
+            .map(CodeInsnBuilderLike::getFirstInStack)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void build() {
+        //Create the array
+        new StackPrimitiveLiteralInsn(elementBuilders.size()).build();
+        InstantiateArrayInsn.buildNewArray(componentType);
+        TypeDefinition arrayType = context().peekStack();
+
+        //Store each element into the array, keeping a reference to the array on the stack
+        for(int i = 0; i < elementBuilders.size(); i++) {
+            context().getMethodVisitor().visitInsn(DUP);
+            context().pushStack(arrayType);
+            new ArrayStoreInsn(new StackPrimitiveLiteralInsn(i), elementBuilders.get(i)).build();
+        }
+
+        super.build();
+    }
+}
\ No newline at end of file
@@ -45,7 +45,7 @@ public class InstantiateArrayInsn extends CodeInsnBuilder implements AccessibleA
             throw new IllegalArgumentException("Array length instruction cannot be null.");
 
         this.componentType = componentType;
-        this.lengthBuilder = lengthBuilder;
+        this.lengthBuilder = lengthBuilder.getFirstInStack();
     }
 
     @Override
@@ -61,6 +61,17 @@ public class InstantiateArrayInsn extends CodeInsnBuilder implements AccessibleA
         new ImplicitConversionInsn(INT).build();
 
         //The length value is now stacked. Create new array with 1 dimension of that length.
+        buildNewArray(componentType);
+
+        super.build();
+    }
+
+    /**
+     * Generates the bytecode to instantiate a new array with 1 dimension, using the int length already on the stack.
+     * The length is popped from the type stack and the new array type is pushed onto the type stack.
+     * @param componentType The component type of the array to instantiate.
+     */
+    static void buildNewArray(TypeDefinition componentType) {
         if(componentType.isPrimitive())
             context().getMethodVisitor().visitIntInsn(NEWARRAY, ARRAY_OPERANDS.get(componentType));
         else
@@ -0,0 +1,74 @@
+package io.github.cshunsinger.asmsauce.code.array;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static io.github.cshunsinger.asmsauce.definitions.TypeDefinition.INT;
+import static org.objectweb.asm.Opcodes.MULTIANEWARRAY;
+
+/**
+ * This instruction class generates the bytecode to instantiate a new multi-dimensional array, such as new int[3][4] or
+ * new String[3][].
+ */
+public class InstantiateMultiArrayInsn extends CodeInsnBuilder implements AccessibleArrayLike {
+    private final TypeDefinition arrayType;
+    private final List<CodeInsnBuilderLike> dimensionBuilders;
+
+    /**
+     * Creates a new instance for generating bytecode to instantiate a new multi-dimensional array.
+     * @param arrayType The type of the array to instantiate, such as int[][].
+     * @param dimensionBuilders Code builders which will each stack an int value representing the length of one
+     *                          dimension of the array, starting with the outermost dimension. Fewer lengths than the
+     *                          number of dimensions of the array type may be given, in which case the innermost
+     *                          dimensions will be left null.
+     * @throws IllegalArgumentException If arrayType is null or is not an array type.
+     * @throws IllegalArgumentException If no dimension lengths are given, or more dimension lengths are given than the
+     *                                  number of dimensions of the array type.
+     */
+    public InstantiateMultiArrayInsn(TypeDefinition arrayType, CodeInsnBuilderLike... dimensionBuilders) {
+        if(arrayType == null)
+            throw new IllegalArgumentException("Array type cannot be null.");
+        if(!arrayType.isArray())
+            throw new IllegalArgumentException("Array type must be an array. Found type %s instead.".formatted(arrayType.getClassName()));
+        if(dimensionBuilders.length == 0 || dimensionBuilders.length > dimensions(arrayType)) {
+            throw new IllegalArgumentException(
+                "Expected between 1 and %d dimension lengths. Got %d instead.".formatted(dimensions(arrayType), dimensionBuilders.length)
+            );
+        }
+
+        this.arrayType = arrayType;
+        this.dimensionBuilders = Stream.of(dimensionBuilders)
+            .map(CodeInsnBuilderLike::getFirstInStack)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void build() {
+        //Stack the length of each dimension
+        dimensionBuilders.forEach(builder -> ArrayAccessInsn.buildSingleValue(builder, INT));
+
+        //A single dimension can be created with a simpler and faster instruction
+        if(dimensionBuilders.size() == 1)
+            InstantiateArrayInsn.buildNewArray(arrayType.getComponentType());
+        else {
+            context().getMethodVisitor().visitMultiANewArrayInsn(arrayType.getJvmTypeDefinition(), dimensionBuilders.size());
+            context().popStack(dimensionBuilders.size()); //Each dimension length is popped from the stack
+            context().pushStack(arrayType); //The array type is placed onto the stack
+        }
+
+        super.build();
+    }
+
+    private static int dimensions(TypeDefinition arrayType) {
+        int dimensions = 0;
+        for(TypeDefinition type = arrayType; type.isArray(); type = type.getComponentType())
+            dimensions++;
+        return dimensions;
+    }
+}
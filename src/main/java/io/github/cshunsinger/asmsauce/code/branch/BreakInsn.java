@@ -0,0 +1,20 @@
+package io.github.cshunsinger.asmsauce.code.branch;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import org.objectweb.asm.Label;
+
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static org.objectweb.asm.Opcodes.GOTO;
+
+/**
+ * Code builder which creates bytecode to jump out of the innermost switch statement or loop, the same as a Java break statement.
+ * The monitors of any synchronized blocks being jumped out of are exited first.
+ */
+public class BreakInsn extends CodeInsnBuilder {
+    @Override
+    public void build() {
+        Label breakLabel = context().getBreakLabel();
+        context().exitBreakableMonitors();
+        context().getMethodVisitor().visitJumpInsn(GOTO, breakLabel);
+    }
+}
@@ -3,14 +3,14 @@ package io.github.cshunsinger.asmsauce.code.branch;
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import org.objectweb.asm.Label;
 
-import static io.github.cshunsinger.asmsauce.code.CodeBuilders.block;
-
 /**
  * This code builder represents the "else" branch of an if-statement. If the condition of an if-statement evaluates to
  * false, then the bytecode generated for the else-body will be executed. The bytecode for the else-body will not be
  * executed if the if-condition evaluates to true.
  */
 public class ElseBranch extends IfElseBranch {
+    private final IfBranch ifBranch;
+
     /**
      * Constructs a new ElseBranch from an if-branch and body.
      * @param ifBranch The original if-branch to which this else-block is being attached to.
@@ -24,14 +24,19 @@ public class ElseBranch extends IfElseBranch {
     private ElseBranch(IfBranch ifBranch, Label endElseLabel, CodeInsnBuilderLike... elseBody) {
         super(endElseLabel, elseBody);
 
-        IfBranch newIfBranch = new IfBranch(ifBranch,
-            block(
-                block(ifBranch.body.toArray(CodeInsnBuilderLike[]::new)),
-                new GotoInsn(endElseLabel)
-            )
-        );
+        IfBranch newIfBranch = new IfBranch(ifBranch, endElseLabel);
 
+        this.ifBranch = newIfBranch;
         this.setPrev(newIfBranch);
         newIfBranch.setNext(this);
     }
+
+    @Override
+    public void build() {
+        //If the if-condition is always true then the else body will never execute
+        if(ifBranch.constantCondition().orElse(false))
+            buildNext();
+        else
+            super.build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package io.github.cshunsinger.asmsauce.code.branch;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.Condition;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+
+/**
+ * This code builder generates a for loop, which executes an initializer once and then repeatedly executes a body and
+ * an update for as long as a condition remains true.
+ * The bytecode is generated in the same shape that javac generates for a for loop: the condition is placed after the
+ * body and update, and a single jump is made to the condition before the first iteration.
+ */
+public class ForLoop extends CodeInsnBuilder {
+    private final CodeInsnBuilderLike initializer;
+    private final Condition condition;
+    private final CodeInsnBuilderLike update;
+    private final List<CodeInsnBuilderLike> body;
+
+    /**
+     * Creates a new for-loop construct.
+     * @param initializer The code builder executed once before the loop begins. Local variables created by the
+     *                    initializer are only visible inside of the loop.
+     * @param condition The for-loop condition. While true, the body and update will repeatedly execute.
+     * @param update The code builder executed after each execution of the body.
+     * @param body The for-loop body.
+     * @throws IllegalArgumentException If initializer, condition, or update is null.
+     */
+    public ForLoop(CodeInsnBuilderLike initializer, Condition condition, CodeInsnBuilderLike update, CodeInsnBuilderLike... body) {
+        if(initializer == null)
+            throw new IllegalArgumentException("Initializer cannot be null.");
+        if(condition == null)
+            throw new IllegalArgumentException("Condition cannot be null.");
+        if(update == null)
+            throw new IllegalArgumentException("Update cannot be null.");
+
+        this.initializer = initializer.getFirstInStack();
+        this.condition = condition;
+        this.update = update.getFirstInStack();
+        this.body = Stream.of(body)
+            .map(CodeInsnBuilderLike::getFirstInStack)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void build() {
+        MethodVisitor methodVisitor = context().getMethodVisitor();
+        Label bodyLabel = new Label();
+        Label conditionLabel = new Label();
+        Label endLabel = new Label();
+
+        context().beginScope();
+        initializer.buildClean();
+
+        //A loop whose condition is always false will never execute its body
+        Optional<Boolean> constantCondition = condition.constantValue();
+        if(constantCondition.orElse(true)) {
+            context().beginBreakable(endLabel);
+
+            //Jump to the condition before the first iteration, unless the condition is always true
+            if(constantCondition.isEmpty())
+                new GotoInsn(conditionLabel).build();
+
+            //Body and update
+            methodVisitor.visitLabel(bodyLabel);
+            context().beginScope();
+            body.forEach(CodeInsnBuilderLike::buildClean);
+            context().endScope();
+            update.buildClean();
+
+            //Jump back to the body while the condition is true
+            methodVisitor.visitLabel(conditionLabel);
+            if(constantCondition.isEmpty())
+                condition.invert().build(bodyLabel);
+            else
+                new GotoInsn(bodyLabel).build();
+
+            context().endBreakable();
+            methodVisitor.visitLabel(endLabel);
+        }
+
+        context().endScope();
+        super.build();
+    }
+
+    /**
+     * Class for building a for loop construct.
+     */
+    public static class ForBuilder {
+        private final CodeInsnBuilderLike initializer;
+        private final Condition condition;
+        private final CodeInsnBuilderLike update;
+
+        /**
+         * Creates a new for-loop builder. This for-loop builder allows for tidy syntax when creating a for-loop in
+         * bytecode.
+         * @param initializer The code builder executed once before the loop begins.
+         * @param condition The condition to use in the for loop.
+         * @param update The code builder executed after each execution of the body.
+         */
+        public ForBuilder(CodeInsnBuilderLike initializer, Condition condition, CodeInsnBuilderLike update) {
+            this.initializer = initializer;
+            this.condition = condition;
+            this.update = update;
+        }
+
+        /**
+         * Completes the for-loop by adding a body to it.
+         * @param body The body of the for loop.
+         * @return A new for loop construct which will build the actual JVM bytecode for a for-loop.
+         */
+        public ForLoop do_(CodeInsnBuilderLike... body) {
+            return new ForLoop(initializer, condition, update, body);
+        }
+    }
+}
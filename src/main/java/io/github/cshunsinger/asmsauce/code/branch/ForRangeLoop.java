@@ -0,0 +1,277 @@
+package io.github.cshunsinger.asmsauce.code.branch;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.cast.ImplicitConversionInsn;
+import io.github.cshunsinger.asmsauce.code.math.ConstantFolding;
+import io.github.cshunsinger.asmsauce.util.LabelCopyingMethodVisitor;
+import org.apache.commons.lang3.StringUtils;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * This code builder generates a counted loop over a range of int values. Equivalent to:
+ * for(int i = from; i &lt; to; i += step) { body }
+ * or, when the step is negative:
+ * for(int i = from; i &gt; to; i += step) { body }
+ * <br>
+ * The loop is generated in the canonical shape which the JIT compiler recognizes as a counted loop: an int induction
+ * variable incremented with a single iinc instruction, and a loop limit which is evaluated only once before the loop
+ * begins. The loop body must not assign to the loop variable.
+ * <br>
+ * When both ends of the range are constant expressions, the loop can optionally be unrolled at generation time. See
+ * {@link ForRangeBuilder#unroll(int)}.
+ */
+public class ForRangeLoop extends CodeInsnBuilder {
+    private final String localName;
+    private final CodeInsnBuilderLike from;
+    private final CodeInsnBuilderLike to;
+    private final int step;
+    private final int unrollFactor;
+    private final List<CodeInsnBuilderLike> body;
+
+    /**
+     * Creates a new counted loop construct.
+     * @param localName The name of the int loop variable.
+     * @param from The code builder which stacks the first value of the loop variable (inclusive).
+     * @param to The code builder which stacks the limit of the loop variable (exclusive).
+     * @param step The constant amount the loop variable changes by after each iteration.
+     * @param unrollFactor The number of copies of the body to generate per iteration when the number of iterations is
+     *                     known at generation time. A value of 1 does not unroll the loop.
+     * @param body The loop body.
+     * @throws IllegalArgumentException If localName is null or empty.
+     * @throws IllegalArgumentException If from or to is null.
+     * @throws IllegalArgumentException If step is zero or is not between -32768 and 32767.
+     * @throws IllegalArgumentException If unrollFactor is less than 1.
+     */
+    public ForRangeLoop(String localName, CodeInsnBuilderLike from, CodeInsnBuilderLike to, int step, int unrollFactor, CodeInsnBuilderLike... body) {
+        if(StringUtils.trimToNull(localName) == null)
+            throw new IllegalArgumentException("localName cannot be null or empty.");
+        if(from == null)
+            throw new IllegalArgumentException("From cannot be null.");
+        if(to == null)
+            throw new IllegalArgumentException("To cannot be null.");
+        if(step == 0 || step < Short.MIN_VALUE || step > Short.MAX_VALUE)
+            throw new IllegalArgumentException("Step must be non-zero and between %d and %d.".formatted(Short.MIN_VALUE, Short.MAX_VALUE));
+        if(unrollFactor < 1)
+            throw new IllegalArgumentException("Unroll factor must be at least 1.");
+
+        this.localName = localName;
+        this.from = from.getFirstInStack();
+        this.to = to.getFirstInStack();
+        this.step = step;
+        this.unrollFactor = unrollFactor;
+        this.body = Stream.of(body)
+            .map(CodeInsnBuilderLike::getFirstInStack)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void build() {
+        Label endLabel = new Label();
+
+        //The loop variable is only visible inside of the loop
+        context().beginScope();
+        int localIndex = buildIntLocal(from, localName);
+
+        context().beginBreakable(endLabel);
+        BodyBuilder bodyBuilder = new BodyBuilder(localIndex);
+        Integer constantFrom = constantInt(from);
+        Integer constantTo = constantInt(to);
+        if(unrollFactor > 1 && constantFrom != null && constantTo != null)
+            buildUnrolledLoop(bodyBuilder, constantFrom, constantTo);
+        else
+            buildLoop(bodyBuilder, constantTo == null ? buildIntLocal(to, null) : null, constantTo, 1);
+        context().endBreakable();
+
+        context().getMethodVisitor().visitLabel(endLabel);
+        context().endScope();
+        super.build();
+    }
+
+    /**
+     * Builds a loop which runs until the loop variable reaches a limit.
+     * @param bodyBuilder Builds the copies of the loop body.
+     * @param limitIndex The index of the local variable holding the loop limit, or null if the limit is constant.
+     * @param constantLimit The constant loop limit, if limitIndex is null.
+     * @param copies The number of copies of the body to execute per iteration of the loop.
+     */
+    private void buildLoop(BodyBuilder bodyBuilder, Integer limitIndex, Integer constantLimit, int copies) {
+        MethodVisitor methodVisitor = context().getMethodVisitor();
+        Label bodyLabel = new Label();
+        Label conditionLabel = new Label();
+
+        new GotoInsn(conditionLabel).build();
+        methodVisitor.visitLabel(bodyLabel);
+        bodyBuilder.build(copies);
+
+        methodVisitor.visitLabel(conditionLabel);
+        methodVisitor.visitVarInsn(ILOAD, bodyBuilder.localIndex);
+        if(limitIndex == null)
+            methodVisitor.visitLdcInsn(constantLimit);
+        else
+            methodVisitor.visitVarInsn(ILOAD, limitIndex);
+        methodVisitor.visitJumpInsn(step > 0 ? IF_ICMPLT : IF_ICMPGT, bodyLabel);
+    }
+
+    private void buildUnrolledLoop(BodyBuilder bodyBuilder, int constantFrom, int constantTo) {
+        long distance = step > 0 ? (long)constantTo - constantFrom : (long)constantFrom - constantTo;
+        long iterations = distance <= 0 ? 0 : (distance + Math.abs(step) - 1) / Math.abs(step);
+        long unrolledIterations = iterations / unrollFactor;
+        int remainder = (int)(iterations % unrollFactor);
+
+        if(unrolledIterations > 1) {
+            //Loop while the loop variable has not passed the first value of the last unrolled iteration
+            int lastUnrolledStart = (int)(constantFrom + (unrolledIterations - 1) * unrollFactor * step);
+            buildLoop(bodyBuilder, null, step > 0 ? lastUnrolledStart + 1 : lastUnrolledStart - 1, unrollFactor);
+        }
+        else if(unrolledIterations == 1) {
+            bodyBuilder.build(unrollFactor);
+        }
+
+        //Leftover iterations which do not make up a complete unrolled iteration
+        bodyBuilder.build(remainder);
+    }
+
+    /**
+     * Builds a value into an int local variable.
+     * @param valueBuilder The code builder which stacks the value.
+     * @param name The name of the local variable, or null to create an unnamed local variable.
+     * @return The index of the local variable.
+     */
+    private static int buildIntLocal(CodeInsnBuilderLike valueBuilder, String name) {
+        int stackSize = context().stackSize();
+        valueBuilder.build();
+        if(context().stackSize() != stackSize+1) {
+            throw new IllegalStateException(
+                "Expected 1 element to be pushed to the stack. Instead %d elements were pushed/removed."
+                    .formatted(context().stackSize() - stackSize)
+            );
+        }
+        new ImplicitConversionInsn(type(int.class)).build();
+
+        int index;
+        if(name == null)
+            index = context().addLocalType(context().popStack());
+        else {
+            context().setLocalType(name, context().popStack());
+            index = context().getLocalIndex(name);
+        }
+
+        context().getMethodVisitor().visitVarInsn(ISTORE, index);
+        return index;
+    }
+
+    private static Integer constantInt(CodeInsnBuilderLike builder) {
+        Object value = ConstantFolding.constantValue(builder);
+        if(value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof Character)
+            return ConstantFolding.numericValue(value).intValue();
+        return null;
+    }
+
+    /**
+     * Builds copies of the loop body, incrementing the loop variable after each copy. The first copy is built as normal.
+     * Every later copy is given its own copies of any labels which were placed within the first copy, so that the body
+     * can be generated more than once.
+     */
+    private class BodyBuilder {
+        private final int localIndex;
+        private final Set<Label> bodyLabels = new HashSet<>();
+        private boolean firstCopyBuilt = false;
+
+        private BodyBuilder(int localIndex) {
+            this.localIndex = localIndex;
+        }
+
+        private void build(int copies) {
+            MethodVisitor methodVisitor = context().getMethodVisitor();
+            for(int i = 0; i < copies; i++) {
+                context().setMethodVisitor(firstCopyBuilt ?
+                    new LabelCopyingMethodVisitor(methodVisitor, bodyLabels::contains) :
+                    new LabelRecordingMethodVisitor(methodVisitor, bodyLabels)
+                );
+                context().beginScope();
+                body.forEach(CodeInsnBuilderLike::buildClean);
+                context().endScope();
+                context().setMethodVisitor(methodVisitor);
+                firstCopyBuilt = true;
+
+                methodVisitor.visitIincInsn(localIndex, step);
+            }
+        }
+    }
+
+    /**
+     * Passes all bytecode through to another method visitor while recording every label which gets placed.
+     */
+    private static class LabelRecordingMethodVisitor extends MethodVisitor {
+        private final Set<Label> labels;
+
+        private LabelRecordingMethodVisitor(MethodVisitor methodVisitor, Set<Label> labels) {
+            super(ASM9, methodVisitor);
+            this.labels = labels;
+        }
+
+        @Override
+        public void visitLabel(Label label) {
+            labels.add(label);
+            super.visitLabel(label);
+        }
+    }
+
+    /**
+     * Class for building a counted loop construct.
+     */
+    public static class ForRangeBuilder {
+        private final String localName;
+        private final CodeInsnBuilderLike from;
+        private final CodeInsnBuilderLike to;
+        private final int step;
+        private int unrollFactor = 1;
+
+        /**
+         * Creates a new counted loop builder.
+         * @param localName The name of the int loop variable.
+         * @param from The code builder which stacks the first value of the loop variable (inclusive).
+         * @param to The code builder which stacks the limit of the loop variable (exclusive).
+         * @param step The constant amount the loop variable changes by after each iteration.
+         */
+        public ForRangeBuilder(String localName, CodeInsnBuilderLike from, CodeInsnBuilderLike to, int step) {
+            this.localName = localName;
+            this.from = from;
+            this.to = to;
+            this.step = step;
+        }
+
+        /**
+         * Unrolls the loop at generation time. When both ends of the range are constant expressions, the body is
+         * generated unrollFactor times for each iteration of the loop, and any leftover iterations are generated after
+         * the loop. If the number of iterations is not greater than unrollFactor then no loop is generated at all.
+         * When either end of the range is not constant, the loop is not unrolled.
+         * Unrolling increases the size of the generated method, so it should only be used for small fixed trip counts.
+         * @param unrollFactor The number of copies of the body to generate per iteration.
+         * @return This.
+         */
+        public ForRangeBuilder unroll(int unrollFactor) {
+            this.unrollFactor = unrollFactor;
+            return this;
+        }
+
+        /**
+         * Completes the counted loop by adding a body to it.
+         * @param body The body of the loop.
+         * @return A new counted loop construct which will build the actual JVM bytecode for the loop.
+         */
+        public ForRangeLoop do_(CodeInsnBuilderLike... body) {
+            return new ForRangeLoop(localName, from, to, step, unrollFactor, body);
+        }
+    }
+}
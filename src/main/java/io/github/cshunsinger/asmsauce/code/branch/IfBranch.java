@@ -4,6 +4,10 @@ import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.code.branch.condition.Condition;
 import org.objectweb.asm.Label;
 
+import java.util.Optional;
+
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+
 /**
  * This code builder makes up the if-portion of an if or if-else statement.
  * The if-branch contains a condition, and if that condition is true, the body of the if-statement is executed.
@@ -11,9 +15,16 @@ import org.objectweb.asm.Label;
  */
 public class IfBranch extends IfElseBranch {
     private final Condition condition;
+    private final Label elseEndLabel;
 
-    IfBranch(IfBranch original, CodeInsnBuilderLike... body) {
-        this(original.condition, original.endLabel, body);
+    /**
+     * Constructs a copy of an if-branch which is followed by an else-branch. After the if-body is executed, a jump
+     * is made past the else-body to the end label of the else-branch.
+     * @param original The original if-branch.
+     * @param elseEndLabel The label at the end of the else-branch body.
+     */
+    IfBranch(IfBranch original, Label elseEndLabel) {
+        this(original.condition, original.endLabel, elseEndLabel, original.body.toArray(CodeInsnBuilderLike[]::new));
     }
 
     /**
@@ -38,21 +49,52 @@ public class IfBranch extends IfElseBranch {
      * @throws IllegalArgumentException If the body is empty.
      */
     public IfBranch(Condition condition, Label endLabel, CodeInsnBuilderLike... body) {
+        this(condition, endLabel, null, body);
+    }
+
+    private IfBranch(Condition condition, Label endLabel, Label elseEndLabel, CodeInsnBuilderLike... body) {
         super(endLabel, body);
 
         if(condition == null)
             throw new IllegalArgumentException("Condition cannot be null.");
 
         this.condition = condition;
+        this.elseEndLabel = elseEndLabel;
     }
 
     @Override
     public void build() {
-        //Generate the bytecode for the branching
-        condition.build(endLabel);
+        Optional<Boolean> constantCondition = condition.constantValue();
+        if(constantCondition.isEmpty()) {
+            //Generate the bytecode for the branching
+            condition.build(endLabel);
+
+            //Build the if body, skipping over the else body if there is one
+            buildBody();
+            if(elseEndLabel != null)
+                new GotoInsn(elseEndLabel).build();
 
-        //Build the if body
-        super.build();
+            context().getMethodVisitor().visitLabel(endLabel);
+            buildNext();
+        }
+        else if(constantCondition.get()) {
+            //The condition is always true, so no branching is needed and any else body will never execute
+            buildBody();
+            buildNext();
+        }
+        else {
+            //The condition is always false, so the if body will never execute
+            buildNext();
+        }
+    }
+
+    /**
+     * Gets whether the condition of this if-branch is known at generation time.
+     * @return The value the condition always evaluates to, or an empty Optional if it is only known at runtime.
+     * @see Condition#constantValue()
+     */
+    Optional<Boolean> constantCondition() {
+        return condition.constantValue();
     }
 
     /**
@@ -45,14 +45,29 @@ public class IfElseBranch extends CodeInsnBuilder {
 
     @Override
     public void build() {
-        //Build the branch body inside of its own scope
-        context().beginScope();
-        body.forEach(CodeInsnBuilderLike::buildClean);
-        context().endScope();
+        buildBody();
 
         //Visit label at end of block
         context().getMethodVisitor().visitLabel(endLabel);
 
         super.build();
     }
+
+    /**
+     * Builds the body of this branch inside of its own scope.
+     */
+    protected void buildBody() {
+        context().beginScope();
+        body.forEach(CodeInsnBuilderLike::buildClean);
+        context().endScope();
+    }
+
+    /**
+     * Builds the instruction following this branch without building this branch. This is used when a branch body
+     * is known at generation time to never be executed.
+     */
+    protected void buildNext() {
+        if(getNext() != null)
+            getNext().build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,271 @@
+package io.github.cshunsinger.asmsauce.code.branch;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.cast.ImplicitConversionInsn;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import org.apache.commons.lang3.ClassUtils;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * This code builder generates a switch statement which jumps to one of several case bodies based on the value of a
+ * selector. The selector may be an int (or a byte, short, or char, or the wrapper of any of these), a String, or an enum.
+ * Just like a Java switch statement, execution falls through from the end of one case body into the next case body
+ * unless a break statement is used to jump out of the switch.
+ * <br>
+ * Int selectors are dispatched with a single tableswitch instruction when the case keys are dense, or a single
+ * lookupswitch instruction when the case keys are sparse. String selectors are dispatched on their hash code first and
+ * then compared with equals, and enum selectors are dispatched on their ordinal.
+ */
+public class SwitchBranch extends CodeInsnBuilder {
+    private final CodeInsnBuilderLike selector;
+    private final List<SwitchCase> cases = new ArrayList<>();
+    private final Label endLabel = new Label();
+    private Class<?> keyType;
+    private boolean hasDefault;
+
+    /**
+     * Creates a new switch statement with no cases.
+     * @param selector The code builder which stacks the value to switch on.
+     * @throws IllegalArgumentException If selector is null.
+     */
+    public SwitchBranch(CodeInsnBuilderLike selector) {
+        if(selector == null)
+            throw new IllegalArgumentException("Selector cannot be null.");
+
+        this.selector = selector.getFirstInStack();
+    }
+
+    /**
+     * Adds a case to this switch statement for an int selector.
+     * @param key The value of the selector which will jump to this case.
+     * @param body The body of the case. This may be empty, in which case execution falls through to the next case.
+     * @return This.
+     * @throws IllegalArgumentException If this switch statement already has a case with the same key.
+     * @throws IllegalArgumentException If this switch statement already has cases with String or enum keys.
+     */
+    public SwitchBranch case_(int key, CodeInsnBuilderLike... body) {
+        return addCase(key, Integer.class, body);
+    }
+
+    /**
+     * Adds a case to this switch statement for a String selector.
+     * @param key The value of the selector which will jump to this case.
+     * @param body The body of the case. This may be empty, in which case execution falls through to the next case.
+     * @return This.
+     * @throws IllegalArgumentException If key is null.
+     * @throws IllegalArgumentException If this switch statement already has a case with the same key.
+     * @throws IllegalArgumentException If this switch statement already has cases with int or enum keys.
+     */
+    public SwitchBranch case_(String key, CodeInsnBuilderLike... body) {
+        if(key == null)
+            throw new IllegalArgumentException("Case key cannot be null.");
+        return addCase(key, String.class, body);
+    }
+
+    /**
+     * Adds a case to this switch statement for an enum selector.
+     * @param key The value of the selector which will jump to this case.
+     * @param body The body of the case. This may be empty, in which case execution falls through to the next case.
+     * @return This.
+     * @throws IllegalArgumentException If key is null.
+     * @throws IllegalArgumentException If this switch statement already has a case with the same key.
+     * @throws IllegalArgumentException If this switch statement already has cases with keys of any other type.
+     */
+    public SwitchBranch case_(Enum<?> key, CodeInsnBuilderLike... body) {
+        if(key == null)
+            throw new IllegalArgumentException("Case key cannot be null.");
+        return addCase(key, key.getDeclaringClass(), body);
+    }
+
+    /**
+     * Adds the default case to this switch statement. The default case is jumped to when the selector does not match
+     * the key of any other case. Like any other case, execution falls through from the default case into the next case.
+     * @param body The body of the default case.
+     * @return This.
+     * @throws IllegalStateException If this switch statement already has a default case.
+     */
+    public SwitchBranch default_(CodeInsnBuilderLike... body) {
+        if(hasDefault)
+            throw new IllegalStateException("Switch statement cannot have more than one default case.");
+
+        hasDefault = true;
+        cases.add(new SwitchCase(null, body));
+        return this;
+    }
+
+    private SwitchBranch addCase(Object key, Class<?> type, CodeInsnBuilderLike... body) {
+        if(keyType != null && keyType != type) {
+            throw new IllegalArgumentException(
+                "All case keys must be of the same type. Expected %s but found %s.".formatted(keyType.getName(), type.getName())
+            );
+        }
+        if(cases.stream().anyMatch(c -> key.equals(c.key)))
+            throw new IllegalArgumentException("Switch statement already has a case for key %s.".formatted(key));
+
+        keyType = type;
+        cases.add(new SwitchCase(key, body));
+        return this;
+    }
+
+    @Override
+    public void build() {
+        MethodVisitor methodVisitor = context().getMethodVisitor();
+
+        //Stack the selector
+        int stackSize = context().stackSize();
+        selector.build();
+        if(context().stackSize() != stackSize+1) {
+            throw new IllegalStateException(
+                "Expected 1 element to be pushed to the stack. Instead %d elements were pushed/removed."
+                    .formatted(context().stackSize() - stackSize)
+            );
+        }
+
+        //Auto-unbox the selector if it's a wrapper type
+        TypeDefinition selectorType = context().peekStack();
+        if(ClassUtils.isPrimitiveWrapper(selectorType.getType())) {
+            new ImplicitConversionInsn(type(ClassUtils.wrapperToPrimitive(selectorType.getType()))).build();
+            selectorType = context().peekStack();
+        }
+        Class<?> selectorClass = selectorType.getType();
+
+        Label defaultLabel = cases.stream()
+            .filter(c -> c.key == null)
+            .map(c -> c.label)
+            .findFirst()
+            .orElse(endLabel);
+        List<SwitchCase> keyedCases = cases.stream().filter(c -> c.key != null).collect(Collectors.toList());
+
+        //The switch body is a single scope, just as in Java
+        context().beginScope();
+
+        //Jump to the case matching the selector
+        if(selectorClass == int.class || selectorClass == short.class || selectorClass == byte.class || selectorClass == char.class) {
+            validateKeyType(Integer.class, selectorClass);
+            context().popStack();
+            buildIntSwitch(keyedCases.stream().collect(Collectors.toMap(c -> (Integer)c.key, c -> c.label)), defaultLabel);
+        }
+        else if(selectorClass == String.class) {
+            validateKeyType(String.class, selectorClass);
+            buildStringSwitch(keyedCases, defaultLabel);
+        }
+        else if(selectorClass.isEnum()) {
+            validateKeyType(selectorClass, selectorClass);
+            context().popStack();
+            methodVisitor.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Enum", "ordinal", "()I", false);
+            buildIntSwitch(keyedCases.stream().collect(Collectors.toMap(c -> ((Enum<?>)c.key).ordinal(), c -> c.label)), defaultLabel);
+        }
+        else {
+            throw new IllegalStateException(
+                "Switch selector must be an int, String, or enum. Found type %s instead.".formatted(selectorClass.getName())
+            );
+        }
+
+        //Build each case body in order so that execution falls through from one case to the next
+        context().beginBreakable(endLabel);
+        for(SwitchCase switchCase: cases) {
+            methodVisitor.visitLabel(switchCase.label);
+            switchCase.body.forEach(CodeInsnBuilderLike::buildClean);
+        }
+        context().endBreakable();
+        context().endScope();
+
+        methodVisitor.visitLabel(endLabel);
+        super.build();
+    }
+
+    private void validateKeyType(Class<?> expectedKeyType, Class<?> selectorClass) {
+        if(keyType != null && keyType != expectedKeyType) {
+            throw new IllegalStateException(
+                "Case keys of type %s cannot be used with a selector of type %s.".formatted(keyType.getName(), selectorClass.getName())
+            );
+        }
+    }
+
+    private void buildStringSwitch(List<SwitchCase> keyedCases, Label defaultLabel) {
+        MethodVisitor methodVisitor = context().getMethodVisitor();
+
+        //Keep the selector in a local variable so it can be compared against each key with the same hash code
+        int selectorIndex = context().addLocalType(context().popStack());
+        methodVisitor.visitVarInsn(ASTORE, selectorIndex);
+        methodVisitor.visitVarInsn(ALOAD, selectorIndex);
+        methodVisitor.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "hashCode", "()I", false);
+
+        //Group the cases by the hash codes of their keys
+        Map<Integer, List<SwitchCase>> hashBuckets = new LinkedHashMap<>();
+        keyedCases.forEach(c -> hashBuckets.computeIfAbsent(c.key.hashCode(), h -> new ArrayList<>()).add(c));
+        Map<Integer, Label> bucketLabels = new HashMap<>();
+        hashBuckets.keySet().forEach(hash -> bucketLabels.put(hash, new Label()));
+        buildIntSwitch(bucketLabels, defaultLabel);
+
+        //Compare the selector to every key with a matching hash code
+        hashBuckets.forEach((hash, bucket) -> {
+            methodVisitor.visitLabel(bucketLabels.get(hash));
+            for(SwitchCase switchCase: bucket) {
+                methodVisitor.visitVarInsn(ALOAD, selectorIndex);
+                methodVisitor.visitLdcInsn(switchCase.key);
+                methodVisitor.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "equals", "(Ljava/lang/Object;)Z", false);
+                methodVisitor.visitJumpInsn(IFNE, switchCase.label);
+            }
+            methodVisitor.visitJumpInsn(GOTO, defaultLabel);
+        });
+    }
+
+    private static void buildIntSwitch(Map<Integer, Label> caseLabels, Label defaultLabel) {
+        MethodVisitor methodVisitor = context().getMethodVisitor();
+        int[] keys = caseLabels.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        if(useTableSwitch(keys)) {
+            int min = keys[0];
+            int max = keys[keys.length-1];
+            Label[] labels = new Label[max - min + 1];
+            for(int i = 0; i < labels.length; i++)
+                labels[i] = caseLabels.getOrDefault(min + i, defaultLabel);
+
+            methodVisitor.visitTableSwitchInsn(min, max, defaultLabel, labels);
+        }
+        else {
+            Label[] labels = Arrays.stream(keys).mapToObj(caseLabels::get).toArray(Label[]::new);
+            methodVisitor.visitLookupSwitchInsn(defaultLabel, keys, labels);
+        }
+    }
+
+    /**
+     * Chooses between a tableswitch and a lookupswitch using the same space and time cost estimate as javac.
+     * @param keys The sorted case keys.
+     * @return True if a tableswitch should be used, or false if a lookupswitch should be used.
+     */
+    private static boolean useTableSwitch(int[] keys) {
+        if(keys.length == 0)
+            return false;
+
+        long tableSpaceCost = 4 + ((long)keys[keys.length-1] - keys[0] + 1);
+        long tableTimeCost = 3;
+        long lookupSpaceCost = 3 + 2L * keys.length;
+        long lookupTimeCost = keys.length;
+        return tableSpaceCost + 3 * tableTimeCost <= lookupSpaceCost + 3 * lookupTimeCost;
+    }
+
+    private static class SwitchCase {
+        private final Object key;
+        private final List<CodeInsnBuilderLike> body;
+        private final Label label = new Label();
+
+        private SwitchCase(Object key, CodeInsnBuilderLike... body) {
+            this.key = key;
+            this.body = Stream.of(body)
+                .map(CodeInsnBuilderLike::getFirstInStack)
+                .collect(Collectors.toList());
+        }
+    }
+}
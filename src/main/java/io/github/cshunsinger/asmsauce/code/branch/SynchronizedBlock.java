@@ -0,0 +1,97 @@
+package io.github.cshunsinger.asmsauce.code.branch;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * This code builder generates a synchronized block, which executes a body of instructions while holding the monitor of
+ * an object. The bytecode generated is the same as javac generates for a Java synchronized statement: the monitor is
+ * exited at the end of the body, before any return or break statement which leaves the body, and by an exception
+ * handler which rethrows any exception thrown by the body. Since the JVM recognizes this shape, the usual lock
+ * optimizations such as lock elision and lock coarsening apply to it.
+ */
+public class SynchronizedBlock extends CodeInsnBuilder {
+    private final CodeInsnBuilderLike lockBuilder;
+    private final List<CodeInsnBuilderLike> body;
+    private final Label startLabel = new Label();
+    private final Label endLabel = new Label();
+    private final Label handlerLabel = new Label();
+    private final Label handlerEndLabel = new Label();
+    private final Label afterLabel = new Label();
+
+    /**
+     * Creates a new synchronized block.
+     * @param lockBuilder The code builder which stacks the object whose monitor is held while the body executes.
+     * @param body The code builders which make up the body of the synchronized block.
+     * @throws IllegalArgumentException If lockBuilder is null.
+     */
+    public SynchronizedBlock(CodeInsnBuilderLike lockBuilder, CodeInsnBuilderLike... body) {
+        if(lockBuilder == null)
+            throw new IllegalArgumentException("Lock builder cannot be null.");
+
+        this.lockBuilder = lockBuilder.getFirstInStack();
+        this.body = List.of(body);
+    }
+
+    @Override
+    public void build() {
+        MethodVisitor methodVisitor = context().getMethodVisitor();
+
+        //Stack the lock object
+        int stackSize = context().stackSize();
+        lockBuilder.build();
+        if(context().stackSize() != stackSize+1) {
+            throw new IllegalStateException(
+                "Expected 1 element placed onto the stack. Instead %d elements were added/removed."
+                    .formatted(context().stackSize() - stackSize)
+            );
+        }
+
+        TypeDefinition lockType = context().popStack();
+        if(lockType.isPrimitive())
+            throw new IllegalStateException("Cannot synchronize on primitive type %s.".formatted(lockType.getType().getName()));
+
+        //Keep the lock object in a local variable so that the monitor can be exited later
+        context().beginScope();
+        int lockIndex = context().addLocalType(lockType);
+        methodVisitor.visitTryCatchBlock(startLabel, endLabel, handlerLabel, null);
+        methodVisitor.visitTryCatchBlock(handlerLabel, handlerEndLabel, handlerLabel, null);
+        methodVisitor.visitInsn(DUP);
+        methodVisitor.visitVarInsn(ASTORE, lockIndex);
+        methodVisitor.visitInsn(MONITORENTER);
+
+        //Synchronized-Body
+        methodVisitor.visitLabel(startLabel);
+        context().beginMonitor(lockIndex);
+        context().beginScope();
+        body.stream().map(CodeInsnBuilderLike::getFirstInStack).forEach(CodeInsnBuilderLike::buildClean);
+        context().endScope();
+        context().endMonitor();
+
+        //Exit the monitor after the body completes normally
+        methodVisitor.visitVarInsn(ALOAD, lockIndex);
+        methodVisitor.visitInsn(MONITOREXIT);
+        methodVisitor.visitLabel(endLabel);
+        methodVisitor.visitJumpInsn(GOTO, afterLabel);
+
+        //Exit the monitor and rethrow if the body throws an exception
+        methodVisitor.visitLabel(handlerLabel);
+        methodVisitor.visitVarInsn(ALOAD, lockIndex);
+        methodVisitor.visitInsn(MONITOREXIT);
+        methodVisitor.visitLabel(handlerEndLabel);
+        methodVisitor.visitInsn(ATHROW);
+
+        methodVisitor.visitLabel(afterLabel);
+        context().endScope();
+
+        super.build();
+    }
+}
@@ -19,6 +19,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
 import org.objectweb.asm.Label;
 
+import java.util.Optional;
+
 import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
 
 /**
@@ -41,6 +43,17 @@ public class TernaryIfElse extends CodeInsnBuilder implements
 
     @Override
     public void build() {
+        //If the condition is known at generation time then only the branch which will execute needs to be built
+        Optional<Boolean> constantCondition = condition.constantValue();
+        if(constantCondition.isPresent()) {
+            boolean conditionValue = constantCondition.get();
+            context().beginScope();
+            (conditionValue ? trueBody : falseBody).buildClean();
+            stackSingleValue(conditionValue ? trueReturn : falseReturn);
+            context().endScope();
+            return;
+        }
+
         //Build the condition bytecode
         Label endIfBodyLabel = new Label();
         Label endElseBodyLabel = new Label();
@@ -6,6 +6,7 @@ import io.github.cshunsinger.asmsauce.code.branch.condition.Condition;
 import org.objectweb.asm.Label;
 
 import java.util.List;
+import java.util.Optional;
 
 import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
 
@@ -36,14 +37,24 @@ public class WhileLoop extends CodeInsnBuilder {
 
     @Override
     public void build() {
+        //A loop whose condition is always false will never execute its body
+        Optional<Boolean> constantCondition = condition.constantValue();
+        if(!constantCondition.orElse(true))
+            return;
+
         //Start label
         context().getMethodVisitor().visitLabel(startLabel);
 
-        //Condition
-        condition.build(endLabel);
+        //Condition, unless the condition is always true
+        if(constantCondition.isEmpty())
+            condition.build(endLabel);
 
-        //While-Body
+        //While-Body, whose local variables are scoped to the body so that their slots can be reused after the loop
+        context().beginBreakable(endLabel);
+        context().beginScope();
         body.stream().map(CodeInsnBuilderLike::getFirstInStack).forEach(CodeInsnBuilderLike::buildClean);
+        context().endScope();
+        context().endBreakable();
 
         //Jump back to beginning
         new GotoInsn(startLabel).build();
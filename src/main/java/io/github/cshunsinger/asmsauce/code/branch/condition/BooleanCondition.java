@@ -3,8 +3,11 @@ package io.github.cshunsinger.asmsauce.code.branch.condition;
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.code.branch.Op;
 import io.github.cshunsinger.asmsauce.code.cast.ImplicitConversionInsn;
+import io.github.cshunsinger.asmsauce.code.math.ConstantFolding;
 import org.objectweb.asm.Label;
 
+import java.util.Optional;
+
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
 import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
 import static org.objectweb.asm.Opcodes.IFEQ;
@@ -35,6 +38,15 @@ public class BooleanCondition extends SingleOperandCondition {
         return new BooleanCondition(super.operandBuilder, invertedOp);
     }
 
+    @Override
+    public Optional<Boolean> constantValue() {
+        Object value = ConstantFolding.constantValue(super.operandBuilder);
+        if(!(value instanceof Boolean))
+            return Optional.empty();
+
+        return Optional.of(super.conditionOp == Op.EQ ? (Boolean)value : !(Boolean)value);
+    }
+
     @Override
     public void build(Label endLabel) {
         super.build(endLabel);
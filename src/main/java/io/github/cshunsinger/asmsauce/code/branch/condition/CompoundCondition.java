@@ -4,6 +4,7 @@ import org.objectweb.asm.Label;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
@@ -61,6 +62,21 @@ public class CompoundCondition extends Condition {
         return new CompoundCondition(conditions.stream().map(Condition::invert).collect(Collectors.toList()), !and);
     }
 
+    @Override
+    public Optional<Boolean> constantValue() {
+        //A false condition makes an AND false, and a true condition makes an OR true, but only when every condition
+        //before it is also constant. A non-constant condition before it still has to be evaluated for its side effects.
+        for(Condition condition: conditions) {
+            Optional<Boolean> value = condition.constantValue();
+            if(value.isEmpty())
+                return Optional.empty();
+            else if(value.get() != and)
+                return value;
+        }
+
+        return Optional.of(and);
+    }
+
     @Override
     public void build(Label endLabel) {
         if(and)
@@ -131,10 +147,21 @@ public class CompoundCondition extends Condition {
         List<Condition> allConditions = new ArrayList<>();
         for(Condition condition: conditions) {
             if(condition instanceof CompoundCondition && ((CompoundCondition)condition).and == this.and)
-                allConditions.addAll(((CompoundCondition)condition).conditions);
+                allConditions.addAll(((CompoundCondition)condition).determineAllConditions());
             else
                 allConditions.add(condition);
         }
-        return allConditions;
+
+        //Conditions which are always true in an AND, or always false in an OR, have no effect and can be left out.
+        //Conditions after one which is always false in an AND, or always true in an OR, can never be reached.
+        List<Condition> effectiveConditions = new ArrayList<>();
+        for(Condition condition: allConditions) {
+            Optional<Boolean> value = condition.constantValue();
+            if(value.isEmpty() || value.get() != and)
+                effectiveConditions.add(condition);
+            if(value.isPresent() && value.get() != and)
+                break;
+        }
+        return effectiveConditions.isEmpty() ? allConditions : effectiveConditions;
     }
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import io.github.cshunsinger.asmsauce.code.branch.Op;
 import lombok.Getter;
 import org.objectweb.asm.Label;
 
+import java.util.Optional;
+
 import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
 
 /**
@@ -38,6 +40,17 @@ public abstract class Condition {
      */
     public abstract void build(Label endLabel);
 
+    /**
+     * Attempts to evaluate this condition at generation time. A condition can only be evaluated at generation time if
+     * all of its operands are constant expressions, such as literal values or math operations on literal values.
+     * Branches use this to leave out the bytecode for the condition and for any branch body which can never execute.
+     * @return The value this condition always evaluates to at runtime, or an empty Optional if the result of this
+     * condition cannot be known until runtime.
+     */
+    public Optional<Boolean> constantValue() {
+        return Optional.empty();
+    }
+
     /**
      * Combines this condition and another condition with an AND operation.
      * @param otherCondition The condition to AND with this one.
@@ -3,11 +3,14 @@ package io.github.cshunsinger.asmsauce.code.branch.condition;
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.code.branch.Op;
 import io.github.cshunsinger.asmsauce.code.cast.ImplicitConversionInsn;
+import io.github.cshunsinger.asmsauce.code.math.ConstantFolding;
 import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
 import lombok.Getter;
 import org.apache.commons.lang3.ClassUtils;
 import org.objectweb.asm.Label;
 
+import java.util.Optional;
+
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
 import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
 import static org.objectweb.asm.Opcodes.*;
@@ -62,6 +65,52 @@ public class DoubleOperandCondition extends Condition {
         return new DoubleOperandCondition(this.operand1Builder, this.operand2Builder, invertedOp);
     }
 
+    @Override
+    public Optional<Boolean> constantValue() {
+        Object first = ConstantFolding.constantValue(operand1Builder);
+        Object second = ConstantFolding.constantValue(operand2Builder);
+        if(first == null || second == null)
+            return Optional.empty();
+
+        Class<?> firstType = ClassUtils.wrapperToPrimitive(first.getClass());
+        Class<?> secondType = ClassUtils.wrapperToPrimitive(second.getClass());
+        if(!ImplicitConversionInsn.implicitCastAllowed(type(secondType), type(firstType)))
+            return Optional.empty();
+
+        //Compare the same way the generated bytecode would, including the NaN behavior of fcmpg and dcmpg
+        int comparison;
+        if(firstType == double.class)
+            comparison = compareG(ConstantFolding.numericValue(first).doubleValue(), ConstantFolding.numericValue(second).doubleValue());
+        else if(firstType == float.class)
+            comparison = compareG(ConstantFolding.numericValue(first).floatValue(), ConstantFolding.numericValue(second).floatValue());
+        else
+            comparison = Long.compare(toLong(first), toLong(second));
+
+        return Optional.of(switch(conditionOp) {
+            case EQ, NOT_NE -> comparison == 0;
+            case NE, NOT_EQ -> comparison != 0;
+            case GE, NOT_LT -> comparison >= 0;
+            case LE, NOT_GT -> comparison <= 0;
+            case GT, NOT_LE -> comparison > 0;
+            case LT, NOT_GE -> comparison < 0;
+        });
+    }
+
+    private static int compareG(double a, double b) {
+        if(a > b)
+            return 1;
+        else if(a == b)
+            return 0;
+        else if(a < b)
+            return -1;
+        else
+            return 1; //At least one operand is NaN
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Boolean ? ((Boolean)value ? 1 : 0) : ConstantFolding.numericValue(value).longValue();
+    }
+
     @Override
     public void build(Label endLabel) {
         validateStackSingleValue(operand1Builder);
@@ -2,8 +2,11 @@ package io.github.cshunsinger.asmsauce.code.branch.condition;
 
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.code.branch.Op;
+import io.github.cshunsinger.asmsauce.code.stack.StackObjectLiteralInsn;
 import org.objectweb.asm.Label;
 
+import java.util.Optional;
+
 import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
 
 /**
@@ -28,6 +31,20 @@ public class NullCondition extends SingleOperandCondition {
         return new NullCondition(super.operandBuilder, invertedOp);
     }
 
+    @Override
+    public Optional<Boolean> constantValue() {
+        //Only a literal String, Class, or null with nothing chained onto it has a known nullness
+        if(!(super.operandBuilder instanceof StackObjectLiteralInsn))
+            return Optional.empty();
+
+        StackObjectLiteralInsn literal = (StackObjectLiteralInsn)super.operandBuilder;
+        if(literal.getNext() != null)
+            return Optional.empty();
+
+        boolean isNull = literal.getValue() == null;
+        return Optional.of(super.conditionOp == Op.EQ ? isNull : !isNull);
+    }
+
     @Override
     public void build(Label endLabel) {
         super.build(endLabel);
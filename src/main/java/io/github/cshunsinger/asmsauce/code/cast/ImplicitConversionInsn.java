@@ -1,5 +1,6 @@
 package io.github.cshunsinger.asmsauce.code.cast;
 
+import io.github.cshunsinger.asmsauce.Optimization;
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
 import io.github.cshunsinger.asmsauce.definitions.ThisTypeDefinition;
 import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
@@ -65,7 +66,12 @@ public class ImplicitConversionInsn extends CodeInsnBuilder {
         }
         else {
             //Implicit casting will occur (ToType)fromTypeValue where ToType.isAssignableFrom(FromType)
-            context().getMethodVisitor().visitTypeInsn(CHECKCAST, toType.getJvmTypeName());
+            //The cast has no effect when the value is already known to be an instance of the type being cast to
+            boolean redundantCast = context().isOptimizationEnabled(Optimization.CONVERSION_ELIMINATION) &&
+                !(fromType instanceof ThisTypeDefinition) &&
+                ClassUtils.isAssignable(fromType.getType(), toType.getType(), false);
+            if(!redundantCast)
+                context().getMethodVisitor().visitTypeInsn(CHECKCAST, toType.getJvmTypeName());
             context().popStack();
             context().pushStack(toType);
         }
@@ -6,14 +6,18 @@ import io.github.cshunsinger.asmsauce.code.math.MathOperandInstance;
 import io.github.cshunsinger.asmsauce.code.method.InvokableInstance;
 import io.github.cshunsinger.asmsauce.definitions.FieldDefinition;
 import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import org.objectweb.asm.MethodVisitor;
 
 import java.util.Stack;
 
 import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
-import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.*;
 
 /**
  * Code builder for assigning a value to an instance field of an instance on the stack.
+ *
+ * In a specialized variant of a class, an instance field which has been specialized into a static final constant
+ * cannot be assigned. Assignments to a specialized field, such as those in constructors, are discarded instead.
  */
 public class AssignInstanceFieldInsn extends FieldInsn implements InvokableInstance, MathOperandInstance {
     private final CodeInsnBuilderLike valueBuilder;
@@ -70,6 +74,19 @@ public class AssignInstanceFieldInsn extends FieldInsn implements InvokableInsta
         new ImplicitConversionInsn(fieldDefinition.getFieldType()).build();
     }
 
+    @Override
+    protected void callMethodVisitor(MethodVisitor methodVisitor) {
+        if(instruction() == PUTFIELD && isSpecializedField()) {
+            //The field is a static final constant in a specialized class, so the assignment is discarded
+            TypeDefinition valueType = fieldDefinition.getFieldType();
+            boolean wideValue = valueType.getType() == long.class || valueType.getType() == double.class;
+            methodVisitor.visitInsn(wideValue ? POP2 : POP);
+            methodVisitor.visitInsn(POP);
+        }
+        else
+            super.callMethodVisitor(methodVisitor);
+    }
+
     @Override
     protected void performTypeStackChanges(Stack<TypeDefinition> typeStack) {
         //Pop the value assigned to the field from the stack
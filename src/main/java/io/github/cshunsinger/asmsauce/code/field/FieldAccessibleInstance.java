@@ -6,6 +6,8 @@ import io.github.cshunsinger.asmsauce.definitions.FieldDefinition;
 import io.github.cshunsinger.asmsauce.definitions.NameDefinition;
 import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
 
+import java.lang.invoke.VarHandle;
+
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.name;
 import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.customAccess;
 
@@ -48,4 +50,93 @@ public interface FieldAccessibleInstance extends CodeInsnBuilderLike {
     default GetInstanceFieldInsn getField(String fieldName) {
         return getField(name(fieldName));
     }
+    /**
+     * Creates a code builder to access a field of an instance on the stack through a VarHandle.
+     * @param fieldName The name of the field to access.
+     * @param accessMode The VarHandle access mode to use.
+     * @param valueBuilders Code builders which stack the values passed to the access mode.
+     * @return A code builder to generate the bytecode to access a field of an instance on the jvm stack through a
+     * VarHandle.
+     * @see VarHandleFieldInsn
+     */
+    default VarHandleFieldInsn accessField(NameDefinition fieldName, VarHandle.AccessMode accessMode, CodeInsnBuilderLike... valueBuilders) {
+        VarHandleFieldInsn f = new VarHandleFieldInsn(new FieldDefinition(null, null, fieldName, null), accessMode, valueBuilders);
+        this.setNext(f);
+        f.setPrev(this);
+        return f;
+    }
+
+    /**
+     * Creates a code builder to access a field of an instance on the stack through a VarHandle.
+     * @param fieldName The name of the field to access.
+     * @param accessMode The VarHandle access mode to use.
+     * @param valueBuilders Code builders which stack the values passed to the access mode.
+     * @return A code builder to generate the bytecode to access a field of an instance on the jvm stack through a
+     * VarHandle.
+     * @see VarHandleFieldInsn
+     */
+    default VarHandleFieldInsn accessField(String fieldName, VarHandle.AccessMode accessMode, CodeInsnBuilderLike... valueBuilders) {
+        return accessField(name(fieldName), accessMode, valueBuilders);
+    }
+
+    /**
+     * Creates a code builder to atomically set a field of an instance on the stack to a new value, if the field
+     * currently holds an expected value. The code builder stacks a boolean which is true if the field was set.
+     * @param fieldName The name of the field to set.
+     * @param expectedValueBuilder A code builder which stacks the expected value of the field.
+     * @param newValueBuilder A code builder which stacks the new value of the field.
+     * @return A code builder to generate the bytecode to compare-and-set a field of an instance on the jvm stack.
+     */
+    default VarHandleFieldInsn compareAndSetField(String fieldName, CodeInsnBuilderLike expectedValueBuilder, CodeInsnBuilderLike newValueBuilder) {
+        return accessField(fieldName, VarHandle.AccessMode.COMPARE_AND_SET, expectedValueBuilder, newValueBuilder);
+    }
+
+    /**
+     * Creates a code builder to atomically add to a numeric field of an instance on the stack. The code builder stacks
+     * the value of the field from before the addition.
+     * @param fieldName The name of the field to add to.
+     * @param deltaBuilder A code builder which stacks the value to add to the field.
+     * @return A code builder to generate the bytecode to get-and-add a field of an instance on the jvm stack.
+     */
+    default VarHandleFieldInsn getAndAddField(String fieldName, CodeInsnBuilderLike deltaBuilder) {
+        return accessField(fieldName, VarHandle.AccessMode.GET_AND_ADD, deltaBuilder);
+    }
+
+    /**
+     * Creates a code builder to read a field of an instance on the stack with acquire memory ordering.
+     * @param fieldName The name of the field to read.
+     * @return A code builder to generate the bytecode to read a field of an instance on the jvm stack.
+     */
+    default VarHandleFieldInsn getFieldAcquire(String fieldName) {
+        return accessField(fieldName, VarHandle.AccessMode.GET_ACQUIRE);
+    }
+
+    /**
+     * Creates a code builder to write a field of an instance on the stack with release memory ordering.
+     * @param fieldName The name of the field to write.
+     * @param valueBuilder A code builder which stacks the value to write to the field.
+     * @return A code builder to generate the bytecode to write a field of an instance on the jvm stack.
+     */
+    default VarHandleFieldInsn setFieldRelease(String fieldName, CodeInsnBuilderLike valueBuilder) {
+        return accessField(fieldName, VarHandle.AccessMode.SET_RELEASE, valueBuilder);
+    }
+
+    /**
+     * Creates a code builder to read a field of an instance on the stack with opaque memory ordering.
+     * @param fieldName The name of the field to read.
+     * @return A code builder to generate the bytecode to read a field of an instance on the jvm stack.
+     */
+    default VarHandleFieldInsn getFieldOpaque(String fieldName) {
+        return accessField(fieldName, VarHandle.AccessMode.GET_OPAQUE);
+    }
+
+    /**
+     * Creates a code builder to write a field of an instance on the stack with opaque memory ordering.
+     * @param fieldName The name of the field to write.
+     * @param valueBuilder A code builder which stacks the value to write to the field.
+     * @return A code builder to generate the bytecode to write a field of an instance on the jvm stack.
+     */
+    default VarHandleFieldInsn setFieldOpaque(String fieldName, CodeInsnBuilderLike valueBuilder) {
+        return accessField(fieldName, VarHandle.AccessMode.SET_OPAQUE, valueBuilder);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package io.github.cshunsinger.asmsauce.code.field;
 
+import io.github.cshunsinger.asmsauce.ThisClass;
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
 import io.github.cshunsinger.asmsauce.definitions.FieldDefinition;
 import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
@@ -72,6 +73,18 @@ public abstract class FieldInsn extends CodeInsnBuilder {
         );
     }
 
+    /**
+     * Gets whether the field being accessed is an instance field of the class being built which has been specialized
+     * into a static final constant.
+     * @return True if the field is a specialized field, otherwise false.
+     * @see io.github.cshunsinger.asmsauce.AsmClassBuilder#buildSpecialized(java.util.Map)
+     */
+    protected boolean isSpecializedField() {
+        return fieldDefinition.getFieldOwner().getType() == ThisClass.class &&
+            !fieldDefinition.getAccessModifiers().isStatic() &&
+            context().getClassContext().isSpecializedField(fieldDefinition.getFieldName().getName());
+    }
+
     /**
      * Classes that implement this method are expected to update the type stack in this method to reflect the
      * bytecode operations being generated.
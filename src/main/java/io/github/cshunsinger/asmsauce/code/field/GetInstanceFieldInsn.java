@@ -8,14 +8,18 @@ import io.github.cshunsinger.asmsauce.code.math.MathOperandInstance;
 import io.github.cshunsinger.asmsauce.code.method.InvokableInstance;
 import io.github.cshunsinger.asmsauce.definitions.FieldDefinition;
 import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import org.objectweb.asm.MethodVisitor;
 
 import java.util.Stack;
 
 import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
-import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.*;
 
 /**
  * This is a code builder for generating the bytecode to access an instance field.
+ *
+ * In a specialized variant of a class, an instance field which has been specialized into a static final constant is
+ * read from the static field instead, which the JIT compiler treats as a constant.
  */
 public class GetInstanceFieldInsn extends FieldInsn implements
     InvokableInstance, FieldAccessibleInstance, MathOperandInstance, ConditionBuilderLike,
@@ -40,6 +44,22 @@ public class GetInstanceFieldInsn extends FieldInsn implements
         super.build();
     }
 
+    @Override
+    protected void callMethodVisitor(MethodVisitor methodVisitor) {
+        if(isSpecializedField()) {
+            //The field is a static final constant in a specialized class, so the instance is not needed
+            methodVisitor.visitInsn(POP);
+            methodVisitor.visitFieldInsn(
+                GETSTATIC,
+                fieldDefinition.getFieldOwner().getJvmTypeName(),
+                fieldDefinition.getFieldName().getName(),
+                fieldDefinition.getFieldType().getJvmTypeDefinition()
+            );
+        }
+        else
+            super.callMethodVisitor(methodVisitor);
+    }
+
     @Override
     protected void performTypeStackChanges(Stack<TypeDefinition> typeStack) {
         //Pop the instance type from the stack
@@ -0,0 +1,223 @@
+package io.github.cshunsinger.asmsauce.code.field;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.array.AccessibleArrayLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.BooleanConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.NullConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.code.cast.ImplicitConversionInsn;
+import io.github.cshunsinger.asmsauce.code.math.MathOperandInstance;
+import io.github.cshunsinger.asmsauce.code.method.InvokableInstance;
+import io.github.cshunsinger.asmsauce.definitions.FieldDefinition;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.ConstantBootstraps;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Stack;
+import java.util.stream.Collectors;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Code builder for accessing a field through a {@link VarHandle}, which allows atomic updates of a field such as
+ * compare-and-set and get-and-add, as well as reads and writes with acquire/release, opaque, or volatile memory
+ * ordering.
+ *
+ * The VarHandle of the field is loaded with an ldc of a dynamic constant which is resolved once through
+ * {@link ConstantBootstraps#fieldVarHandle} or {@link ConstantBootstraps#staticFieldVarHandle}. Like a static final
+ * field, the JIT treats the loaded VarHandle as a constant, so the access compiles down to the same machine code as the
+ * equivalent field access or atomic instruction.
+ */
+public class VarHandleFieldInsn extends FieldInsn implements
+    InvokableInstance, FieldAccessibleInstance, MathOperandInstance, ConditionBuilderLike,
+    BooleanConditionBuilderLike, NullConditionBuilderLike, AccessibleArrayLike {
+    private static final String VAR_HANDLE = "java/lang/invoke/VarHandle";
+    private static final TypeDefinition VAR_HANDLE_TYPE = type(VarHandle.class);
+    private static final Handle FIELD_VAR_HANDLE = varHandleBootstrap("fieldVarHandle");
+    private static final Handle STATIC_FIELD_VAR_HANDLE = varHandleBootstrap("staticFieldVarHandle");
+    private static final Handle PRIMITIVE_CLASS = new Handle(
+        H_INVOKESTATIC,
+        "java/lang/invoke/ConstantBootstraps",
+        "primitiveClass",
+        "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Class;",
+        false
+    );
+
+    private final VarHandle.AccessMode accessMode;
+    private final boolean staticField;
+    private final List<CodeInsnBuilderLike> valueBuilders;
+
+    /**
+     * Creates a code builder to access a field through a VarHandle.
+     * @param fieldDefinition The definition of the field to access. The field is accessed as a static field if the
+     *                        access modifiers of the definition are static, otherwise it is accessed as an instance
+     *                        field of an instance on the stack.
+     * @param accessMode The VarHandle access mode, such as {@link VarHandle.AccessMode#COMPARE_AND_SET}.
+     * @param valueBuilders Code builders which stack the values passed to the access mode, such as the expected value
+     *                      and the new value of a compare-and-set.
+     * @throws IllegalArgumentException If accessMode is null, or if any of the value builders are null.
+     * @throws IllegalArgumentException If the number of value builders does not match the access mode.
+     */
+    public VarHandleFieldInsn(FieldDefinition fieldDefinition, VarHandle.AccessMode accessMode, CodeInsnBuilderLike... valueBuilders) {
+        super(fieldDefinition);
+
+        if(accessMode == null)
+            throw new IllegalArgumentException("Access mode cannot be null.");
+        if(Arrays.stream(valueBuilders).anyMatch(builder -> builder == null))
+            throw new IllegalArgumentException("Value builders cannot be null.");
+        if(valueBuilders.length != valueCount(accessMode)) {
+            throw new IllegalArgumentException("Access mode %s expects %d values, but %d were given.".formatted(
+                accessMode, valueCount(accessMode), valueBuilders.length
+            ));
+        }
+
+        this.accessMode = accessMode;
+        this.staticField = fieldDefinition.getAccessModifiers() != null && fieldDefinition.getAccessModifiers().isStatic();
+        this.valueBuilders = Arrays.stream(valueBuilders).map(CodeInsnBuilderLike::getFirstInStack).collect(Collectors.toList());
+    }
+
+    @Override
+    public void build() {
+        if(!staticField && context().isStackEmpty()) {
+            throw new IllegalStateException(
+                "No instance on stack to access field '%s' from.".formatted(fieldDefinition.getFieldName().getName())
+            );
+        }
+
+        super.build();
+    }
+
+    @Override
+    protected void callMethodVisitor(MethodVisitor methodVisitor) {
+        TypeDefinition fieldType = fieldDefinition.getFieldType();
+        validateAccessMode(fieldType);
+
+        methodVisitor.visitLdcInsn(new ConstantDynamic(
+            fieldDefinition.getFieldName().getName(),
+            VAR_HANDLE_TYPE.getJvmTypeDefinition(),
+            staticField ? STATIC_FIELD_VAR_HANDLE : FIELD_VAR_HANDLE,
+            Type.getObjectType(fieldDefinition.getFieldOwner().getJvmTypeName()),
+            classConstant(fieldType)
+        ));
+
+        StringBuilder descriptor = new StringBuilder("(");
+        if(staticField)
+            context().pushStack(VAR_HANDLE_TYPE);
+        else {
+            //The VarHandle is invoked with the instance as its first argument, so the VarHandle goes beneath it
+            methodVisitor.visitInsn(SWAP);
+            TypeDefinition instanceType = context().popStack();
+            context().pushStack(VAR_HANDLE_TYPE);
+            context().pushStack(instanceType);
+            descriptor.append(fieldDefinition.getFieldOwner().getJvmTypeDefinition());
+        }
+
+        for(CodeInsnBuilderLike valueBuilder : valueBuilders) {
+            int stackSize = context().stackSize();
+            valueBuilder.build();
+            if(context().stackSize() != stackSize+1) {
+                throw new IllegalStateException(
+                    "Expected 1 element placed onto the stack. Instead %d elements were added/removed."
+                        .formatted(context().stackSize() - stackSize)
+                );
+            }
+
+            new ImplicitConversionInsn(fieldType).build();
+            descriptor.append(fieldType.getJvmTypeDefinition());
+        }
+
+        descriptor.append(')').append(returnType(fieldType).getJvmTypeDefinition());
+        methodVisitor.visitMethodInsn(INVOKEVIRTUAL, VAR_HANDLE, accessMode.methodName(), descriptor.toString(), false);
+    }
+
+    @Override
+    protected void performTypeStackChanges(Stack<TypeDefinition> typeStack) {
+        //Pop the values, the instance if there is one, and the VarHandle
+        for(int i = 0; i < valueBuilders.size() + (staticField ? 1 : 2); i++)
+            typeStack.pop();
+
+        TypeDefinition returnType = returnType(fieldDefinition.getFieldType());
+        if(!returnType.isVoid())
+            typeStack.push(returnType);
+    }
+
+    @Override
+    protected int instruction() {
+        return INVOKEVIRTUAL;
+    }
+
+    @Override
+    protected TypeDefinition determineFieldOwner(Stack<TypeDefinition> typeStack) {
+        return staticField ? fieldDefinition.getFieldOwner() : typeStack.peek();
+    }
+
+    private void validateAccessMode(TypeDefinition fieldType) {
+        String fieldName = fieldDefinition.getFieldName().getName();
+        if(staticField != fieldDefinition.getAccessModifiers().isStatic()) {
+            throw new IllegalStateException("Field %s is %s.".formatted(fieldName, staticField ? "not static" : "static"));
+        }
+        if(isSpecializedField())
+            throw new IllegalStateException("Specialized field %s cannot be accessed through a VarHandle.".formatted(fieldName));
+
+        String methodName = accessMode.methodName();
+        Class<?> type = fieldType.getType();
+        boolean supported;
+        if(methodName.startsWith("getAndAdd"))
+            supported = type.isPrimitive() && type != boolean.class;
+        else if(methodName.startsWith("getAndBitwise"))
+            supported = type.isPrimitive() && type != float.class && type != double.class;
+        else
+            supported = true;
+
+        if(!supported) {
+            throw new IllegalStateException("Access mode %s is not supported for field %s of type %s.".formatted(
+                accessMode, fieldName, type.getName()
+            ));
+        }
+    }
+
+    private TypeDefinition returnType(TypeDefinition fieldType) {
+        String methodName = accessMode.methodName();
+        if(methodName.startsWith("set"))
+            return type(void.class);
+        else if(methodName.contains("ompareAndSet"))
+            return type(boolean.class);
+        else
+            return fieldType;
+    }
+
+    private static int valueCount(VarHandle.AccessMode accessMode) {
+        String methodName = accessMode.methodName();
+        if(methodName.contains("ompareAnd"))
+            return 2; //compareAndSet, compareAndExchange, and weakCompareAndSet take an expected value and a new value
+        else if(methodName.startsWith("get") && !methodName.startsWith("getAnd"))
+            return 0;
+        else
+            return 1;
+    }
+
+    private static Object classConstant(TypeDefinition type) {
+        //Primitive classes cannot be class constants, so they are loaded as dynamic constants instead
+        return type.isPrimitive() ?
+            new ConstantDynamic(type.getJvmTypeDefinition(), "Ljava/lang/Class;", PRIMITIVE_CLASS) :
+            Type.getType(type.getJvmTypeDefinition());
+    }
+
+    private static Handle varHandleBootstrap(String name) {
+        return new Handle(
+            H_INVOKESTATIC,
+            "java/lang/invoke/ConstantBootstraps",
+            name,
+            "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;Ljava/lang/Class;Ljava/lang/Class;)Ljava/lang/invoke/VarHandle;",
+            false
+        );
+    }
+}
@@ -36,4 +36,24 @@ public class AdditionMathOperationInsn extends MathOperationInsn implements Math
     public int doubleOperator() {
         return DADD;
     }
+
+    @Override
+    public int intOperation(int a, int b) {
+        return a + b;
+    }
+
+    @Override
+    public long longOperation(long a, long b) {
+        return a + b;
+    }
+
+    @Override
+    public float floatOperation(float a, float b) {
+        return a + b;
+    }
+
+    @Override
+    public double doubleOperation(double a, double b) {
+        return a + b;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package io.github.cshunsinger.asmsauce.code.math;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Code builder for the bitwise AND of two operands.
+ */
+public class BitwiseAndMathOperationInsn extends IntegralMathOperationInsn implements MathOperandInstance, ConditionBuilderLike {
+    /**
+     * New bitwise AND operation.
+     * @param operand The code builder to stack the second operand.
+     */
+    public BitwiseAndMathOperationInsn(CodeInsnBuilderLike operand) {
+        super(operand);
+    }
+
+    @Override
+    public int intOperator() {
+        return IAND;
+    }
+
+    @Override
+    public int longOperator() {
+        return LAND;
+    }
+
+    @Override
+    public int intOperation(int a, int b) {
+        return a & b;
+    }
+
+    @Override
+    public long longOperation(long a, long b) {
+        return a & b;
+    }
+}
\ No newline at end of file
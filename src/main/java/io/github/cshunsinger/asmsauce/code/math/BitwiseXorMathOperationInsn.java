@@ -0,0 +1,39 @@
+package io.github.cshunsinger.asmsauce.code.math;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Code builder for the bitwise exclusive OR of two operands.
+ */
+public class BitwiseXorMathOperationInsn extends IntegralMathOperationInsn implements MathOperandInstance, ConditionBuilderLike {
+    /**
+     * New bitwise XOR operation.
+     * @param operand The code builder to stack the second operand.
+     */
+    public BitwiseXorMathOperationInsn(CodeInsnBuilderLike operand) {
+        super(operand);
+    }
+
+    @Override
+    public int intOperator() {
+        return IXOR;
+    }
+
+    @Override
+    public int longOperator() {
+        return LXOR;
+    }
+
+    @Override
+    public int intOperation(int a, int b) {
+        return a ^ b;
+    }
+
+    @Override
+    public long longOperation(long a, long b) {
+        return a ^ b;
+    }
+}
\ No newline at end of file
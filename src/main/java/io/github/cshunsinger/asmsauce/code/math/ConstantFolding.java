@@ -0,0 +1,61 @@
+package io.github.cshunsinger.asmsauce.code.math;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.stack.StackPrimitiveLiteralInsn;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Utility for evaluating constant expressions at generation time. A constant expression is a chain of code builders
+ * which begins with a literal primitive value and is followed only by math operations whose operands are themselves
+ * constant expressions. For example: literal(2).mul(literal(3).add(literal(4)))
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ConstantFolding {
+    /**
+     * Evaluates a chain of code builders as a constant expression.
+     * @param builder Any code builder in the chain to evaluate. The chain is evaluated from the first builder in the stack.
+     * @return The boxed primitive value which the chain of code builders would stack at runtime, or null if the chain
+     * is not a constant expression or cannot be folded.
+     * @see MathOperationInsn#foldConstant(Object)
+     */
+    public static Object constantValue(CodeInsnBuilderLike builder) {
+        if(builder == null)
+            return null;
+
+        CodeInsnBuilderLike current = builder.getFirstInStack();
+        if(!(current instanceof StackPrimitiveLiteralInsn))
+            return null;
+
+        StackPrimitiveLiteralInsn literal = (StackPrimitiveLiteralInsn)current;
+        Object value = literal.getValue();
+        CodeInsnBuilderLike next = literal.getNext();
+        while(next != null) {
+            if(!(next instanceof MathOperationInsn))
+                return null;
+
+            MathOperationInsn operation = (MathOperationInsn)next;
+            value = operation.foldConstant(value);
+            if(value == null)
+                return null;
+
+            next = operation.getNext();
+        }
+
+        return value;
+    }
+
+    /**
+     * Converts a boxed primitive constant into a Number, treating chars as their int value.
+     * @param value The boxed primitive constant.
+     * @return The numeric value of the constant, or null if the constant is not numeric.
+     */
+    public static Number numericValue(Object value) {
+        if(value instanceof Number)
+            return (Number)value;
+        else if(value instanceof Character)
+            return (int)(Character)value;
+        else
+            return null;
+    }
+}
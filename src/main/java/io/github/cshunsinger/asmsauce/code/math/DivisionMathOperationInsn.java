@@ -2,7 +2,9 @@ package io.github.cshunsinger.asmsauce.code.math;
 
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
+import org.objectweb.asm.MethodVisitor;
 
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
 import static org.objectweb.asm.Opcodes.*;
 
 /**
@@ -36,4 +38,52 @@ public class DivisionMathOperationInsn extends MathOperationInsn implements Math
     public int doubleOperator() {
         return DDIV;
     }
+
+    @Override
+    public int intOperation(int a, int b) {
+        return a / b;
+    }
+
+    @Override
+    public long longOperation(long a, long b) {
+        return a / b;
+    }
+
+    @Override
+    public float floatOperation(float a, float b) {
+        return a / b;
+    }
+
+    @Override
+    public double doubleOperation(double a, double b) {
+        return a / b;
+    }
+
+    @Override
+    protected boolean buildPowerOfTwoOperation(boolean isLong, int power) {
+        //Division rounds towards zero, but a shift rounds towards negative infinity.
+        //Adding (2^n - 1) to negative dividends before shifting makes the shift round towards zero as well.
+        MethodVisitor methodVisitor = context().getMethodVisitor();
+        methodVisitor.visitInsn(isLong ? DUP2 : DUP);
+        buildRoundingBias(methodVisitor, isLong, power);
+        methodVisitor.visitInsn(isLong ? LADD : IADD);
+        methodVisitor.visitLdcInsn(power);
+        methodVisitor.visitInsn(isLong ? LSHR : ISHR);
+        return true;
+    }
+
+    /**
+     * Builds the bytecode to turn the int or long on the top of the stack into 2^n - 1 if it is negative, or 0 if it
+     * is not negative.
+     * @param methodVisitor The method visitor to write the bytecode with.
+     * @param isLong True if the value on the top of the stack is a long, or false if it is an int.
+     * @param power The power of two, n.
+     */
+    static void buildRoundingBias(MethodVisitor methodVisitor, boolean isLong, int power) {
+        int bits = isLong ? Long.SIZE : Integer.SIZE;
+        methodVisitor.visitLdcInsn(bits - 1);
+        methodVisitor.visitInsn(isLong ? LSHR : ISHR);
+        methodVisitor.visitLdcInsn(bits - power);
+        methodVisitor.visitInsn(isLong ? LUSHR : IUSHR);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package io.github.cshunsinger.asmsauce.code.math;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+
+/**
+ * Code builder for math operations which only operate on integral operands, such as bitwise and shift operations.
+ * Operands of type byte, short, char, and int are operated on as ints. Operands of type long are operated on as longs.
+ */
+public abstract class IntegralMathOperationInsn extends MathOperationInsn {
+    /**
+     * Creates a new integral math operation code builder.
+     * The element already on the top of the jvm stack will be the first operand. The value stacked by the provided
+     * operand code builder will be the second operand.
+     * @param operand The code builder to stack the second operand to use for the math operation.
+     */
+    public IntegralMathOperationInsn(CodeInsnBuilderLike operand) {
+        super(operand);
+    }
+
+    @Override
+    public Object foldConstant(Object firstOperand) {
+        if(firstOperand instanceof Float || firstOperand instanceof Double)
+            return null;
+        return super.foldConstant(firstOperand);
+    }
+
+    @Override
+    protected int floatOperator() {
+        throw nonIntegralOperand(float.class);
+    }
+
+    @Override
+    protected int doubleOperator() {
+        throw nonIntegralOperand(double.class);
+    }
+
+    @Override
+    protected float floatOperation(float a, float b) {
+        throw nonIntegralOperand(float.class);
+    }
+
+    @Override
+    protected double doubleOperation(double a, double b) {
+        throw nonIntegralOperand(double.class);
+    }
+
+    private static IllegalStateException nonIntegralOperand(Class<?> operandType) {
+        return new IllegalStateException(
+            "Bitwise and shift operations require int or long operands. Found type %s instead.".formatted(operandType.getName())
+        );
+    }
+}
\ No newline at end of file
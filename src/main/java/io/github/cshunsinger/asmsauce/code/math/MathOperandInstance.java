@@ -65,4 +65,76 @@ public interface MathOperandInstance extends CodeInsnBuilderLike {
         this.setNext(op);
         return op;
     }
+
+    /**
+     * Bitwise AND the first operand with a second operand. Both operands must be integral values.
+     * @param operandBuilder Code builder to stack the second operand.
+     * @return A new bitwise AND code builder.
+     */
+    default BitwiseAndMathOperationInsn and(CodeInsnBuilderLike operandBuilder) {
+        BitwiseAndMathOperationInsn op = new BitwiseAndMathOperationInsn(operandBuilder);
+        op.setPrev(this);
+        this.setNext(op);
+        return op;
+    }
+
+    /**
+     * Bitwise OR the first operand with a second operand. Both operands must be integral values.
+     * @param operandBuilder Code builder to stack the second operand.
+     * @return A new bitwise OR code builder.
+     */
+    default BitwiseOrMathOperationInsn or(CodeInsnBuilderLike operandBuilder) {
+        BitwiseOrMathOperationInsn op = new BitwiseOrMathOperationInsn(operandBuilder);
+        op.setPrev(this);
+        this.setNext(op);
+        return op;
+    }
+
+    /**
+     * Bitwise XOR the first operand with a second operand. Both operands must be integral values.
+     * @param operandBuilder Code builder to stack the second operand.
+     * @return A new bitwise XOR code builder.
+     */
+    default BitwiseXorMathOperationInsn xor(CodeInsnBuilderLike operandBuilder) {
+        BitwiseXorMathOperationInsn op = new BitwiseXorMathOperationInsn(operandBuilder);
+        op.setPrev(this);
+        this.setNext(op);
+        return op;
+    }
+
+    /**
+     * Shift the bits of the first operand left by a second operand (aka &lt;&lt;). The second operand must be an int.
+     * @param operandBuilder Code builder to stack the second operand.
+     * @return A new left shift code builder.
+     */
+    default ShiftLeftMathOperationInsn shl(CodeInsnBuilderLike operandBuilder) {
+        ShiftLeftMathOperationInsn op = new ShiftLeftMathOperationInsn(operandBuilder);
+        op.setPrev(this);
+        this.setNext(op);
+        return op;
+    }
+
+    /**
+     * Shift the bits of the first operand right by a second operand, preserving the sign (aka &gt;&gt;). The second operand must be an int.
+     * @param operandBuilder Code builder to stack the second operand.
+     * @return A new signed right shift code builder.
+     */
+    default ShiftRightMathOperationInsn shr(CodeInsnBuilderLike operandBuilder) {
+        ShiftRightMathOperationInsn op = new ShiftRightMathOperationInsn(operandBuilder);
+        op.setPrev(this);
+        this.setNext(op);
+        return op;
+    }
+
+    /**
+     * Shift the bits of the first operand right by a second operand, filling in zeroes (aka &gt;&gt;&gt;). The second operand must be an int.
+     * @param operandBuilder Code builder to stack the second operand.
+     * @return A new unsigned right shift code builder.
+     */
+    default UnsignedShiftRightMathOperationInsn ushr(CodeInsnBuilderLike operandBuilder) {
+        UnsignedShiftRightMathOperationInsn op = new UnsignedShiftRightMathOperationInsn(operandBuilder);
+        op.setPrev(this);
+        this.setNext(op);
+        return op;
+    }
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package io.github.cshunsinger.asmsauce.code.math;
 
+import io.github.cshunsinger.asmsauce.Optimization;
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.code.cast.ImplicitConversionInsn;
 import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
 import org.apache.commons.lang3.ClassUtils;
 
+import java.util.Set;
+
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
 import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
 
@@ -13,6 +16,8 @@ import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
  * Code builder for math operations.
  */
 public abstract class MathOperationInsn extends CodeInsnBuilder {
+    private static final Set<Class<?>> FOLDABLE_TYPES = Set.of(int.class, long.class, float.class, double.class);
+
     private final CodeInsnBuilderLike operandBuilder;
 
     /**
@@ -51,6 +56,12 @@ public abstract class MathOperationInsn extends CodeInsnBuilder {
             firstOperandType = context().peekStack();
         }
 
+        //Replace the operation with cheaper instructions when the second operand is a power of two
+        if(context().isOptimizationEnabled(Optimization.STRENGTH_REDUCTION) && buildStrengthReduced(firstOperandType)) {
+            super.build();
+            return;
+        }
+
         //Call the operand builder and then make sure that the stack size is correct
         int stackSize = context().stackSize();
         operandBuilder.build();
@@ -65,7 +76,7 @@ public abstract class MathOperationInsn extends CodeInsnBuilder {
         TypeDefinition secondOperand = context().peekStack();
         if(ClassUtils.isPrimitiveWrapper(secondOperand.getType()))
             new ImplicitConversionInsn(type(ClassUtils.wrapperToPrimitive(secondOperand.getType()))).build();
-        new ImplicitConversionInsn(firstOperandType).build();
+        new ImplicitConversionInsn(secondOperandType(firstOperandType)).build();
 
         //Pop the two operands
         context().popStack(2);
@@ -75,6 +86,85 @@ public abstract class MathOperationInsn extends CodeInsnBuilder {
 
         //Push the result type to the stack
         context().pushStack(firstOperandType);
+
+        super.build();
+    }
+
+    /**
+     * Attempts to evaluate this math operation at generation time instead of at runtime. This operation can only be
+     * folded if the second operand is also a constant expression. The result is calculated exactly as the JVM would
+     * calculate it, including int and long overflow and float and double rounding.
+     * Operations on byte, short, or char first operands are not folded, nor are operations which would throw an
+     * {@link ArithmeticException} at runtime (such as integer division by zero).
+     * @param firstOperand The boxed constant value of the first operand.
+     * @return The boxed constant result of this operation, or null if this operation cannot be folded.
+     * @see ConstantFolding#constantValue(CodeInsnBuilderLike)
+     */
+    public Object foldConstant(Object firstOperand) {
+        Object secondOperand = ConstantFolding.constantValue(operandBuilder);
+        if(firstOperand == null || secondOperand == null)
+            return null;
+
+        Class<?> firstType = ClassUtils.wrapperToPrimitive(firstOperand.getClass());
+        Class<?> secondType = ClassUtils.wrapperToPrimitive(secondOperand.getClass());
+        if(!FOLDABLE_TYPES.contains(firstType) || !ImplicitConversionInsn.implicitCastAllowed(type(secondType), secondOperandType(type(firstType))))
+            return null;
+
+        Number first = (Number)firstOperand;
+        Number second = ConstantFolding.numericValue(secondOperand);
+        try {
+            if(firstType == double.class)
+                return doubleOperation(first.doubleValue(), second.doubleValue());
+            else if(firstType == float.class)
+                return floatOperation(first.floatValue(), second.floatValue());
+            else if(firstType == long.class)
+                return longOperation(first.longValue(), second.longValue());
+            else
+                return intOperation(first.intValue(), second.intValue());
+        }
+        catch(ArithmeticException ex) {
+            //Leave the operation to fail at runtime just as it would have without folding
+            return null;
+        }
+    }
+
+    private boolean buildStrengthReduced(TypeDefinition firstOperandType) {
+        Class<?> operandClass = firstOperandType.getType();
+        if(operandClass != int.class && operandClass != long.class)
+            return false;
+
+        Object secondOperand = ConstantFolding.constantValue(operandBuilder);
+        Number constant = ConstantFolding.numericValue(secondOperand);
+        if(constant == null || !ImplicitConversionInsn.implicitCastAllowed(type(ClassUtils.wrapperToPrimitive(secondOperand.getClass())), firstOperandType))
+            return false;
+
+        long value = constant.longValue();
+        if(value < 2 || Long.bitCount(value) != 1)
+            return false;
+
+        return buildPowerOfTwoOperation(operandClass == long.class, Long.numberOfTrailingZeros(value));
+    }
+
+    /**
+     * Gets the type the second operand must be converted to before performing this operation.
+     * @param firstOperandType The type of the first operand, after auto-unboxing.
+     * @return The type of the second operand. By default this is the type of the first operand.
+     */
+    protected TypeDefinition secondOperandType(TypeDefinition firstOperandType) {
+        return firstOperandType;
+    }
+
+    /**
+     * Builds this operation using cheaper instructions when the second operand is a constant power of two. This is only
+     * called when the {@link Optimization#STRENGTH_REDUCTION} optimization is enabled. The first operand will already
+     * be on the stack, and the second operand will not be stacked. The generated bytecode must leave a result on the
+     * stack which is identical to the result of the unoptimized operation for every possible first operand.
+     * @param isLong True if the first operand is a long, or false if the first operand is an int.
+     * @param power The second operand is 2 to the power of this value. This will be at least 1.
+     * @return True if the operation was built, or false if this operation does not support strength reduction.
+     */
+    protected boolean buildPowerOfTwoOperation(boolean isLong, int power) {
+        return false;
     }
 
     private int mathOperator(TypeDefinition operandType) {
@@ -112,4 +202,38 @@ public abstract class MathOperationInsn extends CodeInsnBuilder {
      * @return The opcode for operating on double operands.
      */
     protected abstract int doubleOperator();
+
+    /**
+     * Performs this operation on two int operands at generation time.
+     * @param a The first operand.
+     * @param b The second operand.
+     * @return The result of the operation.
+     * @throws ArithmeticException If the operation would throw an ArithmeticException at runtime.
+     */
+    protected abstract int intOperation(int a, int b);
+
+    /**
+     * Performs this operation on two long operands at generation time.
+     * @param a The first operand.
+     * @param b The second operand.
+     * @return The result of the operation.
+     * @throws ArithmeticException If the operation would throw an ArithmeticException at runtime.
+     */
+    protected abstract long longOperation(long a, long b);
+
+    /**
+     * Performs this operation on two float operands at generation time.
+     * @param a The first operand.
+     * @param b The second operand.
+     * @return The result of the operation.
+     */
+    protected abstract float floatOperation(float a, float b);
+
+    /**
+     * Performs this operation on two double operands at generation time.
+     * @param a The first operand.
+     * @param b The second operand.
+     * @return The result of the operation.
+     */
+    protected abstract double doubleOperation(double a, double b);
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package io.github.cshunsinger.asmsauce.code.math;
 
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
+import org.objectweb.asm.MethodVisitor;
 
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
 import static org.objectweb.asm.Opcodes.*;
 
 /**
@@ -36,4 +38,48 @@ public class ModulusMathOperationInsn extends MathOperationInsn implements MathO
     public int doubleOperator() {
         return DREM;
     }
+
+    @Override
+    public int intOperation(int a, int b) {
+        return a % b;
+    }
+
+    @Override
+    public long longOperation(long a, long b) {
+        return a % b;
+    }
+
+    @Override
+    public float floatOperation(float a, float b) {
+        return a % b;
+    }
+
+    @Override
+    public double doubleOperation(double a, double b) {
+        return a % b;
+    }
+
+    @Override
+    protected boolean buildPowerOfTwoOperation(boolean isLong, int power) {
+        //The remainder takes the sign of the dividend, so a mask alone only works for non-negative dividends.
+        //x % 2^n == ((x + bias) & (2^n - 1)) - bias, where bias is 2^n - 1 for negative x and 0 otherwise.
+        MethodVisitor methodVisitor = context().getMethodVisitor();
+        methodVisitor.visitInsn(isLong ? DUP2 : DUP);
+        DivisionMathOperationInsn.buildRoundingBias(methodVisitor, isLong, power); //x, bias
+        methodVisitor.visitInsn(isLong ? DUP2_X2 : DUP_X1); //bias, x, bias
+        methodVisitor.visitInsn(isLong ? LADD : IADD); //bias, x + bias
+        if(isLong) {
+            methodVisitor.visitLdcInsn((1L << power) - 1);
+            methodVisitor.visitInsn(LAND); //bias, masked
+            methodVisitor.visitInsn(LSUB); //bias - masked
+            methodVisitor.visitInsn(LNEG); //masked - bias
+        }
+        else {
+            methodVisitor.visitLdcInsn((1 << power) - 1);
+            methodVisitor.visitInsn(IAND); //bias, masked
+            methodVisitor.visitInsn(SWAP); //masked, bias
+            methodVisitor.visitInsn(ISUB); //masked - bias
+        }
+        return true;
+    }
 }
\ No newline at end of file
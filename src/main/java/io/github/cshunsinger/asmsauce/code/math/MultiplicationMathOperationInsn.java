@@ -3,6 +3,7 @@ package io.github.cshunsinger.asmsauce.code.math;
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
 
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
 import static org.objectweb.asm.Opcodes.*;
 
 /**
@@ -36,4 +37,32 @@ public class MultiplicationMathOperationInsn extends MathOperationInsn implement
     public int doubleOperator() {
         return DMUL;
     }
+
+    @Override
+    public int intOperation(int a, int b) {
+        return a * b;
+    }
+
+    @Override
+    public long longOperation(long a, long b) {
+        return a * b;
+    }
+
+    @Override
+    public float floatOperation(float a, float b) {
+        return a * b;
+    }
+
+    @Override
+    public double doubleOperation(double a, double b) {
+        return a * b;
+    }
+
+    @Override
+    protected boolean buildPowerOfTwoOperation(boolean isLong, int power) {
+        //x * 2^n == x << n, including when the multiplication overflows
+        context().getMethodVisitor().visitLdcInsn(power);
+        context().getMethodVisitor().visitInsn(isLong ? LSHL : ISHL);
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package io.github.cshunsinger.asmsauce.code.math;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Code builder for shifting the bits of the first operand right by the second operand, preserving the sign of the first operand.
+ */
+public class ShiftRightMathOperationInsn extends IntegralMathOperationInsn implements MathOperandInstance, ConditionBuilderLike {
+    /**
+     * New signed right shift operation.
+     * @param operand The code builder to stack the second operand.
+     */
+    public ShiftRightMathOperationInsn(CodeInsnBuilderLike operand) {
+        super(operand);
+    }
+
+    @Override
+    public int intOperator() {
+        return ISHR;
+    }
+
+    @Override
+    public int longOperator() {
+        return LSHR;
+    }
+
+    @Override
+    public int intOperation(int a, int b) {
+        return a >> b;
+    }
+
+    @Override
+    public long longOperation(long a, long b) {
+        return a >> b;
+    }
+
+    @Override
+    protected TypeDefinition secondOperandType(TypeDefinition firstOperandType) {
+        //The shift distance is always an int, even when shifting a long
+        return type(int.class);
+    }
+}
\ No newline at end of file
@@ -36,4 +36,24 @@ public class SubtractionMathOperationInsn extends MathOperationInsn implements M
     public int doubleOperator() {
         return DSUB;
     }
+
+    @Override
+    public int intOperation(int a, int b) {
+        return a - b;
+    }
+
+    @Override
+    public long longOperation(long a, long b) {
+        return a - b;
+    }
+
+    @Override
+    public float floatOperation(float a, float b) {
+        return a - b;
+    }
+
+    @Override
+    public double doubleOperation(double a, double b) {
+        return a - b;
+    }
 }
\ No newline at end of file
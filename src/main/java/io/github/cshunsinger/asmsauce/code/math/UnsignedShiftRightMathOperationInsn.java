@@ -0,0 +1,47 @@
+package io.github.cshunsinger.asmsauce.code.math;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Code builder for shifting the bits of the first operand right by the second operand, filling the high bits with zeroes.
+ */
+public class UnsignedShiftRightMathOperationInsn extends IntegralMathOperationInsn implements MathOperandInstance, ConditionBuilderLike {
+    /**
+     * New unsigned right shift operation.
+     * @param operand The code builder to stack the second operand.
+     */
+    public UnsignedShiftRightMathOperationInsn(CodeInsnBuilderLike operand) {
+        super(operand);
+    }
+
+    @Override
+    public int intOperator() {
+        return IUSHR;
+    }
+
+    @Override
+    public int longOperator() {
+        return LUSHR;
+    }
+
+    @Override
+    public int intOperation(int a, int b) {
+        return a >>> b;
+    }
+
+    @Override
+    public long longOperation(long a, long b) {
+        return a >>> b;
+    }
+
+    @Override
+    protected TypeDefinition secondOperandType(TypeDefinition firstOperandType) {
+        //The shift distance is always an int, even when shifting a long
+        return type(int.class);
+    }
+}
\ No newline at end of file
@@ -1,5 +1,8 @@
 package io.github.cshunsinger.asmsauce.code.method;
 
+import io.github.cshunsinger.asmsauce.InlinedMethod;
+import io.github.cshunsinger.asmsauce.Optimization;
+import io.github.cshunsinger.asmsauce.ThisClass;
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.code.cast.ImplicitConversionInsn;
@@ -75,9 +78,16 @@ public abstract class InvocationInsn extends CodeInsnBuilder {
     /**
      * Adds the bytecode instruction(s) via the low-level method visitor of the provided method building context, which
      * will represent the invocation of a method. This method determines which bytecode instruction to use, the
-     * method signature, and other parameters required.
+     * method signature, and other parameters required. If the method is inlined, then the bytecode of the method is
+     * generated in place of the invocation instead.
      */
     protected void invokeMethodVisitor() {
+        InlinedMethod inlinedMethod = findInlinedMethod();
+        if(inlinedMethod != null) {
+            inlinedMethod.inline();
+            return;
+        }
+
         int instruction = INVOKEVIRTUAL;
         boolean isInterface = false;
         if(method.getModifiers().isStatic())
@@ -96,6 +106,19 @@ public abstract class InvocationInsn extends CodeInsnBuilder {
         context().getMethodVisitor().visitMethodInsn(instruction, ownerTypeName, methodName, methodSignature, isInterface);
     }
 
+    private InlinedMethod findInlinedMethod() {
+        if(!context().isOptimizationEnabled(Optimization.METHOD_INLINING))
+            return null;
+
+        //Only private and static methods of the class being built can be inlined, since they cannot be overridden
+        //Synchronized methods are not inlined, since the monitor is only entered by invoking the method
+        boolean inlinable = method.getOwner().getType() == ThisClass.class &&
+            !method.getName().isConstructorName() &&
+            !method.getModifiers().isSynchronized() &&
+            (method.getModifiers().isStatic() || method.getModifiers().isPrivate());
+        return inlinable ? context().getClassContext().getInlinedMethod(method) : null;
+    }
+
     private void stackParameters() {
         if(method.getParameters() != null) {
             ParametersDefinition methodParameters = method.getParameters();
@@ -0,0 +1,154 @@
+package io.github.cshunsinger.asmsauce.code.method;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.array.AccessibleArrayLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.BooleanConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.NullConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.code.cast.ImplicitConversionInsn;
+import io.github.cshunsinger.asmsauce.code.field.FieldAccessibleInstance;
+import io.github.cshunsinger.asmsauce.code.field.FieldAssignableInstance;
+import io.github.cshunsinger.asmsauce.code.math.MathOperandInstance;
+import io.github.cshunsinger.asmsauce.definitions.NameDefinition;
+import io.github.cshunsinger.asmsauce.definitions.ParametersDefinition;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static io.github.cshunsinger.asmsauce.util.AsmUtils.generateJvmMethodSignature;
+import static io.github.cshunsinger.asmsauce.util.AsmUtils.jvmClassname;
+import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
+
+/**
+ * Code builder for invoking a dynamically computed call site. The first time the generated invokedynamic instruction
+ * is executed, the JVM calls a bootstrap method to link the call site. Every later execution uses the linked call site.
+ */
+public class InvokeDynamicInsn extends CodeInsnBuilder implements
+    InvokableInstance, FieldAccessibleInstance, FieldAssignableInstance, MathOperandInstance,
+    ConditionBuilderLike, BooleanConditionBuilderLike, NullConditionBuilderLike, AccessibleArrayLike {
+
+    private final Handle bootstrapMethod;
+    private final List<Object> bootstrapArguments;
+    private final NameDefinition name;
+    private final ParametersDefinition parameters;
+    private final TypeDefinition returnType;
+    private final List<CodeInsnBuilderLike> argumentBuilders;
+
+    /**
+     * New code builder to invoke a dynamically computed call site.
+     * @param bootstrapMethod The static bootstrap method which links the call site.
+     * @param bootstrapArguments The static arguments passed to the bootstrap method after the lookup, name, and type.
+     *                           Each argument must be an Integer, Long, Float, Double, String, Class, TypeDefinition,
+     *                           or an ASM Type or Handle.
+     * @param name The name of the call site.
+     * @param parameters The parameters of the call site.
+     * @param returnType The return type of the call site.
+     * @param argumentBuilders The code builders to stack the values to pass to the call site.
+     * @throws IllegalArgumentException If bootstrapMethod, bootstrapArguments, name, parameters, or returnType is null.
+     * @throws IllegalArgumentException If bootstrapMethod is not static.
+     * @throws IllegalArgumentException If any of the bootstrap arguments is null or of an unsupported type.
+     * @throws IllegalArgumentException If the number of code builders is not equal to the number of parameters.
+     */
+    public InvokeDynamicInsn(Method bootstrapMethod,
+                             List<Object> bootstrapArguments,
+                             NameDefinition name,
+                             ParametersDefinition parameters,
+                             TypeDefinition returnType,
+                             CodeInsnBuilderLike... argumentBuilders) {
+        if(bootstrapMethod == null)
+            throw new IllegalArgumentException("Bootstrap method cannot be null.");
+        if(!Modifier.isStatic(bootstrapMethod.getModifiers()))
+            throw new IllegalArgumentException("Bootstrap method must be static.");
+        if(bootstrapArguments == null)
+            throw new IllegalArgumentException("Bootstrap arguments cannot be null.");
+        if(name == null)
+            throw new IllegalArgumentException("Name cannot be null.");
+        if(parameters == null)
+            throw new IllegalArgumentException("Parameters cannot be null.");
+        if(returnType == null)
+            throw new IllegalArgumentException("Return type cannot be null.");
+        if(argumentBuilders.length != parameters.count()) {
+            throw new IllegalArgumentException(("Expected %d builders to satisfy the method parameters." +
+                " Found %d builders instead.").formatted(parameters.count(), argumentBuilders.length)
+            );
+        }
+        bootstrapArguments.forEach(InvokeDynamicInsn::validateBootstrapArgument);
+
+        Class<?> bootstrapOwner = bootstrapMethod.getDeclaringClass();
+        this.bootstrapMethod = new Handle(
+            H_INVOKESTATIC,
+            jvmClassname(bootstrapOwner),
+            bootstrapMethod.getName(),
+            generateJvmMethodSignature(bootstrapMethod),
+            bootstrapOwner.isInterface()
+        );
+        this.bootstrapArguments = List.copyOf(bootstrapArguments);
+        this.name = name;
+        this.parameters = parameters;
+        this.returnType = returnType;
+        this.argumentBuilders = Arrays.stream(argumentBuilders).map(CodeInsnBuilderLike::getFirstInStack).collect(Collectors.toList());
+    }
+
+    @Override
+    public void build() {
+        for(int i = 0; i < parameters.count(); i++) {
+            int preStackCount = context().stackSize();
+            argumentBuilders.get(i).build();
+            int postStackCount = context().stackSize();
+
+            //Make sure each code builder adds exactly 1 element to the stack
+            if(postStackCount != preStackCount+1)
+                throw new IllegalStateException("Code builder expected to add 1 element to the stack. Instead %d elements were added.".formatted(postStackCount-preStackCount));
+
+            //Perform implicit casting if necessary
+            new ImplicitConversionInsn(parameters.get(i)).build();
+        }
+
+        StringBuilder descriptor = new StringBuilder("(");
+        parameters.getParamTypes().forEach(type -> descriptor.append(type.getJvmTypeDefinition()));
+        descriptor.append(')').append(returnType.getJvmTypeDefinition());
+
+        context().getMethodVisitor().visitInvokeDynamicInsn(
+            name.getName(),
+            descriptor.toString(),
+            bootstrapMethod,
+            bootstrapArguments.stream().map(InvokeDynamicInsn::toConstant).toArray()
+        );
+
+        context().popStack(parameters.count());
+        if(!returnType.isVoid())
+            context().pushStack(returnType);
+
+        super.build();
+    }
+
+    private static void validateBootstrapArgument(Object argument) {
+        if(argument == null)
+            throw new IllegalArgumentException("Bootstrap arguments cannot contain null.");
+
+        boolean supported = argument instanceof Integer || argument instanceof Long
+            || argument instanceof Float || argument instanceof Double
+            || argument instanceof String || argument instanceof Class
+            || argument instanceof TypeDefinition || argument instanceof Type || argument instanceof Handle;
+        if(!supported)
+            throw new IllegalArgumentException("Bootstrap argument of type %s is not supported.".formatted(argument.getClass().getName()));
+    }
+
+    private static Object toConstant(Object argument) {
+        //Types are resolved while building so that the type of the class being generated can be used
+        if(argument instanceof Class)
+            return Type.getType(TypeDefinition.fromClass((Class<?>)argument).getJvmTypeDefinition());
+        else if(argument instanceof TypeDefinition)
+            return Type.getType(((TypeDefinition)argument).getJvmTypeDefinition());
+        else
+            return argument;
+    }
+}
@@ -0,0 +1,204 @@
+package io.github.cshunsinger.asmsauce.code.method;
+
+import io.github.cshunsinger.asmsauce.ClassBuildingContext;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.NullConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.ParamDefinition;
+import io.github.cshunsinger.asmsauce.definitions.ParametersDefinition;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import org.apache.commons.lang3.StringUtils;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.customAccess;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Code builder for creating an instance of a functional interface from a lambda body. The lambda body is generated as
+ * a private static synthetic method of the class being built, and the functional interface instance is created by an
+ * invokedynamic instruction which is linked by {@link LambdaMetafactory#metafactory}, the same way javac compiles
+ * lambda expressions. A lambda which captures no values is linked to a constant call site, so the same instance is
+ * produced every time.
+ */
+public class LambdaInsn extends CodeInsnBuilder implements InvokableInstance, ConditionBuilderLike, NullConditionBuilderLike {
+    private static final Handle METAFACTORY = new Handle(
+        H_INVOKESTATIC,
+        "java/lang/invoke/LambdaMetafactory",
+        "metafactory",
+        "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;" +
+            "Ljava/lang/invoke/MethodType;Ljava/lang/invoke/MethodHandle;Ljava/lang/invoke/MethodType;)" +
+            "Ljava/lang/invoke/CallSite;",
+        false
+    );
+
+    private final TypeDefinition functionalInterface;
+    private final Method functionalMethod;
+    private final ParametersDefinition parameters;
+    private final CodeInsnBuilderLike[] body;
+    private final Map<String, CodeInsnBuilderLike> captures = new LinkedHashMap<>();
+
+    private ClassBuildingContext implementationClass;
+    private String implementationName;
+    private String implementationSignature;
+
+    /**
+     * Creates a new code builder for creating an instance of a functional interface from a lambda body.
+     * @param functionalInterface The functional interface to implement.
+     * @param parameters The parameters of the lambda. There must be one parameter for each parameter of the functional
+     *                   interface method. Each parameter type must be the same primitive type as, or a reference type
+     *                   assignable to, the matching parameter type of the functional interface method.
+     * @param body The code builders which make up the body of the lambda. The body must return a value of the return
+     *             type of the functional interface method, the same as any other method body.
+     * @throws IllegalArgumentException If functionalInterface or parameters is null.
+     * @throws IllegalArgumentException If functionalInterface is not an interface with exactly 1 abstract method.
+     * @throws IllegalArgumentException If the parameters do not match the parameters of the functional interface method.
+     */
+    public LambdaInsn(Class<?> functionalInterface, ParametersDefinition parameters, CodeInsnBuilderLike... body) {
+        if(functionalInterface == null)
+            throw new IllegalArgumentException("Functional interface cannot be null.");
+        if(parameters == null)
+            throw new IllegalArgumentException("Parameters cannot be null.");
+
+        Method functionalMethod = findFunctionalMethod(functionalInterface);
+        Class<?>[] expectedTypes = functionalMethod.getParameterTypes();
+        if(parameters.count() != expectedTypes.length) {
+            throw new IllegalArgumentException("Expected %d lambda parameters to implement method %s. Found %d parameters instead.".formatted(
+                expectedTypes.length, functionalMethod.getName(), parameters.count()
+            ));
+        }
+        for(int i = 0; i < expectedTypes.length; i++) {
+            Class<?> expectedType = expectedTypes[i];
+            Class<?> paramType = parameters.get(i).getType();
+            boolean compatible = expectedType.isPrimitive() ?
+                expectedType == paramType :
+                !paramType.isPrimitive() && expectedType.isAssignableFrom(paramType);
+            if(!compatible) {
+                throw new IllegalArgumentException("Lambda parameter %d of type %s cannot implement a parameter of type %s.".formatted(
+                    i, paramType.getName(), expectedType.getName()
+                ));
+            }
+        }
+
+        this.functionalInterface = type(functionalInterface);
+        this.functionalMethod = functionalMethod;
+        this.parameters = parameters;
+        this.body = body;
+    }
+
+    /**
+     * Captures a value from the enclosing method so that it can be used in the body of the lambda. The captured value
+     * is evaluated once when the functional interface instance is created. Inside of the lambda body, the captured value
+     * is a local variable with the given name, which comes before the lambda parameters.
+     * @param name The name of the local variable which holds the captured value inside of the lambda body.
+     * @param valueBuilder The code builder which stacks the value to capture.
+     * @return This.
+     * @throws IllegalArgumentException If name is null or empty.
+     * @throws IllegalArgumentException If valueBuilder is null.
+     * @throws IllegalArgumentException If a value has already been captured with the same name.
+     */
+    public LambdaInsn capture(String name, CodeInsnBuilderLike valueBuilder) {
+        if(StringUtils.isEmpty(name))
+            throw new IllegalArgumentException("Capture name cannot be null or empty.");
+        if(valueBuilder == null)
+            throw new IllegalArgumentException("Capture value builder cannot be null.");
+        if(captures.containsKey(name))
+            throw new IllegalArgumentException("Lambda already captures a value named %s.".formatted(name));
+
+        captures.put(name, valueBuilder.getFirstInStack());
+        return this;
+    }
+
+    @Override
+    public void build() {
+        //Stack each captured value and use the stacked types for the leading parameters of the implementation method
+        List<ParamDefinition> implementationParams = new ArrayList<>();
+        captures.forEach((name, valueBuilder) -> {
+            int preStackCount = context().stackSize();
+            valueBuilder.build();
+            int postStackCount = context().stackSize();
+
+            if(postStackCount != preStackCount+1)
+                throw new IllegalStateException("Code builder expected to add 1 element to the stack. Instead %d elements were added.".formatted(postStackCount-preStackCount));
+            implementationParams.add(p(name, context().peekStack()));
+        });
+        implementationParams.addAll(parameters.getParams());
+
+        //The implementation method only needs to be generated once per class, even if this builder is built many times
+        ClassBuildingContext classContext = context().getClassContext();
+        if(implementationClass != classContext) {
+            ParametersDefinition implementationParameters = parameters(implementationParams.toArray(ParamDefinition[]::new));
+            TypeDefinition returnType = type(functionalMethod.getReturnType());
+
+            implementationName = classContext.addSyntheticMethod("lambda", methodName -> method(
+                customAccess(ACC_PRIVATE | ACC_STATIC | ACC_SYNTHETIC),
+                name(methodName),
+                implementationParameters,
+                returnType,
+                body
+            ));
+            implementationSignature = implementationParams.stream()
+                .map(param -> param.getParamType().getJvmTypeDefinition())
+                .collect(Collectors.joining("", "(", ")")) + returnType.getJvmTypeDefinition();
+            implementationClass = classContext;
+        }
+
+        String capturedTypes = implementationParams.stream()
+            .limit(captures.size())
+            .map(param -> param.getParamType().getJvmTypeDefinition())
+            .collect(Collectors.joining());
+        String instantiatedTypes = parameters.getParamTypes()
+            .stream()
+            .map(TypeDefinition::getJvmTypeDefinition)
+            .collect(Collectors.joining());
+
+        context().getMethodVisitor().visitInvokeDynamicInsn(
+            functionalMethod.getName(),
+            "(" + capturedTypes + ")" + functionalInterface.getJvmTypeDefinition(),
+            METAFACTORY,
+            Type.getType(functionalMethod),
+            new Handle(H_INVOKESTATIC, classContext.getJvmTypeName(), implementationName, implementationSignature, false),
+            Type.getMethodType("(" + instantiatedTypes + ")" + Type.getReturnType(functionalMethod).getDescriptor())
+        );
+
+        context().popStack(captures.size());
+        context().pushStack(functionalInterface);
+
+        super.build();
+    }
+
+    private static Method findFunctionalMethod(Class<?> functionalInterface) {
+        if(!functionalInterface.isInterface())
+            throw new IllegalArgumentException("Type %s is not a functional interface.".formatted(functionalInterface.getName()));
+
+        //Abstract methods which redeclare public methods of Object, such as Comparator.equals, do not count
+        List<Method> abstractMethods = Arrays.stream(functionalInterface.getMethods())
+            .filter(method -> Modifier.isAbstract(method.getModifiers()))
+            .filter(method -> !isObjectMethod(method))
+            .collect(Collectors.toList());
+
+        if(abstractMethods.size() != 1)
+            throw new IllegalArgumentException("Type %s is not a functional interface.".formatted(functionalInterface.getName()));
+        return abstractMethods.get(0);
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        }
+        catch(NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
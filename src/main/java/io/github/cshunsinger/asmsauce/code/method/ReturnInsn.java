@@ -9,7 +9,8 @@ import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
 import static org.objectweb.asm.Opcodes.*;
 
 /**
- * Code builder which builds the bytecode to return from a method. Can return void or return a value.
+ * Code builder which builds the bytecode to return from a method. Can return void or return a value. The monitors of
+ * any enclosing synchronized blocks are exited before returning.
  */
 public class ReturnInsn extends CodeInsnBuilder {
     private final CodeInsnBuilderLike returnValueBuilder;
@@ -37,6 +38,7 @@ public class ReturnInsn extends CodeInsnBuilder {
 
         if(context().getCurrentMethod().getReturnType().isVoid()) {
             //If method is void method then return nothing
+            context().exitMonitors();
             context().getMethodVisitor().visitInsn(RETURN);
         }
         else /* Method being implemented here is not a void method */ {
@@ -46,6 +48,9 @@ public class ReturnInsn extends CodeInsnBuilder {
             //Implicit casting if necessary - either this will throw an exception, or typeStack.peek() will be equal to methodReturnType
             new ImplicitConversionInsn(context().getCurrentMethod().getReturnType()).build();
 
+            //Exit the monitors of any enclosing synchronized blocks, leaving the return value on the stack
+            context().exitMonitors();
+
             //Determine and write the correct return opcode based on the return type
             context().getMethodVisitor().visitInsn(retOpcode(context().popStack()));
         }
@@ -0,0 +1,160 @@
+package io.github.cshunsinger.asmsauce.code.method;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.NullConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.code.math.ConstantFolding;
+import io.github.cshunsinger.asmsauce.code.stack.StackObjectLiteralInsn;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import org.objectweb.asm.Handle;
+
+import java.lang.invoke.StringConcatFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
+
+/**
+ * Code builder for concatenating values into a String. The bytecode generated is the same as javac generates for the
+ * + operator on Strings: a single invokedynamic instruction which is linked by
+ * {@link StringConcatFactory#makeConcatWithConstants}. Constant values, such as String literals and constant primitive
+ * expressions, are folded into the concatenation recipe instead of being stacked at runtime.
+ */
+public class StringConcatInsn extends CodeInsnBuilder implements InvokableInstance, ConditionBuilderLike, NullConditionBuilderLike {
+    private static final Handle MAKE_CONCAT_WITH_CONSTANTS = new Handle(
+        H_INVOKESTATIC,
+        "java/lang/invoke/StringConcatFactory",
+        "makeConcatWithConstants",
+        "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;" +
+            "Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/invoke/CallSite;",
+        false
+    );
+    private static final TypeDefinition STRING = type(String.class);
+    private static final char TAG_ARG = '\u0001';
+    private static final char TAG_CONST = '\u0002';
+    private static final Object NOT_CONSTANT = new Object();
+    /**
+     * The maximum number of argument slots which a single concatenation call site can accept. Longs and doubles use
+     * 2 slots each.
+     */
+    private static final int MAX_SLOTS = 200;
+
+    private final List<CodeInsnBuilderLike> valueBuilders;
+
+    /**
+     * Creates a new code builder to concatenate the values stacked by a set of code builders into a String.
+     * @param valueBuilders The code builders which will each stack a value to concatenate.
+     * @throws IllegalArgumentException If any of the code builders are null.
+     */
+    public StringConcatInsn(CodeInsnBuilderLike... valueBuilders) {
+        if(Arrays.stream(valueBuilders).anyMatch(builder -> builder == null))
+            throw new IllegalArgumentException("Concatenated value builders cannot be null.");
+
+        this.valueBuilders = Arrays.stream(valueBuilders).map(CodeInsnBuilderLike::getFirstInStack).collect(Collectors.toList());
+    }
+
+    @Override
+    public void build() {
+        StringBuilder recipe = new StringBuilder();
+        StringBuilder constantText = new StringBuilder();
+        List<Object> constants = new ArrayList<>();
+        List<TypeDefinition> argumentTypes = new ArrayList<>();
+        int slots = 0;
+
+        for(CodeInsnBuilderLike valueBuilder : flattenValueBuilders()) {
+            Object constant = constantValue(valueBuilder);
+            if(constant != NOT_CONSTANT) {
+                String text = String.valueOf(constant);
+                constantText.append(text);
+                if(text.indexOf(TAG_ARG) >= 0 || text.indexOf(TAG_CONST) >= 0) {
+                    //Constants containing the tag characters must be passed as bootstrap arguments instead
+                    recipe.append(TAG_CONST);
+                    constants.add(text);
+                }
+                else
+                    recipe.append(text);
+                continue;
+            }
+
+            if(slots + 2 > MAX_SLOTS) {
+                //Concatenate everything so far into a String which becomes the first argument of the next call site
+                buildConcat(recipe.toString(), constants, argumentTypes);
+                recipe.setLength(0);
+                recipe.append(TAG_ARG);
+                constants.clear();
+                argumentTypes.clear();
+                argumentTypes.add(STRING);
+                slots = 1;
+            }
+
+            int preStackCount = context().stackSize();
+            valueBuilder.build();
+            int postStackCount = context().stackSize();
+
+            //Make sure each code builder adds exactly 1 element to the stack
+            if(postStackCount != preStackCount+1)
+                throw new IllegalStateException("Code builder expected to add 1 element to the stack. Instead %d elements were added.".formatted(postStackCount-preStackCount));
+
+            TypeDefinition argumentType = context().peekStack();
+            recipe.append(TAG_ARG);
+            argumentTypes.add(argumentType);
+            slots += argumentType.getType() == long.class || argumentType.getType() == double.class ? 2 : 1;
+        }
+
+        if(argumentTypes.isEmpty()) {
+            //Every value is constant, so the entire String is a literal
+            context().getMethodVisitor().visitLdcInsn(constantText.toString());
+            context().pushStack(STRING);
+        }
+        else
+            buildConcat(recipe.toString(), constants, argumentTypes);
+
+        super.build();
+    }
+
+    private void buildConcat(String recipe, List<Object> constants, List<TypeDefinition> argumentTypes) {
+        String descriptor = argumentTypes.stream()
+            .map(TypeDefinition::getJvmTypeDefinition)
+            .collect(Collectors.joining("", "(", ")")) + STRING.getJvmTypeDefinition();
+
+        Object[] bootstrapArguments = new Object[constants.size() + 1];
+        bootstrapArguments[0] = recipe;
+        for(int i = 0; i < constants.size(); i++)
+            bootstrapArguments[i+1] = constants.get(i);
+
+        context().getMethodVisitor().visitInvokeDynamicInsn("makeConcatWithConstants", descriptor, MAKE_CONCAT_WITH_CONSTANTS, bootstrapArguments);
+        context().popStack(argumentTypes.size());
+        context().pushStack(STRING);
+    }
+
+    /**
+     * Nested concatenations which are not followed by any other code builder are merged into this concatenation, so
+     * that concat(concat(a, b), c) produces a single call site just like a + b + c.
+     */
+    private List<CodeInsnBuilderLike> flattenValueBuilders() {
+        List<CodeInsnBuilderLike> flattened = new ArrayList<>();
+        for(CodeInsnBuilderLike valueBuilder : valueBuilders) {
+            if(valueBuilder instanceof StringConcatInsn && ((StringConcatInsn)valueBuilder).getNext() == null)
+                flattened.addAll(((StringConcatInsn)valueBuilder).flattenValueBuilders());
+            else
+                flattened.add(valueBuilder);
+        }
+        return flattened;
+    }
+
+    private static Object constantValue(CodeInsnBuilderLike valueBuilder) {
+        if(valueBuilder instanceof StackObjectLiteralInsn && ((StackObjectLiteralInsn)valueBuilder).getNext() == null) {
+            Object value = ((StackObjectLiteralInsn)valueBuilder).getValue();
+            if(value == null || value instanceof String)
+                return value;
+        }
+
+        Object value = ConstantFolding.constantValue(valueBuilder);
+        return value == null ? NOT_CONSTANT : value;
+    }
+}
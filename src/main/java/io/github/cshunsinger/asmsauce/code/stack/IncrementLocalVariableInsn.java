@@ -0,0 +1,68 @@
+package io.github.cshunsinger.asmsauce.code.stack;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import org.apache.commons.lang3.StringUtils;
+
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+
+/**
+ * This class is a code builder which generates the bytecode to increment an int local variable in place by a constant
+ * amount, without stacking the local variable. Equivalent to: i += amount;
+ */
+public class IncrementLocalVariableInsn extends CodeInsnBuilder {
+    private final int localIndex;
+    private final String localName;
+    private final int amount;
+
+    /**
+     * Increment a local variable at a specific index.
+     * @param localIndex The index of the int local variable to increment.
+     * @param amount The amount to increment by. This may be negative to decrement the local variable.
+     * @throws IllegalArgumentException If localIndex is negative.
+     * @throws IllegalArgumentException If amount is not between -32768 and 32767.
+     */
+    public IncrementLocalVariableInsn(int localIndex, int amount) {
+        this(null, localIndex, amount);
+
+        if(localIndex < 0)
+            throw new IllegalArgumentException("localIndex cannot be negative.");
+    }
+
+    /**
+     * Increment a named local variable or parameter.
+     * @param localName The name of the int local variable to increment.
+     * @param amount The amount to increment by. This may be negative to decrement the local variable.
+     * @throws IllegalArgumentException If localName is null or empty/blank.
+     * @throws IllegalArgumentException If amount is not between -32768 and 32767.
+     */
+    public IncrementLocalVariableInsn(String localName, int amount) {
+        this(localName, -1, amount);
+
+        if(StringUtils.trimToNull(localName) == null)
+            throw new IllegalArgumentException("localName cannot be null or empty.");
+    }
+
+    private IncrementLocalVariableInsn(String localName, int localIndex, int amount) {
+        if(amount < Short.MIN_VALUE || amount > Short.MAX_VALUE)
+            throw new IllegalArgumentException("Increment amount must be between %d and %d.".formatted(Short.MIN_VALUE, Short.MAX_VALUE));
+
+        this.localName = localName;
+        this.localIndex = localIndex;
+        this.amount = amount;
+    }
+
+    @Override
+    public void build() {
+        int index = localName == null ? localIndex : context().getLocalIndex(localName);
+        if(index >= context().numLocals())
+            throw new IllegalStateException("Trying to access local variable at index " + index + " when only " + context().numLocals() + " exists.");
+
+        TypeDefinition type = context().getLocalType(index);
+        if(type.getType() != int.class)
+            throw new IllegalStateException("Only int local variables can be incremented. Found type %s instead.".formatted(type.getType().getName()));
+
+        context().getMethodVisitor().visitIincInsn(index, amount);
+        super.build();
+    }
+}
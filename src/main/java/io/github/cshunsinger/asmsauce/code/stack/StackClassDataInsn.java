@@ -0,0 +1,93 @@
+package io.github.cshunsinger.asmsauce.code.stack;
+
+import io.github.cshunsinger.asmsauce.DynamicClassLoader;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.array.AccessibleArrayLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.NullConditionBuilderLike;
+import io.github.cshunsinger.asmsauce.code.field.FieldAccessibleInstance;
+import io.github.cshunsinger.asmsauce.code.field.FieldAssignableInstance;
+import io.github.cshunsinger.asmsauce.code.math.MathOperandInstance;
+import io.github.cshunsinger.asmsauce.code.method.InvokableInstance;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+import org.apache.commons.lang3.ClassUtils;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Handle;
+
+import java.lang.reflect.Modifier;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
+import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
+import static io.github.cshunsinger.asmsauce.util.AsmUtils.jvmClassname;
+import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
+
+/**
+ * Bytecode builder instruction for stacking a live object which is embedded into the class being generated. The object
+ * is loaded with an ldc of a dynamic constant, which is resolved once from the class data of the generated class. The
+ * JIT treats the loaded object as a true constant, and can fold through its final fields.
+ */
+public class StackClassDataInsn extends CodeInsnBuilder implements
+    InvokableInstance, FieldAccessibleInstance, FieldAssignableInstance, MathOperandInstance,
+    ConditionBuilderLike, NullConditionBuilderLike, AccessibleArrayLike {
+    private static final Handle CLASS_DATA_BOOTSTRAP = new Handle(
+        H_INVOKESTATIC,
+        jvmClassname(DynamicClassLoader.class),
+        "classData",
+        "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;I)Ljava/lang/Object;",
+        false
+    );
+
+    private final Object value;
+    private final TypeDefinition valueType;
+
+    /**
+     * Creates an instance that will stack a live object. The stacked type is the class of the object if that class is
+     * public and not hidden, otherwise Object.
+     * @param value The object to stack.
+     * @throws IllegalArgumentException If value is null.
+     */
+    public StackClassDataInsn(Object value) {
+        this(value, value == null ? null : defaultType(value.getClass()));
+    }
+
+    /**
+     * Creates an instance that will stack a live object as a given type.
+     * @param value The object to stack.
+     * @param valueType The type to stack the object as. This can be a primitive type if value is the matching wrapper.
+     * @throws IllegalArgumentException If value or valueType is null.
+     * @throws IllegalArgumentException If value is not assignable to valueType.
+     */
+    public StackClassDataInsn(Object value, Class<?> valueType) {
+        if(value == null)
+            throw new IllegalArgumentException("Class data value cannot be null.");
+        if(valueType == null)
+            throw new IllegalArgumentException("Class data type cannot be null.");
+        if(!ClassUtils.isAssignable(value.getClass(), valueType, true)) {
+            throw new IllegalArgumentException("Class data value of type %s is not assignable to type %s.".formatted(
+                value.getClass().getName(), valueType.getName()
+            ));
+        }
+
+        this.value = value;
+        this.valueType = type(valueType);
+    }
+
+    @Override
+    public void build() {
+        int index = context().getClassContext().addClassData(value);
+        context().getMethodVisitor().visitLdcInsn(new ConstantDynamic(
+            "classData",
+            valueType.getJvmTypeDefinition(),
+            CLASS_DATA_BOOTSTRAP,
+            index
+        ));
+        context().pushStack(valueType);
+
+        super.build();
+    }
+
+    private static Class<?> defaultType(Class<?> valueClass) {
+        //The type of a dynamic constant must be nameable from the generated class
+        return Modifier.isPublic(valueClass.getModifiers()) && !valueClass.isHidden() ? valueClass : Object.class;
+    }
+}
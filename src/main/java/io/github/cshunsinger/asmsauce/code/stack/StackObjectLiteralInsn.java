@@ -41,6 +41,14 @@ public class StackObjectLiteralInsn extends CodeInsnBuilder implements
         this.objValue = objValue;
     }
 
+    /**
+     * Gets the literal value stacked by this instruction.
+     * @return The literal String or Class value, or null if this instruction stacks a null literal.
+     */
+    public Object getValue() {
+        return objValue;
+    }
+
     @Override
     public void build() {
         if(objValue == null) {
@@ -1,9 +1,11 @@
 package io.github.cshunsinger.asmsauce.code.stack;
 
 import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
 import io.github.cshunsinger.asmsauce.code.branch.condition.BooleanConditionBuilderLike;
 import io.github.cshunsinger.asmsauce.code.branch.condition.ConditionBuilderLike;
 import io.github.cshunsinger.asmsauce.code.math.MathOperandInstance;
+import io.github.cshunsinger.asmsauce.code.math.MathOperationInsn;
 
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.type;
 import static io.github.cshunsinger.asmsauce.MethodBuildingContext.context;
@@ -107,8 +109,76 @@ public class StackPrimitiveLiteralInsn extends CodeInsnBuilder implements
         this.primitiveType = BOOL_PRIM;
     }
 
+    /**
+     * Creates a literal instruction from a boxed primitive value.
+     * @param value The boxed primitive value to stack.
+     * @return A new literal instruction which stacks the given value.
+     * @throws IllegalArgumentException If value is not a boxed primitive.
+     */
+    public static StackPrimitiveLiteralInsn fromValue(Object value) {
+        if(value instanceof Byte)
+            return new StackPrimitiveLiteralInsn((byte)value);
+        else if(value instanceof Short)
+            return new StackPrimitiveLiteralInsn((short)value);
+        else if(value instanceof Character)
+            return new StackPrimitiveLiteralInsn((char)value);
+        else if(value instanceof Integer)
+            return new StackPrimitiveLiteralInsn((int)value);
+        else if(value instanceof Long)
+            return new StackPrimitiveLiteralInsn((long)value);
+        else if(value instanceof Float)
+            return new StackPrimitiveLiteralInsn((float)value);
+        else if(value instanceof Double)
+            return new StackPrimitiveLiteralInsn((double)value);
+        else if(value instanceof Boolean)
+            return new StackPrimitiveLiteralInsn((boolean)value);
+        else
+            throw new IllegalArgumentException("Value must be a boxed primitive.");
+    }
+
+    /**
+     * Gets the literal value stacked by this instruction.
+     * @return The literal value, boxed into its wrapper type.
+     */
+    public Object getValue() {
+        return switch(primitiveType) {
+            case B_PRIM -> b;
+            case S_PRIM -> s;
+            case C_PRIM -> c;
+            case I_PRIM -> i;
+            case L_PRIM -> l;
+            case F_PRIM -> f;
+            case D_PRIM -> d;
+            default -> bool;
+        };
+    }
+
     @Override
     public void build() {
+        //Fold any math operations chained onto this literal whose operands are constant as well
+        Object value = getValue();
+        CodeInsnBuilderLike next = getNext();
+        while(next instanceof MathOperationInsn) {
+            MathOperationInsn operation = (MathOperationInsn)next;
+            Object foldedValue = operation.foldConstant(value);
+            if(foldedValue == null)
+                break;
+
+            value = foldedValue;
+            next = operation.getNext();
+        }
+
+        if(next == getNext())
+            stackLiteral();
+        else
+            fromValue(value).stackLiteral();
+
+        //Build whatever comes after the folded operations
+        if(next != null)
+            next.build();
+    }
+
+    private void stackLiteral() {
         switch(primitiveType) {
             case B_PRIM -> {
                 context().getMethodVisitor().visitLdcInsn(b);
@@ -143,7 +213,5 @@ public class StackPrimitiveLiteralInsn extends CodeInsnBuilder implements
                 context().pushStack(type(boolean.class));
             }
         }
-
-        super.build();
     }
 }
\ No newline at end of file
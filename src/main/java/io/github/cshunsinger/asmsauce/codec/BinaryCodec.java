@@ -0,0 +1,224 @@
+package io.github.cshunsinger.asmsauce.codec;
+
+import java.io.*;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes instances of a class to a binary format and reads them back, without reflection. The codec of each class is
+ * generated once, the first time it is requested, and cached with the class.
+ *
+ * The encoded fields are the public, non-static, non-final, non-transient fields of the class, including those inherited
+ * from its superclasses, in the order they are declared with superclass fields first. The generated codec writes each
+ * field with straight-line code: ints and longs as zigzag varints, other primitives in their fixed-size
+ * {@link DataOutput} encodings, Strings as a varint length followed by UTF-8 bytes, arrays as a varint length followed
+ * by their elements, and other classes through their own codecs. The nullness of every reference field is written up
+ * front in a bitmap, so null fields take up no more than a bit.
+ * @param <T> The type encoded by this codec.
+ */
+public abstract class BinaryCodec<T> {
+    private static final ClassValue<BinaryCodec<?>> CODECS = new ClassValue<>() {
+        @Override
+        protected BinaryCodec<?> computeValue(Class<?> type) {
+            return BinaryCodecGenerator.generateCodec(type);
+        }
+    };
+
+    private Class<?>[] nestedTypes;
+    private BinaryCodec<Object>[] nestedCodecs;
+
+    /**
+     * Creates a binary codec. Binary codecs are generated by {@link #forClass(Class)}.
+     */
+    protected BinaryCodec() {}
+
+    /**
+     * Gets the codec of a class, generating it if it has not been generated yet.
+     * @param type The class to encode.
+     * @param <T> The type to encode.
+     * @return The codec of the class.
+     * @throws IllegalArgumentException If type is null.
+     * @throws IllegalArgumentException If type is not a public class with a public constructor that takes no arguments.
+     * @throws IllegalStateException If a field of the class has a type which cannot be encoded.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BinaryCodec<T> forClass(Class<T> type) {
+        if(type == null)
+            throw new IllegalArgumentException("Type cannot be null.");
+        if(!isEncodableClass(type))
+            throw new IllegalArgumentException("Type %s must be a public class with a public no-argument constructor.".formatted(type.getName()));
+
+        return (BinaryCodec<T>)CODECS.get(type);
+    }
+
+    static boolean isEncodableClass(Class<?> type) {
+        if(!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers()) || type.isInterface() ||
+            type.isArray() || type.isPrimitive() || type.isHidden() || type.isEnum())
+            return false;
+
+        try {
+            return Modifier.isPublic(type.getConstructor().getModifiers());
+        }
+        catch(NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void setNestedTypes(Class<?>[] nestedTypes) {
+        this.nestedTypes = nestedTypes;
+        this.nestedCodecs = new BinaryCodec[nestedTypes.length];
+    }
+
+    /**
+     * Writes a value.
+     * @param value The value to write.
+     * @param out The output to write the value to.
+     * @throws IOException If the output cannot be written to.
+     * @throws NullPointerException If value is null.
+     */
+    public abstract void write(T value, DataOutput out) throws IOException;
+
+    /**
+     * Reads a value which was written by {@link #write(Object, DataOutput)}.
+     * @param in The input to read the value from.
+     * @return The value read.
+     * @throws IOException If the input cannot be read from.
+     */
+    public abstract T read(DataInput in) throws IOException;
+
+    /**
+     * Writes a value into a new byte array.
+     * @param value The value to write.
+     * @return The encoded value.
+     */
+    public byte[] toBytes(T value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            write(value, new DataOutputStream(bytes));
+        }
+        catch(IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a value from a byte array which was created by {@link #toBytes(Object)}.
+     * @param bytes The encoded value.
+     * @return The value read.
+     * @throws UncheckedIOException If the byte array ends before the value does.
+     */
+    public T fromBytes(byte[] bytes) {
+        try {
+            return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        }
+        catch(IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Called by the generated codec to get the codec of the type of a field. The codec is looked up the first time it
+     * is used rather than when this codec is generated, so that a class can have a field of its own type.
+     * @param index The index of the nested type.
+     * @return The codec of the nested type.
+     */
+    @SuppressWarnings("unchecked")
+    protected BinaryCodec<Object> codec(int index) {
+        BinaryCodec<Object> codec = nestedCodecs[index];
+        if(codec == null) {
+            codec = (BinaryCodec<Object>)forClass(nestedTypes[index]);
+            nestedCodecs[index] = codec;
+        }
+        return codec;
+    }
+
+    /**
+     * Writes an int as a zigzag varint, which takes up fewer bytes the closer the int is to zero.
+     * @param out The output to write to.
+     * @param value The int to write.
+     * @throws IOException If the output cannot be written to.
+     */
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        int zigzag = (value << 1) ^ (value >> 31);
+        while((zigzag & ~0x7F) != 0) {
+            out.writeByte((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        out.writeByte(zigzag);
+    }
+
+    /**
+     * Reads an int written by {@link #writeVarInt(DataOutput, int)}.
+     * @param in The input to read from.
+     * @return The int read.
+     * @throws IOException If the input cannot be read from.
+     */
+    public static int readVarInt(DataInput in) throws IOException {
+        int zigzag = 0;
+        for(int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigzag |= (b & 0x7F) << shift;
+            if((b & 0x80) == 0)
+                break;
+        }
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    /**
+     * Writes a long as a zigzag varint, which takes up fewer bytes the closer the long is to zero.
+     * @param out The output to write to.
+     * @param value The long to write.
+     * @throws IOException If the output cannot be written to.
+     */
+    public static void writeVarLong(DataOutput out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int)(zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        out.writeByte((int)zigzag);
+    }
+
+    /**
+     * Reads a long written by {@link #writeVarLong(DataOutput, long)}.
+     * @param in The input to read from.
+     * @return The long read.
+     * @throws IOException If the input cannot be read from.
+     */
+    public static long readVarLong(DataInput in) throws IOException {
+        long zigzag = 0;
+        for(int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigzag |= (long)(b & 0x7F) << shift;
+            if((b & 0x80) == 0)
+                break;
+        }
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    /**
+     * Writes a String as a varint length followed by its UTF-8 bytes.
+     * @param out The output to write to.
+     * @param value The String to write.
+     * @throws IOException If the output cannot be written to.
+     */
+    public static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a String written by {@link #writeString(DataOutput, String)}.
+     * @param in The input to read from.
+     * @return The String read.
+     * @throws IOException If the input cannot be read from.
+     */
+    public static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,280 @@
+package io.github.cshunsinger.asmsauce.codec;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.DynamicClassLoader;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.field.GetInstanceFieldInsn;
+import io.github.cshunsinger.asmsauce.code.stack.StackLocalVariableInsn;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+
+/**
+ * Generates the {@link BinaryCodec} of a class. The write method and the read method of the codec each handle every
+ * field in turn with straight-line code, looping only over the elements of arrays.
+ */
+class BinaryCodecGenerator {
+    private static final int NULL_BITMAP_SIZE = 8;
+    /**
+     * The DataOutput and DataInput method suffixes of the primitives which are written in their fixed-size encodings.
+     */
+    private static final Map<Class<?>, String> FIXED_SIZE_PRIMITIVES = Map.of(
+        boolean.class, "Boolean",
+        byte.class, "Byte",
+        short.class, "Short",
+        char.class, "Char",
+        float.class, "Float",
+        double.class, "Double"
+    );
+
+    private final Class<?> type;
+    private final List<Field> fields;
+    private final List<Field> nullableFields;
+    private final List<Class<?>> nestedTypes = new ArrayList<>();
+    private int localCount;
+
+    private BinaryCodecGenerator(Class<?> type) {
+        this.type = type;
+        this.fields = findFields(type);
+        this.nullableFields = fields.stream().filter(field -> !field.getType().isPrimitive()).collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> BinaryCodec<T> generateCodec(Class<T> type) {
+        BinaryCodecGenerator generator = new BinaryCodecGenerator(type);
+
+        ClassLoader classLoader = DynamicClassLoader.parentFor(type);
+        BinaryCodec<T> codec = new AsmClassBuilder<>(classLoader, (Class<BinaryCodec<T>>)(Class<?>)BinaryCodec.class)
+            .withMethod(method(publicOnly(), name("write"), parameters(p("value", Object.class), p("out", DataOutput.class)), voidType(),
+                generator.writeMethodBody()
+            ))
+            .withMethod(method(publicOnly(), name("read"), parameters(p("in", DataInput.class)), type(Object.class),
+                generator.readMethodBody()
+            ))
+            .buildInstance();
+
+        codec.setNestedTypes(generator.nestedTypes.toArray(Class[]::new));
+        return codec;
+    }
+
+    private static List<Field> findFields(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for(Class<?> cls = type; cls != null; cls = cls.getSuperclass())
+            hierarchy.add(0, cls);
+
+        List<Field> fields = new ArrayList<>();
+        for(Class<?> cls : hierarchy) {
+            if(!Modifier.isPublic(cls.getModifiers()))
+                continue;
+            for(Field field : cls.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if(!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) ||
+                    Modifier.isTransient(modifiers) || field.isSynthetic())
+                    continue;
+                if(!isEncodable(field.getType()))
+                    throw new IllegalStateException("Cannot encode field %s of type %s.".formatted(field.getName(), field.getType().getName()));
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static boolean isEncodable(Class<?> type) {
+        if(type.isPrimitive() || ClassUtils.isPrimitiveWrapper(type) || type == String.class)
+            return true;
+        if(type.isArray())
+            return isEncodable(type.getComponentType());
+        return BinaryCodec.isEncodableClass(type) && !type.getName().startsWith("java.");
+    }
+
+    private CodeInsnBuilderLike[] writeMethodBody() {
+        List<CodeInsnBuilderLike> body = new ArrayList<>();
+        body.add(setVar("instance", cast(type, getVar("value"))));
+
+        //The null bitmap, one byte for every 8 reference fields
+        for(int i = 0; i < nullableFields.size(); i++) {
+            String bitmap = "nulls" + i / NULL_BITMAP_SIZE;
+            if(i % NULL_BITMAP_SIZE == 0)
+                body.add(setVar(bitmap, literal(0)));
+            body.add(if_(readField(nullableFields.get(i)).isNotNull()).then(
+                setVar(bitmap, getVar(bitmap).or(literal(1 << (i % NULL_BITMAP_SIZE))))
+            ));
+            if(i % NULL_BITMAP_SIZE == NULL_BITMAP_SIZE - 1 || i == nullableFields.size() - 1)
+                body.add(writeFixedSize(byte.class, getVar(bitmap)));
+        }
+
+        for(Field field : fields) {
+            List<CodeInsnBuilderLike> writeField = write(field.getType(), readField(field));
+            if(field.getType().isPrimitive())
+                body.addAll(writeField);
+            else
+                body.add(if_(readField(field).isNotNull()).then(writeField.toArray(CodeInsnBuilderLike[]::new)));
+        }
+
+        body.add(returnVoid());
+        return body.toArray(CodeInsnBuilderLike[]::new);
+    }
+
+    private CodeInsnBuilderLike[] readMethodBody() {
+        List<CodeInsnBuilderLike> body = new ArrayList<>();
+        body.add(setVar("instance", instantiate(type)));
+
+        for(int i = 0; i < nullableFields.size(); i += NULL_BITMAP_SIZE)
+            body.add(setVar("nulls" + i / NULL_BITMAP_SIZE, getVar("in").invoke("readUnsignedByte")));
+
+        for(Field field : fields) {
+            Function<CodeInsnBuilderLike, CodeInsnBuilderLike> assignField = value ->
+                getVar("instance").assignField(type(field.getDeclaringClass()), name(field.getName()), type(field.getType()), value);
+            List<CodeInsnBuilderLike> readField = read(field.getType(), assignField);
+
+            int nullableIndex = nullableFields.indexOf(field);
+            if(nullableIndex < 0)
+                body.addAll(readField);
+            else {
+                StackLocalVariableInsn bitmap = getVar("nulls" + nullableIndex / NULL_BITMAP_SIZE);
+                body.add(if_(bitmap.and(literal(1 << (nullableIndex % NULL_BITMAP_SIZE))).ne(literal(0))).then(
+                    readField.toArray(CodeInsnBuilderLike[]::new)
+                ));
+            }
+        }
+
+        body.add(returnValue(getVar("instance")));
+        return body.toArray(CodeInsnBuilderLike[]::new);
+    }
+
+    private GetInstanceFieldInsn readField(Field field) {
+        return getVar("instance").getField(type(field.getDeclaringClass()), name(field.getName()), type(field.getType()));
+    }
+
+    /**
+     * Creates the code builders which write a non-null value of a type to the "out" parameter.
+     */
+    private List<CodeInsnBuilderLike> write(Class<?> valueType, CodeInsnBuilderLike value) {
+        if(valueType.isPrimitive()) {
+            if(valueType == int.class)
+                return List.of(invokeStatic(BinaryCodec.class, "writeVarInt", getVar("out"), value));
+            if(valueType == long.class)
+                return List.of(invokeStatic(BinaryCodec.class, "writeVarLong", getVar("out"), value));
+            return List.of(writeFixedSize(valueType, value));
+        }
+        if(ClassUtils.isPrimitiveWrapper(valueType)) {
+            Class<?> primitive = ClassUtils.wrapperToPrimitive(valueType);
+            return write(primitive, cast(primitive, value));
+        }
+        if(valueType == String.class)
+            return List.of(invokeStatic(BinaryCodec.class, "writeString", getVar("out"), value));
+        if(valueType.isArray())
+            return writeArray(valueType.getComponentType(), value);
+
+        return List.of(this_().invoke("codec", literal(nestedTypeIndex(valueType))).invoke("write", value, getVar("out")));
+    }
+
+    /**
+     * Creates the code builder which writes a primitive in its fixed-size encoding. The DataOutput method is looked up
+     * by its parameter type, since bytes, shorts, and chars are written by methods which take an int.
+     */
+    private static CodeInsnBuilderLike writeFixedSize(Class<?> primitive, CodeInsnBuilderLike value) {
+        String methodName = "write" + FIXED_SIZE_PRIMITIVES.get(primitive);
+        Class<?> parameterType = primitive == boolean.class || primitive == float.class || primitive == double.class ? primitive : int.class;
+        try {
+            return getVar("out").invoke(DataOutput.class, DataOutput.class.getMethod(methodName, parameterType), value);
+        }
+        catch(NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Creates the code builders which write the length of an array and then each of its elements. A reference element
+     * is preceded by a boolean which is false if the element is null.
+     */
+    private List<CodeInsnBuilderLike> writeArray(Class<?> componentType, CodeInsnBuilderLike value) {
+        int local = localCount++;
+        String array = "array" + local;
+        String index = "index" + local;
+
+        CodeInsnBuilderLike[] writeElement;
+        if(componentType.isPrimitive())
+            writeElement = write(componentType, getVar(array).get(getVar(index))).toArray(CodeInsnBuilderLike[]::new);
+        else {
+            List<CodeInsnBuilderLike> writePresentElement = new ArrayList<>();
+            writePresentElement.add(writeFixedSize(boolean.class, literal(true)));
+            writePresentElement.addAll(write(componentType, getVar(array).get(getVar(index))));
+            writeElement = new CodeInsnBuilderLike[] {
+                if_(getVar(array).get(getVar(index)).isNotNull())
+                    .then(writePresentElement.toArray(CodeInsnBuilderLike[]::new))
+                    .elseDo(writeFixedSize(boolean.class, literal(false)))
+            };
+        }
+
+        return List.of(
+            setVar(array, value),
+            invokeStatic(BinaryCodec.class, "writeVarInt", getVar("out"), getVar(array).length()),
+            forRange(index, literal(0), getVar(array).length(), 1).do_(writeElement)
+        );
+    }
+
+    /**
+     * Creates the code builders which read a non-null value of a type from the "in" parameter.
+     * @param store Creates the code builder which stores the value read.
+     */
+    private List<CodeInsnBuilderLike> read(Class<?> valueType, Function<CodeInsnBuilderLike, CodeInsnBuilderLike> store) {
+        if(valueType.isPrimitive()) {
+            if(valueType == int.class)
+                return List.of(store.apply(invokeStatic(BinaryCodec.class, "readVarInt", getVar("in"))));
+            if(valueType == long.class)
+                return List.of(store.apply(invokeStatic(BinaryCodec.class, "readVarLong", getVar("in"))));
+            return List.of(store.apply(getVar("in").invoke("read" + FIXED_SIZE_PRIMITIVES.get(valueType))));
+        }
+        if(ClassUtils.isPrimitiveWrapper(valueType))
+            return read(ClassUtils.wrapperToPrimitive(valueType), value -> store.apply(cast(valueType, value)));
+        if(valueType == String.class)
+            return List.of(store.apply(invokeStatic(BinaryCodec.class, "readString", getVar("in"))));
+        if(valueType.isArray())
+            return readArray(valueType.getComponentType(), store);
+
+        CodeInsnBuilderLike nested = this_().invoke("codec", literal(nestedTypeIndex(valueType))).invoke("read", getVar("in"));
+        return List.of(store.apply(cast(valueType, nested)));
+    }
+
+    private List<CodeInsnBuilderLike> readArray(Class<?> componentType, Function<CodeInsnBuilderLike, CodeInsnBuilderLike> store) {
+        int local = localCount++;
+        String array = "array" + local;
+        String index = "index" + local;
+
+        List<CodeInsnBuilderLike> readElement = read(componentType, value -> getVar(array).set(getVar(index), value));
+        CodeInsnBuilderLike[] elementBody = componentType.isPrimitive() ?
+            readElement.toArray(CodeInsnBuilderLike[]::new) :
+            new CodeInsnBuilderLike[] {
+                if_(getVar("in").invoke("readBoolean").isTrue()).then(readElement.toArray(CodeInsnBuilderLike[]::new))
+            };
+
+        return List.of(
+            setVar(array, newArray(componentType, invokeStatic(BinaryCodec.class, "readVarInt", getVar("in")))),
+            forRange(index, literal(0), getVar(array).length(), 1).do_(elementBody),
+            store.apply(getVar(array))
+        );
+    }
+
+    private int nestedTypeIndex(Class<?> nestedType) {
+        int index = nestedTypes.indexOf(nestedType);
+        if(index < 0) {
+            index = nestedTypes.size();
+            nestedTypes.add(nestedType);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.code.CodeBuilders;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.math.MathOperandInstance;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An arithmetic operation on two numeric values. Both operands are unboxed and converted to their promoted type, and
+ * the operation is performed with the primitive instruction for that type.
+ */
+class ArithmeticExpression extends Expression {
+    enum Operator {ADD, SUB, MUL, DIV, MOD}
+
+    private final Operator operator;
+    private final Expression left;
+    private final Expression right;
+
+    ArithmeticExpression(Operator operator, Expression left, Expression right) {
+        if(left == null || right == null)
+            throw new IllegalArgumentException("Operand expressions cannot be null.");
+
+        this.operator = operator;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    Class<?> type(Class<?>[] parameterTypes) {
+        return promotedType(left.type(parameterTypes), right.type(parameterTypes));
+    }
+
+    @Override
+    CodeInsnBuilderLike value(Class<?>[] parameterTypes) {
+        Class<?> type = type(parameterTypes);
+        MathOperandInstance first = CodeBuilders.cast(type, convert(left.value(parameterTypes), left.type(parameterTypes), type));
+        CodeInsnBuilderLike second = convert(right.value(parameterTypes), right.type(parameterTypes), type);
+
+        return switch(operator) {
+            case ADD -> first.add(second);
+            case SUB -> first.sub(second);
+            case MUL -> first.mul(second);
+            case DIV -> first.div(second);
+            case MOD -> first.mod(second);
+        };
+    }
+
+    @Override
+    Expression shape(List<Object> constants) {
+        return new ArithmeticExpression(operator, left.shape(constants), right.shape(constants));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(!(other instanceof ArithmeticExpression))
+            return false;
+
+        ArithmeticExpression otherArithmetic = (ArithmeticExpression)other;
+        return otherArithmetic.operator == operator && otherArithmetic.left.equals(left) && otherArithmetic.right.equals(right);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, left, right);
+    }
+}
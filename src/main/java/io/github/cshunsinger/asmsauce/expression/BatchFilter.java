@@ -0,0 +1,96 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeBuilders;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+
+/**
+ * Filters batches of rows stored as primitive array columns. A filter is compiled from a boolean {@link Expression} in
+ * which {@link Expression#parameter(int)} refers to the value of a column in the current row.
+ *
+ * The compiled filter is a single generated loop over the rows of the batch. For each row, the column values are loaded
+ * from the arrays and the predicate is evaluated with primitive comparisons and short-circuiting branches, without
+ * virtual calls or boxing, and the index of each matching row is written to a selection vector.
+ *
+ * Filter classes are cached the same way as the functions of {@link ExpressionCompiler}: by the shape of the predicate
+ * and the column types, with the constants of the predicate stored in fields of each filter. The cache is never
+ * evicted, so it grows with the number of distinct predicate shapes compiled, but not with their constant values.
+ */
+public abstract class BatchFilter {
+    /**
+     * Creates a batch filter. Batch filters are generated by {@link #compile(Expression, Class[])}.
+     */
+    protected BatchFilter() {}
+
+    /**
+     * Compiles a predicate into a batch filter. The class generated for the shape of the predicate is reused if a
+     * predicate of the same shape was compiled before with the same column types.
+     * @param predicate The boolean expression which selects rows. Parameter i of the expression is the value of column i.
+     * @param columnTypes The array types of the columns, each of which must be int[], long[], or double[].
+     * @return The compiled filter.
+     * @throws IllegalArgumentException If predicate is null.
+     * @throws IllegalArgumentException If no column types are given, or if a column type is not int[], long[], or
+     * double[].
+     * @throws IllegalStateException If the predicate is not a boolean expression of the column values.
+     */
+    public static BatchFilter compile(Expression predicate, Class<?>... columnTypes) {
+        if(predicate == null)
+            throw new IllegalArgumentException("Predicate cannot be null.");
+        if(columnTypes == null || columnTypes.length == 0)
+            throw new IllegalArgumentException("At least one column type must be given.");
+        for(Class<?> columnType : columnTypes) {
+            if(columnType != int[].class && columnType != long[].class && columnType != double[].class) {
+                throw new IllegalArgumentException("Column type %s must be int[], long[], or double[].".formatted(
+                    columnType == null ? "null" : columnType.getName()
+                ));
+            }
+        }
+
+        return ExpressionCompiler.instantiate(BatchFilter.class, predicate, List.of(columnTypes),
+            shape -> generateFilter(shape, columnTypes)
+        );
+    }
+
+    /**
+     * Writes the indexes of the rows which match the predicate into a selection vector, in ascending order.
+     * @param columns The column arrays, in the order of the column types the filter was compiled with. Each array must
+     *                have at least rowCount elements.
+     * @param rowCount The number of rows in the batch.
+     * @param selection The selection vector to write matching row indexes to. This must have room for rowCount indexes.
+     * @return The number of matching rows, which is the number of indexes written to the selection vector.
+     */
+    public abstract int filter(Object[] columns, int rowCount, int[] selection);
+
+    private static AsmClassBuilder<BatchFilter> generateFilter(Expression predicate, Class<?>[] columnTypes) {
+        Class<?>[] valueTypes = new Class<?>[columnTypes.length];
+        List<CodeInsnBuilderLike> body = new ArrayList<>();
+        List<CodeInsnBuilderLike> loopBody = new ArrayList<>();
+        for(int i = 0; i < columnTypes.length; i++) {
+            valueTypes[i] = columnTypes[i].getComponentType();
+            body.add(setVar("column" + i, CodeBuilders.cast(columnTypes[i], getVar("columns").get(literal(i)))));
+            loopBody.add(setVar(ExpressionCompiler.parameterName(i), getVar("column" + i).get(getVar("row"))));
+        }
+
+        loopBody.add(if_(predicate.condition(valueTypes)).then(
+            getVar("selection").set(getVar("count"), getVar("row")),
+            incVar("count", 1)
+        ));
+        body.add(setVar("count", literal(0)));
+        body.add(forRange("row", literal(0), getVar("rowCount"), 1).do_(loopBody.toArray(CodeInsnBuilderLike[]::new)));
+        body.add(returnValue(getVar("count")));
+
+        return new AsmClassBuilder<>(BatchFilter.class.getClassLoader(), BatchFilter.class, BatchFilter.class, List.of(), publicOnly())
+            .withMethod(method(publicOnly(), name("filter"),
+                parameters(p("columns", Object[].class), p("rowCount", int.class), p("selection", int[].class)), type(int.class),
+                body.toArray(CodeInsnBuilderLike[]::new)
+            ));
+    }
+}
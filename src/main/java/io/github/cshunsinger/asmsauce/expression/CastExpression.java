@@ -0,0 +1,54 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Converts a numeric value to a primitive numeric type, as a Java cast would.
+ */
+class CastExpression extends Expression {
+    private final Class<?> type;
+    private final Expression operand;
+
+    CastExpression(Class<?> type, Expression operand) {
+        if(type == null || !type.isPrimitive() || type == boolean.class || type == void.class)
+            throw new IllegalArgumentException("Cast type must be a primitive numeric type.");
+        if(operand == null)
+            throw new IllegalArgumentException("Operand expression cannot be null.");
+
+        this.type = type;
+        this.operand = operand;
+    }
+
+    @Override
+    Class<?> type(Class<?>[] parameterTypes) {
+        numericType(operand.type(parameterTypes));
+        return type;
+    }
+
+    @Override
+    CodeInsnBuilderLike value(Class<?>[] parameterTypes) {
+        return convert(operand.value(parameterTypes), operand.type(parameterTypes), type(parameterTypes));
+    }
+
+    @Override
+    Expression shape(List<Object> constants) {
+        return new CastExpression(type, operand.shape(constants));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(!(other instanceof CastExpression))
+            return false;
+
+        CastExpression otherCast = (CastExpression)other;
+        return otherCast.type == type && otherCast.operand.equals(operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, operand);
+    }
+}
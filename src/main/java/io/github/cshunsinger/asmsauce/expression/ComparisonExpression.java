@@ -0,0 +1,88 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.code.CodeBuilders;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.Condition;
+import io.github.cshunsinger.asmsauce.code.cast.ExplicitConversionInsn;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A comparison of two numeric values, converted to their promoted type, or an equality comparison of two boolean
+ * values.
+ */
+class ComparisonExpression extends Expression {
+    enum Operator {EQ, NE, LT, LE, GT, GE}
+
+    private final Operator operator;
+    private final Expression left;
+    private final Expression right;
+
+    ComparisonExpression(Operator operator, Expression left, Expression right) {
+        if(left == null || right == null)
+            throw new IllegalArgumentException("Operand expressions cannot be null.");
+
+        this.operator = operator;
+        this.left = left;
+        this.right = right;
+    }
+
+    private Class<?> operandType(Class<?>[] parameterTypes) {
+        Class<?> leftType = left.type(parameterTypes);
+        Class<?> rightType = right.type(parameterTypes);
+        if(isBoolean(leftType) && isBoolean(rightType) && (operator == Operator.EQ || operator == Operator.NE))
+            return boolean.class;
+        return promotedType(leftType, rightType);
+    }
+
+    private static boolean isBoolean(Class<?> type) {
+        return type == boolean.class || type == Boolean.class;
+    }
+
+    @Override
+    Class<?> type(Class<?>[] parameterTypes) {
+        operandType(parameterTypes);
+        return boolean.class;
+    }
+
+    @Override
+    CodeInsnBuilderLike value(Class<?>[] parameterTypes) {
+        return booleanValue(condition(parameterTypes));
+    }
+
+    @Override
+    Condition condition(Class<?>[] parameterTypes) {
+        Class<?> type = operandType(parameterTypes);
+        ExplicitConversionInsn first = CodeBuilders.cast(type, convert(left.value(parameterTypes), left.type(parameterTypes), type));
+        CodeInsnBuilderLike second = convert(right.value(parameterTypes), right.type(parameterTypes), type);
+
+        return switch(operator) {
+            case EQ -> first.eq(second);
+            case NE -> first.ne(second);
+            case LT -> first.lt(second);
+            case LE -> first.le(second);
+            case GT -> first.gt(second);
+            case GE -> first.ge(second);
+        };
+    }
+
+    @Override
+    Expression shape(List<Object> constants) {
+        return new ComparisonExpression(operator, left.shape(constants), right.shape(constants));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(!(other instanceof ComparisonExpression))
+            return false;
+
+        ComparisonExpression otherComparison = (ComparisonExpression)other;
+        return otherComparison.operator == operator && otherComparison.left.equals(left) && otherComparison.right.equals(right);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, left, right);
+    }
+}
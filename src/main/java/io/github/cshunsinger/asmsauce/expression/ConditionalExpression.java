@@ -0,0 +1,83 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.util.List;
+import java.util.Objects;
+
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.ternary;
+
+/**
+ * Chooses between two values depending on a boolean condition, compiled as a ternary. The type of the expression is
+ * the promoted type of the two values if both are numeric, or the type of the value which the other value can be
+ * assigned to otherwise.
+ */
+class ConditionalExpression extends Expression {
+    private final Expression condition;
+    private final Expression ifTrue;
+    private final Expression ifFalse;
+
+    ConditionalExpression(Expression condition, Expression ifTrue, Expression ifFalse) {
+        if(condition == null || ifTrue == null || ifFalse == null)
+            throw new IllegalArgumentException("Condition and value expressions cannot be null.");
+
+        this.condition = condition;
+        this.ifTrue = ifTrue;
+        this.ifFalse = ifFalse;
+    }
+
+    @Override
+    Class<?> type(Class<?>[] parameterTypes) {
+        requireBoolean(condition.type(parameterTypes));
+        Class<?> trueType = ifTrue.type(parameterTypes);
+        Class<?> falseType = ifFalse.type(parameterTypes);
+
+        if(trueType == falseType)
+            return trueType;
+        if(isNumeric(trueType) && isNumeric(falseType))
+            return promotedType(trueType, falseType);
+
+        Class<?> boxedTrueType = ClassUtils.primitiveToWrapper(trueType);
+        Class<?> boxedFalseType = ClassUtils.primitiveToWrapper(falseType);
+        if(boxedTrueType.isAssignableFrom(boxedFalseType))
+            return boxedTrueType;
+        if(boxedFalseType.isAssignableFrom(boxedTrueType))
+            return boxedFalseType;
+
+        throw new IllegalStateException("Cannot choose between values of type %s and %s.".formatted(trueType.getName(), falseType.getName()));
+    }
+
+    private static boolean isNumeric(Class<?> type) {
+        Class<?> primitive = type.isPrimitive() ? type : ClassUtils.wrapperToPrimitive(type);
+        return primitive != null && primitive != boolean.class && primitive != void.class;
+    }
+
+    @Override
+    CodeInsnBuilderLike value(Class<?>[] parameterTypes) {
+        Class<?> type = type(parameterTypes);
+        return ternary(condition.condition(parameterTypes))
+            .thenCalculate(convert(ifTrue.value(parameterTypes), ifTrue.type(parameterTypes), type))
+            .elseCalculate(convert(ifFalse.value(parameterTypes), ifFalse.type(parameterTypes), type));
+    }
+
+    @Override
+    Expression shape(List<Object> constants) {
+        return new ConditionalExpression(condition.shape(constants), ifTrue.shape(constants), ifFalse.shape(constants));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(!(other instanceof ConditionalExpression))
+            return false;
+
+        ConditionalExpression otherConditional = (ConditionalExpression)other;
+        return otherConditional.condition.equals(condition) && otherConditional.ifTrue.equals(ifTrue) &&
+            otherConditional.ifFalse.equals(ifFalse);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(condition, ifTrue, ifFalse);
+    }
+}
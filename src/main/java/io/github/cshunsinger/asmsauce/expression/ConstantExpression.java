@@ -0,0 +1,54 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.literal;
+
+/**
+ * A primitive constant.
+ */
+class ConstantExpression extends Expression {
+    private final Object value;
+
+    ConstantExpression(Object value) {
+        this.value = value;
+    }
+
+    @Override
+    Class<?> type(Class<?>[] parameterTypes) {
+        return ClassUtils.wrapperToPrimitive(value.getClass());
+    }
+
+    @Override
+    CodeInsnBuilderLike value(Class<?>[] parameterTypes) {
+        if(value instanceof Integer)
+            return literal((int)value);
+        else if(value instanceof Long)
+            return literal((long)value);
+        else if(value instanceof Float)
+            return literal((float)value);
+        else if(value instanceof Double)
+            return literal((double)value);
+        else
+            return literal((boolean)value);
+    }
+
+    @Override
+    Expression shape(List<Object> constants) {
+        constants.add(value);
+        return new ConstantFieldExpression(constants.size() - 1, type(null));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ConstantExpression && ((ConstantExpression)other).value.equals(value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
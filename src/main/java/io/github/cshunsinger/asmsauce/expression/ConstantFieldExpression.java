@@ -0,0 +1,51 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+
+import java.util.List;
+import java.util.Objects;
+
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.this_;
+
+/**
+ * A read of a constant field of the compiled class, which replaces a constant in the shape of an expression. The value
+ * of the field is given to the constructor of the compiled class.
+ */
+class ConstantFieldExpression extends Expression {
+    private final int index;
+    private final Class<?> type;
+
+    ConstantFieldExpression(int index, Class<?> type) {
+        this.index = index;
+        this.type = type;
+    }
+
+    @Override
+    Class<?> type(Class<?>[] parameterTypes) {
+        return type;
+    }
+
+    @Override
+    CodeInsnBuilderLike value(Class<?>[] parameterTypes) {
+        return this_().getField(ExpressionCompiler.constantName(index));
+    }
+
+    @Override
+    Expression shape(List<Object> constants) {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(!(other instanceof ConstantFieldExpression))
+            return false;
+
+        ConstantFieldExpression otherConstant = (ConstantFieldExpression)other;
+        return otherConstant.index == index && otherConstant.type == type;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, type);
+    }
+}
@@ -0,0 +1,376 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.code.CodeBuilders;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.Condition;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.literal;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.ternary;
+
+/**
+ * A node of an expression tree, which can be compiled into a class implementing a functional interface by
+ * {@link ExpressionCompiler}. Expressions are immutable, and two expressions are equal if they have the same kinds of
+ * nodes, with the same operators, constants, parameter indices, and field names. Two expressions have the same shape if
+ * they are equal except for the values of their constants.
+ *
+ * Expressions are statically typed. The type of an expression is worked out from the types of the parameters of the
+ * function it is compiled into, so arithmetic and comparisons are compiled into primitive bytecode of the promoted
+ * operand type rather than through boxed values.
+ */
+public abstract class Expression {
+    Expression() {}
+
+    /**
+     * Creates an int constant.
+     * @param value The value.
+     * @return The constant expression.
+     */
+    public static Expression constant(int value) {
+        return new ConstantExpression(value);
+    }
+
+    /**
+     * Creates a long constant.
+     * @param value The value.
+     * @return The constant expression.
+     */
+    public static Expression constant(long value) {
+        return new ConstantExpression(value);
+    }
+
+    /**
+     * Creates a float constant.
+     * @param value The value.
+     * @return The constant expression.
+     */
+    public static Expression constant(float value) {
+        return new ConstantExpression(value);
+    }
+
+    /**
+     * Creates a double constant.
+     * @param value The value.
+     * @return The constant expression.
+     */
+    public static Expression constant(double value) {
+        return new ConstantExpression(value);
+    }
+
+    /**
+     * Creates a boolean constant.
+     * @param value The value.
+     * @return The constant expression.
+     */
+    public static Expression constant(boolean value) {
+        return new ConstantExpression(value);
+    }
+
+    /**
+     * Creates an expression which evaluates to one of the parameters of the function.
+     * @param index The index of the parameter.
+     * @return The parameter expression.
+     * @throws IllegalArgumentException If index is negative.
+     */
+    public static Expression parameter(int index) {
+        return new ParameterExpression(index);
+    }
+
+    /**
+     * Creates an expression which reads a public instance field.
+     * @param target The expression which evaluates to the object whose field is read.
+     * @param fieldName The name of the field.
+     * @return The field expression.
+     * @throws IllegalArgumentException If target is null, or if fieldName is null or empty.
+     */
+    public static Expression field(Expression target, String fieldName) {
+        return new FieldExpression(target, fieldName);
+    }
+
+    /**
+     * Creates an expression which converts a numeric value to another primitive numeric type.
+     * @param type The primitive numeric type to convert to.
+     * @param value The value to convert.
+     * @return The cast expression.
+     * @throws IllegalArgumentException If type is not a primitive numeric type, or if value is null.
+     */
+    public static Expression cast(Class<?> type, Expression value) {
+        return new CastExpression(type, value);
+    }
+
+    /**
+     * Creates an addition.
+     * @param left The first operand.
+     * @param right The second operand.
+     * @return The arithmetic expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression add(Expression left, Expression right) {
+        return new ArithmeticExpression(ArithmeticExpression.Operator.ADD, left, right);
+    }
+
+    /**
+     * Creates a subtraction.
+     * @param left The first operand.
+     * @param right The second operand.
+     * @return The arithmetic expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression sub(Expression left, Expression right) {
+        return new ArithmeticExpression(ArithmeticExpression.Operator.SUB, left, right);
+    }
+
+    /**
+     * Creates a multiplication.
+     * @param left The first operand.
+     * @param right The second operand.
+     * @return The arithmetic expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression mul(Expression left, Expression right) {
+        return new ArithmeticExpression(ArithmeticExpression.Operator.MUL, left, right);
+    }
+
+    /**
+     * Creates a division.
+     * @param left The first operand.
+     * @param right The second operand.
+     * @return The arithmetic expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression div(Expression left, Expression right) {
+        return new ArithmeticExpression(ArithmeticExpression.Operator.DIV, left, right);
+    }
+
+    /**
+     * Creates a remainder.
+     * @param left The first operand.
+     * @param right The second operand.
+     * @return The arithmetic expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression mod(Expression left, Expression right) {
+        return new ArithmeticExpression(ArithmeticExpression.Operator.MOD, left, right);
+    }
+
+    /**
+     * Creates an equality comparison of two numeric or two boolean values.
+     * @param left The first operand.
+     * @param right The second operand.
+     * @return The comparison expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression eq(Expression left, Expression right) {
+        return new ComparisonExpression(ComparisonExpression.Operator.EQ, left, right);
+    }
+
+    /**
+     * Creates an inequality comparison of two numeric or two boolean values.
+     * @param left The first operand.
+     * @param right The second operand.
+     * @return The comparison expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression ne(Expression left, Expression right) {
+        return new ComparisonExpression(ComparisonExpression.Operator.NE, left, right);
+    }
+
+    /**
+     * Creates a less-than comparison of two numeric values.
+     * @param left The first operand.
+     * @param right The second operand.
+     * @return The comparison expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression lt(Expression left, Expression right) {
+        return new ComparisonExpression(ComparisonExpression.Operator.LT, left, right);
+    }
+
+    /**
+     * Creates a less-than-or-equal comparison of two numeric values.
+     * @param left The first operand.
+     * @param right The second operand.
+     * @return The comparison expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression le(Expression left, Expression right) {
+        return new ComparisonExpression(ComparisonExpression.Operator.LE, left, right);
+    }
+
+    /**
+     * Creates a greater-than comparison of two numeric values.
+     * @param left The first operand.
+     * @param right The second operand.
+     * @return The comparison expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression gt(Expression left, Expression right) {
+        return new ComparisonExpression(ComparisonExpression.Operator.GT, left, right);
+    }
+
+    /**
+     * Creates a greater-than-or-equal comparison of two numeric values.
+     * @param left The first operand.
+     * @param right The second operand.
+     * @return The comparison expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression ge(Expression left, Expression right) {
+        return new ComparisonExpression(ComparisonExpression.Operator.GE, left, right);
+    }
+
+    /**
+     * Creates a short-circuiting AND of two boolean values.
+     * @param left The first operand, which is always evaluated.
+     * @param right The second operand, which is only evaluated if the first operand is true.
+     * @return The logical expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression and(Expression left, Expression right) {
+        return new LogicalExpression(true, left, right);
+    }
+
+    /**
+     * Creates a short-circuiting OR of two boolean values.
+     * @param left The first operand, which is always evaluated.
+     * @param right The second operand, which is only evaluated if the first operand is false.
+     * @return The logical expression.
+     * @throws IllegalArgumentException If either operand is null.
+     */
+    public static Expression or(Expression left, Expression right) {
+        return new LogicalExpression(false, left, right);
+    }
+
+    /**
+     * Creates the negation of a boolean value.
+     * @param operand The operand.
+     * @return The negated expression.
+     * @throws IllegalArgumentException If operand is null.
+     */
+    public static Expression not(Expression operand) {
+        return new NotExpression(operand);
+    }
+
+    /**
+     * Creates an expression which evaluates to one of two values depending on a boolean condition. Only the value
+     * chosen by the condition is evaluated.
+     * @param condition The condition.
+     * @param ifTrue The value of this expression when the condition is true.
+     * @param ifFalse The value of this expression when the condition is false.
+     * @return The conditional expression.
+     * @throws IllegalArgumentException If any of the expressions are null.
+     */
+    public static Expression conditional(Expression condition, Expression ifTrue, Expression ifFalse) {
+        return new ConditionalExpression(condition, ifTrue, ifFalse);
+    }
+
+    /**
+     * Works out the static type of this expression.
+     * @param parameterTypes The types of the parameters of the function being compiled.
+     * @return The type this expression evaluates to.
+     * @throws IllegalStateException If this expression cannot be typed.
+     */
+    abstract Class<?> type(Class<?>[] parameterTypes);
+
+    /**
+     * Creates the code builder which stacks the value of this expression.
+     * @param parameterTypes The types of the parameters of the function being compiled.
+     * @return The code builder.
+     * @throws IllegalStateException If this expression cannot be typed.
+     */
+    abstract CodeInsnBuilderLike value(Class<?>[] parameterTypes);
+
+    /**
+     * Creates the shape of this expression, which is a copy of it with each constant replaced by a read of a constant
+     * field of the compiled class. Expressions which differ only in the values of their constants have equal shapes.
+     * @param constants The list to add the values of the replaced constants to, in the order of their field indexes.
+     * @return The shape.
+     */
+    abstract Expression shape(List<Object> constants);
+
+    /**
+     * Creates the condition which branches on the value of this expression.
+     * @param parameterTypes The types of the parameters of the function being compiled.
+     * @return The condition.
+     * @throws IllegalStateException If this expression is not a boolean expression.
+     */
+    Condition condition(Class<?>[] parameterTypes) {
+        requireBoolean(type(parameterTypes));
+        return CodeBuilders.cast(boolean.class, value(parameterTypes)).isTrue();
+    }
+
+    /**
+     * Stacks true or false depending on a condition, for boolean expressions which are compiled as conditions.
+     */
+    static CodeInsnBuilderLike booleanValue(Condition condition) {
+        return ternary(condition).thenCalculate(literal(true)).elseCalculate(literal(false));
+    }
+
+    /**
+     * Checks that a type is boolean or Boolean.
+     * @throws IllegalStateException If type is not boolean.
+     */
+    static void requireBoolean(Class<?> type) {
+        if(type != boolean.class && type != Boolean.class)
+            throw new IllegalStateException("Expected a boolean expression, but found %s.".formatted(type.getName()));
+    }
+
+    /**
+     * Gets the primitive numeric type of a numeric primitive or wrapper type.
+     * @throws IllegalStateException If type is not numeric.
+     */
+    static Class<?> numericType(Class<?> type) {
+        Class<?> primitive = ClassUtils.wrapperToPrimitive(type);
+        if(type.isPrimitive())
+            primitive = type;
+        if(primitive == null || primitive == boolean.class || primitive == void.class)
+            throw new IllegalStateException("Expected a numeric expression, but found %s.".formatted(type.getName()));
+
+        return primitive;
+    }
+
+    /**
+     * Gets the type both operands of a binary numeric operation are converted to, as in Java.
+     * @throws IllegalStateException If either type is not numeric.
+     */
+    static Class<?> promotedType(Class<?> left, Class<?> right) {
+        Class<?> leftType = numericType(left);
+        Class<?> rightType = numericType(right);
+        if(leftType == double.class || rightType == double.class)
+            return double.class;
+        else if(leftType == float.class || rightType == float.class)
+            return float.class;
+        else if(leftType == long.class || rightType == long.class)
+            return long.class;
+        else
+            return int.class;
+    }
+
+    /**
+     * Converts a value from one type to another, unboxing, widening, narrowing, or boxing as needed.
+     * @throws IllegalStateException If a value of the from type cannot be converted to the to type.
+     */
+    static CodeInsnBuilderLike convert(CodeInsnBuilderLike value, Class<?> from, Class<?> to) {
+        if(from == to)
+            return value;
+
+        if(ClassUtils.isPrimitiveWrapper(from) && to.isPrimitive())
+            return convert(CodeBuilders.cast(ClassUtils.wrapperToPrimitive(from), value), ClassUtils.wrapperToPrimitive(from), to);
+
+        if(from.isPrimitive() && to.isPrimitive()) {
+            if(from != boolean.class && to != boolean.class)
+                return CodeBuilders.cast(to, value);
+        }
+        else if(from.isPrimitive()) {
+            Class<?> wrapper = ClassUtils.primitiveToWrapper(from);
+            if(to.isAssignableFrom(wrapper))
+                return CodeBuilders.cast(to, CodeBuilders.cast(wrapper, value));
+        }
+        else if(!to.isPrimitive())
+            return CodeBuilders.cast(to, value);
+
+        throw new IllegalStateException("Cannot convert %s to %s.".formatted(from.getName(), to.getName()));
+    }
+}
@@ -0,0 +1,224 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.DynamicClassLoader;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.ParamDefinition;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static io.github.cshunsinger.asmsauce.ConstructorNode.constructor;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.FieldNode.field;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.privateFinal;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+
+/**
+ * Compiles {@link Expression} trees into classes implementing functional interfaces. The single abstract method of the
+ * interface is implemented with the bytecode of the expression, so evaluating a compiled expression is an ordinary
+ * virtual call rather than a walk over the tree.
+ *
+ * The constants of an expression are not compiled into the bytecode. They are stored in final fields of the compiled
+ * function, which are assigned by its constructor. Compiled classes are cached per functional interface and keyed by
+ * the shape of the expression and the parameter types, so compiling an expression which differs from one compiled
+ * before only in its constant values creates a new instance of the same class, rather than generating a new class.
+ * The cache is never evicted, so the number of classes it holds grows with the number of distinct expression shapes
+ * compiled, but not with the number of distinct constant values.
+ */
+public final class ExpressionCompiler {
+    private static final ClassValue<Map<List<Object>, Constructor<?>>> COMPILED = new ClassValue<>() {
+        @Override
+        protected Map<List<Object>, Constructor<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private ExpressionCompiler() {}
+
+    /**
+     * Compiles an expression into an implementation of a functional interface. The class generated for the shape of
+     * the expression is reused if an expression of the same shape was compiled before.
+     * @param functionalInterface The functional interface to implement.
+     * @param expression The expression which the function evaluates.
+     * @param parameterTypes The types of the parameters of the function, which may be narrower than the parameter types
+     *                       declared by the interface, such as the type argument of a {@link java.util.function.Predicate}.
+     *                       The parameters are cast to these types when the function is called. If no parameter types
+     *                       are given, the declared parameter types are used.
+     * @param <F> The functional interface type.
+     * @return The compiled function.
+     * @throws IllegalArgumentException If functionalInterface is null or is not a public interface with exactly one
+     * abstract method, or if that method returns void.
+     * @throws IllegalArgumentException If expression is null.
+     * @throws IllegalArgumentException If parameter types are given, but do not match the parameters of the function.
+     * @throws IllegalStateException If the expression cannot be typed with the parameter types, or if its value cannot
+     * be converted to the return type of the function.
+     */
+    public static <F> F compile(Class<F> functionalInterface, Expression expression, Class<?>... parameterTypes) {
+        if(functionalInterface == null)
+            throw new IllegalArgumentException("Functional interface cannot be null.");
+        if(expression == null)
+            throw new IllegalArgumentException("Expression cannot be null.");
+
+        Method method = functionalMethod(functionalInterface);
+        Class<?>[] declaredTypes = method.getParameterTypes();
+        if(parameterTypes == null || parameterTypes.length == 0)
+            parameterTypes = declaredTypes;
+
+        if(parameterTypes.length != declaredTypes.length) {
+            throw new IllegalArgumentException("Function %s takes %d parameters, but %d parameter types were given.".formatted(
+                method.getName(), declaredTypes.length, parameterTypes.length
+            ));
+        }
+        for(int i = 0; i < parameterTypes.length; i++) {
+            if(parameterTypes[i] == null || !declaredTypes[i].isAssignableFrom(parameterTypes[i])) {
+                throw new IllegalArgumentException("Parameter type %s is not assignable to %s.".formatted(
+                    parameterTypes[i] == null ? "null" : parameterTypes[i].getName(), declaredTypes[i].getName()
+                ));
+            }
+        }
+
+        Class<?>[] types = parameterTypes;
+        return instantiate(functionalInterface, expression, List.of(types),
+            shape -> generateFunction(functionalInterface, method, shape, types)
+        );
+    }
+
+    /**
+     * Creates an instance of the class compiled for the shape of an expression. The class is generated the first time
+     * the shape is compiled, with a final field for each constant of the expression and a constructor which assigns
+     * them, and is cached for later expressions of the same shape.
+     * @param type The type of the compiled class, which is a functional interface or an abstract class with a no-args
+     *             constructor. Compiled classes are cached per type.
+     * @param expression The expression being compiled.
+     * @param signature The other values the compiled class depends on, such as parameter types.
+     * @param generator Creates the builder for the compiled class, given the shape of the expression.
+     */
+    static <T> T instantiate(Class<T> type, Expression expression, List<Object> signature,
+                             Function<Expression, AsmClassBuilder<T>> generator) {
+        List<Object> constants = new ArrayList<>();
+        Expression shape = expression.shape(constants);
+
+        Constructor<?> compiledConstructor = COMPILED.get(type).computeIfAbsent(List.of(shape, signature), key -> {
+            Class<?>[] constantTypes = constants.stream()
+                .map(constant -> ClassUtils.wrapperToPrimitive(constant.getClass()))
+                .toArray(Class<?>[]::new);
+            ParamDefinition[] parameters = new ParamDefinition[constantTypes.length];
+            List<CodeInsnBuilder> body = new ArrayList<>();
+
+            AsmClassBuilder<T> builder = generator.apply(shape);
+            for(int i = 0; i < constantTypes.length; i++) {
+                parameters[i] = p(constantName(i), constantTypes[i]);
+                builder.withField(field(privateFinal(), type(constantTypes[i]), name(constantName(i))));
+                body.add(this_().assignField(constantName(i), getVar(constantName(i))));
+            }
+            body.add(returnVoid());
+
+            try {
+                return builder.withConstructor(constructor(publicOnly(), parameters(parameters),
+                        superConstructor(type.isInterface() ? Object.class : type, noParameters()),
+                        body.toArray(CodeInsnBuilder[]::new)
+                    ))
+                    .build()
+                    .getConstructor(constantTypes);
+            }
+            catch(NoSuchMethodException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        try {
+            return type.cast(compiledConstructor.newInstance(constants.toArray()));
+        }
+        catch(ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static String parameterName(int index) {
+        return "value" + index;
+    }
+
+    static String constantName(int index) {
+        return "constant" + index;
+    }
+
+    static Method functionalMethod(Class<?> functionalInterface) {
+        Method functionalMethod = null;
+        if(functionalInterface.isInterface() && Modifier.isPublic(functionalInterface.getModifiers())) {
+            for(Method method : functionalInterface.getMethods()) {
+                if(!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method))
+                    continue;
+                if(functionalMethod != null) {
+                    functionalMethod = null;
+                    break;
+                }
+                functionalMethod = method;
+            }
+        }
+
+        if(functionalMethod == null)
+            throw new IllegalArgumentException("Type %s must be a public functional interface.".formatted(functionalInterface.getName()));
+        if(functionalMethod.getReturnType() == void.class)
+            throw new IllegalArgumentException("Function %s must return a value.".formatted(functionalMethod.getName()));
+        return functionalMethod;
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        }
+        catch(NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    private static <F> AsmClassBuilder<F> generateFunction(Class<F> functionalInterface, Method method, Expression expression, Class<?>[] parameterTypes) {
+        Class<?>[] declaredTypes = method.getParameterTypes();
+        ParamDefinition[] parameters = new ParamDefinition[declaredTypes.length];
+        List<CodeInsnBuilderLike> body = new ArrayList<>();
+        for(int i = 0; i < declaredTypes.length; i++) {
+            parameters[i] = p("arg" + i, declaredTypes[i]);
+            body.add(setVar(parameterName(i), cast(parameterTypes[i], getVar("arg" + i))));
+        }
+        body.add(returnValue(Expression.convert(
+            expression.value(parameterTypes), expression.type(parameterTypes), method.getReturnType()
+        )));
+
+        return functionClass(functionalInterface, method, parameters, body);
+    }
+
+    /**
+     * Generates a class which implements a functional interface, and instantiates it.
+     * @param functionalInterface The functional interface.
+     * @param method The functional method of the interface.
+     * @param parameters The parameters of the implementation of the method.
+     * @param body The body of the implementation of the method.
+     */
+    static <F> F implement(Class<F> functionalInterface, Method method, ParamDefinition[] parameters, List<CodeInsnBuilderLike> body) {
+        return functionClass(functionalInterface, method, parameters, body).buildInstance();
+    }
+
+    private static <F> AsmClassBuilder<F> functionClass(Class<F> functionalInterface, Method method, ParamDefinition[] parameters,
+                                                        List<CodeInsnBuilderLike> body) {
+        ClassLoader classLoader = DynamicClassLoader.parentFor(functionalInterface);
+        //Functional interfaces are often in java packages, which generated classes cannot be defined in
+        String className = ExpressionCompiler.class.getPackageName() + ".CompiledFunction" + randomAlphanumeric(16);
+        return new AsmClassBuilder<>(className, classLoader, functionalInterface, Object.class, List.of(functionalInterface), publicOnly())
+            .withMethod(method(publicOnly(), name(method.getName()), parameters(parameters), type(method.getReturnType()),
+                body.toArray(CodeInsnBuilderLike[]::new)
+            ));
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.DefinitionBuilders;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.field.FieldAccessibleInstance;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Objects;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.name;
+
+/**
+ * Reads a public instance field of an object.
+ */
+class FieldExpression extends Expression {
+    private final Expression target;
+    private final String fieldName;
+
+    FieldExpression(Expression target, String fieldName) {
+        if(target == null)
+            throw new IllegalArgumentException("Target expression cannot be null.");
+        if(fieldName == null || fieldName.isEmpty())
+            throw new IllegalArgumentException("Field name cannot be null or empty.");
+
+        this.target = target;
+        this.fieldName = fieldName;
+    }
+
+    private Field field(Class<?>[] parameterTypes) {
+        Class<?> targetType = target.type(parameterTypes);
+        try {
+            Field field = targetType.getField(fieldName);
+            if(!Modifier.isStatic(field.getModifiers()))
+                return field;
+        }
+        catch(NoSuchFieldException ex) {
+            //Fall through to the exception below
+        }
+        throw new IllegalStateException("Type %s has no public instance field named %s.".formatted(targetType.getName(), fieldName));
+    }
+
+    @Override
+    Class<?> type(Class<?>[] parameterTypes) {
+        return field(parameterTypes).getType();
+    }
+
+    @Override
+    CodeInsnBuilderLike value(Class<?>[] parameterTypes) {
+        Field field = field(parameterTypes);
+        FieldAccessibleInstance targetValue = (FieldAccessibleInstance)target.value(parameterTypes);
+        return targetValue.getField(DefinitionBuilders.type(field.getDeclaringClass()), name(fieldName), DefinitionBuilders.type(field.getType()));
+    }
+
+    @Override
+    Expression shape(List<Object> constants) {
+        return new FieldExpression(target.shape(constants), fieldName);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(!(other instanceof FieldExpression))
+            return false;
+
+        FieldExpression otherField = (FieldExpression)other;
+        return otherField.target.equals(target) && otherField.fieldName.equals(fieldName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(target, fieldName);
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.Condition;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A short-circuiting AND or OR of two boolean values, compiled as a compound condition.
+ */
+class LogicalExpression extends Expression {
+    private final boolean isAnd;
+    private final Expression left;
+    private final Expression right;
+
+    LogicalExpression(boolean isAnd, Expression left, Expression right) {
+        if(left == null || right == null)
+            throw new IllegalArgumentException("Operand expressions cannot be null.");
+
+        this.isAnd = isAnd;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    Class<?> type(Class<?>[] parameterTypes) {
+        requireBoolean(left.type(parameterTypes));
+        requireBoolean(right.type(parameterTypes));
+        return boolean.class;
+    }
+
+    @Override
+    CodeInsnBuilderLike value(Class<?>[] parameterTypes) {
+        return booleanValue(condition(parameterTypes));
+    }
+
+    @Override
+    Condition condition(Class<?>[] parameterTypes) {
+        Condition first = left.condition(parameterTypes);
+        Condition second = right.condition(parameterTypes);
+        return isAnd ? first.and(second) : first.or(second);
+    }
+
+    @Override
+    Expression shape(List<Object> constants) {
+        return new LogicalExpression(isAnd, left.shape(constants), right.shape(constants));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(!(other instanceof LogicalExpression))
+            return false;
+
+        LogicalExpression otherLogical = (LogicalExpression)other;
+        return otherLogical.isAnd == isAnd && otherLogical.left.equals(left) && otherLogical.right.equals(right);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isAnd, left, right);
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.code.CodeBuilders;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.Condition;
+
+import java.util.List;
+
+/**
+ * The negation of a boolean value, compiled as the inverse of its condition.
+ */
+class NotExpression extends Expression {
+    private final Expression operand;
+
+    NotExpression(Expression operand) {
+        if(operand == null)
+            throw new IllegalArgumentException("Operand expression cannot be null.");
+
+        this.operand = operand;
+    }
+
+    @Override
+    Class<?> type(Class<?>[] parameterTypes) {
+        requireBoolean(operand.type(parameterTypes));
+        return boolean.class;
+    }
+
+    @Override
+    CodeInsnBuilderLike value(Class<?>[] parameterTypes) {
+        return booleanValue(condition(parameterTypes));
+    }
+
+    @Override
+    Condition condition(Class<?>[] parameterTypes) {
+        return CodeBuilders.not(operand.condition(parameterTypes));
+    }
+
+    @Override
+    Expression shape(List<Object> constants) {
+        return new NotExpression(operand.shape(constants));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof NotExpression && ((NotExpression)other).operand.equals(operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~operand.hashCode();
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.getVar;
+
+/**
+ * A parameter of the function being compiled.
+ */
+class ParameterExpression extends Expression {
+    private final int index;
+
+    ParameterExpression(int index) {
+        if(index < 0)
+            throw new IllegalArgumentException("Parameter index cannot be negative.");
+
+        this.index = index;
+    }
+
+    @Override
+    Class<?> type(Class<?>[] parameterTypes) {
+        if(index >= parameterTypes.length) {
+            throw new IllegalStateException("Expression uses parameter %d, but the function only has %d parameters.".formatted(
+                index, parameterTypes.length
+            ));
+        }
+        return parameterTypes[index];
+    }
+
+    @Override
+    CodeInsnBuilderLike value(Class<?>[] parameterTypes) {
+        type(parameterTypes);
+        return getVar(ExpressionCompiler.parameterName(index));
+    }
+
+    @Override
+    Expression shape(List<Object> constants) {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ParameterExpression && ((ParameterExpression)other).index == index;
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.Condition;
+import io.github.cshunsinger.asmsauce.code.stack.StackLocalVariableInsn;
+import io.github.cshunsinger.asmsauce.definitions.ParamDefinition;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.p;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+
+/**
+ * Builds a function which runs a map/filter/reduce pipeline over an array, fused into a single loop. Each step is given
+ * as a code fragment which reads the current element, for example:
+ * <pre>{@code
+ * ToLongFunction<int[]> sumOfEvenSquares = new PipelineBuilder(int[].class)
+ *     .filter(value -> value.mod(literal(2)).eq(literal(0)))
+ *     .map(long.class, value -> cast(long.class, value).mul(value))
+ *     .reduce(long.class, literal(0L), (sum, value) -> sum.add(value))
+ *     .build(ToLongFunction.class);
+ * }</pre>
+ * Unlike a java.util.stream pipeline, which passes each element through a chain of sinks calling lambdas, the fused
+ * function is one generated method: map steps store into primitive locals, filter steps branch around the rest of the
+ * loop body, and the reduce step updates an accumulator local, so there are no virtual calls or boxing per element.
+ */
+public class PipelineBuilder {
+    private final Class<?> sourceType;
+    private final List<Class<?>> elementTypes = new ArrayList<>();
+    private final List<Step> steps = new ArrayList<>();
+    private Class<?> resultType;
+    private CodeInsnBuilderLike identity;
+    private BiFunction<StackLocalVariableInsn, StackLocalVariableInsn, CodeInsnBuilderLike> reducer;
+
+    /**
+     * Creates a pipeline over the elements of an array.
+     * @param sourceType The array type of the source.
+     * @throws IllegalArgumentException If sourceType is null or is not an array type.
+     */
+    public PipelineBuilder(Class<?> sourceType) {
+        if(sourceType == null || !sourceType.isArray())
+            throw new IllegalArgumentException("Source type must be an array type.");
+
+        this.sourceType = sourceType;
+        this.elementTypes.add(sourceType.getComponentType());
+    }
+
+    /**
+     * Adds a step which replaces each element with a new value.
+     * @param type The type of the new values. The value stacked by the mapping is converted to this type.
+     * @param mapping Creates the code builder which stacks the new value, given the local variable holding the current
+     *                element.
+     * @return This builder.
+     * @throws IllegalArgumentException If type or mapping is null.
+     */
+    public PipelineBuilder map(Class<?> type, Function<StackLocalVariableInsn, CodeInsnBuilderLike> mapping) {
+        if(type == null || mapping == null)
+            throw new IllegalArgumentException("Type and mapping cannot be null.");
+        validateNotReduced();
+
+        elementTypes.add(type);
+        steps.add(new Step(StepKind.MAP, mapping, null));
+        return this;
+    }
+
+    /**
+     * Adds a step which drops the elements that do not match a condition.
+     * @param filter Creates the condition which is true for the elements to keep, given the local variable holding the
+     *               current element.
+     * @return This builder.
+     * @throws IllegalArgumentException If filter is null.
+     */
+    public PipelineBuilder filter(Function<StackLocalVariableInsn, Condition> filter) {
+        if(filter == null)
+            throw new IllegalArgumentException("Filter cannot be null.");
+        validateNotReduced();
+
+        elementTypes.add(elementTypes.get(elementTypes.size() - 1));
+        steps.add(new Step(StepKind.FILTER, null, filter));
+        return this;
+    }
+
+    /**
+     * Ends the pipeline with a step which combines the elements into a result.
+     * @param type The type of the result.
+     * @param identity The code builder which stacks the initial value of the result.
+     * @param reducer Creates the code builder which stacks the new result, given the local variables holding the result
+     *                so far and the current element.
+     * @return This builder.
+     * @throws IllegalArgumentException If any of the arguments are null.
+     */
+    public PipelineBuilder reduce(Class<?> type, CodeInsnBuilderLike identity,
+                                  BiFunction<StackLocalVariableInsn, StackLocalVariableInsn, CodeInsnBuilderLike> reducer) {
+        if(type == null || identity == null || reducer == null)
+            throw new IllegalArgumentException("Type, identity, and reducer cannot be null.");
+        validateNotReduced();
+
+        this.resultType = type;
+        this.identity = identity;
+        this.reducer = reducer;
+        return this;
+    }
+
+    private void validateNotReduced() {
+        if(reducer != null)
+            throw new IllegalStateException("Pipeline already ends with a reduce step.");
+    }
+
+    /**
+     * Generates the fused pipeline as an implementation of a functional interface. The functional method must take
+     * the source array as its only parameter, and return the result of the pipeline.
+     * @param functionalInterface The functional interface to implement.
+     * @param <F> The functional interface type.
+     * @return The fused pipeline.
+     * @throws IllegalArgumentException If functionalInterface is null or is not a public interface with exactly one
+     * abstract method, or if that method does not take the source array as its only parameter.
+     * @throws IllegalStateException If the pipeline does not end with a reduce step, or if its result cannot be
+     * converted to the return type of the functional method.
+     */
+    public <F> F build(Class<F> functionalInterface) {
+        if(functionalInterface == null)
+            throw new IllegalArgumentException("Functional interface cannot be null.");
+        Method method = ExpressionCompiler.functionalMethod(functionalInterface);
+        if(method.getParameterCount() != 1 || !method.getParameterTypes()[0].isAssignableFrom(sourceType)) {
+            throw new IllegalArgumentException("Function %s must take %s as its only parameter.".formatted(
+                method.getName(), sourceType.getSimpleName()
+            ));
+        }
+        if(reducer == null)
+            throw new IllegalStateException("Pipeline must end with a reduce step.");
+
+        //Build the loop body inside out, so that each filter step can wrap the steps after it
+        List<CodeInsnBuilderLike> loopBody = new ArrayList<>();
+        loopBody.add(setVar("result", cast(resultType, reducer.apply(getVar("result"), getVar(elementName(steps.size()))))));
+        for(int i = steps.size() - 1; i >= 0; i--) {
+            Step step = steps.get(i);
+            StackLocalVariableInsn element = getVar(elementName(i));
+            if(step.kind == StepKind.FILTER) {
+                CodeInsnBuilderLike rest = if_(step.filter.apply(element)).then(loopBody.toArray(CodeInsnBuilderLike[]::new));
+                loopBody = new ArrayList<>(List.of(setVar(elementName(i + 1), getVar(elementName(i))), rest));
+            }
+            else {
+                loopBody.add(0, setVar(elementName(i + 1), cast(elementTypes.get(i + 1), step.mapping.apply(element))));
+            }
+        }
+        loopBody.add(0, setVar(elementName(0), getVar("source").get(getVar("index"))));
+
+        List<CodeInsnBuilderLike> body = new ArrayList<>();
+        body.add(setVar("source", cast(sourceType, getVar("arg0"))));
+        body.add(setVar("result", cast(resultType, identity)));
+        body.add(forRange("index", literal(0), getVar("source").length(), 1).do_(loopBody.toArray(CodeInsnBuilderLike[]::new)));
+        body.add(returnValue(Expression.convert(getVar("result"), resultType, method.getReturnType())));
+
+        return ExpressionCompiler.implement(functionalInterface, method, new ParamDefinition[] {
+            p("arg0", method.getParameterTypes()[0])
+        }, body);
+    }
+
+    private static String elementName(int step) {
+        return "element" + step;
+    }
+
+    private enum StepKind {MAP, FILTER}
+
+    /**
+     * A map or filter step of the pipeline. Only the code fragment matching the kind of step is set.
+     */
+    @RequiredArgsConstructor
+    private static class Step {
+        private final StepKind kind;
+        private final Function<StackLocalVariableInsn, CodeInsnBuilderLike> mapping;
+        private final Function<StackLocalVariableInsn, Condition> filter;
+    }
+}
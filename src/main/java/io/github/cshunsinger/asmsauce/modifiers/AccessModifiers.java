@@ -66,6 +66,14 @@ public class AccessModifiers {
         return (jvmModifiers & ACC_ABSTRACT) > 0;
     }
 
+    /**
+     * Gets whether or not the jvm modifier flags represented by this instance contain the synchronized flag.
+     * @return True if this instance contains the 'synchronized' flag, else false.
+     */
+    public boolean isSynchronized() {
+        return (jvmModifiers & ACC_SYNCHRONIZED) > 0;
+    }
+
     /**
      * Creates a copy of these modifiers with the public flag set.
      * @return A new instance with the public flag added.
@@ -114,6 +122,15 @@ public class AccessModifiers {
         return customAccess(jvmModifiers | ACC_ABSTRACT);
     }
 
+    /**
+     * Creates a copy of these modifiers with the synchronized flag set. A synchronized method enters the monitor of the
+     * instance it is invoked on, or the monitor of its class if the method is static, for as long as the method runs.
+     * @return A new instance with the synchronized flag added.
+     */
+    public AccessModifiers withSynchronized() {
+        return customAccess(jvmModifiers | ACC_SYNCHRONIZED);
+    }
+
     /**
      * Creates an instance representing private access. Equivalent to defining something as 'private'
      * @return A new access modifiers instance.
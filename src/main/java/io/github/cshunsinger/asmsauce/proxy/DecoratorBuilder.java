@@ -0,0 +1,170 @@
+package io.github.cshunsinger.asmsauce.proxy;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.DynamicClassLoader;
+import io.github.cshunsinger.asmsauce.MethodNode;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.ParamDefinition;
+import io.github.cshunsinger.asmsauce.definitions.TypeDefinition;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+import static io.github.cshunsinger.asmsauce.ConstructorNode.constructor;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.FieldNode.field;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.privateFinal;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+
+/**
+ * Builds a decorator class, which implements an interface by forwarding every call to a delegate. The delegate is
+ * passed to the constructor of the decorator and kept in a private final field. Methods which are added to this
+ * builder replace the forwarding methods with the same name and parameter types, and can call the delegate by reading
+ * the delegate field, for example: this_().getField("delegate").invoke("get", getVar("key")).
+ *
+ * The generated decorator is a final class which calls its delegate directly, so a call site which only ever sees the
+ * one decorator class is monomorphic and the JIT compiler can inline through the decorator into the delegate.
+ * @param <T> The interface being decorated.
+ */
+public class DecoratorBuilder<T> {
+    private final TypeDefinition interfaceType;
+    private final String delegateFieldName;
+    private final List<MethodNode> methods = new ArrayList<>();
+    private Class<? extends T> decoratorClass;
+    private Constructor<? extends T> decoratorConstructor;
+
+    /**
+     * Creates a builder for a decorator of an interface, whose delegate is kept in a field named "delegate".
+     * @param interfaceType The interface to decorate.
+     * @throws IllegalArgumentException If interfaceType is null or is not a public interface.
+     */
+    public DecoratorBuilder(Class<T> interfaceType) {
+        this(interfaceType, "delegate");
+    }
+
+    /**
+     * Creates a builder for a decorator of an interface.
+     * @param interfaceType The interface to decorate.
+     * @param delegateFieldName The name of the field which holds the delegate.
+     * @throws IllegalArgumentException If interfaceType is null or is not a public interface.
+     * @throws IllegalArgumentException If delegateFieldName is null or empty.
+     */
+    public DecoratorBuilder(Class<T> interfaceType, String delegateFieldName) {
+        if(interfaceType == null)
+            throw new IllegalArgumentException("Interface cannot be null.");
+        if(!interfaceType.isInterface() || !Modifier.isPublic(interfaceType.getModifiers()))
+            throw new IllegalArgumentException("Type %s must be a public interface.".formatted(interfaceType.getName()));
+        if(delegateFieldName == null || delegateFieldName.isEmpty())
+            throw new IllegalArgumentException("Delegate field name cannot be null or empty.");
+
+        this.interfaceType = type(interfaceType);
+        this.delegateFieldName = delegateFieldName;
+    }
+
+    /**
+     * Adds a method to the decorator, replacing the forwarding method with the same name and parameter types if there
+     * is one.
+     * @param method The method.
+     * @return This builder.
+     * @throws IllegalArgumentException If method is null.
+     */
+    public DecoratorBuilder<T> withMethod(MethodNode method) {
+        if(method == null)
+            throw new IllegalArgumentException("Method cannot be null.");
+
+        methods.add(method);
+        decoratorClass = null;
+        decoratorConstructor = null;
+        return this;
+    }
+
+    /**
+     * Generates the decorator class. The class is only generated once, unless more methods are added to this builder
+     * after it was generated.
+     * @return The generated class, which has a public constructor taking the delegate.
+     */
+    public Class<? extends T> build() {
+        if(decoratorClass == null)
+            decoratorClass = generateDecorator();
+        return decoratorClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends T> generateDecorator() {
+        Class<T> interfaceClass = (Class<T>)interfaceType.getType();
+        ClassLoader classLoader = DynamicClassLoader.parentFor(interfaceClass);
+        AsmClassBuilder<T> builder = new AsmClassBuilder<>(classLoader, interfaceClass, Object.class, List.of(interfaceClass), publicOnly().withFinal())
+            .withField(field(privateFinal(), interfaceType, name(delegateFieldName)))
+            .withConstructor(constructor(publicOnly(), parameters(p(delegateFieldName, interfaceType)),
+                superConstructor(Object.class, noParameters()),
+                this_().assignField(delegateFieldName, getVar(delegateFieldName)),
+                returnVoid()
+            ));
+
+        Set<List<Object>> implemented = new HashSet<>();
+        for(MethodNode method : methods) {
+            builder.withMethod(method);
+            List<Object> signature = new ArrayList<>();
+            signature.add(method.getDefinition().getName().getName());
+            for(TypeDefinition parameterType : method.getDefinition().getParameters().getParamTypes())
+                signature.add(parameterType.getType());
+            implemented.add(signature);
+        }
+
+        for(TypeDefinition type : interfaceType.flatHierarchy()) {
+            for(Method method : type.getType().getDeclaredMethods()) {
+                //A covariant override comes with a bridge method, which calls the override and needs no forwarding method
+                if(!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.isSynthetic())
+                    continue;
+
+                List<Object> signature = new ArrayList<>();
+                signature.add(method.getName());
+                signature.addAll(List.of(method.getParameterTypes()));
+                if(implemented.add(signature))
+                    builder.withMethod(forwardingMethod(method));
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Generates the decorator class if it was not generated yet, and instantiates it. Every decorator created by this
+     * builder is an instance of the same class.
+     * @param delegate The delegate to forward calls to.
+     * @return The new decorator.
+     * @throws IllegalArgumentException If delegate is null.
+     */
+    public T buildInstance(T delegate) {
+        if(delegate == null)
+            throw new IllegalArgumentException("Delegate cannot be null.");
+
+        try {
+            if(decoratorConstructor == null)
+                decoratorConstructor = build().getConstructor(interfaceType.getType());
+            return decoratorConstructor.newInstance(delegate);
+        }
+        catch(ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private MethodNode forwardingMethod(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        ParamDefinition[] parameters = new ParamDefinition[parameterTypes.length];
+        CodeInsnBuilderLike[] arguments = new CodeInsnBuilderLike[parameterTypes.length];
+        for(int i = 0; i < parameterTypes.length; i++) {
+            parameters[i] = p("arg" + i, parameterTypes[i]);
+            arguments[i] = getVar("arg" + i);
+        }
+
+        CodeInsnBuilderLike call = this_().getField(delegateFieldName).invoke(method.getDeclaringClass(), method, arguments);
+        if(method.getReturnType() == void.class)
+            return method(publicOnly(), name(method.getName()), parameters(parameters), voidType(), call, returnVoid());
+        return method(publicOnly(), name(method.getName()), parameters(parameters), type(method.getReturnType()), returnValue(call));
+    }
+}
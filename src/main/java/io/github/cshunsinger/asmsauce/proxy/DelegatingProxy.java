@@ -0,0 +1,54 @@
+package io.github.cshunsinger.asmsauce.proxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * The superclass of every proxy generated by {@link ProxyBuilder}. A generated proxy implements each interface method
+ * by calling the same method of its delegate directly, passing the arguments along as they are.
+ */
+public abstract class DelegatingProxy {
+    /**
+     * The object which this proxy calls. Generated methods read this field directly.
+     */
+    protected final Object delegate;
+    private final ProxyHooks hooks;
+    private final Method[] methods;
+
+    /**
+     * Creates a proxy. Proxies are created by {@link ProxyFactory#newProxy(Object)}.
+     * @param delegate The object which the proxy calls.
+     * @param hooks The hooks called around the calls of hooked methods, or null if no methods are hooked.
+     * @param methods The interface methods implemented by the proxy, in the order of their method indexes.
+     */
+    protected DelegatingProxy(Object delegate, ProxyHooks hooks, Method[] methods) {
+        this.delegate = delegate;
+        this.hooks = hooks;
+        this.methods = methods;
+    }
+
+    /**
+     * Gets the object which this proxy calls.
+     * @return The delegate.
+     */
+    public final Object getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Called by a generated hooked method before it calls the delegate.
+     * @param methodIndex The index of the interface method being called.
+     * @return The token returned by the before hook.
+     */
+    protected final Object before(int methodIndex) {
+        return hooks.before(methods[methodIndex]);
+    }
+
+    /**
+     * Called by a generated hooked method after the delegate returns.
+     * @param methodIndex The index of the interface method which was called.
+     * @param token The token returned by the before hook.
+     */
+    protected final void after(int methodIndex, Object token) {
+        hooks.after(methods[methodIndex], token);
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.cshunsinger.asmsauce.proxy;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.DynamicClassLoader;
+import io.github.cshunsinger.asmsauce.MethodNode;
+import io.github.cshunsinger.asmsauce.accessor.Invokers;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.definitions.ParamDefinition;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Predicate;
+
+import static io.github.cshunsinger.asmsauce.ConstructorNode.constructor;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+
+/**
+ * Builds proxies which implement one or more interfaces by calling a delegate, as a replacement for
+ * {@link java.lang.reflect.Proxy}. Instead of passing every call through an invocation handler with its arguments in an
+ * array, a generated proxy implements each interface method with a direct, typed call to the same method of the
+ * delegate. Hooks can be called around the calls to some or all of the methods.
+ * @param <T> The primary interface implemented by the proxies.
+ */
+public class ProxyBuilder<T> {
+    private final Class<T> primaryInterface;
+    private final List<Class<?>> interfaces = new ArrayList<>();
+    private ProxyHooks hooks;
+    private Predicate<Method> hookedMethods = method -> false;
+
+    /**
+     * Creates a builder for proxies of an interface.
+     * @param primaryInterface The primary interface implemented by the proxies.
+     * @throws IllegalArgumentException If primaryInterface is null or is not a public interface.
+     */
+    public ProxyBuilder(Class<T> primaryInterface) {
+        validateInterface(primaryInterface);
+        this.primaryInterface = primaryInterface;
+        this.interfaces.add(primaryInterface);
+    }
+
+    private static void validateInterface(Class<?> interfaceType) {
+        if(interfaceType == null)
+            throw new IllegalArgumentException("Interface cannot be null.");
+        if(!interfaceType.isInterface() || !Modifier.isPublic(interfaceType.getModifiers()) || interfaceType.isHidden())
+            throw new IllegalArgumentException("Type %s must be a public interface.".formatted(interfaceType.getName()));
+    }
+
+    /**
+     * Adds another interface for the proxies to implement.
+     * @param interfaceType The interface.
+     * @return This builder.
+     * @throws IllegalArgumentException If interfaceType is null or is not a public interface.
+     */
+    public ProxyBuilder<T> withInterface(Class<?> interfaceType) {
+        validateInterface(interfaceType);
+        if(!interfaces.contains(interfaceType))
+            interfaces.add(interfaceType);
+        return this;
+    }
+
+    /**
+     * Calls hooks around the calls every method makes to the delegate.
+     * @param hooks The hooks.
+     * @return This builder.
+     * @throws IllegalArgumentException If hooks is null.
+     */
+    public ProxyBuilder<T> withHooks(ProxyHooks hooks) {
+        return withHooks(hooks, method -> true);
+    }
+
+    /**
+     * Calls hooks around the calls some methods make to the delegate. The other methods call the delegate directly.
+     * @param hooks The hooks.
+     * @param hookedMethods Selects the interface methods which call the hooks.
+     * @return This builder.
+     * @throws IllegalArgumentException If hooks or hookedMethods is null.
+     */
+    public ProxyBuilder<T> withHooks(ProxyHooks hooks, Predicate<Method> hookedMethods) {
+        if(hooks == null)
+            throw new IllegalArgumentException("Hooks cannot be null.");
+        if(hookedMethods == null)
+            throw new IllegalArgumentException("Hooked methods cannot be null.");
+
+        this.hooks = hooks;
+        this.hookedMethods = hookedMethods;
+        return this;
+    }
+
+    /**
+     * Generates the proxy class.
+     * @return A factory which creates proxies of the generated class.
+     * @throws IllegalArgumentException If an interface declares a method with the same name and parameters as a method
+     * of {@link DelegatingProxy}, which a proxy cannot override.
+     */
+    public ProxyFactory<T> build() {
+        List<Method> methods = interfaceMethods();
+
+        ClassLoader classLoader = DynamicClassLoader.parentFor(primaryInterface);
+        AsmClassBuilder<T> builder = new AsmClassBuilder<>(classLoader, primaryInterface, DelegatingProxy.class, List.copyOf(interfaces), publicOnly())
+            .withConstructor(constructor(publicOnly(), parameters(p("delegate", Object.class), p("hooks", ProxyHooks.class), p("methods", Method[].class)),
+                superConstructor(DelegatingProxy.class, parameters(Object.class, ProxyHooks.class, Method[].class),
+                    getVar("delegate"), getVar("hooks"), getVar("methods")
+                ),
+                returnVoid()
+            ));
+        for(int i = 0; i < methods.size(); i++)
+            builder.withMethod(proxyMethod(methods.get(i), i, hooks != null && hookedMethods.test(methods.get(i))));
+
+        Class<? extends T> proxyClass = builder.build();
+        try {
+            return new ProxyFactory<>(
+                Invokers.of(proxyClass.getConstructor(Object.class, ProxyHooks.class, Method[].class)), List.copyOf(interfaces), hooks,
+                methods.toArray(Method[]::new)
+            );
+        }
+        catch(NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Finds the methods to implement. A method which is declared by more than one interface is implemented once.
+     */
+    private List<Method> interfaceMethods() {
+        Set<List<Object>> proxyMethods = new HashSet<>();
+        for(Method method : DelegatingProxy.class.getDeclaredMethods()) {
+            if(!Modifier.isPrivate(method.getModifiers()))
+                proxyMethods.add(signature(method));
+        }
+
+        Map<List<Object>, Method> methods = new LinkedHashMap<>();
+        for(Class<?> interfaceType : interfaces) {
+            for(Method method : interfaceType.getMethods()) {
+                //A covariant override comes with a default bridge method, which calls the override and needs no proxy method
+                if(Modifier.isStatic(method.getModifiers()) || method.isBridge())
+                    continue;
+
+                List<Object> signature = signature(method);
+                if(proxyMethods.contains(signature)) {
+                    throw new IllegalArgumentException("Method %s of %s conflicts with a method of %s.".formatted(
+                        method.getName(), interfaceType.getName(), DelegatingProxy.class.getSimpleName()
+                    ));
+                }
+                methods.putIfAbsent(signature, method);
+            }
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private static List<Object> signature(Method method) {
+        List<Object> signature = new ArrayList<>();
+        signature.add(method.getName());
+        signature.addAll(List.of(method.getParameterTypes()));
+        return signature;
+    }
+
+    private static MethodNode proxyMethod(Method method, int methodIndex, boolean hooked) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        ParamDefinition[] parameters = new ParamDefinition[parameterTypes.length];
+        CodeInsnBuilderLike[] arguments = new CodeInsnBuilderLike[parameterTypes.length];
+        for(int i = 0; i < parameterTypes.length; i++) {
+            parameters[i] = p("arg" + i, parameterTypes[i]);
+            arguments[i] = getVar("arg" + i);
+        }
+
+        Class<?> owner = method.getDeclaringClass();
+        CodeInsnBuilderLike delegate = this_().getField(type(DelegatingProxy.class), name("delegate"), type(Object.class));
+        CodeInsnBuilderLike call = cast(owner, delegate).invoke(owner, method, arguments);
+        boolean returnsVoid = method.getReturnType() == void.class;
+
+        List<CodeInsnBuilderLike> body = new ArrayList<>();
+        if(hooked) {
+            body.add(setVar("token", this_().invoke("before", literal(methodIndex))));
+            body.add(returnsVoid ? call : setVar("result", call));
+            body.add(this_().invoke("after", literal(methodIndex), getVar("token")));
+            body.add(returnsVoid ? returnVoid() : returnValue(getVar("result")));
+        }
+        else if(returnsVoid) {
+            body.add(call);
+            body.add(returnVoid());
+        }
+        else
+            body.add(returnValue(call));
+
+        return method(publicOnly(), name(method.getName()), parameters(parameters),
+            returnsVoid ? voidType() : type(method.getReturnType()),
+            body.toArray(CodeInsnBuilderLike[]::new)
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.cshunsinger.asmsauce.proxy;
+
+import io.github.cshunsinger.asmsauce.accessor.Invoker;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Creates proxies of a generated proxy class. Each proxy calls its own delegate, while sharing the generated class and
+ * the hooks of the other proxies created by the same factory.
+ * @param <T> The primary interface implemented by the proxies.
+ */
+public class ProxyFactory<T> {
+    private final Invoker constructor;
+    private final List<Class<?>> interfaces;
+    private final ProxyHooks hooks;
+    private final Method[] methods;
+
+    ProxyFactory(Invoker constructor, List<Class<?>> interfaces, ProxyHooks hooks, Method[] methods) {
+        this.constructor = constructor;
+        this.interfaces = interfaces;
+        this.hooks = hooks;
+        this.methods = methods;
+    }
+
+    /**
+     * Creates a proxy which calls a delegate.
+     * @param delegate The object to call.
+     * @return The new proxy.
+     * @throws IllegalArgumentException If delegate is null.
+     * @throws IllegalArgumentException If delegate does not implement every interface implemented by the proxy.
+     */
+    @SuppressWarnings("unchecked")
+    public T newProxy(Object delegate) {
+        if(delegate == null)
+            throw new IllegalArgumentException("Delegate cannot be null.");
+        for(Class<?> interfaceType : interfaces) {
+            if(!interfaceType.isInstance(delegate))
+                throw new IllegalArgumentException("Delegate must implement %s.".formatted(interfaceType.getName()));
+        }
+
+        return (T)constructor.invoke(null, delegate, hooks, methods);
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.cshunsinger.asmsauce.proxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * Hooks which are called around the calls a proxy makes to its delegate, such as for recording metrics or tracing.
+ * Only the methods selected when the proxy is built call the hooks, and the other methods of the proxy call the
+ * delegate without any overhead.
+ */
+public interface ProxyHooks {
+    /**
+     * Called before a hooked method calls the delegate.
+     * @param method The interface method being called.
+     * @return A token which is passed to {@link #after(Method, Object)} once the delegate returns, such as the time the
+     * call started. May be null.
+     */
+    Object before(Method method);
+
+    /**
+     * Called after a hooked method's call to the delegate returns. This is not called if the delegate throws an exception.
+     * @param method The interface method which was called.
+     * @param token The token which was returned by {@link #before(Method)}.
+     */
+    void after(Method method, Object token);
+}
@@ -0,0 +1,264 @@
+package io.github.cshunsinger.asmsauce.util;
+
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Passes all bytecode through to another method visitor while removing conversions which have no effect. A value
+ * which is boxed and then immediately unboxed again is left unboxed, with a primitive conversion in place of the
+ * unboxing if the value is unboxed into a different primitive type. A cast of a value which was just boxed into one of
+ * the types the box already is, and a cast immediately repeating the previous cast, are removed.
+ *
+ * One instruction is held back at a time, until the next instruction shows whether it can be removed.
+ */
+public class ConversionEliminatingMethodVisitor extends MethodVisitor {
+    private static final Map<String, Type> WRAPPER_PRIMITIVES = Map.of(
+        "java/lang/Boolean", Type.BOOLEAN_TYPE,
+        "java/lang/Character", Type.CHAR_TYPE,
+        "java/lang/Byte", Type.BYTE_TYPE,
+        "java/lang/Short", Type.SHORT_TYPE,
+        "java/lang/Integer", Type.INT_TYPE,
+        "java/lang/Long", Type.LONG_TYPE,
+        "java/lang/Float", Type.FLOAT_TYPE,
+        "java/lang/Double", Type.DOUBLE_TYPE
+    );
+    private static final Set<String> WRAPPER_SUPERTYPES = Set.of(
+        "java/lang/Object", "java/io/Serializable", "java/lang/Comparable"
+    );
+    private static final String NUMBER = "java/lang/Number";
+
+    /**
+     * The wrapper type of the boxing instruction being held back, or null if none is held back.
+     */
+    private String boxedWrapper;
+    /**
+     * The type of the cast instruction being held back, or null if none is held back.
+     */
+    private String castType;
+
+    /**
+     * Creates a method visitor which removes conversions which have no effect.
+     * @param methodVisitor The method visitor to pass the bytecode through to.
+     */
+    public ConversionEliminatingMethodVisitor(MethodVisitor methodVisitor) {
+        super(ASM9, methodVisitor);
+    }
+
+    private void flush() {
+        if(boxedWrapper != null) {
+            Type primitive = WRAPPER_PRIMITIVES.get(boxedWrapper);
+            super.visitMethodInsn(INVOKESTATIC, boxedWrapper, "valueOf", Type.getMethodDescriptor(Type.getObjectType(boxedWrapper), primitive), false);
+            boxedWrapper = null;
+        }
+        if(castType != null) {
+            super.visitTypeInsn(CHECKCAST, castType);
+            castType = null;
+        }
+    }
+
+    @Override
+    public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+        if(opcode == INVOKESTATIC && isBoxing(owner, name, descriptor)) {
+            flush();
+            boxedWrapper = owner;
+            return;
+        }
+
+        if(boxedWrapper != null && opcode == INVOKEVIRTUAL && isUnboxing(owner, name, descriptor)) {
+            //The boxed value is unboxed right away, so the value can stay a primitive
+            convertPrimitive(WRAPPER_PRIMITIVES.get(boxedWrapper), Type.getReturnType(descriptor));
+            boxedWrapper = null;
+            return;
+        }
+
+        flush();
+        super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+    }
+
+    @Override
+    public void visitTypeInsn(int opcode, String type) {
+        if(opcode == CHECKCAST) {
+            //A freshly boxed value already is its wrapper type and each of its supertypes
+            if(boxedWrapper != null && (type.equals(boxedWrapper) || WRAPPER_SUPERTYPES.contains(type) ||
+                (type.equals(NUMBER) && isNumericWrapper(boxedWrapper))))
+                return;
+
+            //A value which was just cast to a type does not need to be cast to that type again
+            if(type.equals(castType))
+                return;
+
+            flush();
+            castType = type;
+            return;
+        }
+
+        flush();
+        super.visitTypeInsn(opcode, type);
+    }
+
+    private boolean isBoxing(String owner, String name, String descriptor) {
+        Type primitive = WRAPPER_PRIMITIVES.get(owner);
+        return primitive != null && name.equals("valueOf") &&
+            descriptor.equals(Type.getMethodDescriptor(Type.getObjectType(owner), primitive));
+    }
+
+    private boolean isUnboxing(String owner, String name, String descriptor) {
+        Type returnType = Type.getReturnType(descriptor);
+        boolean ownerMatches = owner.equals(boxedWrapper) || (owner.equals(NUMBER) && isNumericWrapper(boxedWrapper));
+        if(!ownerMatches || !descriptor.startsWith("()") || !name.equals(returnType.getClassName() + "Value"))
+            return false;
+
+        //Boolean and Character can only be unboxed into their own primitive types
+        return isNumericWrapper(boxedWrapper) ?
+            returnType.getSort() >= Type.BYTE && returnType.getSort() <= Type.DOUBLE :
+            returnType.equals(WRAPPER_PRIMITIVES.get(boxedWrapper));
+    }
+
+    private static boolean isNumericWrapper(String wrapper) {
+        return !wrapper.equals("java/lang/Boolean") && !wrapper.equals("java/lang/Character");
+    }
+
+    /**
+     * Generates the primitive conversion which gives the same result as unboxing a boxed value into another primitive
+     * type, such as the I2L conversion for Integer.longValue().
+     */
+    private void convertPrimitive(Type from, Type to) {
+        //Booleans, chars, bytes, and shorts are ints on the stack
+        Type stackFrom = from.getSort() <= Type.INT ? Type.INT_TYPE : from;
+        Type stackTo = to.getSort() <= Type.INT ? Type.INT_TYPE : to;
+
+        if(!stackFrom.equals(stackTo)) {
+            int fromIndex = stackFrom.getSort() - Type.INT;
+            int toIndex = stackTo.getSort() - Type.INT;
+            //Rows are int, float, long, double, matching the order of the sorts in Type. Columns are the same.
+            int[][] conversions = {
+                {NOP, I2F, I2L, I2D},
+                {F2I, NOP, F2L, F2D},
+                {L2I, L2F, NOP, L2D},
+                {D2I, D2F, D2L, NOP}
+            };
+            super.visitInsn(conversions[fromIndex][toIndex]);
+        }
+
+        //Narrow the int into a byte or short, unless the value was already a byte or short
+        if(to.getSort() == Type.BYTE && from.getSort() != Type.BYTE)
+            super.visitInsn(I2B);
+        else if(to.getSort() == Type.SHORT && from.getSort() != Type.BYTE && from.getSort() != Type.SHORT)
+            super.visitInsn(I2S);
+    }
+
+    @Override
+    public void visitInsn(int opcode) {
+        flush();
+        super.visitInsn(opcode);
+    }
+
+    @Override
+    public void visitIntInsn(int opcode, int operand) {
+        flush();
+        super.visitIntInsn(opcode, operand);
+    }
+
+    @Override
+    public void visitVarInsn(int opcode, int varIndex) {
+        flush();
+        super.visitVarInsn(opcode, varIndex);
+    }
+
+    @Override
+    public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+        flush();
+        super.visitFieldInsn(opcode, owner, name, descriptor);
+    }
+
+    @Override
+    public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+        flush();
+        super.visitInvokeDynamicInsn(name, descriptor, bootstrapMethodHandle, bootstrapMethodArguments);
+    }
+
+    @Override
+    public void visitJumpInsn(int opcode, Label label) {
+        flush();
+        super.visitJumpInsn(opcode, label);
+    }
+
+    @Override
+    public void visitLabel(Label label) {
+        flush();
+        super.visitLabel(label);
+    }
+
+    @Override
+    public void visitLdcInsn(Object value) {
+        flush();
+        super.visitLdcInsn(value);
+    }
+
+    @Override
+    public void visitIincInsn(int varIndex, int increment) {
+        flush();
+        super.visitIincInsn(varIndex, increment);
+    }
+
+    @Override
+    public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+        flush();
+        super.visitTableSwitchInsn(min, max, dflt, labels);
+    }
+
+    @Override
+    public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+        flush();
+        super.visitLookupSwitchInsn(dflt, keys, labels);
+    }
+
+    @Override
+    public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+        flush();
+        super.visitMultiANewArrayInsn(descriptor, numDimensions);
+    }
+
+    @Override
+    public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+        flush();
+        super.visitTryCatchBlock(start, end, handler, type);
+    }
+
+    @Override
+    public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int index) {
+        flush();
+        super.visitLocalVariable(name, descriptor, signature, start, end, index);
+    }
+
+    @Override
+    public void visitLineNumber(int line, Label start) {
+        flush();
+        super.visitLineNumber(line, start);
+    }
+
+    @Override
+    public void visitFrame(int type, int numLocal, Object[] local, int numStack, Object[] stack) {
+        flush();
+        super.visitFrame(type, numLocal, local, numStack, stack);
+    }
+
+    @Override
+    public void visitMaxs(int maxStack, int maxLocals) {
+        flush();
+        super.visitMaxs(maxStack, maxLocals);
+    }
+
+    @Override
+    public void visitEnd() {
+        flush();
+        super.visitEnd();
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.cshunsinger.asmsauce.util;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.objectweb.asm.Opcodes.ASM9;
+
+/**
+ * Passes all bytecode through to another method visitor while replacing labels with new labels. Code builders create
+ * their labels once, so this allows the same code builders to generate bytecode more than once, since a label can only
+ * be placed once.
+ */
+public class LabelCopyingMethodVisitor extends MethodVisitor {
+    private final Predicate<Label> copied;
+    private final Map<Label, Label> copies = new HashMap<>();
+
+    /**
+     * Creates a method visitor which replaces every label with a new label.
+     * @param methodVisitor The method visitor to pass the bytecode through to.
+     */
+    public LabelCopyingMethodVisitor(MethodVisitor methodVisitor) {
+        this(methodVisitor, label -> true);
+    }
+
+    /**
+     * Creates a method visitor which replaces some labels with new labels. Labels which are not copied, such as the end
+     * label of an enclosing switch statement, are left alone.
+     * @param methodVisitor The method visitor to pass the bytecode through to.
+     * @param copied Tests whether a label should be replaced with a new label.
+     */
+    public LabelCopyingMethodVisitor(MethodVisitor methodVisitor, Predicate<Label> copied) {
+        super(ASM9, methodVisitor);
+        this.copied = copied;
+    }
+
+    private Label copy(Label label) {
+        return copied.test(label) ? copies.computeIfAbsent(label, l -> new Label()) : label;
+    }
+
+    private Label[] copy(Label[] labels) {
+        return Arrays.stream(labels).map(this::copy).toArray(Label[]::new);
+    }
+
+    @Override
+    public void visitLabel(Label label) {
+        super.visitLabel(copy(label));
+    }
+
+    @Override
+    public void visitJumpInsn(int opcode, Label label) {
+        super.visitJumpInsn(opcode, copy(label));
+    }
+
+    @Override
+    public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+        super.visitTableSwitchInsn(min, max, copy(dflt), copy(labels));
+    }
+
+    @Override
+    public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+        super.visitLookupSwitchInsn(copy(dflt), keys, copy(labels));
+    }
+
+    @Override
+    public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+        super.visitTryCatchBlock(copy(start), copy(end), copy(handler), type);
+    }
+
+    @Override
+    public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int index) {
+        super.visitLocalVariable(name, descriptor, signature, copy(start), copy(end), index);
+    }
+
+    @Override
+    public void visitLineNumber(int line, Label start) {
+        super.visitLineNumber(line, copy(start));
+    }
+}
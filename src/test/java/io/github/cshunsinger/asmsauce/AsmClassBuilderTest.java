@@ -8,19 +8,21 @@ import org.junit.jupiter.api.Test;
 
 import java.io.PrintStream;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
 
 import static io.github.cshunsinger.asmsauce.ConstructorNode.constructor;
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
 import static io.github.cshunsinger.asmsauce.FieldNode.field;
 import static io.github.cshunsinger.asmsauce.MethodNode.method;
 import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
-import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.privateOnly;
-import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.*;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.hasProperty;
-import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -192,6 +194,13 @@ public class AsmClassBuilderTest extends BaseUnitTest {
         assertThat(exception, hasProperty("message", is("No constructor found for given parameters.")));
     }
 
+    @Test
+    public void throwExceptionWhenEnablingNullOptimization() {
+        AsmClassBuilder<AsmTestBaseType> builder = new AsmClassBuilder<>(AsmTestBaseType.class);
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> builder.withOptimization(null));
+        assertThat(exception, hasProperty("message", is("Optimization cannot be null.")));
+    }
+
     public abstract static class StaticsTestType {
         public static String LAST_PRINTED = null;
 
@@ -218,4 +227,85 @@ public class AsmClassBuilderTest extends BaseUnitTest {
         instance.printText("CLAYTON!!!!!!!!!!!!!!");
         assertThat(StaticsTestType.LAST_PRINTED, is("CLAYTON!!!!!!!!!!!!!!"));
     }
+
+    public static abstract class AsmTestRule {
+        public abstract boolean matches(int value);
+        public abstract String getLabel();
+    }
+
+    private static AsmClassBuilder<AsmTestRule> ruleBuilder() {
+        return new AsmClassBuilder<>(AsmTestRule.class)
+            .withField(field(privateOnly(), type(int.class), name("limit")))
+            .withField(field(privateOnly(), type(String.class), name("label")))
+            .withConstructor(constructor(publicOnly(), parameters(p("limit", int.class), p("label", String.class)),
+                superConstructor(AsmTestRule.class, noParameters()), //super();
+                this_().assignField("limit", getVar("limit")), //this.limit = limit;
+                this_().assignField("label", getVar("label")), //this.label = label;
+                returnVoid()
+            ))
+            .withMethod(method(publicOnly(), name("matches"), parameters(p("value", int.class)), type(boolean.class),
+                if_(getVar("value").gt(this_().getField("limit"))).then( //if(value > this.limit)
+                    returnValue(literal(true)) //return true;
+                ),
+                returnValue(literal(false)) //return false;
+            ))
+            .withMethod(method(publicOnly(), name("getLabel"), noParameters(), type(String.class),
+                returnValue(this_().getField("label")) //return this.label;
+            ));
+    }
+
+    @Test
+    public void buildSpecializedVariantsWithInstanceFieldsAsConstants() throws NoSuchFieldException {
+        AsmClassBuilder<AsmTestRule> builder = ruleBuilder();
+
+        AsmTestRule generic = builder.buildInstance(5, "generic");
+        assertThat(generic.matches(6), is(true));
+        assertThat(generic.matches(5), is(false));
+
+        //The constructor assignment to a specialized field is discarded
+        AsmTestRule specialized = builder.buildSpecializedInstance(Map.of("limit", 10), 5, "specialized");
+        assertThat(specialized.matches(11), is(true));
+        assertThat(specialized.matches(10), is(false));
+        assertThat(specialized.getLabel(), is("specialized"));
+
+        Field limitField = specialized.getClass().getDeclaredField("limit");
+        assertThat(Modifier.isStatic(limitField.getModifiers()), is(true));
+        assertThat(Modifier.isFinal(limitField.getModifiers()), is(true));
+        assertThat(Modifier.isStatic(specialized.getClass().getDeclaredField("label").getModifiers()), is(false));
+
+        //Variants are cached by their field values
+        assertThat(builder.buildSpecialized(Map.of("limit", 10)), is(sameInstance(specialized.getClass())));
+        assertThat(builder.buildSpecialized(Map.of("limit", 20)), is(not(sameInstance(specialized.getClass()))));
+        assertThat(builder.buildSpecialized(Map.of("limit", 10, "label", "constant")), is(not(sameInstance(specialized.getClass()))));
+        assertThat(builder.buildSpecializedInstance(Map.of("limit", 0, "label", "constant"), 5, "ignored").getLabel(), is("constant"));
+
+        //The generic class is unaffected by the variants
+        assertThat(builder.build(), is(not(sameInstance(specialized.getClass()))));
+        assertThat(builder.buildInstance(5, "generic").matches(6), is(true));
+    }
+
+    @Test
+    public void throwExceptionWhenSpecializingInvalidFields() {
+        AsmClassBuilder<AsmTestRule> builder = ruleBuilder()
+            .withField(field(privateStatic(), name("COUNT"), 0));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> builder.buildSpecialized(null));
+        assertThat(ex, hasProperty("message", is("Specialized field values cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> builder.buildSpecialized(Map.of("unknown", 1)));
+        assertThat(ex, hasProperty("message", is("No instance field named unknown to specialize.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> builder.buildSpecialized(Map.of("COUNT", 1)));
+        assertThat(ex, hasProperty("message", is("No instance field named COUNT to specialize.")));
+
+        Map<String, Object> nullValue = new HashMap<>();
+        nullValue.put("label", null);
+        ex = assertThrows(IllegalArgumentException.class, () -> builder.buildSpecialized(nullValue));
+        assertThat(ex, hasProperty("message", is("Specialized value of field label cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> builder.buildSpecialized(Map.of("limit", "ten")));
+        assertThat(ex, hasProperty("message", is(
+            "Specialized value of type java.lang.String cannot be assigned to field limit of type int."
+        )));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package io.github.cshunsinger.asmsauce;
+
+import org.objectweb.asm.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Test utilities for inspecting the bytecode which was generated for a class.
+ */
+public class BytecodeTestUtils {
+    /**
+     * Reads the opcodes of every instruction in a generated method, in order.
+     * @param classBytes The bytes of the generated class.
+     * @param methodName The name of the method to read the opcodes of.
+     * @return The list of opcodes making up the body of the method.
+     */
+    public static List<Integer> opcodes(byte[] classBytes, String methodName) {
+        List<Integer> opcodes = new ArrayList<>();
+        new ClassReader(classBytes).accept(new ClassVisitor(ASM9) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+                return name.equals(methodName) ? new OpcodeRecorder(opcodes) : null;
+            }
+        }, 0);
+        return opcodes;
+    }
+
+    /**
+     * Reads the number of local variable slots used by a generated method.
+     * @param classBytes The bytes of the generated class.
+     * @param methodName The name of the method to read the max locals of.
+     * @return The max locals of the method.
+     */
+    public static int maxLocals(byte[] classBytes, String methodName) {
+        int[] maxLocals = new int[1];
+        new ClassReader(classBytes).accept(new ClassVisitor(ASM9) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+                return !name.equals(methodName) ? null : new MethodVisitor(ASM9) {
+                    @Override
+                    public void visitMaxs(int maxStack, int maxLocalCount) {
+                        maxLocals[0] = maxLocalCount;
+                    }
+                };
+            }
+        }, 0);
+        return maxLocals[0];
+    }
+
+    private static class OpcodeRecorder extends MethodVisitor {
+        private final List<Integer> opcodes;
+
+        private OpcodeRecorder(List<Integer> opcodes) {
+            super(ASM9);
+            this.opcodes = opcodes;
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int var) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+            opcodes.add(INVOKEDYNAMIC);
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            opcodes.add(LDC);
+        }
+
+        @Override
+        public void visitIincInsn(int var, int increment) {
+            opcodes.add(IINC);
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+            opcodes.add(TABLESWITCH);
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+            opcodes.add(LOOKUPSWITCH);
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+            opcodes.add(MULTIANEWARRAY);
+        }
+    }
+}
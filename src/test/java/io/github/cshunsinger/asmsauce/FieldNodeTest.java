@@ -26,6 +26,15 @@ class FieldNodeTest extends BaseUnitTest {
         assertThat(ex, hasProperty("message", is("Field definition cannot be null.")));
     }
 
+    @Test
+    public void illegalArgumentException_nullFieldInitializer() {
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class,
+            () -> field(publicStaticFinal(), type(int[].class), name("table"), null)
+        );
+        assertThat(ex, hasProperty("message", is("Field initializer cannot be null.")));
+    }
+
     @Test
     public void illegalArgumentException_attemptingToSupplyInitialValueForInstanceField() {
         CompleteFieldDefinition fieldDefinition = new CompleteFieldDefinition(
@@ -0,0 +1,126 @@
+package io.github.cshunsinger.asmsauce;
+
+import org.junit.jupiter.api.Test;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+
+class InlinedMethodTest extends BaseUnitTest {
+    public static abstract class TestType {
+        public abstract int clampSum(int first, int second);
+        public abstract int squareSum(int first, int second);
+        public abstract long doubleSum(long first, long second);
+        public abstract int factorial(int value);
+    }
+
+    private static AsmClassBuilder<TestType> testTypeBuilder() {
+        return new AsmClassBuilder<>(TestType.class)
+            //private static int clamp(int value) { if(value < 0) return 0; if(value > 100) return 100; return value; }
+            .withMethod(method(privateStatic(), name("clamp"), parameters(p("value", int.class)), type(int.class),
+                if_(getVar("value").lt(literal(0))).then(
+                    returnValue(literal(0))
+                ),
+                if_(getVar("value").gt(literal(100))).then(
+                    returnValue(literal(100))
+                ),
+                returnValue(getVar("value"))
+            ))
+            //private int square(int value) { int result = value * value; return result; }
+            .withMethod(method(privateOnly(), name("square"), parameters(p("value", int.class)), type(int.class),
+                setVar("result", getVar("value").mul(getVar("value"))),
+                returnValue(getVar("result"))
+            ))
+            //private static long add(long first, long second) { return first + second; }
+            .withMethod(method(privateStatic(), name("add"), parameters(p("first", long.class), p("second", long.class)), type(long.class),
+                returnValue(getVar("first").add(getVar("second")))
+            ))
+            //private static long twice(long value) { return add(value, value); }
+            .withMethod(method(privateStatic(), name("twice"), parameters(p("value", long.class)), type(long.class),
+                returnValue(invokeStatic(ThisClass.class, "add", getVar("value"), getVar("value")))
+            ))
+            //private static int fact(int value) { if(value <= 1) return 1; return value * fact(value - 1); }
+            .withMethod(method(privateStatic(), name("fact"), parameters(p("value", int.class)), type(int.class),
+                if_(getVar("value").le(literal(1))).then(
+                    returnValue(literal(1))
+                ),
+                returnValue(getVar("value").mul(invokeStatic(ThisClass.class, "fact", getVar("value").sub(literal(1)))))
+            ))
+            //public int clampSum(int first, int second) { int total = 1000; return clamp(first) + clamp(second) + total; }
+            .withMethod(method(publicOnly(), name("clampSum"), parameters(p("first", int.class), p("second", int.class)), type(int.class),
+                setVar("total", literal(1000)),
+                returnValue(invokeStatic(ThisClass.class, "clamp", getVar("first"))
+                    .add(invokeStatic(ThisClass.class, "clamp", getVar("second")))
+                    .add(getVar("total"))
+                )
+            ))
+            //public int squareSum(int first, int second) { return this.square(first) + this.square(second); }
+            .withMethod(method(publicOnly(), name("squareSum"), parameters(p("first", int.class), p("second", int.class)), type(int.class),
+                returnValue(this_().invoke("square", getVar("first")).add(this_().invoke("square", getVar("second"))))
+            ))
+            //public long doubleSum(long first, long second) { return twice(first) + twice(second); }
+            .withMethod(method(publicOnly(), name("doubleSum"), parameters(p("first", long.class), p("second", long.class)), type(long.class),
+                returnValue(invokeStatic(ThisClass.class, "twice", getVar("first")).add(invokeStatic(ThisClass.class, "twice", getVar("second"))))
+            ))
+            //public int factorial(int value) { return fact(value); }
+            .withMethod(method(publicOnly(), name("factorial"), parameters(p("value", int.class)), type(int.class),
+                returnValue(invokeStatic(ThisClass.class, "fact", getVar("value")))
+            ));
+    }
+
+    private static void assertResults(TestType instance) {
+        assertThat(instance.clampSum(-5, 50), is(1050));
+        assertThat(instance.clampSum(500, 7), is(1107));
+        assertThat(instance.squareSum(3, 4), is(25));
+        assertThat(instance.doubleSum(3_000_000_000L, 1L), is(6_000_000_002L));
+        assertThat(instance.factorial(5), is(120));
+    }
+
+    @Test
+    public void methodsAreNotInlinedByDefault() {
+        AsmClassBuilder<TestType> builder = testTypeBuilder();
+
+        assertThat(opcodes(builder.buildBytes(), "clampSum"), hasItem(INVOKESTATIC));
+        assertThat(opcodes(builder.buildBytes(), "squareSum"), hasItem(INVOKESPECIAL));
+        assertResults(builder.buildInstance());
+    }
+
+    @Test
+    public void inlineSmallPrivateAndStaticMethods() {
+        AsmClassBuilder<TestType> builder = testTypeBuilder().withOptimization(Optimization.METHOD_INLINING);
+
+        assertThat(opcodes(builder.buildBytes(), "clampSum"), not(hasItem(INVOKESTATIC)));
+        assertThat(opcodes(builder.buildBytes(), "squareSum"), not(hasItem(INVOKESPECIAL)));
+        //The call to add is inlined into twice, which is inlined into doubleSum
+        assertThat(opcodes(builder.buildBytes(), "doubleSum"), not(hasItem(INVOKESTATIC)));
+        //A recursive method is not inlined into itself
+        assertThat(opcodes(builder.buildBytes(), "factorial"), hasItem(INVOKESTATIC));
+        assertResults(builder.buildInstance());
+    }
+
+    @Test
+    public void methodsLargerThanMaxInlineSizeAreNotInlined() {
+        AsmClassBuilder<TestType> builder = testTypeBuilder()
+            .withOptimization(Optimization.METHOD_INLINING)
+            .withMaxInlineSize(6);
+
+        //The body of add is 4 bytes, while the body of clamp is larger
+        assertThat(opcodes(builder.buildBytes(), "clampSum"), hasItem(INVOKESTATIC));
+        assertThat(opcodes(builder.buildBytes(), "twice"), not(hasItem(INVOKESTATIC)));
+        assertResults(builder.buildInstance());
+    }
+
+    @Test
+    public void illegalArgumentException_negativeMaxInlineSize() {
+        AsmClassBuilder<TestType> builder = testTypeBuilder();
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> builder.withMaxInlineSize(-1));
+        assertThat(ex, hasProperty("message", is("Max inline size cannot be negative.")));
+    }
+}
@@ -254,4 +254,23 @@ class MethodBuildingContextTest extends BaseUnitTest {
         //the active context.
         assertThat(MethodBuildingContext.context(), is(context));
     }
+
+    @Test
+    public void trackMaxLocalsAcrossScopes() {
+        context.setLocalType("outer", type(int.class));
+
+        context.beginScope();
+        context.setLocalType("first", type(long.class));
+        context.endScope();
+        assertThat(context.getMaxLocals(), is(3));
+
+        //A sibling scope reuses the slots freed by the previous scope
+        context.beginScope();
+        context.setLocalType("second", type(double.class));
+        assertThat(context.getLocalIndex("second"), is(1));
+        context.endScope();
+
+        assertThat(context.numLocals(), is(1));
+        assertThat(context.getMaxLocals(), is(3));
+    }
 }
\ No newline at end of file
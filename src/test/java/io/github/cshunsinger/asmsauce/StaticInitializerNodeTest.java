@@ -0,0 +1,78 @@
+package io.github.cshunsinger.asmsauce;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.FieldNode.field;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.StaticInitializerNode.staticInitializer;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StaticInitializerNodeTest extends BaseUnitTest {
+    @Test
+    public void illegalArgumentException_nullStaticInitializer() {
+        AsmClassBuilder<Object> builder = new AsmClassBuilder<>(Object.class);
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> builder.withStaticInitializer(null));
+        assertThat(ex, hasProperty("message", is("Static initializer cannot be null.")));
+    }
+
+    public static abstract class TestType {
+        public static final List<String> EVENTS = new ArrayList<>();
+
+        public abstract int square(int value);
+        public abstract String greeting();
+    }
+
+    @Test
+    public void initializeStaticFieldsAndRunStaticInitializerBlocksOnce() {
+        TestType.EVENTS.clear();
+
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            //private static final int[] SQUARES = new int[10];
+            .withField(field(privateStatic().withFinal(), type(int[].class), name("SQUARES"), newArray(int.class, literal(10))))
+            //private static final String GREETING = "Hello " + "World";
+            .withField(field(privateStatic().withFinal(), type(String.class), name("GREETING"), concat(literalObj("Hello "), literalObj("World"))))
+            .withStaticInitializer(staticInitializer( //static { for(int i = 0; i < 10; i++) SQUARES[i] = i * i; }
+                forRange("i", literal(0), literal(10), 1).do_(
+                    getStatic(type(ThisClass.class), name("SQUARES"), type(int[].class)).set(getVar("i"), getVar("i").mul(getVar("i")))
+                )
+            ))
+            .withStaticInitializer(staticInitializer( //static { TestType.EVENTS.add("initialized"); }
+                getStatic(TestType.class, "EVENTS").invoke("add", literalObj("initialized"))
+            ))
+            .withMethod(method(publicOnly(), name("square"), parameters(p("value", int.class)), type(int.class),
+                returnValue(getStatic(type(ThisClass.class), name("SQUARES"), type(int[].class)).get(getVar("value")))
+            ))
+            .withMethod(method(publicOnly(), name("greeting"), noParameters(), type(String.class),
+                returnValue(getStatic(type(ThisClass.class), name("GREETING"), type(String.class)))
+            ));
+
+        assertThat(opcodes(builder.buildBytes(), "<clinit>"), is(not(empty())));
+
+        TestType first = builder.buildInstance();
+        TestType second = builder.buildInstance();
+        assertThat(first.square(7), is(49));
+        assertThat(second.square(9), is(81));
+        assertThat(first.greeting(), is("Hello World"));
+        assertThat(TestType.EVENTS, contains("initialized"));
+    }
+
+    @Test
+    public void noStaticInitializerGeneratedWhenNotNeeded() {
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withField(field(privateStatic(), name("CONSTANT"), 5))
+            .withMethod(method(publicOnly(), name("square"), parameters(p("value", int.class)), type(int.class),
+                returnValue(getVar("value").mul(getVar("value")))
+            ));
+
+        assertThat(opcodes(builder.buildBytes(), "<clinit>"), is(empty()));
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.cshunsinger.asmsauce.accessor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BeanMapperBuilderTest {
+    public static class TestSource {
+        public String name = "source";
+        public final int count;
+        private final boolean active;
+        private final Integer rank;
+        private final String createdAt;
+
+        public TestSource(int count, boolean active, Integer rank, String createdAt) {
+            this.count = count;
+            this.active = active;
+            this.rank = rank;
+            this.createdAt = createdAt;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public Integer getRank() {
+            return rank;
+        }
+
+        public String getCreatedAt() {
+            return createdAt;
+        }
+    }
+
+    public static class TestTarget {
+        public String name;
+        public long count;
+        private boolean active;
+        private long rank;
+        private Long createdAt;
+        public String unmapped = "unmapped";
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public void setRank(long rank) {
+            this.rank = rank;
+        }
+
+        public void setCreatedAt(Long createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+
+    public static class TestNumberTarget {
+        public Number count;
+        public Object name;
+    }
+
+    public interface TestInterfaceTarget {
+        void setName(String name);
+    }
+
+    public static class TestGenericSource<V> {
+        public V getValue() {
+            return null;
+        }
+    }
+
+    public static class TestStringSource extends TestGenericSource<String> {
+        @Override
+        public String getValue() {
+            return "value";
+        }
+    }
+
+    public static class TestGenericTarget<V> {
+        public void setValue(V value) {}
+    }
+
+    public static class TestStringTarget extends TestGenericTarget<String> {
+        private String value;
+
+        @Override
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    @Test
+    public void illegalArgumentException_nullOrInaccessibleTypes() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new BeanMapperBuilder<>(null, TestTarget.class));
+        assertThat(ex, hasProperty("message", is("Source type cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new BeanMapperBuilder<>(TestSource.class, null));
+        assertThat(ex, hasProperty("message", is("Target type cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new BeanMapperBuilder<>(int.class, TestTarget.class));
+        assertThat(ex, hasProperty("message", is("Type int must be a public class or interface.")));
+    }
+
+    @Test
+    public void illegalStateException_propertyCannotBeImplicitlyConverted() {
+        BeanMapperBuilder<TestSource, TestTarget> builder = new BeanMapperBuilder<>(TestSource.class, TestTarget.class);
+        IllegalStateException ex = assertThrows(IllegalStateException.class, builder::build);
+        assertThat(ex, hasProperty("message", is("Cannot map property createdAt from type java.lang.String to type java.lang.Long.")));
+    }
+
+    @Test
+    public void illegalStateException_converterForUnmatchedProperty() {
+        BeanMapperBuilder<TestSource, TestTarget> builder = new BeanMapperBuilder<>(TestSource.class, TestTarget.class)
+            .withConverter("createdAt", (String value) -> Long.valueOf(value))
+            .withConverter("missing", value -> value);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, builder::build);
+        assertThat(ex, hasProperty("message", is("Cannot convert property missing, which must be readable from %s and writable to %s.".formatted(
+            TestSource.class.getName(), TestTarget.class.getName()
+        ))));
+    }
+
+    @Test
+    public void mapMatchedPropertiesWithImplicitConversionsAndConverters() {
+        BeanMapper<TestSource, TestTarget> mapper = new BeanMapperBuilder<>(TestSource.class, TestTarget.class)
+            .withConverter("createdAt", (String value) -> Long.valueOf(value))
+            .build();
+
+        TestTarget target = mapper.map(new TestSource(5, true, 7, "1234"));
+        assertThat(target.name, is("source"));
+        assertThat(target.count, is(5L));
+        assertThat(target.active, is(true));
+        assertThat(target.rank, is(7L));
+        assertThat(target.createdAt, is(1234L));
+        assertThat(target.unmapped, is("unmapped"));
+
+        TestTarget existing = new TestTarget();
+        assertThat(mapper.map(new TestSource(9, false, 3, "1"), existing), sameInstance(existing));
+        assertThat(existing.count, is(9L));
+        assertThat(existing.rank, is(3L));
+    }
+
+    @Test
+    public void boxPrimitivesIntoSupertypesOfTheirWrappers() {
+        BeanMapper<TestSource, TestNumberTarget> mapper = new BeanMapperBuilder<>(TestSource.class, TestNumberTarget.class).build();
+
+        TestNumberTarget target = mapper.map(new TestSource(5, true, 7, "1234"));
+        assertThat(target.count, is(5));
+        assertThat(target.name, is("source"));
+    }
+
+    @Test
+    public void mapPropertiesOverridingGenericSuperclassProperties() {
+        BeanMapper<TestStringSource, TestStringTarget> mapper = new BeanMapperBuilder<>(TestStringSource.class, TestStringTarget.class).build();
+
+        TestStringTarget target = mapper.map(new TestStringSource());
+        assertThat(target.value, is("value"));
+    }
+
+    @Test
+    public void illegalStateException_targetCannotBeInstantiated() {
+        BeanMapper<TestSource, TestInterfaceTarget> mapper = new BeanMapperBuilder<>(TestSource.class, TestInterfaceTarget.class).build();
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> mapper.map(new TestSource(1, true, 1, "1")));
+        assertThat(ex, hasProperty("message", is("Cannot instantiate %s without a public no-argument constructor.".formatted(
+            TestInterfaceTarget.class.getName()
+        ))));
+
+        List<String> names = new ArrayList<>();
+        mapper.map(new TestSource(1, true, 1, "1"), names::add);
+        assertThat(names, contains("source"));
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.cshunsinger.asmsauce.accessor;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ComparatorBuilderTest {
+    public static class TestPerson {
+        public String name;
+        public int age;
+        public double score;
+        public Object tag;
+        private final long id;
+        private final boolean active;
+
+        public TestPerson(long id, String name, int age, double score, boolean active) {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+            this.score = score;
+            this.active = active;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    private static List<Long> sortedIds(Comparator<TestPerson> comparator, TestPerson... people) {
+        List<TestPerson> sorted = new ArrayList<>(List.of(people));
+        sorted.sort(comparator);
+        return sorted.stream().map(TestPerson::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    public void illegalArgumentException_invalidTypeOrKey() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new ComparatorBuilder<>(null));
+        assertThat(ex, hasProperty("message", is("Type cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new ComparatorBuilder<>(int[].class));
+        assertThat(ex, hasProperty("message", is("Type [I must be a public class or interface.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new ComparatorBuilder<>(TestPerson.class).ascending(null));
+        assertThat(ex, hasProperty("message", is("Property name cannot be null or empty.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new ComparatorBuilder<>(TestPerson.class).ascending("missing"));
+        assertThat(ex, hasProperty("message", is("Type %s has no public getter or field for property missing.".formatted(TestPerson.class.getName()))));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new ComparatorBuilder<>(TestPerson.class).descending("tag"));
+        assertThat(ex, hasProperty("message", is("Property tag of type java.lang.Object is not comparable.")));
+    }
+
+    @Test
+    public void illegalStateException_noKeys() {
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> new ComparatorBuilder<>(TestPerson.class).build());
+        assertThat(ex, hasProperty("message", is("At least one sort key must be added.")));
+    }
+
+    @Test
+    public void sortsByEachKeyInTurn() {
+        Comparator<TestPerson> comparator = new ComparatorBuilder<>(TestPerson.class)
+            .descending("active")
+            .ascending("age")
+            .descending("score")
+            .ascending("id")
+            .build();
+
+        List<Long> ids = sortedIds(comparator,
+            new TestPerson(1, "a", 30, 1.5, false),
+            new TestPerson(2, "b", 30, 2.5, true),
+            new TestPerson(3, "c", 20, 0.5, true),
+            new TestPerson(4, "d", 30, 2.5, true),
+            new TestPerson(5, "e", 30, Double.NaN, true)
+        );
+        assertThat(ids, contains(3L, 5L, 2L, 4L, 1L));
+        assertThat(Modifier.isFinal(comparator.getClass().getModifiers()), is(true));
+    }
+
+    @Test
+    public void comparableKeysOrderNullsFirstOrLast() {
+        TestPerson[] people = {
+            new TestPerson(1, "bob", 0, 0, false),
+            new TestPerson(2, null, 0, 0, false),
+            new TestPerson(3, "alice", 0, 0, false),
+            new TestPerson(4, null, 0, 0, false)
+        };
+
+        Comparator<TestPerson> nullsLast = new ComparatorBuilder<>(TestPerson.class).ascending("name").ascending("id").build();
+        assertThat(sortedIds(nullsLast, people), contains(3L, 1L, 2L, 4L));
+
+        Comparator<TestPerson> nullsFirst = new ComparatorBuilder<>(TestPerson.class).descending("name", true).ascending("id").build();
+        assertThat(sortedIds(nullsFirst, people), contains(2L, 4L, 1L, 3L));
+    }
+
+    @Test
+    public void comparatorsAreCachedByKeys() {
+        Comparator<TestPerson> first = new ComparatorBuilder<>(TestPerson.class).ascending("age").descending("name").build();
+        Comparator<TestPerson> second = new ComparatorBuilder<>(TestPerson.class).ascending("age").descending("name").build();
+        Comparator<TestPerson> third = new ComparatorBuilder<>(TestPerson.class).ascending("age").descending("name", true).build();
+
+        assertThat(second, sameInstance(first));
+        assertThat(third, not(sameInstance(first)));
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.cshunsinger.asmsauce.accessor;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InvokersTest {
+    public static class TestService {
+        public final String name;
+        public final List<String> recorded = new ArrayList<>();
+
+        public TestService(String name) {
+            this.name = name;
+        }
+
+        public int add(int first, int second) {
+            return first + second;
+        }
+
+        public void record(String value) {
+            recorded.add(value);
+        }
+
+        public static String join(String first, String second, String third) {
+            return first + second + third;
+        }
+
+        private static String hidden() {
+            return "hidden";
+        }
+    }
+
+    public static abstract class TestAbstractService {
+        public TestAbstractService() {}
+    }
+
+    @Test
+    public void illegalArgumentException_nullMethodOrConstructor() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> Invokers.of((Method)null));
+        assertThat(ex, hasProperty("message", is("Method cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> Invokers.of((Constructor<?>)null));
+        assertThat(ex, hasProperty("message", is("Constructor cannot be null.")));
+    }
+
+    @Test
+    public void illegalArgumentException_nonPublicMethod() throws NoSuchMethodException {
+        Method method = TestService.class.getDeclaredMethod("hidden");
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> Invokers.of(method));
+        assertThat(ex, hasProperty("message", is(method + " must be public and belong to a public class.")));
+    }
+
+    @Test
+    public void illegalArgumentException_abstractClassConstructor() throws NoSuchMethodException {
+        Constructor<?> constructor = TestAbstractService.class.getConstructor();
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> Invokers.of(constructor));
+        assertThat(ex, hasProperty("message", is("Cannot invoke constructor of abstract class %s.".formatted(TestAbstractService.class.getName()))));
+    }
+
+    @Test
+    public void invokeInstanceMethods() throws NoSuchMethodException {
+        TestService service = new TestService("service");
+
+        Invoker add = Invokers.of(TestService.class.getMethod("add", int.class, int.class));
+        assertThat(add.invoke(service, 2, 3), is(5));
+        assertThat(add.invokeWithArguments(service, 4, 5), is(9));
+
+        Invoker record = Invokers.of(TestService.class.getMethod("record", String.class));
+        assertThat(record.invoke(service, "first"), is(nullValue()));
+        assertThat(record.invokeWithArguments(service, "second"), is(nullValue()));
+        assertThat(service.recorded, contains("first", "second"));
+
+        //Methods of classes from the bootstrap class loader, such as String, can be invoked as well
+        Invoker length = Invokers.of(String.class.getMethod("length"));
+        assertThat(length.invokeInt("four"), is(4));
+        assertThat(length.invoke("four"), is(4));
+
+        ClassCastException ex = assertThrows(ClassCastException.class, () -> add.invoke(service, "2", 3));
+        assertThat(ex, hasProperty("message", containsString("java.lang.Integer")));
+    }
+
+    @Test
+    public void invokeStaticMethodsAndConstructors() throws NoSuchMethodException {
+        Invoker join = Invokers.of(TestService.class.getMethod("join", String.class, String.class, String.class));
+        assertThat(join.invoke(null, "a", "b", "c"), is("abc"));
+        assertThat(join.invokeWithArguments(null, "d", "e", "f"), is("def"));
+
+        Invoker constructor = Invokers.of(TestService.class.getConstructor(String.class));
+        Object service = constructor.invoke(null, "created");
+        assertThat(service, instanceOf(TestService.class));
+        assertThat(((TestService)service).name, is("created"));
+        assertThat(constructor.getExecutable(), is(TestService.class.getConstructor(String.class)));
+    }
+
+    @Test
+    public void illegalArgumentException_wrongArgumentsOrReturnType() throws NoSuchMethodException {
+        TestService service = new TestService("service");
+        Invoker add = Invokers.of(TestService.class.getMethod("add", int.class, int.class));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> add.invoke(service, 2));
+        assertThat(ex, hasProperty("message", is("add expects 2 arguments, but 1 were given.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> add.invokeWithArguments(service, 2, 3, 4));
+        assertThat(ex, hasProperty("message", is("add expects 2 arguments, but 3 were given.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> add.invokeInt(service));
+        assertThat(ex, hasProperty("message", is("add cannot be invoked without arguments to return int.")));
+    }
+}
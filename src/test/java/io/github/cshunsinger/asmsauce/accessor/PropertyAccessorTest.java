@@ -0,0 +1,110 @@
+package io.github.cshunsinger.asmsauce.accessor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PropertyAccessorTest {
+    public static class TestBase {
+        public long id;
+        private String hidden;
+    }
+
+    public static class TestBean extends TestBase {
+        public static int COUNTER;
+        public int count;
+        public double ratio;
+        public boolean active;
+        public String name;
+        public final String kind = "bean";
+    }
+
+    private static class PrivateBean {
+        public int count;
+    }
+
+    @Test
+    public void illegalArgumentException_nullType() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> PropertyAccessor.forClass(null));
+        assertThat(ex, hasProperty("message", is("Type cannot be null.")));
+    }
+
+    @Test
+    public void illegalArgumentException_nonPublicType() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> PropertyAccessor.forClass(PrivateBean.class));
+        assertThat(ex, hasProperty("message", is("Type %s must be a public class.".formatted(PrivateBean.class.getName()))));
+    }
+
+    @Test
+    public void accessorIsGeneratedOncePerClass() {
+        assertThat(PropertyAccessor.forClass(TestBean.class), sameInstance(PropertyAccessor.forClass(TestBean.class)));
+        assertThat(PropertyAccessor.forClass(TestBase.class), not(sameInstance(PropertyAccessor.forClass(TestBean.class))));
+    }
+
+    @Test
+    public void describePublicInstanceFieldsAsProperties() {
+        PropertyAccessor<TestBean> accessor = PropertyAccessor.forClass(TestBean.class);
+
+        assertThat(accessor.getPropertyCount(), is(6));
+        assertThat(accessor.getPropertyName(0), is("id"));
+        assertThat(accessor.getPropertyType(0), is(long.class));
+        assertThat(accessor.getPropertyName(5), is("kind"));
+        assertThat(accessor.getPropertyType(5), is(String.class));
+        assertThat(accessor.indexOf("ratio"), is(2));
+        assertThat(accessor.indexOf("hidden"), is(-1));
+        assertThat(accessor.indexOf("COUNTER"), is(-1));
+    }
+
+    @Test
+    public void readAndWriteProperties() {
+        PropertyAccessor<TestBean> accessor = PropertyAccessor.forClass(TestBean.class);
+        TestBean bean = new TestBean();
+
+        accessor.setLong(bean, accessor.indexOf("id"), 12L);
+        accessor.setInt(bean, accessor.indexOf("count"), 5);
+        accessor.setDouble(bean, accessor.indexOf("ratio"), 0.5);
+        accessor.setBoolean(bean, accessor.indexOf("active"), true);
+        accessor.set(bean, accessor.indexOf("name"), "first");
+
+        assertThat(bean.id, is(12L));
+        assertThat(bean.count, is(5));
+        assertThat(bean.ratio, is(0.5));
+        assertThat(bean.active, is(true));
+        assertThat(bean.name, is("first"));
+
+        assertThat(accessor.getLong(bean, 0), is(12L));
+        assertThat(accessor.getInt(bean, 1), is(5));
+        assertThat(accessor.getDouble(bean, 2), is(0.5));
+        assertThat(accessor.getBoolean(bean, 3), is(true));
+
+        //The untyped methods box and unbox primitive properties
+        accessor.set(bean, 1, 7);
+        assertThat(bean.count, is(7));
+        assertThat(accessor.get(bean, 1), is(7));
+        assertThat(accessor.get(bean, 4), is("first"));
+        assertThat(accessor.get(bean, 5), is("bean"));
+    }
+
+    @Test
+    public void illegalArgumentException_noMatchingProperty() {
+        PropertyAccessor<TestBean> accessor = PropertyAccessor.forClass(TestBean.class);
+        TestBean bean = new TestBean();
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> accessor.get(bean, 6));
+        assertThat(ex, hasProperty("message", is("No readable property at index 6.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> accessor.getInt(bean, 0));
+        assertThat(ex, hasProperty("message", is("No int property at index 0.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> accessor.getBoolean(bean, 1));
+        assertThat(ex, hasProperty("message", is("No boolean property at index 1.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> accessor.set(bean, 5, "other"));
+        assertThat(ex, hasProperty("message", is("No writable property at index 5.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> accessor.setLong(bean, 1, 3L));
+        assertThat(ex, hasProperty("message", is("No writable long property at index 1.")));
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.cshunsinger.asmsauce.code.array;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import org.junit.jupiter.api.Test;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+class ArrayCopyInsnTest {
+    @Test
+    public void illegalArgumentException_nullParameters() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> arrayCopy(null, literal(0), getVar(1), literal(0), literal(1)));
+        assertThat(ex, hasProperty("message", is("Source array builder cannot be null.")));
+        ex = assertThrows(IllegalArgumentException.class, () -> arrayCopy(getVar(1), null, getVar(1), literal(0), literal(1)));
+        assertThat(ex, hasProperty("message", is("Source position builder cannot be null.")));
+        ex = assertThrows(IllegalArgumentException.class, () -> arrayCopy(getVar(1), literal(0), null, literal(0), literal(1)));
+        assertThat(ex, hasProperty("message", is("Destination array builder cannot be null.")));
+        ex = assertThrows(IllegalArgumentException.class, () -> arrayCopy(getVar(1), literal(0), getVar(1), null, literal(1)));
+        assertThat(ex, hasProperty("message", is("Destination position builder cannot be null.")));
+        ex = assertThrows(IllegalArgumentException.class, () -> arrayCopy(getVar(1), literal(0), getVar(1), literal(0), null));
+        assertThat(ex, hasProperty("message", is("Length builder cannot be null.")));
+    }
+
+    public static abstract class TestType {
+        public abstract void copy(int[] source, int[] destination);
+        public abstract void copyObjects(String[] source, Object[] destination);
+        public abstract void invalid(int[] source, long[] destination);
+    }
+
+    @Test
+    public void copyElementsWithSystemArraycopy() {
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("copy"), parameters(p("source", int[].class), p("destination", int[].class)),
+                arrayCopy(getVar("source"), literal(1), getVar("destination"), literal(0), getVar("source").length().sub(literal(1))), //System.arraycopy(source, 1, destination, 0, source.length - 1);
+                returnVoid()
+            ))
+            .withMethod(method(publicOnly(), name("copyObjects"), parameters(p("source", String[].class), p("destination", Object[].class)),
+                arrayCopy(getVar("source"), literal(0), getVar("destination"), literal((byte)2), literal(2)), //System.arraycopy(source, 0, destination, 2, 2);
+                returnVoid()
+            ));
+
+        assertThat(opcodes(builder.buildBytes(), "copy"), hasItem(INVOKESTATIC));
+
+        TestType instance = builder.buildInstance();
+        int[] destination = new int[4];
+        instance.copy(new int[] {1, 2, 3, 4}, destination);
+        assertThat(destination, is(new int[] {2, 3, 4, 0}));
+
+        Object[] objects = new Object[4];
+        instance.copyObjects(new String[] {"a", "b"}, objects);
+        assertThat(objects, is(new Object[] {null, null, "a", "b"}));
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> instance.copy(new int[] {1, 2, 3}, new int[1]));
+    }
+
+    @Test
+    public void illegalStateException_incompatiblePrimitiveArrays() {
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("invalid"), parameters(p("source", int[].class), p("destination", long[].class)),
+                arrayCopy(getVar("source"), literal(0), getVar("destination"), literal(0), literal(1)),
+                returnVoid()
+            ));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, builder::buildInstance);
+        assertThat(ex, hasProperty("message", is("Cannot copy elements from an array of type [I into an array of type [J.")));
+    }
+}
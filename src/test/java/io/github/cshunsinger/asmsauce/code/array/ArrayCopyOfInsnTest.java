@@ -0,0 +1,51 @@
+package io.github.cshunsinger.asmsauce.code.array;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import org.junit.jupiter.api.Test;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+class ArrayCopyOfInsnTest {
+    @Test
+    public void illegalArgumentException_nullParameters() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> copyOf(null, literal(0)));
+        assertThat(ex, hasProperty("message", is("Array builder cannot be null.")));
+        ex = assertThrows(IllegalArgumentException.class, () -> copyOf(getVar(1), null));
+        assertThat(ex, hasProperty("message", is("New length builder cannot be null.")));
+    }
+
+    public static abstract class TestType {
+        public abstract byte[] grow(byte[] array);
+        public abstract String[] truncate(String[] array);
+        public abstract String first(String[] array);
+    }
+
+    @Test
+    public void copyArraysWithArraysCopyOf() {
+        TestType instance = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("grow"), parameters(p("array", byte[].class)), type(byte[].class),
+                returnValue(copyOf(getVar("array"), getVar("array").length().mul(literal(2)))) //return Arrays.copyOf(array, array.length * 2);
+            ))
+            .withMethod(method(publicOnly(), name("truncate"), parameters(p("array", String[].class)), type(String[].class),
+                returnValue(copyOf(getVar("array"), literal(1))) //return Arrays.copyOf(array, 1);
+            ))
+            .withMethod(method(publicOnly(), name("first"), parameters(p("array", String[].class)), type(String.class),
+                returnValue(copyOf(getVar("array"), literal(1)).get(literal(0))) //return Arrays.copyOf(array, 1)[0];
+            ))
+            .buildInstance();
+
+        assertThat(instance.grow(new byte[] {1, 2}), is(new byte[] {1, 2, 0, 0}));
+        String[] truncated = instance.truncate(new String[] {"a", "b"});
+        assertThat(truncated, is(new String[] {"a"}));
+        assertThat(truncated.getClass(), equalTo(String[].class));
+        assertThat(instance.first(new String[] {"x", "y"}), is("x"));
+    }
+}
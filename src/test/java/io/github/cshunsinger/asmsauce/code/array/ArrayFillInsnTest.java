@@ -0,0 +1,66 @@
+package io.github.cshunsinger.asmsauce.code.array;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import org.junit.jupiter.api.Test;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+class ArrayFillInsnTest {
+    @Test
+    public void illegalArgumentException_nullParameters() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> fill(null, literal(0)));
+        assertThat(ex, hasProperty("message", is("Array builder cannot be null.")));
+        ex = assertThrows(IllegalArgumentException.class, () -> fill(getVar(1), null));
+        assertThat(ex, hasProperty("message", is("Value builder cannot be null.")));
+        ex = assertThrows(IllegalArgumentException.class, () -> fill(getVar(1), null, literal(1), literal(0)));
+        assertThat(ex, hasProperty("message", is("From index builder cannot be null.")));
+        ex = assertThrows(IllegalArgumentException.class, () -> fill(getVar(1), literal(0), null, literal(0)));
+        assertThat(ex, hasProperty("message", is("To index builder cannot be null.")));
+    }
+
+    public static abstract class TestType {
+        public abstract void fillDoubles(double[] array);
+        public abstract void fillRange(char[] array, char value);
+        public abstract void fillStrings(String[] array, String value);
+    }
+
+    @Test
+    public void fillArraysWithArraysFill() {
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("fillDoubles"), parameters(p("array", double[].class)),
+                fill(getVar("array"), literal(1)), //Arrays.fill(array, 1);
+                returnVoid()
+            ))
+            .withMethod(method(publicOnly(), name("fillRange"), parameters(p("array", char[].class), p("value", char.class)),
+                fill(getVar("array"), literal(1), literal(3), getVar("value")), //Arrays.fill(array, 1, 3, value);
+                returnVoid()
+            ))
+            .withMethod(method(publicOnly(), name("fillStrings"), parameters(p("array", String[].class), p("value", String.class)),
+                fill(getVar("array"), getVar("value")), //Arrays.fill(array, value);
+                returnVoid()
+            ));
+
+        assertThat(opcodes(builder.buildBytes(), "fillDoubles"), contains(ALOAD, LDC, I2D, INVOKESTATIC, RETURN));
+
+        TestType instance = builder.buildInstance();
+        double[] doubles = new double[3];
+        instance.fillDoubles(doubles);
+        assertThat(doubles, is(new double[] {1.0, 1.0, 1.0}));
+
+        char[] chars = {'a', 'a', 'a', 'a'};
+        instance.fillRange(chars, 'z');
+        assertThat(chars, is(new char[] {'a', 'z', 'z', 'a'}));
+
+        String[] strings = new String[2];
+        instance.fillStrings(strings, "Hello");
+        assertThat(strings, is(new String[] {"Hello", "Hello"}));
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.cshunsinger.asmsauce.code.array;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import org.junit.jupiter.api.Test;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+class ArrayLiteralInsnTest {
+    @Test
+    public void illegalArgumentException_nullComponentType() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> arrayOf((Class<?>)null));
+        assertThat(ex, hasProperty("message", is("Component type cannot be null.")));
+    }
+
+    public static abstract class TestType {
+        public abstract long[] longs(int value);
+        public abstract Object[] objects(String value);
+        public abstract int[] empty();
+        public abstract int length();
+    }
+
+    @Test
+    public void instantiateArraysFromElements() {
+        TestType instance = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("longs"), parameters(p("value", int.class)), type(long[].class),
+                returnValue(arrayOf(long.class, literal(1), getVar("value"), literal(3L))) //return new long[] {1, value, 3L};
+            ))
+            .withMethod(method(publicOnly(), name("objects"), parameters(p("value", String.class)), type(Object[].class),
+                returnValue(arrayOf(Object.class, getVar("value"), literalObj(null), literalObj("World"))) //return new Object[] {value, null, "World"};
+            ))
+            .withMethod(method(publicOnly(), name("empty"), noParameters(), type(int[].class),
+                returnValue(arrayOf(int.class)) //return new int[] {};
+            ))
+            .withMethod(method(publicOnly(), name("length"), noParameters(), type(int.class),
+                returnValue(arrayOf(int.class, literal(1), literal(2)).length()) //return new int[] {1, 2}.length;
+            ))
+            .buildInstance();
+
+        assertThat(instance.longs(2), is(new long[] {1L, 2L, 3L}));
+        assertThat(instance.objects("Hello"), is(new Object[] {"Hello", null, "World"}));
+        assertThat(instance.empty(), is(new int[0]));
+        assertThat(instance.length(), is(2));
+    }
+
+    public static abstract class TestInvalidElement {
+        public abstract int[] invalid();
+    }
+
+    @Test
+    public void illegalStateException_elementCannotBeConvertedToComponentType() {
+        AsmClassBuilder<TestInvalidElement> builder = new AsmClassBuilder<>(TestInvalidElement.class)
+            .withMethod(method(publicOnly(), name("invalid"), noParameters(), type(int[].class),
+                returnValue(arrayOf(int.class, literal(1L)))
+            ));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, builder::buildInstance);
+        assertThat(ex, hasProperty("message", is("Cannot convert from type long into type int.")));
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.cshunsinger.asmsauce.code.array;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import org.junit.jupiter.api.Test;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+class InstantiateMultiArrayInsnTest {
+    @Test
+    public void illegalArgumentException_invalidParameters() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> newMultiArray((Class<?>)null, literal(1)));
+        assertThat(ex, hasProperty("message", is("Array type cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> newMultiArray(int.class, literal(1)));
+        assertThat(ex, hasProperty("message", is("Array type must be an array. Found type int instead.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> newMultiArray(int[][].class));
+        assertThat(ex, hasProperty("message", is("Expected between 1 and 2 dimension lengths. Got 0 instead.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> newMultiArray(int[][].class, literal(1), literal(2), literal(3)));
+        assertThat(ex, hasProperty("message", is("Expected between 1 and 2 dimension lengths. Got 3 instead.")));
+    }
+
+    public static abstract class TestType {
+        public abstract int[][] grid(int rows, int columns);
+        public abstract String[][][] partial(int length);
+        public abstract long[][] singleDimension(int length);
+    }
+
+    @Test
+    public void instantiateMultiDimensionalArrays() {
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("grid"), parameters(p("rows", int.class), p("columns", int.class)), type(int[][].class),
+                returnValue(newMultiArray(int[][].class, getVar("rows"), getVar("columns"))) //return new int[rows][columns];
+            ))
+            .withMethod(method(publicOnly(), name("partial"), parameters(p("length", int.class)), type(String[][][].class),
+                returnValue(newMultiArray(String[][][].class, getVar("length"), getVar("length"))) //return new String[length][length][];
+            ))
+            .withMethod(method(publicOnly(), name("singleDimension"), parameters(p("length", int.class)), type(long[][].class),
+                returnValue(newMultiArray(long[][].class, getVar("length"))) //return new long[length][];
+            ));
+
+        byte[] classBytes = builder.buildBytes();
+        assertThat(opcodes(classBytes, "grid"), hasItem(MULTIANEWARRAY));
+        assertThat(opcodes(classBytes, "singleDimension"), contains(ILOAD, ANEWARRAY, ARETURN));
+
+        TestType instance = builder.buildInstance();
+        int[][] grid = instance.grid(3, 4);
+        assertThat(grid.length, is(3));
+        assertThat(grid[2].length, is(4));
+
+        String[][][] partial = instance.partial(2);
+        assertThat(partial.length, is(2));
+        assertThat(partial[1].length, is(2));
+        assertThat(partial[1][1], is(nullValue()));
+
+        long[][] singleDimension = instance.singleDimension(5);
+        assertThat(singleDimension.length, is(5));
+        assertThat(singleDimension[0], is(nullValue()));
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.cshunsinger.asmsauce.code.branch;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import org.junit.jupiter.api.Test;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+class ForLoopTest {
+    @Test
+    public void illegalArgumentException_nullParameters() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> for_(null, literal(true).isTrue(), incVar("i", 1)).do_());
+        assertThat(ex, hasProperty("message", is("Initializer cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> for_(setVar("i", literal(0)), null, incVar("i", 1)).do_());
+        assertThat(ex, hasProperty("message", is("Condition cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> for_(setVar("i", literal(0)), literal(true).isTrue(), null).do_());
+        assertThat(ex, hasProperty("message", is("Update cannot be null.")));
+    }
+
+    public static abstract class TestType {
+        public abstract int sum(int count);
+        public abstract int firstMultipleOf(int start, int divisor);
+        public abstract int neverLoops();
+    }
+
+    @Test
+    public void generateWorkingForLoops() {
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("sum"), parameters(p("count", int.class)), type(int.class),
+                setVar("sum", literal(0)), //int sum = 0;
+                for_(setVar("i", literal(0)), getVar("i").lt(getVar("count")), incVar("i", 1)).do_( //for(int i = 0; i < count; i++) {
+                    setVar("sum", getVar("sum").add(getVar("i"))) //sum = sum + i; }
+                ),
+                returnValue(getVar("sum")) //return sum;
+            ))
+            .withMethod(method(publicOnly(), name("firstMultipleOf"), parameters(p("start", int.class), p("divisor", int.class)), type(int.class),
+                setVar("result", literal(-1)), //int result = -1;
+                for_(setVar("i", getVar("start")), literal(true).isTrue(), incVar("i", 1)).do_( //for(int i = start; true; i++) {
+                    if_(getVar("i").mod(getVar("divisor")).eq(literal(0))).then( //if(i % divisor == 0) {
+                        setVar("result", getVar("i")), //result = i;
+                        break_() //break; }
+                    ) //}
+                ),
+                returnValue(getVar("result")) //return result;
+            ))
+            .withMethod(method(publicOnly(), name("neverLoops"), noParameters(), type(int.class),
+                for_(setVar("i", literal(0)), literal(1).gt(literal(2)), incVar("i", 1)).do_( //for(int i = 0; 1 > 2; i++) {
+                    returnValue(literal(1)) //return 1; }
+                ),
+                returnValue(literal(0)) //return 0;
+            ));
+
+        //The condition is placed after the body and update, with a single jump to it before the first iteration
+        assertThat(opcodes(builder.buildBytes(), "sum"), contains(
+            LDC, ISTORE, LDC, ISTORE, GOTO, ILOAD, ILOAD, IADD, ISTORE, IINC, ILOAD, ILOAD, IF_ICMPLT, ILOAD, IRETURN
+        ));
+        assertThat(opcodes(builder.buildBytes(), "neverLoops"), contains(LDC, ISTORE, LDC, IRETURN));
+
+        TestType instance = builder.buildInstance();
+        assertThat(instance.sum(0), is(0));
+        assertThat(instance.sum(5), is(10));
+        assertThat(instance.firstMultipleOf(10, 7), is(14));
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.cshunsinger.asmsauce.code.branch;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+class ForRangeLoopTest {
+    @Test
+    public void illegalArgumentException_invalidParameters() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> forRange(null, literal(0), literal(1), 1).do_());
+        assertThat(ex, hasProperty("message", is("localName cannot be null or empty.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> forRange("i", null, literal(1), 1).do_());
+        assertThat(ex, hasProperty("message", is("From cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> forRange("i", literal(0), null, 1).do_());
+        assertThat(ex, hasProperty("message", is("To cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> forRange("i", literal(0), literal(1), 0).do_());
+        assertThat(ex, hasProperty("message", is("Step must be non-zero and between -32768 and 32767.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> forRange("i", literal(0), literal(1), 1).unroll(0).do_());
+        assertThat(ex, hasProperty("message", is("Unroll factor must be at least 1.")));
+    }
+
+    public static abstract class TestType {
+        public abstract int sumTo(int limit);
+        public abstract int countDown(int from);
+        public abstract void collect();
+        public abstract void collectBackwards();
+        public abstract int unrolledBreak();
+
+        public final List<Integer> values = new ArrayList<>();
+
+        public void record(int value) {
+            values.add(value);
+        }
+    }
+
+    private static AsmClassBuilder<TestType> testTypeBuilder(int unrollFactor) {
+        return new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("sumTo"), parameters(p("limit", int.class)), type(int.class),
+                setVar("sum", literal(0)), //int sum = 0;
+                forRange("i", literal(0), getVar("limit"), 1).unroll(unrollFactor).do_( //for(int i = 0; i < limit; i++) {
+                    setVar("sum", getVar("sum").add(getVar("i"))) //sum = sum + i; }
+                ),
+                returnValue(getVar("sum")) //return sum;
+            ))
+            .withMethod(method(publicOnly(), name("countDown"), parameters(p("from", int.class)), type(int.class),
+                setVar("count", literal(0)), //int count = 0;
+                forRange("i", getVar("from"), literal(0), -3).unroll(unrollFactor).do_( //for(int i = from; i > 0; i -= 3) {
+                    incVar("count", 1) //count++; }
+                ),
+                returnValue(getVar("count")) //return count;
+            ))
+            .withMethod(method(publicOnly(), name("collect"), noParameters(),
+                forRange("i", literal(0), literal(10), 1).unroll(unrollFactor).do_( //for(int i = 0; i < 10; i++) {
+                    //if(i % 2 == 0) record(i); else record(-i);
+                    if_(getVar("i").mod(literal(2)).eq(literal(0))).then(
+                        this_().invoke("record", getVar("i"))
+                    ).elseDo(
+                        this_().invoke("record", literal(0).sub(getVar("i")))
+                    )
+                ),
+                returnVoid()
+            ))
+            .withMethod(method(publicOnly(), name("collectBackwards"), noParameters(),
+                forRange("i", literal(10), literal(-1), -4).unroll(unrollFactor).do_( //for(int i = 10; i > -1; i -= 4) {
+                    this_().invoke("record", getVar("i")) //record(i); }
+                ),
+                returnVoid()
+            ))
+            .withMethod(method(publicOnly(), name("unrolledBreak"), noParameters(), type(int.class),
+                setVar("result", literal(0)), //int result = 0;
+                forRange("i", literal(0), literal(100), 1).unroll(unrollFactor).do_( //for(int i = 0; i < 100; i++) {
+                    setVar("result", getVar("i")), //result = i;
+                    if_(getVar("i").eq(literal(42))).then( //if(i == 42)
+                        break_() //break;
+                    )
+                ),
+                returnValue(getVar("result")) //return result;
+            ));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 10, 16})
+    public void generateWorkingCountedLoops(int unrollFactor) {
+        TestType instance = testTypeBuilder(unrollFactor).buildInstance();
+
+        assertThat(instance.sumTo(0), is(0));
+        assertThat(instance.sumTo(-5), is(0));
+        assertThat(instance.sumTo(10), is(45));
+        assertThat(instance.countDown(0), is(0));
+        assertThat(instance.countDown(9), is(3));
+        assertThat(instance.countDown(10), is(4));
+
+        instance.collect();
+        assertThat(instance.values, contains(0, -1, 2, -3, 4, -5, 6, -7, 8, -9));
+
+        instance.values.clear();
+        instance.collectBackwards();
+        assertThat(instance.values, contains(10, 6, 2));
+
+        assertThat(instance.unrolledBreak(), is(42));
+    }
+
+    @Test
+    public void generateCanonicalCountedLoopShape() {
+        byte[] classBytes = testTypeBuilder(1).buildBytes();
+
+        //int i = 0; int limit = limit; goto condition; body; iinc; condition: if(i < limit) goto body;
+        assertThat(opcodes(classBytes, "sumTo"), contains(
+            LDC, ISTORE, LDC, ISTORE, ILOAD, ISTORE, GOTO, ILOAD, ILOAD, IADD, ISTORE, IINC, ILOAD, ILOAD, IF_ICMPLT, ILOAD, IRETURN
+        ));
+    }
+
+    @Test
+    public void unrollLoopsWithConstantRanges() {
+        byte[] unrolled = testTypeBuilder(4).buildBytes();
+        List<Integer> opcodes = opcodes(unrolled, "collect");
+
+        //10 iterations unrolled by 4 is 2 iterations of a loop containing 4 copies of the body, then 2 leftover copies
+        assertThat(Collections.frequency(opcodes, IINC), is(6));
+        assertThat(Collections.frequency(opcodes, IF_ICMPLT), is(1));
+
+        //Fully unrolled when the number of iterations is not greater than the unroll factor
+        List<Integer> fullyUnrolled = opcodes(testTypeBuilder(10).buildBytes(), "collect");
+        assertThat(Collections.frequency(fullyUnrolled, IINC), is(10));
+        assertThat(fullyUnrolled, not(hasItem(IF_ICMPLT)));
+
+        //Loops without a constant range are not unrolled
+        assertThat(Collections.frequency(opcodes(unrolled, "sumTo"), IINC), is(1));
+    }
+}
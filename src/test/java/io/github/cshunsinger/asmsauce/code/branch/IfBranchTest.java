@@ -12,6 +12,7 @@ import org.objectweb.asm.Label;
 
 import java.util.stream.Stream;
 
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
 import static io.github.cshunsinger.asmsauce.ConstructorNode.constructor;
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
 import static io.github.cshunsinger.asmsauce.MethodNode.method;
@@ -19,9 +20,9 @@ import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
 import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
 import static org.apache.commons.lang3.RandomUtils.nextInt;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.hasProperty;
-import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
 
 public class IfBranchTest extends BaseUnitTest {
     @ParameterizedTest
@@ -76,4 +77,89 @@ public class IfBranchTest extends BaseUnitTest {
         assertThat(instance.abs(positive), is(positive));
         assertThat(instance.abs(negative), is(positive));
     }
+
+    public static abstract class ConstantTestType {
+        public abstract int alwaysTrue(int value);
+        public abstract int alwaysFalse(int value);
+        public abstract int alwaysTrueWithElse(int value);
+        public abstract int alwaysFalseWithElse(int value);
+    }
+
+    @Test
+    public void leaveOutDeadBranchesOfIfStatementsWithConstantConditions() {
+        AsmClassBuilder<ConstantTestType> builder = new AsmClassBuilder<>(ConstantTestType.class)
+            .withMethod(method(publicOnly(), name("alwaysTrue"), parameters(p("value", int.class)), type(int.class),
+                if_(literal(2).gt(literal(1))).then(
+                    setVar("value", getVar("value").add(literal(1)))
+                ),
+                returnValue(getVar("value"))
+            ))
+            .withMethod(method(publicOnly(), name("alwaysFalse"), parameters(p("value", int.class)), type(int.class),
+                if_(literal(2).lt(literal(1))).then(
+                    setVar("value", getVar("value").add(literal(1)))
+                ),
+                returnValue(getVar("value"))
+            ))
+            .withMethod(method(publicOnly(), name("alwaysTrueWithElse"), parameters(p("value", int.class)), type(int.class),
+                if_(literal(true).isTrue()).then(
+                    returnValue(getVar("value").add(literal(1)))
+                ).elseDo(
+                    returnValue(getVar("value").sub(literal(1)))
+                )
+            ))
+            .withMethod(method(publicOnly(), name("alwaysFalseWithElse"), parameters(p("value", int.class)), type(int.class),
+                if_(literalObj("String").isNull()).then(
+                    returnValue(getVar("value").add(literal(1)))
+                ).elseDo(
+                    returnValue(getVar("value").sub(literal(1)))
+                )
+            ));
+
+        byte[] classBytes = builder.buildBytes();
+        assertThat(opcodes(classBytes, "alwaysTrue"), contains(ILOAD, LDC, IADD, ISTORE, ILOAD, IRETURN));
+        assertThat(opcodes(classBytes, "alwaysFalse"), contains(ILOAD, IRETURN));
+        assertThat(opcodes(classBytes, "alwaysTrueWithElse"), contains(ILOAD, LDC, IADD, IRETURN));
+        assertThat(opcodes(classBytes, "alwaysFalseWithElse"), contains(ILOAD, LDC, ISUB, IRETURN));
+
+        ConstantTestType instance = builder.buildInstance();
+        assertThat(instance.alwaysTrue(10), is(11));
+        assertThat(instance.alwaysFalse(10), is(10));
+        assertThat(instance.alwaysTrueWithElse(10), is(11));
+        assertThat(instance.alwaysFalseWithElse(10), is(9));
+    }
+
+    public static abstract class SideEffectTestType {
+        public int evaluations = 0;
+
+        public boolean evaluate(boolean result) {
+            evaluations++;
+            return result;
+        }
+
+        public abstract int andWithFalse(int value);
+        public abstract int orWithTrue(int value);
+    }
+
+    @Test
+    public void evaluateNonConstantConditionsBeforeShortCircuitingConstants() {
+        AsmClassBuilder<SideEffectTestType> builder = new AsmClassBuilder<>(SideEffectTestType.class)
+            .withMethod(method(publicOnly(), name("andWithFalse"), parameters(p("value", int.class)), type(int.class),
+                if_(this_().invoke("evaluate", literal(true)).isTrue().and(literal(false).isTrue())).then(
+                    returnValue(getVar("value").add(literal(1)))
+                ),
+                returnValue(getVar("value"))
+            ))
+            .withMethod(method(publicOnly(), name("orWithTrue"), parameters(p("value", int.class)), type(int.class),
+                if_(this_().invoke("evaluate", literal(false)).isTrue().or(literal(true).isTrue())).then(
+                    returnValue(getVar("value").add(literal(1)))
+                ),
+                returnValue(getVar("value"))
+            ));
+
+        SideEffectTestType instance = builder.buildInstance();
+        assertThat(instance.andWithFalse(10), is(10));
+        assertThat(instance.evaluations, is(1));
+        assertThat(instance.orWithTrue(10), is(11));
+        assertThat(instance.evaluations, is(2));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package io.github.cshunsinger.asmsauce.code.branch;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+class SwitchBranchTest {
+    @Test
+    public void illegalArgumentException_nullSelector() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> switch_(null));
+        assertThat(ex, hasProperty("message", is("Selector cannot be null.")));
+    }
+
+    @Test
+    public void illegalArgumentException_duplicateCaseKey() {
+        SwitchBranch switchBranch = switch_(literal(1)).case_(1, returnVoid());
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> switchBranch.case_(1, returnVoid()));
+        assertThat(ex, hasProperty("message", is("Switch statement already has a case for key 1.")));
+    }
+
+    @Test
+    public void illegalArgumentException_mixedCaseKeyTypes() {
+        SwitchBranch switchBranch = switch_(literal(1)).case_(1, returnVoid());
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> switchBranch.case_("1", returnVoid()));
+        assertThat(ex, hasProperty("message", is("All case keys must be of the same type. Expected java.lang.Integer but found java.lang.String.")));
+    }
+
+    @Test
+    public void illegalArgumentException_nullCaseKey() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> switch_(literal(1)).case_((String)null));
+        assertThat(ex, hasProperty("message", is("Case key cannot be null.")));
+    }
+
+    @Test
+    public void illegalStateException_multipleDefaultCases() {
+        SwitchBranch switchBranch = switch_(literal(1)).default_(returnVoid());
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> switchBranch.default_(returnVoid()));
+        assertThat(ex, hasProperty("message", is("Switch statement cannot have more than one default case.")));
+    }
+
+    public static abstract class TestSwitches {
+        public abstract int dense(int value);
+        public abstract int sparse(int value);
+        public abstract int fallthrough(int value);
+        public abstract int noDefault(Character value);
+        public abstract int string(String value);
+        public abstract int enumeration(DayOfWeek value);
+    }
+
+    @Test
+    public void generateWorkingSwitchStatements() {
+        AsmClassBuilder<TestSwitches> builder = new AsmClassBuilder<>(TestSwitches.class)
+            .withMethod(method(publicOnly(), name("dense"), parameters(p("value", int.class)), type(int.class),
+                switch_(getVar("value")) //switch(value) {
+                    .case_(1, returnValue(literal(10))) //case 1: return 10;
+                    .case_(2, returnValue(literal(20))) //case 2: return 20;
+                    .case_(4, returnValue(literal(40))) //case 4: return 40;
+                    .default_(returnValue(literal(-1))), //default: return -1; }
+                returnValue(literal(0))
+            ))
+            .withMethod(method(publicOnly(), name("sparse"), parameters(p("value", int.class)), type(int.class),
+                switch_(getVar("value")) //switch(value) {
+                    .case_(-1000, returnValue(literal(1))) //case -1000: return 1;
+                    .case_(0, returnValue(literal(2))) //case 0: return 2;
+                    .case_(1000000, returnValue(literal(3))), //case 1000000: return 3; }
+                returnValue(literal(-1)) //return -1;
+            ))
+            .withMethod(method(publicOnly(), name("fallthrough"), parameters(p("value", int.class)), type(int.class),
+                setVar("result", literal(0)), //int result = 0;
+                switch_(getVar("value")) //switch(value) {
+                    .case_(1) //case 1:
+                    .case_(2, setVar("result", getVar("result").add(literal(1)))) //case 2: result = result + 1;
+                    .default_(setVar("result", getVar("result").add(literal(10)))) //default: result = result + 10;
+                    .case_(3, setVar("result", getVar("result").add(literal(100))), break_()) //case 3: result = result + 100; break;
+                    .case_(4, setVar("result", getVar("result").add(literal(1000)))), //case 4: result = result + 1000; }
+                returnValue(getVar("result")) //return result;
+            ))
+            .withMethod(method(publicOnly(), name("noDefault"), parameters(p("value", Character.class)), type(int.class),
+                switch_(getVar("value")) //switch(value) {
+                    .case_('a', returnValue(literal(1))) //case 'a': return 1;
+                    .case_('b', returnValue(literal(2))), //case 'b': return 2; }
+                returnValue(literal(0)) //return 0;
+            ))
+            .withMethod(method(publicOnly(), name("string"), parameters(p("value", String.class)), type(int.class),
+                switch_(getVar("value")) //switch(value) {
+                    .case_("Aa", returnValue(literal(1))) //case "Aa": return 1;
+                    .case_("BB", returnValue(literal(2))) //case "BB": return 2; (same hash code as "Aa")
+                    .case_("Hello", returnValue(literal(3))) //case "Hello": return 3;
+                    .default_(returnValue(literal(0))) //default: return 0; }
+            ))
+            .withMethod(method(publicOnly(), name("enumeration"), parameters(p("value", DayOfWeek.class)), type(int.class),
+                switch_(getVar("value")) //switch(value) {
+                    .case_(DayOfWeek.SATURDAY) //case SATURDAY:
+                    .case_(DayOfWeek.SUNDAY, returnValue(literal(1))) //case SUNDAY: return 1;
+                    .default_(returnValue(literal(0))) //default: return 0; }
+            ));
+
+        byte[] classBytes = builder.buildBytes();
+        assertThat(opcodes(classBytes, "dense"), hasItem(TABLESWITCH));
+        assertThat(opcodes(classBytes, "sparse"), hasItem(LOOKUPSWITCH));
+        assertThat(opcodes(classBytes, "string"), hasItem(LOOKUPSWITCH)); //String hash codes are sparse
+
+        TestSwitches instance = builder.buildInstance();
+        assertThat(instance.dense(1), is(10));
+        assertThat(instance.dense(2), is(20));
+        assertThat(instance.dense(3), is(-1));
+        assertThat(instance.dense(4), is(40));
+        assertThat(instance.dense(5), is(-1));
+
+        assertThat(instance.sparse(-1000), is(1));
+        assertThat(instance.sparse(0), is(2));
+        assertThat(instance.sparse(1000000), is(3));
+        assertThat(instance.sparse(7), is(-1));
+
+        assertThat(instance.fallthrough(1), is(111));
+        assertThat(instance.fallthrough(2), is(111));
+        assertThat(instance.fallthrough(3), is(100));
+        assertThat(instance.fallthrough(4), is(1000));
+        assertThat(instance.fallthrough(5), is(110));
+
+        assertThat(instance.noDefault('a'), is(1));
+        assertThat(instance.noDefault('b'), is(2));
+        assertThat(instance.noDefault('c'), is(0));
+
+        assertThat(instance.string("Aa"), is(1));
+        assertThat(instance.string("BB"), is(2));
+        assertThat(instance.string("Hello"), is(3));
+        assertThat(instance.string("Goodbye"), is(0));
+        assertThrows(NullPointerException.class, () -> instance.string(null));
+
+        assertThat(instance.enumeration(DayOfWeek.SATURDAY), is(1));
+        assertThat(instance.enumeration(DayOfWeek.SUNDAY), is(1));
+        assertThat(instance.enumeration(DayOfWeek.MONDAY), is(0));
+    }
+
+    public static abstract class TestInvalidSwitch {
+        public abstract void invalid(String value);
+        public abstract void breakOutsideOfSwitch();
+    }
+
+    @Test
+    public void illegalStateException_caseKeysDoNotMatchSelectorType() {
+        AsmClassBuilder<TestInvalidSwitch> builder = new AsmClassBuilder<>(TestInvalidSwitch.class)
+            .withMethod(method(publicOnly(), name("invalid"), parameters(p("value", String.class)),
+                switch_(getVar("value")).case_(1, returnVoid()),
+                returnVoid()
+            ));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, builder::buildInstance);
+        assertThat(ex, hasProperty("message", is("Case keys of type java.lang.Integer cannot be used with a selector of type java.lang.String.")));
+    }
+
+    @Test
+    public void illegalStateException_unsupportedSelectorType() {
+        AsmClassBuilder<TestInvalidSwitch> builder = new AsmClassBuilder<>(TestInvalidSwitch.class)
+            .withMethod(method(publicOnly(), name("invalid"), parameters(p("value", String.class)),
+                switch_(literal(1L)).default_(returnVoid()),
+                returnVoid()
+            ));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, builder::buildInstance);
+        assertThat(ex, hasProperty("message", is("Switch selector must be an int, String, or enum. Found type long instead.")));
+    }
+
+    @Test
+    public void illegalStateException_breakOutsideOfSwitch() {
+        AsmClassBuilder<TestInvalidSwitch> builder = new AsmClassBuilder<>(TestInvalidSwitch.class)
+            .withMethod(method(publicOnly(), name("breakOutsideOfSwitch"), noParameters(),
+                break_(),
+                returnVoid()
+            ));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, builder::buildInstance);
+        assertThat(ex, hasProperty("message", is("Break statement must be inside of a switch statement or loop.")));
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.cshunsinger.asmsauce.code.branch;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.FieldNode.field;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.privateOnly;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.MONITORENTER;
+import static org.objectweb.asm.Opcodes.MONITOREXIT;
+
+public class SynchronizedBlockTest {
+    @Test
+    public void illegalArgumentException_nullLockBuilder() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new SynchronizedBlock(null));
+        assertThat(ex, hasProperty("message", is("Lock builder cannot be null.")));
+    }
+
+    public static abstract class TestCounter {
+        public abstract void increment();
+        public abstract int incrementAndGet();
+        public abstract void runLocked(Runnable task);
+        public abstract boolean breakOutOfLock();
+        public abstract boolean holdsOwnLock();
+    }
+
+    @Test
+    public void illegalStateException_synchronizeOnPrimitive() {
+        AsmClassBuilder<TestCounter> builder = new AsmClassBuilder<>(TestCounter.class)
+            .withMethod(method(publicOnly(), name("increment"), noParameters(), voidType(),
+                synchronized_(literal(5)),
+                returnVoid()
+            ));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, builder::buildBytes);
+        assertThat(ex, hasProperty("message", is("Cannot synchronize on primitive type int.")));
+    }
+
+    @Test
+    public void generateSynchronizedBlocksAndMethods() throws InterruptedException {
+        AsmClassBuilder<TestCounter> builder = new AsmClassBuilder<>(TestCounter.class)
+            .withField(field(privateOnly(), type(int.class), name("count")))
+            //public void increment() { synchronized(this) { this.count = this.count + 1; } }
+            .withMethod(method(publicOnly(), name("increment"), noParameters(), voidType(),
+                synchronized_(this_(),
+                    this_().assignField("count", this_().getField("count").add(literal(1)))
+                ),
+                returnVoid()
+            ))
+            //public int incrementAndGet() { synchronized(this) { this.count = this.count + 1; return this.count; } }
+            .withMethod(method(publicOnly(), name("incrementAndGet"), noParameters(), type(int.class),
+                synchronized_(this_(),
+                    this_().assignField("count", this_().getField("count").add(literal(1))),
+                    returnValue(this_().getField("count"))
+                )
+            ))
+            //public void runLocked(Runnable task) { synchronized(this) { task.run(); } }
+            .withMethod(method(publicOnly(), name("runLocked"), parameters(p("task", Runnable.class)), voidType(),
+                synchronized_(this_(),
+                    getVar("task").invoke("run")
+                ),
+                returnVoid()
+            ))
+            //public boolean breakOutOfLock() { while(true) { synchronized(this) { break; } } return Thread.holdsLock(this); }
+            .withMethod(method(publicOnly(), name("breakOutOfLock"), noParameters(), type(boolean.class),
+                setVar("index", literal(0)),
+                while_(getVar("index").lt(literal(10))).do_(
+                    synchronized_(this_(),
+                        break_()
+                    )
+                ),
+                returnValue(invokeStatic(Thread.class, "holdsLock", this_()))
+            ))
+            //public synchronized boolean holdsOwnLock() { return Thread.holdsLock(this); }
+            .withMethod(method(publicOnly().withSynchronized(), name("holdsOwnLock"), noParameters(), type(boolean.class),
+                returnValue(invokeStatic(Thread.class, "holdsLock", this_()))
+            ));
+
+        assertThat(opcodes(builder.buildBytes(), "increment"), hasItems(MONITORENTER, MONITOREXIT));
+
+        TestCounter counter = builder.buildInstance();
+        List<Thread> threads = new ArrayList<>();
+        for(int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for(int j = 0; j < 10_000; j++)
+                    counter.increment();
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for(Thread thread : threads)
+            thread.join();
+
+        //The monitor is exited when returning from inside of the synchronized block
+        assertThat(counter.incrementAndGet(), is(40_001));
+        assertThat(Thread.holdsLock(counter), is(false));
+
+        //The monitor is held while the body executes, and exited when the body throws an exception
+        List<Boolean> heldLocks = new ArrayList<>();
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> counter.runLocked(() -> {
+            heldLocks.add(Thread.holdsLock(counter));
+            throw new RuntimeException("Failure inside lock.");
+        }));
+        assertThat(ex, hasProperty("message", is("Failure inside lock.")));
+        assertThat(heldLocks, contains(true));
+        assertThat(Thread.holdsLock(counter), is(false));
+
+        assertThat(counter.breakOutOfLock(), is(false));
+        assertThat(counter.holdsOwnLock(), is(true));
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.objectweb.asm.MethodVisitor;
 
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
 import static io.github.cshunsinger.asmsauce.MethodNode.method;
 import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
@@ -21,6 +22,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.objectweb.asm.Opcodes.*;
 
 public class TernaryIfElseTest extends BaseUnitTest {
     @Mock
@@ -186,4 +188,36 @@ public class TernaryIfElseTest extends BaseUnitTest {
         assertThat(instance.getMin(5, 10), is(5));
         assertThat(instance.getMin(-1, -2), is(-2));
     }
+
+    public static abstract class TestConstantTernaryType {
+        public abstract int alwaysTrue(int a, int b);
+        public abstract int alwaysFalse(int a, int b);
+    }
+
+    @Test
+    public void onlyBuildTheBranchWhichExecutesWhenTernaryConditionIsConstant() {
+        AsmClassBuilder<TestConstantTernaryType> builder = new AsmClassBuilder<>(TestConstantTernaryType.class)
+            .withMethod(method(publicOnly(), name("alwaysTrue"), parameters(p("a", INT), p("b", INT)), INT,
+                returnValue(
+                    ternary(literal(1).lt(literal(2)))
+                        .thenCalculate(getVar("a"))
+                        .elseCalculate(getVar("b"))
+                )
+            ))
+            .withMethod(method(publicOnly(), name("alwaysFalse"), parameters(p("a", INT), p("b", INT)), INT,
+                returnValue(
+                    ternary(literal(1).gt(literal(2)))
+                        .thenCalculate(getVar("a"))
+                        .elseCalculate(getVar("b"))
+                )
+            ));
+
+        byte[] classBytes = builder.buildBytes();
+        assertThat(opcodes(classBytes, "alwaysTrue"), contains(ILOAD, IRETURN));
+        assertThat(opcodes(classBytes, "alwaysFalse"), contains(ILOAD, IRETURN));
+
+        TestConstantTernaryType instance = builder.buildInstance();
+        assertThat(instance.alwaysTrue(10, 5), is(10));
+        assertThat(instance.alwaysFalse(10, 5), is(5));
+    }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.maxLocals;
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
 import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
 import static io.github.cshunsinger.asmsauce.MethodNode.method;
 import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
@@ -14,6 +16,7 @@ import static org.apache.commons.lang3.RandomUtils.nextInt;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
 
 public class WhileLoopTest {
     @Test
@@ -82,4 +85,62 @@ public class WhileLoopTest {
 
         assertThat(testList, hasItems(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
     }
+
+    public static abstract class ConstantTestType {
+        public abstract int neverLoop(int value);
+        public abstract int loopForever(int limit);
+    }
+
+    @Test
+    public void leaveOutConditionOfWhileLoopsWithConstantConditions() {
+        AsmClassBuilder<ConstantTestType> builder = new AsmClassBuilder<>(ConstantTestType.class)
+            .withMethod(method(publicOnly(), name("neverLoop"), parameters(p("value", int.class)), type(int.class),
+                while_(literal(1).eq(literal(2))).do_(
+                    setVar("value", getVar("value").add(literal(1)))
+                ),
+                returnValue(getVar("value"))
+            ))
+            .withMethod(method(publicOnly(), name("loopForever"), parameters(p("limit", int.class)), type(int.class),
+                setVar("counter", literal(0)),
+                while_(literal(true).isTrue()).do_(
+                    setVar("counter", getVar("counter").add(literal(1))),
+                    if_(getVar("counter").ge(getVar("limit"))).then(
+                        returnValue(getVar("counter"))
+                    )
+                ),
+                returnValue(literal(-1))
+            ));
+
+        byte[] classBytes = builder.buildBytes();
+        assertThat(opcodes(classBytes, "neverLoop"), contains(ILOAD, IRETURN));
+        assertThat(opcodes(classBytes, "loopForever"), not(hasItem(IFEQ)));
+
+        ConstantTestType instance = builder.buildInstance();
+        assertThat(instance.neverLoop(10), is(10));
+        assertThat(instance.loopForever(10), is(10));
+    }
+
+    public static abstract class TestSums {
+        public abstract long sum(int count);
+    }
+
+    @Test
+    public void whileLoopBodyLocalsAreScopedToTheBody() {
+        AsmClassBuilder<TestSums> builder = new AsmClassBuilder<>(TestSums.class)
+            .withMethod(method(publicOnly(), name("sum"), parameters(p("count", int.class)), type(long.class),
+                setVar("total", literal(0L)), //long total = 0L;
+                setVar("index", literal(0)), //int index = 0;
+                while_(getVar("index").lt(getVar("count"))).do_( //while(index < count) {
+                    setVar("square", cast(long.class, getVar("index").mul(getVar("index")))), //long square = (long)(index * index);
+                    setVar("total", getVar("total").add(getVar("square"))), //total = total + square;
+                    setVar("index", getVar("index").add(literal(1))) //index = index + 1;
+                ), //}
+                setVar("result", getVar("total").mul(literal(2L))), //long result = total * 2L;
+                returnValue(getVar("result")) //return result;
+            ));
+
+        //this, count, total (2 slots), index, and then either square or result (2 slots)
+        assertThat(maxLocals(builder.buildBytes(), "sum"), is(7));
+        assertThat(builder.buildInstance().sum(4), is(28L));
+    }
 }
\ No newline at end of file
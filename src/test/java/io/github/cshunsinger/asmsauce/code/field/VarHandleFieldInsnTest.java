@@ -0,0 +1,113 @@
+package io.github.cshunsinger.asmsauce.code.field;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.BaseUnitTest;
+import io.github.cshunsinger.asmsauce.ThisClass;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.FieldNode.field;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+
+class VarHandleFieldInsnTest extends BaseUnitTest {
+    public static abstract class TestCounter {
+        public abstract long increment();
+        public abstract boolean claim(String expectedOwner, String newOwner);
+        public abstract String getOwner();
+        public abstract void publishOwner(String owner);
+        public abstract int nextId();
+    }
+
+    @Test
+    public void illegalArgumentException_nullAccessMode() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> this_().accessField("count", null));
+        assertThat(ex, hasProperty("message", is("Access mode cannot be null.")));
+    }
+
+    @Test
+    public void illegalArgumentException_wrongNumberOfValues() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> this_().accessField("count", VarHandle.AccessMode.COMPARE_AND_SET, literal(1L))
+        );
+        assertThat(ex, hasProperty("message", is("Access mode COMPARE_AND_SET expects 2 values, but 1 were given.")));
+    }
+
+    @Test
+    public void illegalStateException_getAndAddNonNumericField() {
+        AsmClassBuilder<TestCounter> builder = new AsmClassBuilder<>(TestCounter.class)
+            .withField(field(privateOnly(), type(String.class), name("owner")))
+            .withMethod(method(publicOnly(), name("getOwner"), noParameters(), type(String.class),
+                returnValue(this_().getAndAddField("owner", literalObj("!")))
+            ));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, builder::buildBytes);
+        assertThat(ex, hasProperty("message", is("Access mode GET_AND_ADD is not supported for field owner of type java.lang.String.")));
+    }
+
+    @Test
+    public void accessFieldsThroughVarHandles() throws InterruptedException {
+        AsmClassBuilder<TestCounter> builder = new AsmClassBuilder<>(TestCounter.class)
+            .withField(field(privateOnly(), type(long.class), name("count")))
+            .withField(field(privateOnly(), type(String.class), name("owner")))
+            .withField(field(privateStatic(), name("NEXT_ID"), 100))
+            //public long increment() { return COUNT.getAndAdd(this, 1L) + 1L; }
+            .withMethod(method(publicOnly(), name("increment"), noParameters(), type(long.class),
+                returnValue(this_().getAndAddField("count", literal(1L)).add(literal(1L)))
+            ))
+            //public boolean claim(String expectedOwner, String newOwner) { return OWNER.compareAndSet(this, expectedOwner, newOwner); }
+            .withMethod(method(publicOnly(), name("claim"), parameters(p("expectedOwner", String.class), p("newOwner", String.class)), type(boolean.class),
+                returnValue(this_().compareAndSetField("owner", getVar("expectedOwner"), getVar("newOwner")))
+            ))
+            //public String getOwner() { return (String)OWNER.getAcquire(this); }
+            .withMethod(method(publicOnly(), name("getOwner"), noParameters(), type(String.class),
+                returnValue(this_().getFieldAcquire("owner"))
+            ))
+            //public void publishOwner(String owner) { OWNER.setRelease(this, owner); }
+            .withMethod(method(publicOnly(), name("publishOwner"), parameters(p("owner", String.class)), voidType(),
+                this_().setFieldRelease("owner", getVar("owner")),
+                returnVoid()
+            ))
+            //public int nextId() { return NEXT_ID.getAndAdd(1); }
+            .withMethod(method(publicOnly(), name("nextId"), noParameters(), type(int.class),
+                returnValue(getAndAddStatic(ThisClass.class, "NEXT_ID", literal(1)))
+            ));
+
+        assertThat(opcodes(builder.buildBytes(), "increment"), not(hasItem(GETFIELD)));
+        assertThat(opcodes(builder.buildBytes(), "increment"), not(hasItem(PUTFIELD)));
+
+        TestCounter counter = builder.buildInstance();
+        List<Thread> threads = new ArrayList<>();
+        for(int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for(int j = 0; j < 10_000; j++)
+                    counter.increment();
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for(Thread thread : threads)
+            thread.join();
+        assertThat(counter.increment(), is(40_001L));
+
+        assertThat(counter.claim(null, "first"), is(true));
+        assertThat(counter.claim(null, "second"), is(false));
+        assertThat(counter.getOwner(), is("first"));
+        counter.publishOwner("third");
+        assertThat(counter.getOwner(), is("third"));
+
+        assertThat(counter.nextId(), is(100));
+        assertThat(counter.nextId(), is(101));
+    }
+}
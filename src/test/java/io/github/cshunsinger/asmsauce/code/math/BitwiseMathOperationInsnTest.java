@@ -0,0 +1,150 @@
+package io.github.cshunsinger.asmsauce.code.math;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BitwiseMathOperationInsnTest {
+    public static abstract class TestBitwise {
+        public abstract int and(int a, int b);
+        public abstract long and(long a, long b);
+        public abstract int or(int a, int b);
+        public abstract long or(long a, long b);
+        public abstract int xor(int a, int b);
+        public abstract long xor(long a, long b);
+        public abstract int shl(int a, int b);
+        public abstract long shl(long a, int b);
+        public abstract int shr(int a, int b);
+        public abstract long shr(long a, int b);
+        public abstract int ushr(int a, int b);
+        public abstract long ushr(long a, int b);
+        public abstract int byteAnd(byte a, byte b);
+        public abstract int boxedXor(Integer a, Integer b);
+    }
+
+    @Test
+    public void generateBitwiseAndShiftOperations() {
+        TestBitwise instance = new AsmClassBuilder<>(TestBitwise.class)
+            .withMethod(method(publicOnly(), name("and"), parameters(int.class, int.class), type(int.class),
+                returnValue(getVar(1).and(getVar(2))) //return a & b;
+            ))
+            .withMethod(method(publicOnly(), name("and"), parameters(long.class, long.class), type(long.class),
+                returnValue(getVar(1).and(getVar(3))) //return a & b;
+            ))
+            .withMethod(method(publicOnly(), name("or"), parameters(int.class, int.class), type(int.class),
+                returnValue(getVar(1).or(getVar(2))) //return a | b;
+            ))
+            .withMethod(method(publicOnly(), name("or"), parameters(long.class, long.class), type(long.class),
+                returnValue(getVar(1).or(getVar(3))) //return a | b;
+            ))
+            .withMethod(method(publicOnly(), name("xor"), parameters(int.class, int.class), type(int.class),
+                returnValue(getVar(1).xor(getVar(2))) //return a ^ b;
+            ))
+            .withMethod(method(publicOnly(), name("xor"), parameters(long.class, long.class), type(long.class),
+                returnValue(getVar(1).xor(getVar(3))) //return a ^ b;
+            ))
+            .withMethod(method(publicOnly(), name("shl"), parameters(int.class, int.class), type(int.class),
+                returnValue(getVar(1).shl(getVar(2))) //return a << b;
+            ))
+            .withMethod(method(publicOnly(), name("shl"), parameters(long.class, int.class), type(long.class),
+                returnValue(getVar(1).shl(getVar(3))) //return a << b;
+            ))
+            .withMethod(method(publicOnly(), name("shr"), parameters(int.class, int.class), type(int.class),
+                returnValue(getVar(1).shr(getVar(2))) //return a >> b;
+            ))
+            .withMethod(method(publicOnly(), name("shr"), parameters(long.class, int.class), type(long.class),
+                returnValue(getVar(1).shr(getVar(3))) //return a >> b;
+            ))
+            .withMethod(method(publicOnly(), name("ushr"), parameters(int.class, int.class), type(int.class),
+                returnValue(getVar(1).ushr(getVar(2))) //return a >>> b;
+            ))
+            .withMethod(method(publicOnly(), name("ushr"), parameters(long.class, int.class), type(long.class),
+                returnValue(getVar(1).ushr(getVar(3))) //return a >>> b;
+            ))
+            .withMethod(method(publicOnly(), name("byteAnd"), parameters(byte.class, byte.class), type(int.class),
+                returnValue(getVar(1).and(getVar(2))) //return a & b;
+            ))
+            .withMethod(method(publicOnly(), name("boxedXor"), parameters(Integer.class, Integer.class), type(int.class),
+                returnValue(getVar(1).xor(getVar(2))) //return a ^ b;
+            ))
+            .buildInstance();
+
+        assertThat(instance.and(0b1100, 0b1010), is(0b1000));
+        assertThat(instance.and(0xFF00000000L, 0x0F0000000FL), is(0x0F00000000L));
+        assertThat(instance.or(0b1100, 0b1010), is(0b1110));
+        assertThat(instance.or(1L << 40, 1L), is((1L << 40) | 1L));
+        assertThat(instance.xor(0b1100, 0b1010), is(0b0110));
+        assertThat(instance.xor(-1L, 1L << 40), is(~(1L << 40)));
+        assertThat(instance.shl(1, 31), is(Integer.MIN_VALUE));
+        assertThat(instance.shl(1L, 40), is(1L << 40));
+        assertThat(instance.shr(-16, 2), is(-4));
+        assertThat(instance.shr(-16L, 2), is(-4L));
+        assertThat(instance.ushr(-16, 28), is(15));
+        assertThat(instance.ushr(-16L, 60), is(15L));
+        assertThat(instance.byteAnd((byte)-1, (byte)0x7F), is(0x7F));
+        assertThat(instance.boxedXor(5, 3), is(6));
+    }
+
+    public static abstract class TestInvalidOperand {
+        public abstract float and(float a, float b);
+    }
+
+    @Test
+    public void illegalStateExceptionWhenBitwiseOperandIsNotIntegral() {
+        AsmClassBuilder<TestInvalidOperand> builder = new AsmClassBuilder<>(TestInvalidOperand.class)
+            .withMethod(method(publicOnly(), name("and"), parameters(float.class, float.class), type(float.class),
+                returnValue(getVar(1).and(getVar(2))) //return a & b;
+            ));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, builder::buildInstance);
+        assertThat(ex.getMessage(), is("Bitwise and shift operations require int or long operands. Found type float instead."));
+    }
+
+    @ParameterizedTest
+    @MethodSource("foldConstantBitwiseExpressions_testCases")
+    public void foldConstantBitwiseExpressions(CodeInsnBuilderLike expression, Object expectedValue) {
+        assertThat(ConstantFolding.constantValue(expression), is(expectedValue));
+    }
+
+    private static Stream<Arguments> foldConstantBitwiseExpressions_testCases() {
+        return Stream.of(
+            Arguments.of(literal(0b1100).and(literal(0b1010)), 0b1000),
+            Arguments.of(literal(0b1100).or(literal(0b1010)), 0b1110),
+            Arguments.of(literal(0b1100).xor(literal(0b1010)), 0b0110),
+            Arguments.of(literal(1).shl(literal(33)), 2), //int shift distances only use the low 5 bits
+            Arguments.of(literal(1L).shl(literal(33)), 1L << 33),
+            Arguments.of(literal(-8).shr(literal(1)), -4),
+            Arguments.of(literal(-8).ushr(literal(28)), 15),
+            Arguments.of(literal(-8L).ushr(literal(60)), 15L),
+            Arguments.of(literal(0xFFL).and(literal(0x0F)), 0x0FL)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("doNotFoldBitwiseExpressions_testCases")
+    public void doNotFoldBitwiseExpressions(CodeInsnBuilderLike expression) {
+        assertThat(ConstantFolding.constantValue(expression), is((Object)null));
+    }
+
+    private static Stream<Arguments> doNotFoldBitwiseExpressions_testCases() {
+        return Stream.of(
+            Arguments.of(literal(1.0f).and(literal(1.0f))),
+            Arguments.of(literal(1.0).shl(literal(1))),
+            Arguments.of(literal(1).and(literal(1L))), //long cannot be implicitly converted into an int
+            Arguments.of(literal(1L).shl(literal(1L))) //shift distances must be ints
+        );
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.cshunsinger.asmsauce.code.math;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import io.github.cshunsinger.asmsauce.code.branch.condition.Condition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+class ConstantFoldingTest {
+    @ParameterizedTest
+    @MethodSource("foldConstantExpressions_testCases")
+    public void foldConstantExpressions(CodeInsnBuilderLike expression, Object expectedValue) {
+        assertThat(ConstantFolding.constantValue(expression), is(expectedValue));
+    }
+
+    private static Stream<Arguments> foldConstantExpressions_testCases() {
+        return Stream.of(
+            Arguments.of(literal(2).add(literal(3)), 5),
+            Arguments.of(literal(2).mul(literal(3)).add(literal(4)), 10),
+            Arguments.of(literal(2).mul(literal(3).add(literal(4))), 14),
+            Arguments.of(literal(Integer.MAX_VALUE).add(literal(1)), Integer.MIN_VALUE),
+            Arguments.of(literal(Integer.MIN_VALUE).div(literal(-1)), Integer.MIN_VALUE),
+            Arguments.of(literal(-7).mod(literal(3)), -1),
+            Arguments.of(literal(Long.MAX_VALUE).mul(literal(2L)), -2L),
+            Arguments.of(literal(10L).sub(literal(3)), 7L),
+            Arguments.of(literal(10).add(literal('a')), 107),
+            Arguments.of(literal(0.1f).add(literal(0.2f)), 0.1f + 0.2f),
+            Arguments.of(literal(0.1).add(literal(0.2)), 0.1 + 0.2),
+            Arguments.of(literal(1.5).mul(literal(2)), 3.0),
+            Arguments.of(literal(1.0f).div(literal(0.0f)), Float.POSITIVE_INFINITY),
+            Arguments.of(literal(0.0).div(literal(0.0)), Double.NaN),
+            Arguments.of(literal(5.5).mod(literal(2.0)), 1.5),
+            Arguments.of(literal(true), true)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("doNotFoldExpressions_testCases")
+    public void doNotFoldExpressions(CodeInsnBuilderLike expression) {
+        assertThat(ConstantFolding.constantValue(expression), is(nullValue()));
+    }
+
+    private static Stream<Arguments> doNotFoldExpressions_testCases() {
+        return Stream.of(
+            Arguments.of(literal(1).div(literal(0))), //ArithmeticException must still happen at runtime
+            Arguments.of(literal(1L).mod(literal(0L))), //ArithmeticException must still happen at runtime
+            Arguments.of(literal(1).add(literal(2L))), //long cannot be implicitly converted into an int
+            Arguments.of(literal((byte)1).add(literal((byte)2))), //byte math is calculated as int math by the jvm
+            Arguments.of(literal(1).add(getVar("a"))),
+            Arguments.of(getVar("a").add(literal(1))),
+            Arguments.of(literalObj("String"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("foldConstantConditions_testCases")
+    public void foldConstantConditions(Condition condition, Optional<Boolean> expectedValue) {
+        assertThat(condition.constantValue(), is(expectedValue));
+    }
+
+    private static Stream<Arguments> foldConstantConditions_testCases() {
+        return Stream.of(
+            Arguments.of(literal(1).eq(literal(1)), Optional.of(true)),
+            Arguments.of(literal(1).ne(literal(1)), Optional.of(false)),
+            Arguments.of(literal(2).add(literal(2)).gt(literal(3)), Optional.of(true)),
+            Arguments.of(literal(2).lt(literal(3)).invert(), Optional.of(false)),
+            Arguments.of(literal(3L).ge(literal(3)), Optional.of(true)),
+            Arguments.of(literal(2.5).le(literal(2)), Optional.of(false)),
+            Arguments.of(literal(0.0).eq(literal(-0.0)), Optional.of(true)),
+            Arguments.of(literal(true).isTrue(), Optional.of(true)),
+            Arguments.of(literal(true).isFalse(), Optional.of(false)),
+            Arguments.of(literalObj(null).isNull(), Optional.of(true)),
+            Arguments.of(literalObj("String").isNull(), Optional.of(false)),
+            Arguments.of(literalObj("String").isNotNull(), Optional.of(true)),
+            Arguments.of(literal(1).eq(literal(1)).and(literal(2).eq(literal(3))), Optional.of(false)),
+            Arguments.of(literal(1).eq(literal(1)).or(getVar("a").eq(literal(3))), Optional.of(true)),
+            Arguments.of(literal(1).eq(literal(2)).and(getVar("a").eq(literal(3))), Optional.of(false)),
+            Arguments.of(literal(1).eq(literal(1)).and(getVar("a").eq(literal(3))), Optional.empty()),
+            Arguments.of(getVar("a").eq(literal(3)).and(literal(1).eq(literal(2))), Optional.empty()),
+            Arguments.of(getVar("a").eq(literal(3)).or(literal(1).eq(literal(1))), Optional.empty()),
+            Arguments.of(getVar("a").eq(literal(1)), Optional.empty()),
+            Arguments.of(literal(1).add(getVar("a")).eq(literal(1)), Optional.empty()),
+            Arguments.of(literal((byte)1).eq(literal(1)), Optional.empty()) //int cannot be implicitly converted to byte
+        );
+    }
+
+    public static abstract class TestType {
+        public abstract int constant();
+        public abstract int partiallyConstant(int value);
+        public abstract int divideByZero();
+        public abstract double constantDouble();
+    }
+
+    @Test
+    public void generateFoldedConstantsAsSingleLiterals() {
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("constant"), noParameters(), type(int.class),
+                returnValue(literal(6).mul(literal(7)).sub(literal(2).add(literal(3)))) //return 6 * 7 - (2 + 3);
+            ))
+            .withMethod(method(publicOnly(), name("partiallyConstant"), parameters(p("value", int.class)), type(int.class),
+                returnValue(literal(2).mul(literal(5)).add(getVar("value")).mul(literal(2))) //return (2 * 5 + value) * 2;
+            ))
+            .withMethod(method(publicOnly(), name("divideByZero"), noParameters(), type(int.class),
+                returnValue(literal(1).div(literal(0))) //return 1 / 0;
+            ))
+            .withMethod(method(publicOnly(), name("constantDouble"), noParameters(), type(double.class),
+                returnValue(literal(1.5).mul(literal(4))) //return 1.5 * 4;
+            ));
+
+        byte[] classBytes = builder.buildBytes();
+        assertThat(opcodes(classBytes, "constant"), contains(LDC, IRETURN));
+        assertThat(opcodes(classBytes, "partiallyConstant"), contains(LDC, ILOAD, IADD, LDC, IMUL, IRETURN));
+        assertThat(opcodes(classBytes, "divideByZero"), contains(LDC, LDC, IDIV, IRETURN));
+        assertThat(opcodes(classBytes, "constantDouble"), contains(LDC, DRETURN));
+
+        TestType instance = builder.buildInstance();
+        assertThat(instance.constant(), is(37));
+        assertThat(instance.partiallyConstant(5), is(30));
+        assertThat(instance.constantDouble(), is(6.0));
+        assertThrows(ArithmeticException.class, instance::divideByZero);
+    }
+}
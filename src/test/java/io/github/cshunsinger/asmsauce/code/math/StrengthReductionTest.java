@@ -0,0 +1,105 @@
+package io.github.cshunsinger.asmsauce.code.math;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.Optimization;
+import org.junit.jupiter.api.Test;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.objectweb.asm.Opcodes.*;
+
+class StrengthReductionTest {
+    private static final int[] INT_VALUES = {
+        0, 1, -1, 7, -7, 8, -8, 9, -9, 1000, -1000, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1
+    };
+    private static final long[] LONG_VALUES = {
+        0L, 1L, -1L, 7L, -7L, 8L, -8L, 9L, -9L, 1L << 40, -(1L << 40) - 3, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1
+    };
+
+    public static abstract class TestType {
+        public abstract int mul(int value);
+        public abstract long mul(long value);
+        public abstract int div(int value);
+        public abstract long div(long value);
+        public abstract int mod(int value);
+        public abstract long mod(long value);
+        public abstract int divLarge(int value);
+        public abstract long modLarge(long value);
+        public abstract int notPowerOfTwo(int value);
+        public abstract double doubleDiv(double value);
+    }
+
+    private static AsmClassBuilder<TestType> testTypeBuilder() {
+        return new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("mul"), parameters(int.class), type(int.class),
+                returnValue(getVar(1).mul(literal(8))) //return value * 8;
+            ))
+            .withMethod(method(publicOnly(), name("mul"), parameters(long.class), type(long.class),
+                returnValue(getVar(1).mul(literal(8))) //return value * 8;
+            ))
+            .withMethod(method(publicOnly(), name("div"), parameters(int.class), type(int.class),
+                returnValue(getVar(1).div(literal(8))) //return value / 8;
+            ))
+            .withMethod(method(publicOnly(), name("div"), parameters(long.class), type(long.class),
+                returnValue(getVar(1).div(literal(8L))) //return value / 8L;
+            ))
+            .withMethod(method(publicOnly(), name("mod"), parameters(int.class), type(int.class),
+                returnValue(getVar(1).mod(literal(8))) //return value % 8;
+            ))
+            .withMethod(method(publicOnly(), name("mod"), parameters(long.class), type(long.class),
+                returnValue(getVar(1).mod(literal(8))) //return value % 8;
+            ))
+            .withMethod(method(publicOnly(), name("divLarge"), parameters(int.class), type(int.class),
+                returnValue(getVar(1).div(literal(1 << 30))) //return value / (1 << 30);
+            ))
+            .withMethod(method(publicOnly(), name("modLarge"), parameters(long.class), type(long.class),
+                returnValue(getVar(1).mod(literal(1L << 62))) //return value % (1L << 62);
+            ))
+            .withMethod(method(publicOnly(), name("notPowerOfTwo"), parameters(int.class), type(int.class),
+                returnValue(getVar(1).mul(literal(6))) //return value * 6;
+            ))
+            .withMethod(method(publicOnly(), name("doubleDiv"), parameters(double.class), type(double.class),
+                returnValue(getVar(1).div(literal(8.0))) //return value / 8.0;
+            ));
+    }
+
+    @Test
+    public void doNotReduceStrengthUnlessOptimizationIsEnabled() {
+        byte[] classBytes = testTypeBuilder().buildBytes();
+        assertThat(opcodes(classBytes, "div"), hasItem(IDIV));
+        assertThat(opcodes(classBytes, "mod"), hasItem(IREM));
+    }
+
+    @Test
+    public void reduceMultiplicationDivisionAndModulusByPowersOfTwo() {
+        AsmClassBuilder<TestType> builder = testTypeBuilder().withOptimization(Optimization.STRENGTH_REDUCTION);
+        byte[] classBytes = builder.buildBytes();
+
+        assertThat(opcodes(classBytes, "mul"), allOf(not(hasItem(IMUL)), not(hasItem(LMUL))));
+        assertThat(opcodes(classBytes, "div"), allOf(not(hasItem(IDIV)), not(hasItem(LDIV))));
+        assertThat(opcodes(classBytes, "mod"), allOf(not(hasItem(IREM)), not(hasItem(LREM))));
+        assertThat(opcodes(classBytes, "notPowerOfTwo"), hasItem(IMUL));
+        assertThat(opcodes(classBytes, "doubleDiv"), hasItem(DDIV));
+
+        TestType instance = builder.buildInstance();
+        for(int value: INT_VALUES) {
+            assertThat(instance.mul(value), is(value * 8));
+            assertThat(instance.div(value), is(value / 8));
+            assertThat(instance.mod(value), is(value % 8));
+            assertThat(instance.divLarge(value), is(value / (1 << 30)));
+            assertThat(instance.notPowerOfTwo(value), is(value * 6));
+        }
+        for(long value: LONG_VALUES) {
+            assertThat(instance.mul(value), is(value * 8));
+            assertThat(instance.div(value), is(value / 8L));
+            assertThat(instance.mod(value), is(value % 8));
+            assertThat(instance.modLarge(value), is(value % (1L << 62)));
+        }
+        assertThat(instance.doubleDiv(-12.0), is(-1.5));
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.cshunsinger.asmsauce.code.method;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.BaseUnitTest;
+import org.apache.commons.lang3.reflect.MethodUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+public class InvokeDynamicInsnTest extends BaseUnitTest {
+    private static final Method BOOTSTRAP = MethodUtils.getAccessibleMethod(
+        InvokeDynamicInsnTest.class, "bootstrap", MethodHandles.Lookup.class, String.class, MethodType.class
+    );
+    private static final Method CONCAT_BOOTSTRAP = MethodUtils.getAccessibleMethod(
+        StringConcatFactory.class, "makeConcatWithConstants",
+        MethodHandles.Lookup.class, String.class, MethodType.class, String.class, Object[].class
+    );
+
+    public static CallSite bootstrap(MethodHandles.Lookup lookup, String name, MethodType type) throws ReflectiveOperationException {
+        //Links the call site to the static method of this test class with the same name and type
+        return new ConstantCallSite(MethodHandles.lookup().findStatic(InvokeDynamicInsnTest.class, name, type));
+    }
+
+    public static long multiply(int a, long b) {
+        return a * b;
+    }
+
+    @Test
+    public void illegalArgumentException_invalidParameters() {
+        Method nonStatic = MethodUtils.getAccessibleMethod(Object.class, "toString");
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> invokeDynamic(null, name("a"), noParameters(), voidType()));
+        assertThat(ex, hasProperty("message", is("Bootstrap method cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> invokeDynamic(nonStatic, name("a"), noParameters(), voidType()));
+        assertThat(ex, hasProperty("message", is("Bootstrap method must be static.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> invokeDynamic(BOOTSTRAP, null, name("a"), noParameters(), voidType()));
+        assertThat(ex, hasProperty("message", is("Bootstrap arguments cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> invokeDynamic(BOOTSTRAP, null, noParameters(), voidType()));
+        assertThat(ex, hasProperty("message", is("Name cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> invokeDynamic(BOOTSTRAP, name("a"), null, voidType()));
+        assertThat(ex, hasProperty("message", is("Parameters cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> invokeDynamic(BOOTSTRAP, name("a"), noParameters(), null));
+        assertThat(ex, hasProperty("message", is("Return type cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> invokeDynamic(BOOTSTRAP, name("a"), parameters(int.class), voidType()));
+        assertThat(ex, hasProperty("message", is("Expected 1 builders to satisfy the method parameters. Found 0 builders instead.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> invokeDynamic(BOOTSTRAP, List.of(new Object()), name("a"), noParameters(), voidType()));
+        assertThat(ex, hasProperty("message", is("Bootstrap argument of type java.lang.Object is not supported.")));
+    }
+
+    public static abstract class TestType {
+        public abstract long multiply(int a, long b);
+        public abstract String concat(String name, int count);
+    }
+
+    @Test
+    public void invokeDynamicallyLinkedCallSites() {
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("multiply"), parameters(p("a", int.class), p("b", long.class)), type(long.class),
+                returnValue(invokeDynamic(BOOTSTRAP, name("multiply"), parameters(int.class, long.class), type(long.class),
+                    getVar("a"),
+                    getVar("b")
+                ))
+            ))
+            .withMethod(method(publicOnly(), name("concat"), parameters(p("name", String.class), p("count", int.class)), type(String.class),
+                returnValue(invokeDynamic(CONCAT_BOOTSTRAP, List.of("\u0001 has \u0001 items."), name("concat"), parameters(String.class, int.class), type(String.class),
+                    getVar("name"),
+                    getVar("count")
+                ))
+            ));
+
+        assertThat(opcodes(builder.buildBytes(), "multiply"), contains(ILOAD, LLOAD, INVOKEDYNAMIC, LRETURN));
+
+        TestType instance = builder.buildInstance();
+        assertThat(instance.multiply(3, 5L), is(15L));
+        assertThat(instance.concat("Cart", 4), is("Cart has 4 items."));
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.cshunsinger.asmsauce.code.method;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.BaseUnitTest;
+import io.github.cshunsinger.asmsauce.definitions.ParametersDefinition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+public class LambdaInsnTest extends BaseUnitTest {
+    @ParameterizedTest
+    @MethodSource("illegalArgumentException_invalidLambda_testCases")
+    public void illegalArgumentException_invalidLambda(Class<?> functionalInterface, ParametersDefinition parameters, String expectedMessage) {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> lambda(functionalInterface, parameters));
+        assertThat(ex, hasProperty("message", is(expectedMessage)));
+    }
+
+    private static Stream<Arguments> illegalArgumentException_invalidLambda_testCases() {
+        return Stream.of(
+            Arguments.of(null, noParameters(), "Functional interface cannot be null."),
+            Arguments.of(Supplier.class, null, "Parameters cannot be null."),
+            Arguments.of(String.class, noParameters(), "Type java.lang.String is not a functional interface."),
+            Arguments.of(List.class, noParameters(), "Type java.util.List is not a functional interface."),
+            Arguments.of(Supplier.class, parameters(String.class), "Expected 0 lambda parameters to implement method get. Found 1 parameters instead."),
+            Arguments.of(IntBinaryOperator.class, parameters(int.class, long.class), "Lambda parameter 1 of type long cannot implement a parameter of type int."),
+            Arguments.of(Function.class, parameters(int.class), "Lambda parameter 0 of type int cannot implement a parameter of type java.lang.Object.")
+        );
+    }
+
+    @Test
+    public void illegalArgumentException_invalidCapture() {
+        LambdaInsn lambda = lambda(Supplier.class, noParameters());
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> lambda.capture("", getVar(0)));
+        assertThat(ex, hasProperty("message", is("Capture name cannot be null or empty.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> lambda.capture("value", null));
+        assertThat(ex, hasProperty("message", is("Capture value builder cannot be null.")));
+
+        lambda.capture("value", getVar(0));
+        ex = assertThrows(IllegalArgumentException.class, () -> lambda.capture("value", getVar(1)));
+        assertThat(ex, hasProperty("message", is("Lambda already captures a value named value.")));
+    }
+
+    public static abstract class TestType {
+        public abstract Supplier<String> supplier();
+        public abstract IntBinaryOperator adder();
+        public abstract Function<String, Integer> length();
+        public abstract Function<String, String> prefixer(String prefix);
+        public abstract Supplier<String> describe();
+        public abstract Supplier<Supplier<String>> nested(String value);
+
+        public String name() {
+            return "TestType";
+        }
+    }
+
+    @Test
+    public void createFunctionalInterfaceInstancesFromLambdas() {
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("supplier"), noParameters(), type(Supplier.class),
+                returnValue(lambda(Supplier.class, noParameters(), //return () -> "Hello";
+                    returnValue(literalObj("Hello"))
+                ))
+            ))
+            .withMethod(method(publicOnly(), name("adder"), noParameters(), type(IntBinaryOperator.class),
+                returnValue(lambda(IntBinaryOperator.class, parameters(p("a", int.class), p("b", int.class)), //return (a, b) -> a + b;
+                    returnValue(getVar("a").add(getVar("b")))
+                ))
+            ))
+            .withMethod(method(publicOnly(), name("length"), noParameters(), type(Function.class),
+                returnValue(lambda(Function.class, parameters(p("str", String.class)), //return (String str) -> Integer.valueOf(str.length());
+                    returnValue(invokeStatic(Integer.class, "valueOf", getVar("str").invoke("length")))
+                ))
+            ))
+            .withMethod(method(publicOnly(), name("prefixer"), parameters(p("prefix", String.class)), type(Function.class),
+                returnValue(lambda(Function.class, parameters(p("str", String.class)), //return (String str) -> prefix.concat(str);
+                    returnValue(getVar("prefix").invoke("concat", getVar("str")))
+                ).capture("prefix", getVar("prefix")))
+            ))
+            .withMethod(method(publicOnly(), name("describe"), noParameters(), type(Supplier.class),
+                returnValue(lambda(Supplier.class, noParameters(), //return () -> this.name();
+                    returnValue(getVar("self").invoke("name"))
+                ).capture("self", this_()))
+            ))
+            .withMethod(method(publicOnly(), name("nested"), parameters(p("value", String.class)), type(Supplier.class),
+                returnValue(lambda(Supplier.class, noParameters(), //return () -> () -> value;
+                    returnValue(lambda(Supplier.class, noParameters(),
+                        returnValue(getVar("inner"))
+                    ).capture("inner", getVar("outer")))
+                ).capture("outer", getVar("value")))
+            ));
+
+        assertThat(opcodes(builder.buildBytes(), "supplier"), contains(INVOKEDYNAMIC, ARETURN));
+
+        TestType instance = builder.buildInstance();
+
+        //Lambdas which capture nothing are created once and reused
+        Supplier<String> supplier = instance.supplier();
+        assertThat(supplier.get(), is("Hello"));
+        assertThat(instance.supplier(), sameInstance(supplier));
+
+        assertThat(instance.adder().applyAsInt(3, 4), is(7));
+        assertThat(instance.length().apply("Hello"), is(5));
+        assertThat(instance.prefixer("Hello ").apply("World"), is("Hello World"));
+        assertThat(instance.describe().get(), is("TestType"));
+        assertThat(instance.nested("Inside").get().get(), is("Inside"));
+
+        //The lambda parameter type is checked when the lambda is called
+        Function raw = instance.length();
+        assertThrows(ClassCastException.class, () -> raw.apply(5));
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.cshunsinger.asmsauce.code.method;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.BaseUnitTest;
+import io.github.cshunsinger.asmsauce.code.CodeInsnBuilderLike;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+public class StringConcatInsnTest extends BaseUnitTest {
+    @Test
+    public void illegalArgumentException_nullValueBuilder() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> concat(literalObj("a"), null));
+        assertThat(ex, hasProperty("message", is("Concatenated value builders cannot be null.")));
+    }
+
+    public static abstract class TestType {
+        public abstract String describe(String name, int age, double height, char initial, boolean active, Object tag);
+        public abstract String constant();
+        public abstract String nested(String first, String last);
+        public abstract String tags(String value);
+        public abstract int length(String value);
+        public abstract String many(long value);
+    }
+
+    @Test
+    public void concatenateValuesWithStringConcatFactory() {
+        //More long values than fit into a single call site, since each long uses 2 argument slots
+        CodeInsnBuilderLike[] manyValues = IntStream.range(0, 150).mapToObj(i -> getVar("value")).toArray(CodeInsnBuilderLike[]::new);
+
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("describe"),
+                parameters(p("name", String.class), p("age", int.class), p("height", double.class), p("initial", char.class), p("active", boolean.class), p("tag", Object.class)),
+                type(String.class),
+                //return name + " is " + age + " (" + height + ") " + initial + active + tag;
+                returnValue(concat(getVar("name"), literalObj(" is "), getVar("age"), literalObj(" ("), getVar("height"), literalObj(") "), getVar("initial"), getVar("active"), getVar("tag")))
+            ))
+            .withMethod(method(publicOnly(), name("constant"), noParameters(), type(String.class),
+                returnValue(concat(literalObj("a"), literal(1).add(literal(2)), literal('c'), literal(true), literalObj(null))) //return "a" + (1 + 2) + 'c' + true + null;
+            ))
+            .withMethod(method(publicOnly(), name("nested"), parameters(p("first", String.class), p("last", String.class)), type(String.class),
+                returnValue(concat(concat(getVar("first"), literalObj(" ")), getVar("last"))) //return first + " " + last;
+            ))
+            .withMethod(method(publicOnly(), name("tags"), parameters(p("value", String.class)), type(String.class),
+                returnValue(concat(literalObj("\u0001"), getVar("value"), literalObj("\u0002"))) //return "\u0001" + value + "\u0002";
+            ))
+            .withMethod(method(publicOnly(), name("length"), parameters(p("value", String.class)), type(int.class),
+                returnValue(concat(getVar("value"), getVar("value")).invoke("length")) //return (value + value).length();
+            ))
+            .withMethod(method(publicOnly(), name("many"), parameters(p("value", long.class)), type(String.class),
+                returnValue(concat(manyValues))
+            ));
+
+        byte[] classBytes = builder.buildBytes();
+        assertThat(opcodes(classBytes, "constant"), contains(LDC, ARETURN));
+        assertThat(opcodes(classBytes, "nested"), contains(ALOAD, ALOAD, INVOKEDYNAMIC, ARETURN));
+        assertThat(opcodes(classBytes, "many").stream().filter(opcode -> opcode == INVOKEDYNAMIC).count(), is(2L));
+
+        TestType instance = builder.buildInstance();
+        assertThat(instance.describe("Bob", 30, 1.8, 'B', true, null), is("Bob is 30 (1.8) Btruenull"));
+        assertThat(instance.constant(), is("a3ctruenull"));
+        assertThat(instance.nested("Jane", "Doe"), is("Jane Doe"));
+        assertThat(instance.tags("-"), is("\u0001-\u0002"));
+        assertThat(instance.length("abc"), is(6));
+        assertThat(instance.many(7L), is("7".repeat(150)));
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.cshunsinger.asmsauce.code.stack;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import org.junit.jupiter.api.Test;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+class IncrementLocalVariableInsnTest {
+    @Test
+    public void illegalArgumentException_invalidParameters() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> incVar(-1, 1));
+        assertThat(ex, hasProperty("message", is("localIndex cannot be negative.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> incVar(" ", 1));
+        assertThat(ex, hasProperty("message", is("localName cannot be null or empty.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> incVar("i", 32768));
+        assertThat(ex, hasProperty("message", is("Increment amount must be between -32768 and 32767.")));
+    }
+
+    public static abstract class TestType {
+        public abstract int increment(int value);
+        public abstract long incrementLong(long value);
+    }
+
+    @Test
+    public void incrementIntLocalVariablesInPlace() {
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("increment"), parameters(p("value", int.class)), type(int.class),
+                incVar("value", 5), //value += 5;
+                incVar(1, -32768), //value += -32768;
+                returnValue(getVar("value")) //return value;
+            ));
+
+        assertThat(opcodes(builder.buildBytes(), "increment"), contains(IINC, IINC, ILOAD, IRETURN));
+        assertThat(builder.buildInstance().increment(32770), is(7));
+    }
+
+    @Test
+    public void illegalStateException_incrementNonIntLocalVariable() {
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("incrementLong"), parameters(p("value", long.class)), type(long.class),
+                incVar("value", 1), //value += 1;
+                returnValue(getVar("value")) //return value;
+            ));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, builder::buildInstance);
+        assertThat(ex, hasProperty("message", is("Only int local variables can be incremented. Found type long instead.")));
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.cshunsinger.asmsauce.code.stack;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.BaseUnitTest;
+import io.github.cshunsinger.asmsauce.DynamicClassLoader;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.objectweb.asm.Opcodes.*;
+
+class StackClassDataInsnTest extends BaseUnitTest {
+    @Test
+    public void illegalArgumentException_invalidClassData() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> classData(null));
+        assertThat(ex, hasProperty("message", is("Class data value cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> classData("Value", null));
+        assertThat(ex, hasProperty("message", is("Class data type cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> classData("Value", Integer.class));
+        assertThat(ex, hasProperty("message", is("Class data value of type java.lang.String is not assignable to type java.lang.Integer.")));
+    }
+
+    @Test
+    public void illegalStateException_classDataLoadedOutsideOfGeneratedClass() {
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+            () -> DynamicClassLoader.classData(MethodHandles.lookup(), "classData", Object.class, 0)
+        );
+        assertThat(ex, hasProperty("message", is("Class data can only be loaded by classes defined by a DynamicClassLoader.")));
+    }
+
+    public static class Config {
+        public final int multiplier;
+
+        public Config(int multiplier) {
+            this.multiplier = multiplier;
+        }
+    }
+
+    public static abstract class TestType {
+        public abstract int multiply(int value);
+        public abstract int apply(int value);
+        public abstract Object config();
+        public abstract int first();
+        public abstract long boxed();
+    }
+
+    @Test
+    public void embedLiveObjectsAsDynamicConstants() {
+        Config config = new Config(3);
+        IntUnaryOperator operator = value -> value + 100;
+        List<Integer> values = List.of(42, 7);
+
+        AsmClassBuilder<TestType> builder = new AsmClassBuilder<>(TestType.class)
+            .withMethod(method(publicOnly(), name("multiply"), parameters(p("value", int.class)), type(int.class),
+                returnValue(getVar("value").mul(classData(config).getField("multiplier")))
+            ))
+            .withMethod(method(publicOnly(), name("apply"), parameters(p("value", int.class)), type(int.class),
+                returnValue(classData(operator, IntUnaryOperator.class).invoke("applyAsInt", getVar("value")))
+            ))
+            .withMethod(method(publicOnly(), name("config"), noParameters(), type(Object.class),
+                returnValue(classData(config))
+            ))
+            .withMethod(method(publicOnly(), name("first"), noParameters(), type(int.class),
+                returnValue(cast(Integer.class, classData(values, List.class).invoke("get", literal(0))))
+            ))
+            .withMethod(method(publicOnly(), name("boxed"), noParameters(), type(long.class),
+                returnValue(classData(5L, long.class))
+            ));
+
+        assertThat(opcodes(builder.buildBytes(), "apply"), contains(LDC, ILOAD, INVOKEINTERFACE, IRETURN));
+
+        TestType instance = builder.buildInstance();
+        assertThat(instance.multiply(5), is(15));
+        assertThat(instance.apply(1), is(101));
+        assertThat(instance.config(), sameInstance(config));
+        assertThat(instance.first(), is(42));
+        assertThat(instance.boxed(), is(5L));
+    }
+}
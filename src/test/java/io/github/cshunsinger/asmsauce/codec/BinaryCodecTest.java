@@ -0,0 +1,128 @@
+package io.github.cshunsinger.asmsauce.codec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.*;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryCodecTest {
+    public static class TestBase {
+        public long id;
+    }
+
+    public static class TestMessage extends TestBase {
+        public static int COUNTER = 5;
+        public boolean urgent;
+        public byte priority;
+        public short code;
+        public char grade;
+        public int count;
+        public float ratio;
+        public double score;
+        public Integer rank;
+        public String title;
+        public int[] values;
+        public String[] tags;
+        public TestMessage reply;
+        public transient String cached;
+    }
+
+    public static class TestUnsupported {
+        public List<String> items;
+    }
+
+    public static class TestNoDefaultConstructor {
+        public TestNoDefaultConstructor(int value) {}
+    }
+
+    @Test
+    public void illegalArgumentException_nullOrUnencodableType() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> BinaryCodec.forClass(null));
+        assertThat(ex, hasProperty("message", is("Type cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> BinaryCodec.forClass(TestNoDefaultConstructor.class));
+        assertThat(ex, hasProperty("message", is("Type %s must be a public class with a public no-argument constructor.".formatted(
+            TestNoDefaultConstructor.class.getName()
+        ))));
+    }
+
+    @Test
+    public void illegalStateException_unencodableFieldType() {
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> BinaryCodec.forClass(TestUnsupported.class));
+        assertThat(ex, hasProperty("message", is("Cannot encode field items of type java.util.List.")));
+    }
+
+    @Test
+    public void codecIsGeneratedOncePerClass() {
+        assertThat(BinaryCodec.forClass(TestMessage.class), sameInstance(BinaryCodec.forClass(TestMessage.class)));
+    }
+
+    @Test
+    public void writeAndReadAllFieldTypes() {
+        TestMessage message = new TestMessage();
+        message.id = -123456789012L;
+        message.urgent = true;
+        message.priority = -3;
+        message.code = 1234;
+        message.grade = 'B';
+        message.count = -42;
+        message.ratio = 1.5f;
+        message.score = -0.25;
+        message.rank = 7;
+        message.title = "Gr\u00fc\u00dfe";
+        message.values = new int[] {1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        message.tags = new String[] {"first", null, "third"};
+        message.cached = "not written";
+        message.reply = new TestMessage();
+        message.reply.title = "reply";
+
+        BinaryCodec<TestMessage> codec = BinaryCodec.forClass(TestMessage.class);
+        TestMessage read = codec.fromBytes(codec.toBytes(message));
+
+        assertThat(read.id, is(-123456789012L));
+        assertThat(read.urgent, is(true));
+        assertThat(read.priority, is((byte)-3));
+        assertThat(read.code, is((short)1234));
+        assertThat(read.grade, is('B'));
+        assertThat(read.count, is(-42));
+        assertThat(read.ratio, is(1.5f));
+        assertThat(read.score, is(-0.25));
+        assertThat(read.rank, is(7));
+        assertThat(read.title, is("Gr\u00fc\u00dfe"));
+        assertThat(read.values, is(new int[] {1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE}));
+        assertThat(read.tags, is(new String[] {"first", null, "third"}));
+        assertThat(read.cached, is(nullValue()));
+        assertThat(read.reply.title, is("reply"));
+        assertThat(read.reply.values, is(nullValue()));
+        assertThat(read.reply.reply, is(nullValue()));
+    }
+
+    @Test
+    public void nullFieldsOnlyTakeUpTheirBitInTheNullBitmap() {
+        BinaryCodec<TestMessage> codec = BinaryCodec.forClass(TestMessage.class);
+
+        //id, 5 fixed-size primitives, count, and 1 byte of null bitmap for the 5 reference fields
+        byte[] bytes = codec.toBytes(new TestMessage());
+        assertThat(bytes.length, is(1 + 1 + 1 + 2 + 2 + 4 + 8 + 1 + 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, -1, 63, -64, 64, 300, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE})
+    public void writeAndReadVarInts(long value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryCodec.writeVarLong(out, value);
+        BinaryCodec.writeVarInt(out, (int)value);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThat(BinaryCodec.readVarLong(in), is(value));
+        assertThat(BinaryCodec.readVarInt(in), is((int)value));
+        assertThat(in.available(), is(0));
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static io.github.cshunsinger.asmsauce.expression.Expression.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchFilterTest {
+    private static final int[] AGES = {12, 18, 25, 40, 17, 65};
+    private static final long[] IDS = {7, 8, 9, 10, 11, 7};
+    private static final double[] SCORES = {0.9, 0.2, 0.7, 0.1, 0.8, 0.3};
+
+    private static int[] select(BatchFilter filter, int rowCount) {
+        int[] selection = new int[rowCount];
+        int count = filter.filter(new Object[] {AGES, IDS, SCORES}, rowCount, selection);
+        return Arrays.copyOf(selection, count);
+    }
+
+    @Test
+    public void illegalArgumentException_invalidFilterArguments() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> BatchFilter.compile(null, int[].class));
+        assertThat(ex, hasProperty("message", is("Predicate cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> BatchFilter.compile(constant(true)));
+        assertThat(ex, hasProperty("message", is("At least one column type must be given.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> BatchFilter.compile(constant(true), float[].class));
+        assertThat(ex, hasProperty("message", is("Column type [F must be int[], long[], or double[].")));
+    }
+
+    @Test
+    public void illegalStateException_predicateIsNotBoolean() {
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> BatchFilter.compile(parameter(0), int[].class));
+        assertThat(ex, hasProperty("message", is("Expected a boolean expression, but found int.")));
+    }
+
+    @Test
+    public void conjunctionOfColumnComparisons() {
+        BatchFilter filter = BatchFilter.compile(
+            and(ge(parameter(0), constant(18)), lt(parameter(2), constant(0.75))),
+            int[].class, long[].class, double[].class
+        );
+
+        assertThat(select(filter, 6), is(new int[] {1, 2, 3, 5}));
+        assertThat(select(filter, 3), is(new int[] {1, 2}));
+        assertThat(select(filter, 0), is(new int[0]));
+    }
+
+    @Test
+    public void disjunctionOfColumnComparisons() {
+        BatchFilter filter = BatchFilter.compile(
+            or(eq(parameter(1), constant(7L)), and(gt(parameter(0), parameter(1)), not(gt(parameter(2), constant(0.5))))),
+            int[].class, long[].class, double[].class
+        );
+
+        assertThat(select(filter, 6), is(new int[] {0, 1, 3, 5}));
+    }
+
+    @Test
+    public void filtersAreCachedByPredicateShape() {
+        BatchFilter first = BatchFilter.compile(lt(parameter(0), constant(2.5)), int[].class);
+        BatchFilter second = BatchFilter.compile(lt(parameter(0), constant(4.5)), int[].class);
+        BatchFilter third = BatchFilter.compile(lt(parameter(0), constant(2.5)), double[].class);
+
+        assertThat(second.getClass(), sameInstance(first.getClass()));
+        assertThat(third.getClass(), not(sameInstance(first.getClass())));
+
+        int[] selection = new int[4];
+        assertThat(first.filter(new Object[] {new int[] {3, 2, 0, 5}}, 4, selection), is(2));
+        assertThat(selection[0], is(1));
+        assertThat(selection[1], is(2));
+        assertThat(second.filter(new Object[] {new int[] {3, 2, 0, 5}}, 4, selection), is(3));
+        assertThat(selection[0], is(0));
+        assertThat(selection[1], is(1));
+        assertThat(selection[2], is(2));
+    }
+}
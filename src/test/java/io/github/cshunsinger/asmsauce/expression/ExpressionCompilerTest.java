@@ -0,0 +1,138 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.*;
+
+import static io.github.cshunsinger.asmsauce.expression.Expression.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExpressionCompilerTest {
+    public static class TestCustomer {
+        public boolean vip;
+    }
+
+    public static class TestOrder {
+        public double total;
+        public boolean priority;
+        public Integer items;
+        public String note;
+        public TestCustomer customer = new TestCustomer();
+    }
+
+    private static TestOrder order(double total, boolean priority, int items, boolean vip) {
+        TestOrder order = new TestOrder();
+        order.total = total;
+        order.priority = priority;
+        order.items = items;
+        order.customer.vip = vip;
+        return order;
+    }
+
+    @Test
+    public void illegalArgumentException_invalidFunctionalInterface() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> ExpressionCompiler.compile(null, constant(1)));
+        assertThat(ex, hasProperty("message", is("Functional interface cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> ExpressionCompiler.compile(IntSupplier.class, null));
+        assertThat(ex, hasProperty("message", is("Expression cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> ExpressionCompiler.compile(TestOrder.class, constant(1)));
+        assertThat(ex, hasProperty("message", is("Type %s must be a public functional interface.".formatted(TestOrder.class.getName()))));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> ExpressionCompiler.compile(Runnable.class, constant(1)));
+        assertThat(ex, hasProperty("message", is("Function run must return a value.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> ExpressionCompiler.compile(Predicate.class, constant(true), TestOrder.class, TestOrder.class));
+        assertThat(ex, hasProperty("message", is("Function test takes 1 parameters, but 2 parameter types were given.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> ExpressionCompiler.compile(IntPredicate.class, constant(true), long.class));
+        assertThat(ex, hasProperty("message", is("Parameter type long is not assignable to int.")));
+    }
+
+    @Test
+    public void illegalStateException_expressionCannotBeTyped() {
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> ExpressionCompiler.compile(IntSupplier.class, parameter(0)));
+        assertThat(ex, hasProperty("message", is("Expression uses parameter 0, but the function only has 0 parameters.")));
+
+        ex = assertThrows(IllegalStateException.class, () -> ExpressionCompiler.compile(Predicate.class, field(parameter(0), "missing"), TestOrder.class));
+        assertThat(ex, hasProperty("message", is("Type %s has no public instance field named missing.".formatted(TestOrder.class.getName()))));
+
+        ex = assertThrows(IllegalStateException.class, () -> ExpressionCompiler.compile(ToIntFunction.class, add(field(parameter(0), "note"), constant(1)), TestOrder.class));
+        assertThat(ex, hasProperty("message", is("Expected a numeric expression, but found java.lang.String.")));
+
+        ex = assertThrows(IllegalStateException.class, () -> ExpressionCompiler.compile(IntPredicate.class, and(parameter(0), constant(true))));
+        assertThat(ex, hasProperty("message", is("Expected a boolean expression, but found int.")));
+
+        ex = assertThrows(IllegalStateException.class, () -> ExpressionCompiler.compile(IntPredicate.class, parameter(0)));
+        assertThat(ex, hasProperty("message", is("Cannot convert int to boolean.")));
+    }
+
+    @Test
+    public void arithmeticIsPerformedInThePromotedPrimitiveType() {
+        IntBinaryOperator intOperator = ExpressionCompiler.compile(IntBinaryOperator.class,
+            add(mul(parameter(0), constant(3)), mod(parameter(1), constant(4)))
+        );
+        assertThat(intOperator.applyAsInt(4, 7), is(15));
+
+        LongBinaryOperator longOperator = ExpressionCompiler.compile(LongBinaryOperator.class,
+            sub(div(parameter(0), parameter(1)), constant(1))
+        );
+        assertThat(longOperator.applyAsLong(10_000_000_000L, 3), is(3_333_333_332L));
+
+        DoubleUnaryOperator doubleOperator = ExpressionCompiler.compile(DoubleUnaryOperator.class,
+            add(div(cast(int.class, parameter(0)), constant(2)), constant(0.5f))
+        );
+        assertThat(doubleOperator.applyAsDouble(7.9), is(3.5));
+    }
+
+    @Test
+    public void rulesReadFieldsOfNarrowedParameters() {
+        @SuppressWarnings("unchecked")
+        Predicate<TestOrder> rule = ExpressionCompiler.compile(Predicate.class, and(
+            or(gt(field(parameter(0), "total"), constant(100)), field(field(parameter(0), "customer"), "vip")),
+            not(or(field(parameter(0), "priority"), ge(field(parameter(0), "items"), constant(10))))
+        ), TestOrder.class);
+
+        assertThat(rule.test(order(150.0, false, 2, false)), is(true));
+        assertThat(rule.test(order(50.0, false, 2, true)), is(true));
+        assertThat(rule.test(order(50.0, false, 2, false)), is(false));
+        assertThat(rule.test(order(150.0, true, 2, false)), is(false));
+        assertThat(rule.test(order(150.0, false, 10, false)), is(false));
+    }
+
+    @Test
+    public void conditionalValuesAreConvertedToTheReturnType() {
+        @SuppressWarnings("unchecked")
+        Function<TestOrder, Object> shipping = ExpressionCompiler.compile(Function.class, conditional(
+            eq(field(parameter(0), "priority"), constant(true)),
+            mul(field(parameter(0), "items"), constant(2L)),
+            field(parameter(0), "items")
+        ), TestOrder.class);
+
+        assertThat(shipping.apply(order(0.0, true, 3, false)), is(6L));
+        assertThat(shipping.apply(order(0.0, false, 3, false)), is(3L));
+    }
+
+    @Test
+    public void compiledFunctionsAreCachedByExpressionShape() {
+        IntUnaryOperator first = ExpressionCompiler.compile(IntUnaryOperator.class, add(parameter(0), constant(1)));
+        IntUnaryOperator second = ExpressionCompiler.compile(IntUnaryOperator.class, add(parameter(0), constant(1)));
+        IntUnaryOperator third = ExpressionCompiler.compile(IntUnaryOperator.class, add(parameter(0), constant(2)));
+
+        IntUnaryOperator fourth = ExpressionCompiler.compile(IntUnaryOperator.class, add(constant(1), parameter(0)));
+        IntUnaryOperator fifth = ExpressionCompiler.compile(IntUnaryOperator.class, add(parameter(0), constant(2L)));
+
+        assertThat(second.getClass(), sameInstance(first.getClass()));
+        assertThat(third.getClass(), sameInstance(first.getClass()));
+        assertThat(fourth.getClass(), not(sameInstance(first.getClass())));
+        assertThat(fifth.getClass(), not(sameInstance(first.getClass())));
+        assertThat(first.applyAsInt(1), is(2));
+        assertThat(second.applyAsInt(1), is(2));
+        assertThat(third.applyAsInt(1), is(3));
+        assertThat(fourth.applyAsInt(1), is(2));
+        assertThat(fifth.applyAsInt(1), is(3));
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.cshunsinger.asmsauce.expression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PipelineBuilderTest {
+    public interface TestDoubleReducer {
+        double reduce(double[] values);
+    }
+
+    @Test
+    public void illegalArgumentException_invalidPipeline() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new PipelineBuilder(int.class));
+        assertThat(ex, hasProperty("message", is("Source type must be an array type.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new PipelineBuilder(int[].class).map(null, value -> value));
+        assertThat(ex, hasProperty("message", is("Type and mapping cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new PipelineBuilder(int[].class)
+            .reduce(int.class, literal(0), (sum, value) -> sum.add(value))
+            .build(IntSupplier.class)
+        );
+        assertThat(ex, hasProperty("message", is("Function getAsInt must take int[] as its only parameter.")));
+    }
+
+    @Test
+    public void illegalStateException_pipelineDoesNotEndWithOneReduce() {
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> new PipelineBuilder(int[].class).build(ToIntFunction.class));
+        assertThat(ex, hasProperty("message", is("Pipeline must end with a reduce step.")));
+
+        ex = assertThrows(IllegalStateException.class, () -> new PipelineBuilder(int[].class)
+            .reduce(int.class, literal(0), (sum, value) -> sum.add(value))
+            .filter(value -> value.gt(literal(0)))
+        );
+        assertThat(ex, hasProperty("message", is("Pipeline already ends with a reduce step.")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void filterMapAndReduceArePerformedInOneLoop() {
+        ToLongFunction<int[]> sumOfEvenSquares = new PipelineBuilder(int[].class)
+            .filter(value -> value.mod(literal(2)).eq(literal(0)))
+            .map(long.class, value -> cast(long.class, value).mul(value))
+            .reduce(long.class, literal(0L), (sum, value) -> sum.add(value))
+            .build(ToLongFunction.class);
+
+        int[] values = IntStream.rangeClosed(-1000, 100_000).toArray();
+        assertThat(sumOfEvenSquares.applyAsLong(values), is(
+            Arrays.stream(values).filter(value -> value % 2 == 0).mapToLong(value -> (long)value * value).sum()
+        ));
+        assertThat(sumOfEvenSquares.applyAsLong(new int[0]), is(0L));
+    }
+
+    @Test
+    public void stepsChangeTheElementType() {
+        TestDoubleReducer positiveHalves = new PipelineBuilder(double[].class)
+            .filter(value -> value.gt(literal(0.0)))
+            .map(double.class, value -> value.div(literal(2.0)))
+            .filter(value -> value.lt(literal(10.0)))
+            .map(int.class, value -> cast(int.class, value))
+            .reduce(int.class, literal(0), (sum, value) -> sum.add(value))
+            .build(TestDoubleReducer.class);
+
+        assertThat(positiveHalves.reduce(new double[] {-4.0, 3.0, 9.0, 30.0, 0.0}), is(5.0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void pipelineOverObjectArray() {
+        ToIntFunction<String[]> longestLength = new PipelineBuilder(String[].class)
+            .filter(value -> value.isNotNull())
+            .map(int.class, value -> value.invoke("length"))
+            .reduce(int.class, literal(-1), (max, value) -> ternary(value.gt(max)).thenCalculate(value).elseCalculate(max))
+            .build(ToIntFunction.class);
+
+        assertThat(longestLength.applyAsInt(new String[] {"a", null, "abcd", "abc"}), is(4));
+        assertThat(longestLength.applyAsInt(new String[0]), is(-1));
+    }
+}
@@ -76,6 +76,7 @@ class AccessModifiersTest extends BaseUnitTest {
         validateModifiers(packageOnly().withStatic(), ACC_STATIC);
         validateModifiers(packageOnly().withFinal(), ACC_FINAL);
         validateModifiers(packageOnly().withAbstract(), ACC_ABSTRACT);
+        validateModifiers(packageOnly().withSynchronized(), ACC_SYNCHRONIZED);
         validateModifiers(privateStatic(), ACC_PRIVATE | ACC_STATIC);
         validateModifiers(packageStatic(), ACC_STATIC);
         validateModifiers(protectedStatic(), ACC_PROTECTED | ACC_STATIC);
@@ -95,6 +96,13 @@ class AccessModifiersTest extends BaseUnitTest {
         assertThat(access, hasProperty("abstract", is(true)));
     }
 
+    @Test
+    public void determineIfModifiersIncludeTheSynchronizedFlag() {
+        AccessModifiers access = publicOnly().withSynchronized();
+        assertThat(access, hasProperty("synchronized", is(true)));
+        assertThat(publicOnly(), hasProperty("synchronized", is(false)));
+    }
+
     private void validateModifiers(AccessModifiers modifiers, int access) {
         assertThat(modifiers, hasProperty("jvmModifiers", is(access)));
     }
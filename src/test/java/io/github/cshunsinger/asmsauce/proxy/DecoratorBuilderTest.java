@@ -0,0 +1,137 @@
+package io.github.cshunsinger.asmsauce.proxy;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecoratorBuilderTest {
+    public interface TestReadableStore {
+        String get(String key);
+        int size();
+    }
+
+    public interface TestStore extends TestReadableStore {
+        void put(String key, String value);
+        long total(long first, int second);
+
+        default String getOrDefault(String key, String defaultValue) {
+            String value = get(key);
+            return value == null ? defaultValue : value;
+        }
+    }
+
+    public interface TestStringSupplier extends Supplier<String> {
+        @Override
+        String get();
+    }
+
+    public static class TestStoreImpl implements TestStore {
+        private final Map<String, String> values = new HashMap<>();
+
+        @Override
+        public String get(String key) {
+            return values.get(key);
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public void put(String key, String value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public long total(long first, int second) {
+            return first + second;
+        }
+    }
+
+    @Test
+    public void illegalArgumentException_invalidBuilderArguments() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new DecoratorBuilder<>(null));
+        assertThat(ex, hasProperty("message", is("Interface cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new DecoratorBuilder<>(TestStoreImpl.class));
+        assertThat(ex, hasProperty("message", is("Type %s must be a public interface.".formatted(TestStoreImpl.class.getName()))));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new DecoratorBuilder<>(TestStore.class, ""));
+        assertThat(ex, hasProperty("message", is("Delegate field name cannot be null or empty.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new DecoratorBuilder<>(TestStore.class).withMethod(null));
+        assertThat(ex, hasProperty("message", is("Method cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new DecoratorBuilder<>(TestStore.class).buildInstance(null));
+        assertThat(ex, hasProperty("message", is("Delegate cannot be null.")));
+    }
+
+    @Test
+    public void decoratorForwardsEveryMethodToItsDelegate() {
+        TestStoreImpl delegate = new TestStoreImpl();
+        TestStore decorator = new DecoratorBuilder<>(TestStore.class).buildInstance(delegate);
+
+        decorator.put("first", "one");
+        assertThat(delegate.get("first"), is("one"));
+        assertThat(decorator.get("first"), is("one"));
+        assertThat(decorator.size(), is(1));
+        assertThat(decorator.total(5_000_000_000L, 7), is(5_000_000_007L));
+        assertThat(decorator.getOrDefault("second", "none"), is("none"));
+
+        assertThat(Modifier.isFinal(decorator.getClass().getModifiers()), is(true));
+    }
+
+    @Test
+    public void decoratorsOfOneBuilderShareOneClass() {
+        DecoratorBuilder<TestStore> builder = new DecoratorBuilder<>(TestStore.class);
+        TestStore first = builder.buildInstance(new TestStoreImpl());
+        TestStore second = builder.buildInstance(new TestStoreImpl());
+
+        assertThat(second.getClass(), sameInstance(first.getClass()));
+        assertThat(builder.build(), sameInstance(first.getClass()));
+
+        first.put("first", "one");
+        assertThat(first.size(), is(1));
+        assertThat(second.size(), is(0));
+    }
+
+    @Test
+    public void decoratorForwardsCovariantOverridesRatherThanTheirBridges() {
+        TestStringSupplier decorator = new DecoratorBuilder<>(TestStringSupplier.class).buildInstance(() -> "supplied");
+
+        assertThat(decorator.get(), is("supplied"));
+        assertThat(((Supplier<?>)decorator).get(), is("supplied"));
+    }
+
+    @Test
+    public void addedMethodsReplaceForwardingMethods() {
+        TestStoreImpl delegate = new TestStoreImpl();
+        TestStore decorator = new DecoratorBuilder<>(TestStore.class, "store")
+            .withMethod(method(publicOnly(), name("put"), parameters(p("key", String.class), p("value", String.class)), voidType(),
+                this_().getField("store").invoke("put", getVar("key"), getVar("value").invoke("toUpperCase")),
+                returnVoid()
+            ))
+            .withMethod(method(publicOnly(), name("size"), noParameters(), type(int.class),
+                returnValue(literal(-1))
+            ))
+            .buildInstance(delegate);
+
+        decorator.put("first", "one");
+        assertThat(delegate.get("first"), is("ONE"));
+        assertThat(decorator.get("first"), is("ONE"));
+        assertThat(decorator.size(), is(-1));
+        assertThat(delegate.size(), is(1));
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.cshunsinger.asmsauce.proxy;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProxyBuilderTest {
+    public interface TestGreeter {
+        String greet(String name);
+        long add(long first, int second);
+        void reset();
+
+        default String greetTwice(String name) {
+            return greet(name) + greet(name);
+        }
+    }
+
+    public static class TestGreeterImpl implements TestGreeter, Supplier<String> {
+        private int greeted;
+
+        @Override
+        public String greet(String name) {
+            greeted++;
+            return "Hello " + name;
+        }
+
+        @Override
+        public long add(long first, int second) {
+            return first + second;
+        }
+
+        @Override
+        public void reset() {
+            greeted = 0;
+        }
+
+        @Override
+        public String get() {
+            return "greeted " + greeted;
+        }
+    }
+
+    public static class TestHooks implements ProxyHooks {
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        public Object before(Method method) {
+            calls.add("before " + method.getName());
+            return method.getName() + " token";
+        }
+
+        @Override
+        public void after(Method method, Object token) {
+            calls.add("after " + method.getName() + " with " + token);
+        }
+    }
+
+    @Test
+    public void illegalArgumentException_notAnInterface() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new ProxyBuilder<>(null));
+        assertThat(ex, hasProperty("message", is("Interface cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new ProxyBuilder<>(TestGreeterImpl.class));
+        assertThat(ex, hasProperty("message", is("Type %s must be a public interface.".formatted(TestGreeterImpl.class.getName()))));
+    }
+
+    public interface TestStringSupplier extends Supplier<String> {
+        @Override
+        String get();
+    }
+
+    public interface TestDelegateHolder {
+        Object getDelegate();
+    }
+
+    public interface TestHookedAction {
+        Object before(int step);
+    }
+
+    @Test
+    public void illegalArgumentException_interfaceMethodConflictsWithProxyMethod() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new ProxyBuilder<>(TestDelegateHolder.class).build());
+        assertThat(ex, hasProperty("message", is(
+            "Method getDelegate of %s conflicts with a method of DelegatingProxy.".formatted(TestDelegateHolder.class.getName())
+        )));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> new ProxyBuilder<>(TestGreeter.class).withInterface(TestHookedAction.class).build());
+        assertThat(ex, hasProperty("message", is(
+            "Method before of %s conflicts with a method of DelegatingProxy.".formatted(TestHookedAction.class.getName())
+        )));
+    }
+
+    @Test
+    public void illegalArgumentException_delegateDoesNotImplementInterfaces() {
+        ProxyFactory<TestGreeter> factory = new ProxyBuilder<>(TestGreeter.class).withInterface(Runnable.class).build();
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> factory.newProxy(null));
+        assertThat(ex, hasProperty("message", is("Delegate cannot be null.")));
+
+        ex = assertThrows(IllegalArgumentException.class, () -> factory.newProxy(new TestGreeterImpl()));
+        assertThat(ex, hasProperty("message", is("Delegate must implement java.lang.Runnable.")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void proxyCallsDelegateDirectly() {
+        ProxyFactory<TestGreeter> factory = new ProxyBuilder<>(TestGreeter.class).withInterface(Supplier.class).build();
+        TestGreeterImpl delegate = new TestGreeterImpl();
+        TestGreeter proxy = factory.newProxy(delegate);
+
+        assertThat(proxy.greet("World"), is("Hello World"));
+        assertThat(proxy.add(5_000_000_000L, 7), is(5_000_000_007L));
+        assertThat(proxy.greetTwice("Bob"), is("Hello BobHello Bob"));
+        assertThat(((Supplier<String>)proxy).get(), is("greeted 3"));
+        proxy.reset();
+        assertThat(((Supplier<String>)proxy).get(), is("greeted 0"));
+
+        assertThat(proxy, instanceOf(DelegatingProxy.class));
+        assertThat(((DelegatingProxy)proxy).getDelegate(), sameInstance(delegate));
+        assertThat(factory.newProxy(new TestGreeterImpl()).getClass(), sameInstance(proxy.getClass()));
+    }
+
+    @Test
+    public void proxyImplementsCovariantOverridesRatherThanTheirBridges() {
+        TestStringSupplier proxy = new ProxyBuilder<>(TestStringSupplier.class).build().newProxy((TestStringSupplier)() -> "supplied");
+
+        assertThat(proxy.get(), is("supplied"));
+        assertThat(((Supplier<?>)proxy).get(), is("supplied"));
+    }
+
+    @Test
+    public void hooksAreCalledAroundSelectedMethods() {
+        TestHooks hooks = new TestHooks();
+        TestGreeter proxy = new ProxyBuilder<>(TestGreeter.class)
+            .withHooks(hooks, method -> !method.getName().equals("add"))
+            .build()
+            .newProxy(new TestGreeterImpl());
+
+        assertThat(proxy.greet("World"), is("Hello World"));
+        assertThat(proxy.add(1L, 2), is(3L));
+        proxy.reset();
+
+        assertThat(hooks.calls, contains(
+            "before greet",
+            "after greet with greet token",
+            "before reset",
+            "after reset with reset token"
+        ));
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.cshunsinger.asmsauce.util;
+
+import io.github.cshunsinger.asmsauce.AsmClassBuilder;
+import io.github.cshunsinger.asmsauce.Optimization;
+import org.junit.jupiter.api.Test;
+
+import static io.github.cshunsinger.asmsauce.BytecodeTestUtils.opcodes;
+import static io.github.cshunsinger.asmsauce.DefinitionBuilders.*;
+import static io.github.cshunsinger.asmsauce.MethodNode.method;
+import static io.github.cshunsinger.asmsauce.code.CodeBuilders.*;
+import static io.github.cshunsinger.asmsauce.modifiers.AccessModifiers.publicOnly;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.objectweb.asm.Opcodes.*;
+
+public class ConversionEliminatingMethodVisitorTest {
+    public static abstract class TestConversions {
+        public abstract int roundTrip(int value);
+        public abstract long widenThroughBox(int value);
+        public abstract byte narrowThroughBox(long value);
+        public abstract Object upcast(String value);
+        public abstract Integer box(int value);
+    }
+
+    private static AsmClassBuilder<TestConversions> testConversionsBuilder() {
+        return new AsmClassBuilder<>(TestConversions.class)
+            //public int roundTrip(int value) { return (int)(Integer)value; }
+            .withMethod(method(publicOnly(), name("roundTrip"), parameters(p("value", int.class)), type(int.class),
+                returnValue(cast(int.class, cast(Integer.class, getVar("value"))))
+            ))
+            //public long widenThroughBox(int value) { return ((Integer)value).longValue(); }
+            .withMethod(method(publicOnly(), name("widenThroughBox"), parameters(p("value", int.class)), type(long.class),
+                returnValue(cast(Integer.class, getVar("value")).invoke("longValue"))
+            ))
+            //public byte narrowThroughBox(long value) { return ((Long)value).byteValue(); }
+            .withMethod(method(publicOnly(), name("narrowThroughBox"), parameters(p("value", long.class)), type(byte.class),
+                returnValue(cast(Long.class, getVar("value")).invoke("byteValue"))
+            ))
+            //public Object upcast(String value) { return value; }
+            .withMethod(method(publicOnly(), name("upcast"), parameters(p("value", String.class)), type(Object.class),
+                returnValue(getVar("value"))
+            ))
+            //public Integer box(int value) { return (Integer)(Object)(Integer)value; }
+            .withMethod(method(publicOnly(), name("box"), parameters(p("value", int.class)), type(Integer.class),
+                returnValue(cast(Integer.class, cast(Object.class, cast(Integer.class, getVar("value")))))
+            ));
+    }
+
+    private static void assertResults(TestConversions instance) {
+        assertThat(instance.roundTrip(1234), is(1234));
+        assertThat(instance.widenThroughBox(-5), is(-5L));
+        assertThat(instance.narrowThroughBox(0x1_0000_0181L), is((byte)0x81));
+        assertThat(instance.upcast("text"), is("text"));
+        assertThat(instance.box(1000), is(1000));
+    }
+
+    @Test
+    public void conversionsAreNotEliminatedByDefault() {
+        AsmClassBuilder<TestConversions> builder = testConversionsBuilder();
+
+        assertThat(opcodes(builder.buildBytes(), "roundTrip"), hasItems(INVOKESTATIC, INVOKEVIRTUAL));
+        assertThat(opcodes(builder.buildBytes(), "upcast"), hasItem(CHECKCAST));
+        assertResults(builder.buildInstance());
+    }
+
+    @Test
+    public void eliminateConversionsWhichHaveNoEffect() {
+        AsmClassBuilder<TestConversions> builder = testConversionsBuilder().withOptimization(Optimization.CONVERSION_ELIMINATION);
+
+        assertThat(opcodes(builder.buildBytes(), "roundTrip"), contains(ILOAD, IRETURN));
+        assertThat(opcodes(builder.buildBytes(), "widenThroughBox"), contains(ILOAD, I2L, LRETURN));
+        assertThat(opcodes(builder.buildBytes(), "narrowThroughBox"), contains(LLOAD, L2I, I2B, IRETURN));
+        assertThat(opcodes(builder.buildBytes(), "upcast"), contains(ALOAD, ARETURN));
+        assertThat(opcodes(builder.buildBytes(), "box"), contains(ILOAD, INVOKESTATIC, ARETURN));
+        assertResults(builder.buildInstance());
+    }
+}